@@ -0,0 +1,66 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * A minimal entity for benchmarking repositories that accept any Identifiable.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class BenchmarkEntity
+implements Identifiable
+{
+	private Identifier id;
+	private String name;
+
+	public BenchmarkEntity()
+	{
+		super();
+	}
+
+	public BenchmarkEntity(Identifier id, String name)
+	{
+		this();
+		this.id = id;
+		this.name = name;
+	}
+
+	@Override
+	public Identifier getId()
+	{
+		return id;
+	}
+
+	@Override
+	public void setId(Identifier id)
+	{
+		this.id = id;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public void setName(String name)
+	{
+		this.name = name;
+	}
+}
@@ -0,0 +1,196 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.Cluster;
+import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.Row;
+import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.strategicgains.repoexpress.cassandra.CassandraEntityRepository;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * CRUD latency of CassandraEntityRepository against a running Cassandra node. The node
+ * defaults to localhost:9042 and may be changed with -Dcassandra.contactPoints=host1,host2
+ * and -Dcassandra.port=... The benchmark keyspace is dropped when the benchmark completes.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CassandraRepositoryBenchmark
+{
+	private static final String KEYSPACE = "repoexpress_benchmark";
+	private static final String TABLE = "benchmark_entities";
+	private static final int SIZE = 1000;
+
+	private Cluster cluster;
+	private Session session;
+	private SimpleCassandraRepository repository;
+	private List<Identifier> ids;
+	private List<Identifier> batch;
+	private BenchmarkEntity entity;
+	private int next = 0;
+	private int transients = 0;
+
+	@Setup
+	public void setup()
+	{
+		cluster = Cluster.builder()
+			.addContactPoints(System.getProperty("cassandra.contactPoints", "localhost").split(","))
+			.withPort(Integer.getInteger("cassandra.port", 9042))
+			.build();
+		session = cluster.connect();
+		session.execute("create keyspace if not exists " + KEYSPACE
+			+ " with replication = {'class': 'SimpleStrategy', 'replication_factor': 1}");
+		session.execute("create table if not exists " + KEYSPACE + "." + TABLE + " (id text primary key, name text)");
+		repository = new SimpleCassandraRepository(session);
+		ids = new ArrayList<Identifier>(SIZE);
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			ids.add(repository.create(new BenchmarkEntity(new Identifier("entity-" + i), "name-" + i)).getId());
+		}
+
+		batch = new ArrayList<Identifier>(ids.subList(0, 10));
+		entity = repository.read(ids.get(0));
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		session.execute("drop keyspace if exists " + KEYSPACE);
+		session.close();
+		cluster.close();
+	}
+
+	@Benchmark
+	public Object read()
+	{
+		return repository.read(nextId());
+	}
+
+	@Benchmark
+	public Object readList()
+	{
+		return repository.readList(batch);
+	}
+
+	@Benchmark
+	public boolean exists()
+	{
+		return repository.exists(nextId());
+	}
+
+	@Benchmark
+	public Object update()
+	{
+		return repository.update(entity);
+	}
+
+	@Benchmark
+	public Object createAndDelete()
+	{
+		BenchmarkEntity created = repository.create(new BenchmarkEntity(new Identifier("transient-" + transients++), "transient"));
+		repository.delete(created);
+		return created;
+	}
+
+	private Identifier nextId()
+	{
+		return ids.get(next++ % SIZE);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class SimpleCassandraRepository
+	extends CassandraEntityRepository<BenchmarkEntity>
+	{
+		private static final String UPSERT_CQL = "insert into " + KEYSPACE + "." + TABLE + " (id, name) values (?, ?)";
+
+		private PreparedStatement upsertStmt;
+
+		public SimpleCassandraRepository(Session session)
+		{
+			super(session, KEYSPACE + "." + TABLE, "id");
+		}
+
+		@Override
+		protected void initialize()
+		{
+			super.initialize();
+			upsertStmt = getSession().prepare(UPSERT_CQL);
+		}
+
+		@Override
+		protected BenchmarkEntity createEntity(BenchmarkEntity entity)
+		{
+			getSession().execute(bindCreate(entity));
+			return entity;
+		}
+
+		@Override
+		protected BenchmarkEntity updateEntity(BenchmarkEntity entity)
+		{
+			getSession().execute(bindUpdate(entity));
+			return entity;
+		}
+
+		@Override
+		protected Statement bindCreate(BenchmarkEntity entity)
+		{
+			return new BoundStatement(upsertStmt).bind(entity.getId().primaryKey(), entity.getName());
+		}
+
+		@Override
+		protected Statement bindUpdate(BenchmarkEntity entity)
+		{
+			return bindCreate(entity);
+		}
+
+		@Override
+		protected BenchmarkEntity marshalRow(Row row)
+		{
+			if (row == null) return null;
+
+			return new BenchmarkEntity(new Identifier(row.getString("id")), row.getString("name"));
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strategicgains.repoexpress.adapter.StringToLongIdAdapter;
+import com.strategicgains.repoexpress.adapter.UuidAdapter;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.util.UuidConverter;
+
+/**
+ * Costs of converting identifiers to and from their string forms, as done for each
+ * request URL: UuidConverter, UuidAdapter and StringToLongIdAdapter.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierAdapterBenchmark
+{
+	private UUID uuid;
+	private String shortUuid;
+	private String longUuid;
+	private Identifier uuidId;
+	private Identifier longId;
+	private UuidAdapter uuidAdapter;
+	private StringToLongIdAdapter longAdapter;
+
+	@Setup
+	public void setup()
+	{
+		uuid = UUID.randomUUID();
+		shortUuid = UuidConverter.format(uuid);
+		longUuid = uuid.toString();
+		uuidId = new Identifier(uuid);
+		longId = new Identifier(1234567890123L);
+		uuidAdapter = new UuidAdapter();
+		longAdapter = new StringToLongIdAdapter();
+	}
+
+	@Benchmark
+	public String converterFormat()
+	{
+		return UuidConverter.format(uuid);
+	}
+
+	@Benchmark
+	public Object converterParse()
+	{
+		return UuidConverter.parse(shortUuid);
+	}
+
+	@Benchmark
+	public Object uuidAdapterParseShort()
+	{
+		return uuidAdapter.parse(shortUuid);
+	}
+
+	@Benchmark
+	public Object uuidAdapterParseLong()
+	{
+		return uuidAdapter.parse(longUuid);
+	}
+
+	@Benchmark
+	public String uuidAdapterFormatShort()
+	{
+		return uuidAdapter.format(uuidId, true);
+	}
+
+	@Benchmark
+	public String uuidAdapterFormatLong()
+	{
+		return uuidAdapter.format(uuidId, false);
+	}
+
+	@Benchmark
+	public Object longAdapterParse()
+	{
+		return longAdapter.parse("1234567890123");
+	}
+
+	@Benchmark
+	public String longAdapterFormat()
+	{
+		return longAdapter.format(longId);
+	}
+}
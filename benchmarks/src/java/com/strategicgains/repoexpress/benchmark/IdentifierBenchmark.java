@@ -0,0 +1,127 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * Costs of the Identifier operations on the path of every map lookup and comparison:
+ * hashCode(), equals(), compareTo() and toString(), for single and compound identifiers.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierBenchmark
+{
+	private Identifier single;
+	private Identifier singleCopy;
+	private Identifier compound;
+	private Identifier compoundCopy;
+	private Identifier compact;
+	private Identifier compactCopy;
+
+	@Setup
+	public void setup()
+	{
+		UUID uuid = UUID.randomUUID();
+		single = new Identifier(uuid);
+		singleCopy = new Identifier(uuid);
+		compound = new Identifier("tenant", 42L, uuid);
+		compoundCopy = new Identifier("tenant", 42L, uuid);
+		compact = Identifier.of("tenant", 42L, uuid);
+		compactCopy = Identifier.of("tenant", 42L, uuid);
+	}
+
+	@Benchmark
+	public int singleHashCode()
+	{
+		return single.hashCode();
+	}
+
+	@Benchmark
+	public int compoundHashCode()
+	{
+		return compound.hashCode();
+	}
+
+	@Benchmark
+	public int compactHashCode()
+	{
+		return compact.hashCode();
+	}
+
+	@Benchmark
+	public boolean singleEquals()
+	{
+		return single.equals(singleCopy);
+	}
+
+	@Benchmark
+	public boolean compoundEquals()
+	{
+		return compound.equals(compoundCopy);
+	}
+
+	@Benchmark
+	public boolean compactEquals()
+	{
+		return compact.equals(compactCopy);
+	}
+
+	@Benchmark
+	public int compoundCompareTo()
+	{
+		return compound.compareTo(compoundCopy);
+	}
+
+	@Benchmark
+	public String compoundToString()
+	{
+		return compound.toString();
+	}
+
+	@Benchmark
+	public Object construct()
+	{
+		return new Identifier("tenant", 42L);
+	}
+
+	@Benchmark
+	public Object constructCompact()
+	{
+		return Identifier.of("tenant", 42L);
+	}
+}
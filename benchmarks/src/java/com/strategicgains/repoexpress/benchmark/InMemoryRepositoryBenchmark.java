@@ -0,0 +1,118 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.LongInMemoryRepository;
+
+/**
+ * CRUD throughput of InMemoryRepository, which is also the baseline cost of the
+ * AbstractObservableRepository machinery without any I/O. The "long" store is the compact
+ * LongInMemoryRepository, for comparison with the default map.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InMemoryRepositoryBenchmark
+{
+	private static final int SIZE = 10000;
+
+	@Param({"map", "long"})
+	private String store;
+
+	private InMemoryRepository<BenchmarkEntity> repository;
+	private List<Identifier> ids;
+	private List<Identifier> batch;
+	private BenchmarkEntity entity;
+	private int next = 0;
+
+	@Setup
+	public void setup()
+	{
+		boolean isLong = "long".equals(store);
+		repository = (isLong ? new LongInMemoryRepository<BenchmarkEntity>(SIZE){} : new InMemoryRepository<BenchmarkEntity>(){});
+		ids = new ArrayList<Identifier>(SIZE);
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			Identifier id = (isLong ? Identifier.of((long) i) : new Identifier("entity", i));
+			ids.add(repository.create(new BenchmarkEntity(id, "name-" + i)).getId());
+		}
+
+		batch = new ArrayList<Identifier>(ids.subList(0, 10));
+		entity = repository.read(ids.get(0));
+	}
+
+	@Benchmark
+	public Object read()
+	{
+		return repository.read(nextId());
+	}
+
+	@Benchmark
+	public Object readList()
+	{
+		return repository.readList(batch);
+	}
+
+	@Benchmark
+	public boolean exists()
+	{
+		return repository.exists(nextId());
+	}
+
+	@Benchmark
+	public Object update()
+	{
+		return repository.update(entity);
+	}
+
+	@Benchmark
+	public Object createAndDelete()
+	{
+		BenchmarkEntity created = repository.create(new BenchmarkEntity(null, "transient"));
+		repository.delete(created);
+		return created;
+	}
+
+	private Identifier nextId()
+	{
+		return ids.get(next++ % SIZE);
+	}
+}
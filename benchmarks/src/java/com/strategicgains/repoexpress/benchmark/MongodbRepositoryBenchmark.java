@@ -0,0 +1,161 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.mongodb.morphia.annotations.Entity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.mongodb.AbstractUuidMongodbEntity;
+import com.strategicgains.repoexpress.mongodb.MongoConfig;
+import com.strategicgains.repoexpress.mongodb.MongodbUuidEntityRepository;
+
+/**
+ * CRUD latency of MongodbUuidEntityRepository against a running MongoDB server.
+ * The server defaults to mongodb://localhost:27017/repoexpress_benchmark and may be
+ * changed with -Dmongodb.uri=... The database is dropped when the benchmark completes.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MongodbRepositoryBenchmark
+{
+	private static final String URI_PROPERTY = "mongodb.uri";
+	private static final String DEFAULT_URI = "mongodb://localhost:27017/repoexpress_benchmark";
+	private static final int SIZE = 1000;
+
+	private MongoConfig config;
+	private MongodbUuidEntityRepository<MongoEntity> repository;
+	private List<Identifier> ids;
+	private List<Identifier> batch;
+	private MongoEntity entity;
+	private int next = 0;
+
+	@SuppressWarnings("unchecked")
+	@Setup
+	public void setup()
+	{
+		Properties p = new Properties();
+		p.setProperty(URI_PROPERTY, System.getProperty(URI_PROPERTY, DEFAULT_URI));
+		config = new MongoConfig(p);
+		repository = new MongodbUuidEntityRepository<MongoEntity>(config.getClient(), config.getDbName(), MongoEntity.class);
+		ids = new ArrayList<Identifier>(SIZE);
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			ids.add(repository.create(new MongoEntity("name-" + i)).getId());
+		}
+
+		batch = new ArrayList<Identifier>(ids.subList(0, 10));
+		entity = repository.read(ids.get(0));
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		config.getClient().dropDatabase(config.getDbName());
+		config.getClient().close();
+	}
+
+	@Benchmark
+	public Object read()
+	{
+		return repository.read(nextId());
+	}
+
+	@Benchmark
+	public Object readList()
+	{
+		return repository.readList(batch);
+	}
+
+	@Benchmark
+	public boolean exists()
+	{
+		return repository.exists(nextId());
+	}
+
+	@Benchmark
+	public Object update()
+	{
+		return repository.update(entity);
+	}
+
+	@Benchmark
+	public Object createAndDelete()
+	{
+		MongoEntity created = repository.create(new MongoEntity("transient"));
+		repository.delete(created);
+		return created;
+	}
+
+	private Identifier nextId()
+	{
+		return ids.get(next++ % SIZE);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	@Entity("benchmark_entities")
+	public static class MongoEntity
+	extends AbstractUuidMongodbEntity
+	{
+		private String name;
+
+		public MongoEntity()
+		{
+			super();
+		}
+
+		public MongoEntity(String name)
+		{
+			this();
+			this.name = name;
+		}
+
+		public String getName()
+		{
+			return name;
+		}
+
+		public void setName(String name)
+		{
+			this.name = name;
+		}
+	}
+}
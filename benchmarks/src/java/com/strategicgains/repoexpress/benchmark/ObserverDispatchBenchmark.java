@@ -0,0 +1,183 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+
+/**
+ * Measures the overhead of observer dispatch on each CRUD operation, using a repository
+ * whose operations do nothing, so that only the notify*() calls are measured.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ObserverDispatchBenchmark
+{
+	@Param({"0", "2", "10"})
+	private int observerCount;
+
+	private NullRepository repository;
+	private BenchmarkEntity entity;
+
+	@Setup
+	public void setup()
+	{
+		repository = new NullRepository();
+		entity = new BenchmarkEntity(new Identifier("benchmark"), "benchmark");
+
+		for (int i = 0; i < observerCount; i++)
+		{
+			repository.addObserver(new CountingObserver());
+		}
+	}
+
+	@Benchmark
+	public Object create()
+	{
+		return repository.create(entity);
+	}
+
+	@Benchmark
+	public Object read()
+	{
+		return repository.read(entity.getId());
+	}
+
+	@Benchmark
+	public Object update()
+	{
+		return repository.update(entity);
+	}
+
+	@Benchmark
+	public void delete(Blackhole blackhole)
+	{
+		repository.delete(entity);
+		blackhole.consume(entity);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class NullRepository
+	extends AbstractObservableRepository<BenchmarkEntity>
+	{
+		private BenchmarkEntity entity = new BenchmarkEntity(new Identifier("benchmark"), "benchmark");
+
+		@Override
+		public BenchmarkEntity doCreate(BenchmarkEntity object)
+		{
+			return object;
+		}
+
+		@Override
+		public BenchmarkEntity doRead(Identifier id)
+		{
+			return entity;
+		}
+
+		@Override
+		public BenchmarkEntity doUpdate(BenchmarkEntity object)
+		{
+			return object;
+		}
+
+		@Override
+		public void doDelete(BenchmarkEntity object)
+		{
+		}
+	}
+
+	/**
+	 * Observes every single-item phase, so every CRUD operation notifies it twice.
+	 */
+	private static class CountingObserver
+	extends AbstractRepositoryObserver<BenchmarkEntity>
+	{
+		private long count;
+
+		@Override
+		public void afterCreate(BenchmarkEntity object)
+		{
+			++count;
+		}
+
+		@Override
+		public void afterDelete(BenchmarkEntity object)
+		{
+			++count;
+		}
+
+		@Override
+		public void afterRead(BenchmarkEntity object)
+		{
+			++count;
+		}
+
+		@Override
+		public void afterUpdate(BenchmarkEntity object)
+		{
+			++count;
+		}
+
+		@Override
+		public void beforeCreate(BenchmarkEntity object)
+		{
+			++count;
+		}
+
+		@Override
+		public void beforeDelete(BenchmarkEntity object)
+		{
+			++count;
+		}
+
+		@Override
+		public void beforeRead(Identifier id)
+		{
+			++count;
+		}
+
+		@Override
+		public void beforeUpdate(BenchmarkEntity object)
+		{
+			++count;
+		}
+	}
+}
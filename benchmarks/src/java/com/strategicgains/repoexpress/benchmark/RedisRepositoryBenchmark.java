@@ -0,0 +1,171 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.redis.RedisRepository;
+
+/**
+ * CRUD latency of RedisRepository against a running Redis server. The server defaults
+ * to localhost:6379 and may be changed with -Dredis.host=... and -Dredis.port=...
+ * All keys written are deleted when the benchmark completes.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RedisRepositoryBenchmark
+{
+	private static final String KEY_PREFIX = "repoexpress-benchmark:";
+	private static final int SIZE = 1000;
+
+	private JedisPool pool;
+	private StringRedisRepository repository;
+	private List<Identifier> ids;
+	private List<Identifier> batch;
+	private BenchmarkEntity entity;
+	private int next = 0;
+	private int transients = 0;
+
+	@Setup
+	public void setup()
+	{
+		pool = new JedisPool(System.getProperty("redis.host", "localhost"), Integer.getInteger("redis.port", 6379));
+		repository = new StringRedisRepository(pool);
+		ids = new ArrayList<Identifier>(SIZE);
+
+		for (int i = 0; i < SIZE; i++)
+		{
+			ids.add(repository.create(new BenchmarkEntity(new Identifier(KEY_PREFIX + i), "name-" + i)).getId());
+		}
+
+		batch = new ArrayList<Identifier>(ids.subList(0, 10));
+		entity = repository.read(ids.get(0));
+	}
+
+	@TearDown
+	public void tearDown()
+	{
+		Jedis jedis = pool.getResource();
+
+		try
+		{
+			for (Identifier id : ids)
+			{
+				jedis.del(id.toString());
+			}
+		}
+		finally
+		{
+			jedis.close();
+		}
+
+		repository.shutdown();
+		pool.destroy();
+	}
+
+	@Benchmark
+	public Object read()
+	{
+		return repository.read(nextId());
+	}
+
+	@Benchmark
+	public Object readList()
+	{
+		return repository.readList(batch);
+	}
+
+	@Benchmark
+	public boolean exists()
+	{
+		return repository.exists(nextId());
+	}
+
+	@Benchmark
+	public Object update()
+	{
+		return repository.update(entity);
+	}
+
+	@Benchmark
+	public Object createAndDelete()
+	{
+		BenchmarkEntity created = repository.create(new BenchmarkEntity(new Identifier(KEY_PREFIX + "transient-" + transients++), "transient"));
+		repository.delete(created);
+		return created;
+	}
+
+	private Identifier nextId()
+	{
+		return ids.get(next++ % SIZE);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Marshals entities as "id\tname", so that the benchmark measures the repository
+	 * and not a serialization library.
+	 */
+	private static class StringRedisRepository
+	extends RedisRepository<BenchmarkEntity>
+	{
+		private static final char SEPARATOR = '\t';
+
+		public StringRedisRepository(JedisPool pool)
+		{
+			super(pool, BenchmarkEntity.class);
+		}
+
+		@Override
+		protected BenchmarkEntity marshalTo(String value, Class<? extends BenchmarkEntity> entityClass)
+		{
+			int i = value.indexOf(SEPARATOR);
+			return new BenchmarkEntity(new Identifier(value.substring(0, i)), value.substring(i + 1));
+		}
+
+		@Override
+		protected String marshalFrom(BenchmarkEntity instance)
+		{
+			return instance.getId().toString() + SEPARATOR + instance.getName();
+		}
+	}
+}
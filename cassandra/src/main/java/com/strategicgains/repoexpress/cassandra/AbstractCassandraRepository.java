@@ -15,9 +15,14 @@
  */
 package com.strategicgains.repoexpress.cassandra;
 
+import java.util.regex.Pattern;
+
+import com.datastax.driver.core.BatchStatement;
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.RegularStatement;
 import com.datastax.driver.core.Session;
-import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.datastax.driver.core.Statement;
+import com.strategicgains.repoexpress.AbstractAsyncObservableRepository;
 import com.strategicgains.repoexpress.domain.Identifiable;
 import com.strategicgains.repoexpress.domain.Identifier;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
@@ -28,20 +33,28 @@ import com.strategicgains.repoexpress.exception.ItemNotFoundException;
  * The most-basic Cassandra-based repository, supporting arbitrary single- or compound-identifier based
  * entities. This is the base class for the other Cassandra-based repositories in this package.
  * <p/>
- * Sub-classes must implement the, createEntity(), updateEntity(), readEntityById(), exists()
+ * Sub-classes must implement the, createEntity(), updateEntity(), readEntityById(), doExists()
  * and deleteEntity() abstract methods. Along with any other custom-query-type methods.
  * <p/>
  * The bindIdentifier(BoundStatement, Identifier) method will bind the components in the
  * Identifier instance to a prepared statement, if desired.
+ * <p/>
+ * The asynchronous operations (e.g. createAsync()) are observable, too. By default, they
+ * execute the blocking operations on the calling thread. Sub-classes may override the
+ * doXxxAsync() methods to use Session.executeAsync() instead.
  * 
  * @author toddf
  * @since Apr 12, 2013
  */
 public abstract class AbstractCassandraRepository<T extends Identifiable>
-extends AbstractObservableRepository<T>
+extends AbstractAsyncObservableRepository<T>
 {
+	private static final Pattern IF_NOT_EXISTS = Pattern.compile("\\bIF\\s+NOT\\s+EXISTS\\b", Pattern.CASE_INSENSITIVE);
+	private static final Pattern IF_EXISTS = Pattern.compile("\\bIF\\s+EXISTS\\b", Pattern.CASE_INSENSITIVE);
+
 	private Session session;
 	private String table;
+	private boolean conditionalWrites = false;
 
 	/**
 	 * @param session a pre-configured Session instance.
@@ -64,9 +77,46 @@ extends AbstractObservableRepository<T>
     	return table;
     }
 
+	/**
+	 * When conditional writes are enabled, create() and update() make their duplicate and
+	 * not-found checks atomically, in the same round trip as the write, instead of calling
+	 * exists() first. This requires bindCreate(T) to return an INSERT ... IF NOT EXISTS
+	 * statement and bindUpdate(T) to return an UPDATE ... IF EXISTS statement. If either
+	 * returns null, that operation checks for existence first, as usual. A statement without
+	 * that IF clause would always be applied, silently losing the duplicate and not-found
+	 * checks, so one is rejected with an IllegalStateException instead.
+	 * <p/>
+	 * Note that conditional statements are lightweight transactions, which require a Paxos
+	 * round within Cassandra. They're atomic, but not necessarily faster.
+	 * 
+	 * @param conditionalWrites true to enable conditional writes. Default is false.
+	 */
+	public void setConditionalWrites(boolean conditionalWrites)
+	{
+		this.conditionalWrites = conditionalWrites;
+	}
+
+	public boolean isConditionalWrites()
+	{
+		return conditionalWrites;
+	}
+
 	@Override
 	public T doCreate(T entity)
 	{
+		Statement statement = (conditionalWrites ? bindConditional(entity, true) : null);
+
+		if (statement != null)
+		{
+			if (!session.execute(statement).wasApplied())
+			{
+				throw new DuplicateItemException(entity.getClass().getSimpleName()
+				    + " ID already exists: " + entity.getId().toString());
+			}
+
+			return entity;
+		}
+
 		if (exists(entity.getId()))
 		{
 			throw new DuplicateItemException(entity.getClass().getSimpleName()
@@ -92,6 +142,19 @@ extends AbstractObservableRepository<T>
 	@Override
 	public T doUpdate(T entity)
 	{
+		Statement statement = (conditionalWrites ? bindConditional(entity, false) : null);
+
+		if (statement != null)
+		{
+			if (!session.execute(statement).wasApplied())
+			{
+				throw new ItemNotFoundException(entity.getClass().getSimpleName()
+				    + " ID not found: " + entity.getId().toString());
+			}
+
+			return entity;
+		}
+
 		if (!exists(entity.getId()))
 		{
 			throw new ItemNotFoundException(entity.getClass().getSimpleName()
@@ -119,6 +182,59 @@ extends AbstractObservableRepository<T>
 		bs.bind(identifier.components().toArray());
 	}
 
+	/**
+	 * Optionally, bind the entity to a statement that creates it, so that batch and asynchronous
+	 * operations can execute it asynchronously instead of calling createEntity(T).
+	 * <p/>
+	 * Uniqueness checking occurs before the returned statement is executed, unless conditional
+	 * writes are enabled, in which case the statement must be an INSERT ... IF NOT EXISTS.
+	 * 
+	 * @param entity a domain model to persist.
+	 * @return a Statement that creates the entity, or null (the default) to use createEntity(T).
+	 */
+	protected Statement bindCreate(T entity)
+	{
+		return null;
+	}
+
+	/**
+	 * Optionally, bind the entity to a statement that updates it, so that batch and asynchronous
+	 * operations can execute it asynchronously instead of calling updateEntity(T).
+	 * <p/>
+	 * A check for existence occurs before the returned statement is executed, unless conditional
+	 * writes are enabled, in which case the statement must be an UPDATE ... IF EXISTS.
+	 * 
+	 * @param entity a domain model to persist.
+	 * @return a Statement that updates the entity, or null (the default) to use updateEntity(T).
+	 */
+	protected Statement bindUpdate(T entity)
+	{
+		return null;
+	}
+
+	/**
+	 * Returns bindCreate(T) or bindUpdate(T), for a conditional write, after verifying that it
+	 * has the IF NOT EXISTS or IF EXISTS clause that makes ResultSet.wasApplied() meaningful.
+	 * 
+	 * @param entity a domain model to persist.
+	 * @param isCreate true for bindCreate(T), false for bindUpdate(T).
+	 * @return the conditional statement, or null if the bind method isn't implemented.
+	 * @throws IllegalStateException if the statement isn't conditional.
+	 */
+	protected Statement bindConditional(T entity, boolean isCreate)
+	{
+		Statement statement = (isCreate ? bindCreate(entity) : bindUpdate(entity));
+
+		if (statement != null && !isConditional(statement, (isCreate ? IF_NOT_EXISTS : IF_EXISTS)))
+		{
+			throw new IllegalStateException("Conditional writes require " + (isCreate
+				? "bindCreate() to return an INSERT ... IF NOT EXISTS statement"
+				: "bindUpdate() to return an UPDATE ... IF EXISTS statement"));
+		}
+
+		return statement;
+	}
+
 	/**
 	 * Read a Cassandra table, using the Identifier instance and marshal the return row to
 	 * a domain object.
@@ -159,4 +275,37 @@ extends AbstractObservableRepository<T>
 	 * @return the newly-updated domain model entity.
 	 */
 	protected abstract void deleteEntity(T entity);
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * Returns true if the statement (or, for a batch, any of its statements) has the given
+	 * condition. Statements whose CQL can't be inspected are assumed to.
+	 */
+	private static boolean isConditional(Statement statement, Pattern condition)
+	{
+		if (statement instanceof BatchStatement)
+		{
+			for (Statement child : ((BatchStatement) statement).getStatements())
+			{
+				if (isConditional(child, condition)) return true;
+			}
+
+			return false;
+		}
+
+		String cql = null;
+
+		if (statement instanceof BoundStatement)
+		{
+			cql = ((BoundStatement) statement).preparedStatement().getQueryString();
+		}
+		else if (statement instanceof RegularStatement)
+		{
+			cql = ((RegularStatement) statement).getQueryString();
+		}
+
+		return (cql == null || condition.matcher(cql).find());
+	}
 }
@@ -15,12 +15,39 @@
 */
 package com.strategicgains.repoexpress.cassandra;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import com.datastax.driver.core.BoundStatement;
+import com.datastax.driver.core.PagingState;
 import com.datastax.driver.core.PreparedStatement;
+import com.datastax.driver.core.ResultSet;
+import com.datastax.driver.core.ResultSetFuture;
 import com.datastax.driver.core.Row;
 import com.datastax.driver.core.Session;
+import com.datastax.driver.core.Statement;
+import com.datastax.driver.core.exceptions.DriverException;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.Page;
+import com.strategicgains.repoexpress.Projectable;
+import com.strategicgains.repoexpress.Projection;
+import com.strategicgains.repoexpress.async.RepositoryFuture;
 import com.strategicgains.repoexpress.domain.Identifiable;
 import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
 
 /**
  * A Cassandra repository that manages types of Identifiable instances, which are
@@ -29,21 +56,42 @@ import com.strategicgains.repoexpress.domain.Identifier;
  * Extend this repository to persist Identifiable instances that have a single, unique
  * identifier, that is not a UUID and you don't need the createdAt and updatedAt
  * time stamps (of TimestampedIdentifiable) automatically applied.
+ * <p/>
+ * The asynchronous operations (e.g. readAsync()) use Session.executeAsync() and never block
+ * the calling thread, as long as bindCreate(T) and bindUpdate(T) are implemented. Note that
+ * after* observers of asynchronous operations are notified on a driver I/O thread, so they
+ * must not block.
  * 
  * @author toddf
  * @since Apr 12, 2013
  */
 public abstract class CassandraEntityRepository<T extends Identifiable>
 extends AbstractCassandraRepository<T>
+implements Projectable<T>
 {
 	private static final String EXISTENCE_CQL = "select count(*) from %s where %s = ?";
 	private static final String READ_CQL = "select * from %s where %s = ?";
+	private static final String PROJECTED_READ_CQL = "select %s, %s from %s where %s = ?";
+	private static final String READ_ID_CQL = "select %s from %s where %s = ?";
 	private static final String DELETE_CQL = "delete from %s where %s = ?";
+	private static final int DEFAULT_MAX_CONCURRENT_REQUESTS = 64;
+
+	// Runs a completion listener inline, on whichever thread completes the future.
+	private static final Executor CALLING_THREAD = new Executor()
+	{
+		@Override
+		public void execute(Runnable command)
+		{
+			command.run();
+		}
+	};
 
 	private String identifierColumn;
 	private PreparedStatement existStmt;
 	private PreparedStatement readStmt;
 	protected PreparedStatement deleteStmt;
+	private ConcurrentMap<Projection, PreparedStatement> projectedReadStmts = new ConcurrentHashMap<Projection, PreparedStatement>();
+	private int maxConcurrentRequests = DEFAULT_MAX_CONCURRENT_REQUESTS;
 
 	/**
 	 * @param session a pre-configured Session instance.
@@ -69,8 +117,21 @@ extends AbstractCassandraRepository<T>
 		return identifierColumn;
 	}
 
+	/**
+	 * Set the maximum number of asynchronous requests in-flight at once during batch
+	 * operations, such as readList() and createAll().
+	 * 
+	 * @param maxConcurrentRequests a positive number of concurrent requests. Default is 64.
+	 */
+	public void setMaxConcurrentRequests(int maxConcurrentRequests)
+	{
+		if (maxConcurrentRequests < 1) throw new IllegalArgumentException("Max concurrent requests must be positive");
+
+		this.maxConcurrentRequests = maxConcurrentRequests;
+	}
+
 	@Override
-	public boolean exists(Identifier identifier)
+	public boolean doExists(Identifier identifier)
 	{
 		if (identifier == null || identifier.isEmpty()) return false;
 
@@ -89,6 +150,360 @@ extends AbstractCassandraRepository<T>
 		return marshalRow(getSession().execute(bs).one());
 	}
 
+	/**
+	 * Reads the batch by fanning out asynchronous reads against the prepared read statement,
+	 * with at most maxConcurrentRequests reads in-flight at once. IDs that don't exist are simply
+	 * not included in the returned results.
+	 */
+	@Override
+	public List<T> doReadList(Collection<Identifier> ids)
+	{
+		return readList(ids, readStmt, null);
+	}
+
+	/**
+	 * Reads the row, selecting only the identifier column and the projected columns, via a
+	 * prepared statement that is cached per projection. Not observable.
+	 * 
+	 * @see #marshalRow(Row, Projection)
+	 */
+	@Override
+	public T read(Identifier id, Projection projection)
+	{
+		if (id == null || id.isEmpty()) throw new ItemNotFoundException("ID not found: " + id);
+
+		BoundStatement bs = new BoundStatement(getReadStatement(projection));
+		bs.bind(id.primaryKey());
+		Row row = getSession().execute(bs).one();
+
+		if (row == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + id.toString());
+		}
+
+		return marshalRow(row, projection);
+	}
+
+	/**
+	 * Reads the batch as doReadList() does, selecting only the identifier column and the
+	 * projected columns. Not observable.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids, Projection projection)
+	{
+		return readList(ids, getReadStatement(projection), projection);
+	}
+
+	private List<T> readList(Collection<Identifier> ids, PreparedStatement statement, Projection projection)
+	{
+		List<T> results = new ArrayList<T>(ids.size());
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(ids.size());
+		Semaphore permits = new Semaphore(maxConcurrentRequests);
+
+		for (Identifier id : ids)
+		{
+			if (id == null || id.isEmpty()) continue;
+
+			BoundStatement bs = new BoundStatement(statement);
+			bs.bind(id.primaryKey());
+			futures.add(executeAsync(bs, permits));
+		}
+
+		collectRows(futures, results, projection);
+		return results;
+	}
+
+	/**
+	 * Creates the batch by fanning out asynchronous existence checks, then asynchronous
+	 * writes of the statements returned by bindCreate(T), with at most maxConcurrentRequests
+	 * in-flight at once. If bindCreate(T) is not implemented, createEntity(T) is called for
+	 * each entity instead.
+	 * <p/>
+	 * If conditional writes are enabled, the existence checks are skipped and each conditional
+	 * statement reports whether it was applied.
+	 */
+	@Override
+	public BatchResult<T> doCreateAll(Collection<T> entities)
+	{
+		BatchResult<T> result = new BatchResult<T>(entities.size());
+
+		if (isConditionalWrites())
+		{
+			writeAll(entities, true, result);
+			return result;
+		}
+
+		List<T> creatable = new ArrayList<T>(entities.size());
+		Set<Identifier> seen = new HashSet<Identifier>();
+		boolean[] existences = existsAll(entities);
+		int i = 0;
+
+		for (T entity : entities)
+		{
+			if (existences[i++] || (hasId(entity) && !seen.add(entity.getId())))
+			{
+				result.addFailure(entity, new DuplicateItemException(entity.getClass().getSimpleName()
+				    + " ID already exists: " + entity.getId()));
+			}
+			else
+			{
+				creatable.add(entity);
+			}
+		}
+
+		writeAll(creatable, true, result);
+		return result;
+	}
+
+	/**
+	 * Updates the batch by fanning out asynchronous existence checks, then asynchronous
+	 * writes of the statements returned by bindUpdate(T), with at most maxConcurrentRequests
+	 * in-flight at once. If bindUpdate(T) is not implemented, updateEntity(T) is called for
+	 * each entity instead.
+	 * <p/>
+	 * If conditional writes are enabled, the existence checks are skipped and each conditional
+	 * statement reports whether it was applied.
+	 */
+	@Override
+	public BatchResult<T> doUpdateAll(Collection<T> entities)
+	{
+		BatchResult<T> result = new BatchResult<T>(entities.size());
+
+		if (isConditionalWrites())
+		{
+			writeAll(entities, false, result);
+			return result;
+		}
+
+		List<T> updatable = new ArrayList<T>(entities.size());
+		boolean[] existences = existsAll(entities);
+		int i = 0;
+
+		for (T entity : entities)
+		{
+			if (!existences[i++])
+			{
+				result.addFailure(entity, new ItemNotFoundException(entity.getClass().getSimpleName()
+				    + " ID not found: " + entity.getId()));
+			}
+			else
+			{
+				updatable.add(entity);
+			}
+		}
+
+		writeAll(updatable, false, result);
+		return result;
+	}
+
+	/**
+	 * Deletes the batch by fanning out asynchronous deletes against the prepared delete
+	 * statement, with at most maxConcurrentRequests in-flight at once.
+	 */
+	@Override
+	public BatchResult<T> doDeleteAll(Collection<T> entities)
+	{
+		BatchResult<T> result = new BatchResult<T>(entities.size());
+		List<T> pending = new ArrayList<T>(entities.size());
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(entities.size());
+		Semaphore permits = new Semaphore(maxConcurrentRequests);
+
+		for (T entity : entities)
+		{
+			BoundStatement bs = new BoundStatement(deleteStmt);
+			bindIdentifier(bs, entity.getId());
+			pending.add(entity);
+			futures.add(executeAsync(bs, permits));
+		}
+
+		collectWrites(pending, futures, result, false, false);
+		return result;
+	}
+
+	@Override
+	public RepositoryFuture<T> doReadAsync(final Identifier id)
+	{
+		final RepositoryFuture<T> result = new RepositoryFuture<T>();
+
+		if (id == null || id.isEmpty())
+		{
+			result.fail(new ItemNotFoundException("ID not found: " + id));
+			return result;
+		}
+
+		BoundStatement bs = new BoundStatement(readStmt);
+		bs.bind(id.primaryKey());
+		Futures.addCallback(getSession().executeAsync(bs), new FailingCallback<T>(result)
+		{
+			@Override
+			protected void succeeded(ResultSet rs)
+			{
+				Row row = rs.one();
+
+				if (row == null)
+				{
+					result.fail(new ItemNotFoundException("ID not found: " + id.toString()));
+				}
+				else
+				{
+					result.complete(marshalRow(row));
+				}
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Reads the batch without blocking, keeping at most maxConcurrentRequests reads in-flight
+	 * at once. IDs that don't exist are simply not included in the results, which are in the
+	 * order of the given IDs.
+	 */
+	@Override
+	public RepositoryFuture<List<T>> doReadListAsync(Collection<Identifier> ids)
+	{
+		List<Identifier> readable = new ArrayList<Identifier>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			if (id != null && !id.isEmpty()) readable.add(id);
+		}
+
+		if (readable.isEmpty())
+		{
+			return RepositoryFuture.completed((List<T>) new ArrayList<T>(0));
+		}
+
+		return new AsyncListReader(readable).start();
+	}
+
+	@Override
+	public RepositoryFuture<T> doCreateAsync(final T entity)
+	{
+		final Statement statement = (isConditionalWrites() ? bindConditional(entity, true) : bindCreate(entity));
+
+		if (statement == null) return super.doCreateAsync(entity);
+
+		final RepositoryFuture<T> result = new RepositoryFuture<T>();
+
+		if (isConditionalWrites())
+		{
+			return executeConditionallyAsync(statement, entity, true, result);
+		}
+
+		Futures.addCallback(existsAsync(entity.getId()), new FailingCallback<T>(result)
+		{
+			@Override
+			protected void succeeded(ResultSet rs)
+			{
+				if (rs.one().getLong(0) > 0)
+				{
+					result.fail(new DuplicateItemException(entity.getClass().getSimpleName()
+					    + " ID already exists: " + entity.getId().toString()));
+				}
+				else
+				{
+					executeAsync(statement, entity, result);
+				}
+			}
+		});
+
+		return result;
+	}
+
+	@Override
+	public RepositoryFuture<T> doUpdateAsync(final T entity)
+	{
+		final Statement statement = (isConditionalWrites() ? bindConditional(entity, false) : bindUpdate(entity));
+
+		if (statement == null) return super.doUpdateAsync(entity);
+
+		final RepositoryFuture<T> result = new RepositoryFuture<T>();
+
+		if (isConditionalWrites())
+		{
+			return executeConditionallyAsync(statement, entity, false, result);
+		}
+
+		Futures.addCallback(existsAsync(entity.getId()), new FailingCallback<T>(result)
+		{
+			@Override
+			protected void succeeded(ResultSet rs)
+			{
+				if (rs.one().getLong(0) == 0)
+				{
+					result.fail(new ItemNotFoundException(entity.getClass().getSimpleName()
+					    + " ID not found: " + entity.getId().toString()));
+				}
+				else
+				{
+					executeAsync(statement, entity, result);
+				}
+			}
+		});
+
+		return result;
+	}
+
+	@Override
+	public RepositoryFuture<Void> doDeleteAsync(T entity)
+	{
+		BoundStatement bs = new BoundStatement(deleteStmt);
+		bindIdentifier(bs, entity.getId());
+		return executeAsync(bs, (Void) null, new RepositoryFuture<Void>());
+	}
+
+	/**
+	 * Reads a single page of the results of the given query, resuming where the prior page
+	 * left off, using the driver's paging state as the continuation token. This is the same
+	 * contract as KeysetQueryable.readPage(), for the arbitrary CQL queries sub-classes define:
+	 * each page costs the same, however deep, since Cassandra resumes from the paging state
+	 * instead of re-reading prior pages.
+	 * <p/>
+	 * The query must be the same for every page of a given traversal.
+	 * 
+	 * @param query a select statement. Its fetch size and paging state are set by this method.
+	 * @param limit the maximum number of results in the page. Must be positive.
+	 * @param continuationToken the token from the prior Page, or null for the first page.
+	 * @return a Page of results. Never null.
+	 */
+	public Page<T> readPage(Statement query, int limit, String continuationToken)
+	{
+		if (limit < 1) throw new IllegalArgumentException("Page limit must be positive");
+
+		query.setFetchSize(limit);
+
+		if (continuationToken != null)
+		{
+			try
+			{
+				query.setPagingState(PagingState.fromString(continuationToken));
+			}
+			catch (DriverException e)
+			{
+				throw new RepositoryException("Invalid continuation token: " + continuationToken, e);
+			}
+		}
+
+		ResultSet rs = getSession().execute(query);
+		int remaining = rs.getAvailableWithoutFetching();
+		List<T> results = new ArrayList<T>(remaining);
+
+		// Stop at the end of the fetched page, as iterating further would fetch the next one.
+		if (remaining > 0)
+		{
+			for (Row row : rs)
+			{
+				results.add(marshalRow(row));
+
+				if (--remaining == 0) break;
+			}
+		}
+
+		PagingState next = rs.getExecutionInfo().getPagingState();
+		return new Page<T>(results, (next == null ? null : next.toString()));
+	}
+
 	@Override
 	protected void deleteEntity(T entity)
 	{
@@ -99,5 +514,381 @@ extends AbstractCassandraRepository<T>
 		getSession().execute(bs);
 	}
 
+	/**
+	 * Check the existence of each entity's ID, with at most maxConcurrentRequests
+	 * checks in-flight at once.
+	 * 
+	 * @param entities
+	 * @return an array of existence flags, in the iteration order of the entities.
+	 */
+	private boolean[] existsAll(Collection<T> entities)
+	{
+		boolean[] existences = new boolean[entities.size()];
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(entities.size());
+		Semaphore permits = new Semaphore(maxConcurrentRequests);
+
+		for (T entity : entities)
+		{
+			if (hasId(entity))
+			{
+				BoundStatement bs = new BoundStatement(existStmt);
+				bs.bind(entity.getId().primaryKey());
+				futures.add(executeAsync(bs, permits));
+			}
+			else
+			{
+				futures.add(null);
+			}
+		}
+
+		for (int i = 0; i < existences.length; i++)
+		{
+			ResultSetFuture future = futures.get(i);
+			existences[i] = (future != null && future.getUninterruptibly().one().getLong(0) > 0);
+		}
+
+		return existences;
+	}
+
+	private void writeAll(Collection<T> entities, boolean isCreate, BatchResult<T> result)
+	{
+		boolean isConditional = isConditionalWrites();
+		List<T> pending = new ArrayList<T>(entities.size());
+		List<ResultSetFuture> futures = new ArrayList<ResultSetFuture>(entities.size());
+		Semaphore permits = new Semaphore(maxConcurrentRequests);
+
+		for (T entity : entities)
+		{
+			Statement statement = (isConditional ? bindConditional(entity, isCreate)
+				: (isCreate ? bindCreate(entity) : bindUpdate(entity)));
+
+			if (statement == null)
+			{
+				try
+				{
+					if (isConditional)
+					{
+						// Without a conditional statement, fall back to checking existence first.
+						result.addSuccess(isCreate ? doCreate(entity) : doUpdate(entity));
+					}
+					else
+					{
+						result.addSuccess(isCreate ? createEntity(entity) : updateEntity(entity));
+					}
+				}
+				catch (RepositoryException e)
+				{
+					result.addFailure(entity, e);
+				}
+
+				continue;
+			}
+
+			pending.add(entity);
+			futures.add(executeAsync(statement, permits));
+		}
+
+		collectWrites(pending, futures, result, isConditional, isCreate);
+	}
+
+	private void collectWrites(List<T> pending, List<ResultSetFuture> futures, BatchResult<T> result,
+		boolean isConditional, boolean isCreate)
+	{
+		for (int i = 0; i < futures.size(); i++)
+		{
+			try
+			{
+				ResultSet rs = futures.get(i).getUninterruptibly();
+
+				if (isConditional && !rs.wasApplied())
+				{
+					result.addFailure(pending.get(i), conditionFailed(pending.get(i), isCreate));
+				}
+				else
+				{
+					result.addSuccess(pending.get(i));
+				}
+			}
+			catch (DriverException e)
+			{
+				result.addFailure(pending.get(i), new RepositoryException(e));
+			}
+		}
+
+		pending.clear();
+		futures.clear();
+	}
+
+	private void collectRows(List<ResultSetFuture> futures, List<T> results, Projection projection)
+	{
+		for (ResultSetFuture future : futures)
+		{
+			Row row = future.getUninterruptibly().one();
+
+			if (row != null)
+			{
+				results.add(projection == null ? marshalRow(row) : marshalRow(row, projection));
+			}
+		}
+
+		futures.clear();
+	}
+
+	/**
+	 * Execute the statement asynchronously once one of the permits is available, releasing
+	 * it when the request completes. So a batch keeps maxConcurrentRequests in-flight as
+	 * each completes, instead of waiting for an entire window of them to complete.
+	 */
+	private ResultSetFuture executeAsync(Statement statement, final Semaphore permits)
+	{
+		permits.acquireUninterruptibly();
+		ResultSetFuture future;
+
+		try
+		{
+			future = getSession().executeAsync(statement);
+		}
+		catch (RuntimeException e)
+		{
+			permits.release();
+			throw e;
+		}
+
+		future.addListener(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				permits.release();
+			}
+		}, CALLING_THREAD);
+		return future;
+	}
+
+	private ResultSetFuture existsAsync(Identifier identifier)
+	{
+		BoundStatement bs = new BoundStatement(existStmt);
+		bs.bind(identifier.primaryKey());
+		return getSession().executeAsync(bs);
+	}
+
+	private <R> RepositoryFuture<R> executeAsync(Statement statement, final R value, final RepositoryFuture<R> result)
+	{
+		Futures.addCallback(getSession().executeAsync(statement), new FailingCallback<R>(result)
+		{
+			@Override
+			protected void succeeded(ResultSet rs)
+			{
+				result.complete(value);
+			}
+		});
+
+		return result;
+	}
+
+	private RepositoryFuture<T> executeConditionallyAsync(Statement statement, final T entity, final boolean isCreate,
+		final RepositoryFuture<T> result)
+	{
+		Futures.addCallback(getSession().executeAsync(statement), new FailingCallback<T>(result)
+		{
+			@Override
+			protected void succeeded(ResultSet rs)
+			{
+				if (rs.wasApplied())
+				{
+					result.complete(entity);
+				}
+				else
+				{
+					result.fail(conditionFailed(entity, isCreate));
+				}
+			}
+		});
+
+		return result;
+	}
+
+	private RepositoryException conditionFailed(T entity, boolean isCreate)
+	{
+		if (isCreate)
+		{
+			return new DuplicateItemException(entity.getClass().getSimpleName()
+			    + " ID already exists: " + entity.getId());
+		}
+
+		return new ItemNotFoundException(entity.getClass().getSimpleName()
+		    + " ID not found: " + entity.getId());
+	}
+
 	protected abstract T marshalRow(Row row);
+
+	/**
+	 * Marshal a row, containing only the identifier column and the projected columns,
+	 * into a partial domain object. The default calls marshalRow(Row), so sub-classes whose
+	 * marshalRow() reads every column must override this to read only those projected.
+	 * 
+	 * @param row a row containing the identifier and projected columns.
+	 * @param projection the columns selected.
+	 * @return a partial domain object.
+	 */
+	protected T marshalRow(Row row, Projection projection)
+	{
+		return marshalRow(row);
+	}
+
+	/**
+	 * Get the prepared read statement for the projection, preparing it on first use.
+	 */
+	private PreparedStatement getReadStatement(Projection projection)
+	{
+		if (projection == null) return readStmt;
+
+		PreparedStatement statement = projectedReadStmts.get(projection);
+
+		if (statement == null)
+		{
+			List<String> columns = new ArrayList<String>(projection.getFields());
+			columns.remove(identifierColumn);
+			StringBuilder sb = new StringBuilder();
+
+			for (String column : columns)
+			{
+				if (sb.length() > 0) sb.append(", ");
+
+				sb.append(column);
+			}
+
+			String cql = (sb.length() == 0
+				? String.format(READ_ID_CQL, identifierColumn, getTable(), identifierColumn)
+				: String.format(PROJECTED_READ_CQL, identifierColumn, sb, getTable(), identifierColumn));
+			statement = getSession().prepare(cql);
+			PreparedStatement existing = projectedReadStmts.putIfAbsent(projection, statement);
+
+			if (existing != null) statement = existing;
+		}
+
+		return statement;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Adapts a driver callback to a RepositoryFuture, failing the future if either the
+	 * driver request or the success handling fails.
+	 */
+	private abstract static class FailingCallback<R>
+	implements FutureCallback<ResultSet>
+	{
+		private RepositoryFuture<R> result;
+
+		public FailingCallback(RepositoryFuture<R> result)
+		{
+			super();
+			this.result = result;
+		}
+
+		protected abstract void succeeded(ResultSet rs);
+
+		@Override
+		public void onSuccess(ResultSet rs)
+		{
+			try
+			{
+				succeeded(rs);
+			}
+			catch (RuntimeException e)
+			{
+				onFailure(e);
+			}
+		}
+
+		@Override
+		public void onFailure(Throwable t)
+		{
+			result.fail(t instanceof RepositoryException ? t : new RepositoryException(t));
+		}
+	}
+
+	/**
+	 * Reads a list of IDs asynchronously, starting the next read as each one completes
+	 * so that no more than maxConcurrentRequests are in-flight at once.
+	 */
+	private class AsyncListReader
+	{
+		private List<Identifier> ids;
+		private Row[] rows;
+		private Iterator<Identifier> next;
+		private int nextIndex = 0;
+		private AtomicInteger remaining;
+		private RepositoryFuture<List<T>> result = new RepositoryFuture<List<T>>();
+
+		public AsyncListReader(List<Identifier> ids)
+		{
+			super();
+			this.ids = ids;
+			this.rows = new Row[ids.size()];
+			this.next = ids.iterator();
+			this.remaining = new AtomicInteger(ids.size());
+		}
+
+		public RepositoryFuture<List<T>> start()
+		{
+			int initial = Math.min(ids.size(), maxConcurrentRequests);
+
+			for (int i = 0; i < initial; i++)
+			{
+				readNext();
+			}
+
+			return result;
+		}
+
+		private void readNext()
+		{
+			final int index;
+			Identifier id;
+
+			synchronized (this)
+			{
+				if (!next.hasNext() || result.isDone()) return;
+
+				index = nextIndex++;
+				id = next.next();
+			}
+
+			BoundStatement bs = new BoundStatement(readStmt);
+			bs.bind(id.primaryKey());
+			Futures.addCallback(getSession().executeAsync(bs), new FailingCallback<List<T>>(result)
+			{
+				@Override
+				protected void succeeded(ResultSet rs)
+				{
+					rows[index] = rs.one();
+
+					if (remaining.decrementAndGet() == 0)
+					{
+						finish();
+					}
+					else
+					{
+						readNext();
+					}
+				}
+			});
+		}
+
+		private void finish()
+		{
+			List<T> results = new ArrayList<T>(rows.length);
+
+			for (Row row : rows)
+			{
+				if (row != null) results.add(marshalRow(row));
+			}
+
+			result.complete(results);
+		}
+	}
+
 }
@@ -0,0 +1,280 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.strategicgains.repoexpress.async.RepositoryFuture;
+import com.strategicgains.repoexpress.async.ResultCallback;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * A base, abstract repository implementation that supports observation of both
+ * blocking and asynchronous operations. The asynchronous operations mirror those
+ * of AbstractObservableRepository: before* observers are notified on the calling
+ * thread, before the operation is started, and after* observers are notified on
+ * the thread that completes the operation, before the returned future completes.
+ * <p/>
+ * An exception thrown by an observer completes the returned future exceptionally.
+ * <p/>
+ * The default doXxxAsync() implementations simply call the corresponding blocking
+ * doXxx() method on the calling thread, returning an already-completed future.
+ * Sub-classes backed by a store with a non-blocking client should override them.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public abstract class AbstractAsyncObservableRepository<T extends Identifiable>
+extends AbstractObservableRepository<T>
+implements AsyncObservableRepository<T>
+{
+	public AbstractAsyncObservableRepository()
+	{
+		super();
+	}
+
+
+	// SECTION: ASYNC REPOSITORY
+
+	@Override
+	public final RepositoryFuture<T> createAsync(final T object)
+	{
+		try
+		{
+			notifyBeforeCreate(object);
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+
+		RepositoryFuture<T> result = new RepositoryFuture<T>();
+		doCreateAsync(object).addCallback(new AfterCallback<T>(result)
+		{
+			@Override
+			protected void notifyAfter(T created)
+			{
+				notifyAfterCreate(created);
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public final RepositoryFuture<Void> deleteAsync(final T object)
+	{
+		try
+		{
+			notifyBeforeDelete(object);
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+
+		RepositoryFuture<Void> result = new RepositoryFuture<Void>();
+		doDeleteAsync(object).addCallback(new AfterCallback<Void>(result)
+		{
+			@Override
+			protected void notifyAfter(Void nothing)
+			{
+				notifyAfterDelete(object);
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public final RepositoryFuture<T> readAsync(Identifier id)
+	{
+		try
+		{
+			notifyBeforeRead(id);
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+
+		RepositoryFuture<T> result = new RepositoryFuture<T>();
+		doReadAsync(id).addCallback(new AfterCallback<T>(result)
+		{
+			@Override
+			protected void notifyAfter(T read)
+			{
+				notifyAfterRead(read);
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public final RepositoryFuture<List<T>> readListAsync(Collection<Identifier> ids)
+	{
+		try
+		{
+			notifyBeforeReadList(ids);
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+
+		RepositoryFuture<List<T>> result = new RepositoryFuture<List<T>>();
+		doReadListAsync(ids).addCallback(new AfterCallback<List<T>>(result)
+		{
+			@Override
+			protected void notifyAfter(List<T> read)
+			{
+				notifyAfterReadList(read);
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public final RepositoryFuture<T> updateAsync(final T object)
+	{
+		try
+		{
+			notifyBeforeUpdate(object);
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+
+		RepositoryFuture<T> result = new RepositoryFuture<T>();
+		doUpdateAsync(object).addCallback(new AfterCallback<T>(result)
+		{
+			@Override
+			protected void notifyAfter(T updated)
+			{
+				notifyAfterUpdate(object);
+			}
+		});
+		return result;
+	}
+
+	@Override
+	public RepositoryFuture<T> doCreateAsync(T object)
+	{
+		try
+		{
+			return RepositoryFuture.completed(doCreate(object));
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+	}
+
+	@Override
+	public RepositoryFuture<Void> doDeleteAsync(T object)
+	{
+		try
+		{
+			doDelete(object);
+			return RepositoryFuture.completed(null);
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+	}
+
+	@Override
+	public RepositoryFuture<T> doReadAsync(Identifier id)
+	{
+		try
+		{
+			return RepositoryFuture.completed(doRead(id));
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+	}
+
+	@Override
+	public RepositoryFuture<List<T>> doReadListAsync(Collection<Identifier> ids)
+	{
+		try
+		{
+			return RepositoryFuture.completed(doReadList(ids));
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+	}
+
+	@Override
+	public RepositoryFuture<T> doUpdateAsync(T object)
+	{
+		try
+		{
+			return RepositoryFuture.completed(doUpdate(object));
+		}
+		catch (RuntimeException e)
+		{
+			return RepositoryFuture.failed(e);
+		}
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Notifies the after* observers once the underlying operation succeeds, then
+	 * completes the result future that was returned to the caller.
+	 */
+	private abstract static class AfterCallback<R>
+	implements ResultCallback<R>
+	{
+		private RepositoryFuture<R> result;
+
+		public AfterCallback(RepositoryFuture<R> result)
+		{
+			super();
+			this.result = result;
+		}
+
+		protected abstract void notifyAfter(R value);
+
+		@Override
+		public void onSuccess(R value)
+		{
+			try
+			{
+				notifyAfter(value);
+				result.complete(value);
+			}
+			catch (RuntimeException e)
+			{
+				result.fail(e);
+			}
+		}
+
+		@Override
+		public void onFailure(Throwable cause)
+		{
+			result.fail(cause);
+		}
+	}
+}
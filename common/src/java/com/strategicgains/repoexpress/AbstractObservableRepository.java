@@ -15,14 +15,22 @@
 */
 package com.strategicgains.repoexpress;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import com.strategicgains.repoexpress.cache.ExistenceFilter;
 import com.strategicgains.repoexpress.domain.Identifiable;
 import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.event.BatchRepositoryObserver;
+import com.strategicgains.repoexpress.event.PerItemRepositoryObserver;
 import com.strategicgains.repoexpress.event.RepositoryObserver;
+import com.strategicgains.repoexpress.exception.RepositoryException;
 
 /**
  * A base, abstract repository implementation that supports observation.
@@ -36,7 +44,8 @@ implements ObservableRepository<T>
 {
 	// SECTION: INSTANCE VARIABLES
 	
-	private List<RepositoryObserver<T>> observers = new ArrayList<RepositoryObserver<T>>();
+	private volatile Observers<T> observers = new Observers<T>();
+	private volatile ExistenceFilter<T> existenceFilter;
 
 	
 	// SECTION: CONSTRUCTORS
@@ -49,22 +58,21 @@ implements ObservableRepository<T>
 
 	// SECTION: ACCESSORS/MUTATORS
 	
-	public void addObserver(RepositoryObserver<T> observer)
+	/**
+	 * Add an observer. Observers may be added and removed safely while the repository is
+	 * in use, since notifications iterate an immutable snapshot of the observers.
+	 */
+	public synchronized void addObserver(RepositoryObserver<T> observer)
 	{
-		getObserversInternal().add(observer);
+		observers = observers.with(observer);
 	}
 	
 	/**
 	 * Remove all observers from this repository.
 	 */
-	public void clearObservers()
+	public synchronized void clearObservers()
 	{
-		getObserversInternal().clear();
-	}
-	
-	private List<RepositoryObserver<T>> getObserversInternal()
-	{
-		return observers;
+		observers = new Observers<T>();
 	}
 	
 	/**
@@ -74,12 +82,44 @@ implements ObservableRepository<T>
 	 */
 	public List<RepositoryObserver<T>> getObservers()
 	{
-		return Collections.unmodifiableList(getObserversInternal());
+		return Collections.unmodifiableList(Arrays.asList(observers.all));
 	}
 	
-	public boolean removeObserver(RepositoryObserver<T> observer)
+	public synchronized boolean removeObserver(RepositoryObserver<T> observer)
 	{
-		return getObserversInternal().remove(observer);
+		Observers<T> without = observers.without(observer);
+
+		if (without == observers) return false;
+
+		observers = without;
+		return true;
+	}
+
+	/**
+	 * Install a membership pre-filter, consulted by exists() before calling doExists(),
+	 * so that Identifiers known to be absent don't incur a round trip to the underlying
+	 * store. The filter is also added as an observer, replacing any previous filter.
+	 * 
+	 * @param filter an ExistenceFilter, or null to remove the current one.
+	 */
+	public synchronized void setExistenceFilter(ExistenceFilter<T> filter)
+	{
+		if (existenceFilter != null)
+		{
+			removeObserver(existenceFilter);
+		}
+
+		if (filter != null)
+		{
+			addObserver(filter);
+		}
+
+		this.existenceFilter = filter;
+	}
+
+	public ExistenceFilter<T> getExistenceFilter()
+	{
+		return existenceFilter;
 	}
 
 	
@@ -94,6 +134,24 @@ implements ObservableRepository<T>
     	return created;
     }
 
+	/**
+	 * Create each of the given objects, notifying observers once for the entire batch.
+	 * Observers are notified after the batch of only those objects that were created.
+	 * <p/>
+	 * Note that an exception thrown by an observer before the batch is processed
+	 * aborts the entire batch.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public final BatchResult<T> createAll(Collection<T> objects)
+	{
+		notifyBeforeCreateAll(objects);
+		BatchResult<T> result = doCreateAll(objects);
+		notifyAfterCreateAll(result.getSucceeded());
+		return result;
+	}
+
 	@Override
     public final void delete(T object)
     {
@@ -102,6 +160,24 @@ implements ObservableRepository<T>
 		notifyAfterDelete(object);
     }
 
+	/**
+	 * Delete each of the given objects, notifying observers once for the entire batch.
+	 * Observers are notified after the batch of only those objects that were deleted.
+	 * <p/>
+	 * Note that an exception thrown by an observer before the batch is processed
+	 * aborts the entire batch.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public final BatchResult<T> deleteAll(Collection<T> objects)
+	{
+		notifyBeforeDeleteAll(objects);
+		BatchResult<T> result = doDeleteAll(objects);
+		notifyAfterDeleteAll(result.getSucceeded());
+		return result;
+	}
+
 	@Override
     public final T read(Identifier id)
     {
@@ -111,6 +187,23 @@ implements ObservableRepository<T>
 	    return result;
     }
 
+	/**
+	 * Read all the items in a given collection of IDs, notifying observers once
+	 * for the entire batch instead of once per ID. IDs in the collection that are
+	 * invalid or not found are simply ignored.
+	 * 
+	 * @return a list of objects associated with the provided IDs. Possibly empty
+	 * if none of the IDs are found (or valid). Never null.
+	 */
+	@Override
+	public final List<T> readList(Collection<Identifier> ids)
+	{
+		notifyBeforeReadList(ids);
+		List<T> results = doReadList(ids);
+		notifyAfterReadList(results);
+		return results;
+	}
+
 	@Override
     public final T update(T object)
     {
@@ -119,71 +212,339 @@ implements ObservableRepository<T>
 		notifyAfterUpdate(object);
 		return result;
     }
+
+	/**
+	 * Update each of the given objects, notifying observers once for the entire batch.
+	 * Observers are notified after the batch of only those objects that were updated.
+	 * <p/>
+	 * Note that an exception thrown by an observer before the batch is processed
+	 * aborts the entire batch.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public final BatchResult<T> updateAll(Collection<T> objects)
+	{
+		notifyBeforeUpdateAll(objects);
+		BatchResult<T> result = doUpdateAll(objects);
+		notifyAfterUpdateAll(result.getSucceeded());
+		return result;
+	}
+
+	/**
+	 * Create each of the given objects, without notifying observers.
+	 * <p/>
+	 * This default implementation simply calls doCreate(object) for each of the given
+	 * objects. Sub-classes should choose to optimize by overriding this behavior, for
+	 * example writing the entire batch in as few round trips as possible.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public BatchResult<T> doCreateAll(Collection<T> objects)
+	{
+		BatchResult<T> result = new BatchResult<T>(objects.size());
+
+		for (T object : objects)
+		{
+			try
+			{
+				result.addSuccess(doCreate(object));
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(object, e);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Delete each of the given objects, without notifying observers.
+	 * <p/>
+	 * This default implementation simply calls doDelete(object) for each of the given
+	 * objects. Sub-classes should choose to optimize by overriding this behavior.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public BatchResult<T> doDeleteAll(Collection<T> objects)
+	{
+		BatchResult<T> result = new BatchResult<T>(objects.size());
+
+		for (T object : objects)
+		{
+			try
+			{
+				doDelete(object);
+				result.addSuccess(object);
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(object, e);
+			}
+		}
+
+		return result;
+	}
 	
 	
+	/**
+	 * Returns true if the id exists in the repository, consulting the ExistenceFilter
+	 * (if any) before calling doExists().
+	 */
+	@Override
+	public boolean exists(Identifier id)
+	{
+		ExistenceFilter<T> filter = existenceFilter;
+
+		if (filter == null || id == null) return doExists(id);
+
+		if (filter.isDefinitelyAbsent(id)) return false;
+
+		long stamp = filter.stamp(id);
+		boolean exists = doExists(id);
+
+		if (!exists)
+		{
+			filter.recordAbsent(id, stamp);
+		}
+
+		return exists;
+	}
+
+	/**
+	 * Returns true if the id exists in the underlying store, without consulting the
+	 * ExistenceFilter.
+	 * <p/>
+	 * This default implementation incurs a read, check for null. Sub-classes should
+	 * optimize this, if applicable, by overriding the behavior.
+	 */
+	@Override
+	public boolean doExists(Identifier id)
+	{
+		return super.exists(id);
+	}
+
+	/**
+	 * Read all the items in a given collection of IDs, without notifying observers.
+	 * IDs in the collection that are invalid or not found are simply ignored.
+	 * <p/>
+	 * This default implementation simply calls doRead(id) for each of the given IDs.
+	 * Sub-classes should choose to optimize by overriding this behavior, for example
+	 * reading the entire batch in a single round trip to the underlying store.
+	 * 
+	 * @return a list of objects associated with the provided IDs. Never null.
+	 */
+	@Override
+	public List<T> doReadList(Collection<Identifier> ids)
+	{
+		List<T> results = new ArrayList<T>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			try
+			{
+				results.add(doRead(id));
+			}
+			catch (RepositoryException e)
+			{
+				// ignore it, returning an empty list if necessary.
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Update each of the given objects, without notifying observers.
+	 * <p/>
+	 * This default implementation simply calls doUpdate(object) for each of the given
+	 * objects. Sub-classes should choose to optimize by overriding this behavior.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public BatchResult<T> doUpdateAll(Collection<T> objects)
+	{
+		BatchResult<T> result = new BatchResult<T>(objects.size());
+
+		for (T object : objects)
+		{
+			try
+			{
+				result.addSuccess(doUpdate(object));
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(object, e);
+			}
+		}
+
+		return result;
+	}
+
+
 	// SECTION: EVENT OBSERVATION
 	
 	protected void notifyAfterCreate(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		RepositoryObserver<T>[] phase = observers.afterCreate;
+
+		for (int i = 0; i < phase.length; i++)
 		{
-			observer.afterCreate(object);
+			phase[i].afterCreate(object);
+		}
+	}
+	
+	protected void notifyAfterCreateAll(List<T> objects)
+	{
+		BatchRepositoryObserver<T>[] phase = observers.afterCreateAll;
+
+		for (int i = 0; i < phase.length; i++)
+		{
+			phase[i].afterCreateAll(objects);
 		}
 	}
 	
 	protected void notifyAfterDelete(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		RepositoryObserver<T>[] phase = observers.afterDelete;
+
+		for (int i = 0; i < phase.length; i++)
+		{
+			phase[i].afterDelete(object);
+		}
+	}
+	
+	protected void notifyAfterDeleteAll(List<T> objects)
+	{
+		BatchRepositoryObserver<T>[] phase = observers.afterDeleteAll;
+
+		for (int i = 0; i < phase.length; i++)
 		{
-			observer.afterDelete(object);
+			phase[i].afterDeleteAll(objects);
 		}
 	}
 	
 	protected void notifyAfterRead(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		RepositoryObserver<T>[] phase = observers.afterRead;
+
+		for (int i = 0; i < phase.length; i++)
 		{
-			observer.afterRead(object);
+			phase[i].afterRead(object);
+		}
+	}
+	
+	protected void notifyAfterReadList(List<T> objects)
+	{
+		BatchRepositoryObserver<T>[] phase = observers.afterReadList;
+
+		for (int i = 0; i < phase.length; i++)
+		{
+			phase[i].afterReadList(objects);
 		}
 	}
 	
 	protected void notifyAfterUpdate(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		RepositoryObserver<T>[] phase = observers.afterUpdate;
+
+		for (int i = 0; i < phase.length; i++)
+		{
+			phase[i].afterUpdate(object);
+		}
+	}
+
+	protected void notifyAfterUpdateAll(List<T> objects)
+	{
+		BatchRepositoryObserver<T>[] phase = observers.afterUpdateAll;
+
+		for (int i = 0; i < phase.length; i++)
 		{
-			observer.afterUpdate(object);
+			phase[i].afterUpdateAll(objects);
 		}
 	}
 
 	protected void notifyBeforeCreate(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		RepositoryObserver<T>[] phase = observers.beforeCreate;
+
+		for (int i = 0; i < phase.length; i++)
 		{
-			observer.beforeCreate(object);
+			phase[i].beforeCreate(object);
+		}
+	}
+	
+	protected void notifyBeforeCreateAll(Collection<T> objects)
+	{
+		BatchRepositoryObserver<T>[] phase = observers.beforeCreateAll;
+
+		for (int i = 0; i < phase.length; i++)
+		{
+			phase[i].beforeCreateAll(objects);
 		}
 	}
 	
 	protected void notifyBeforeDelete(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		RepositoryObserver<T>[] phase = observers.beforeDelete;
+
+		for (int i = 0; i < phase.length; i++)
+		{
+			phase[i].beforeDelete(object);
+		}
+	}
+	
+	protected void notifyBeforeDeleteAll(Collection<T> objects)
+	{
+		BatchRepositoryObserver<T>[] phase = observers.beforeDeleteAll;
+
+		for (int i = 0; i < phase.length; i++)
 		{
-			observer.beforeDelete(object);
+			phase[i].beforeDeleteAll(objects);
 		}
 	}
 	
 	protected void notifyBeforeRead(Identifier id)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		RepositoryObserver<T>[] phase = observers.beforeRead;
+
+		for (int i = 0; i < phase.length; i++)
 		{
-			observer.beforeRead(id);
+			phase[i].beforeRead(id);
+		}
+	}
+	
+	protected void notifyBeforeReadList(Collection<Identifier> ids)
+	{
+		BatchRepositoryObserver<T>[] phase = observers.beforeReadList;
+
+		for (int i = 0; i < phase.length; i++)
+		{
+			phase[i].beforeReadList(ids);
 		}
 	}
 	
 	protected void notifyBeforeUpdate(T object)
 	{
-		for (RepositoryObserver<T> observer : getObserversInternal())
+		RepositoryObserver<T>[] phase = observers.beforeUpdate;
+
+		for (int i = 0; i < phase.length; i++)
+		{
+			phase[i].beforeUpdate(object);
+		}
+	}
+	
+	protected void notifyBeforeUpdateAll(Collection<T> objects)
+	{
+		BatchRepositoryObserver<T>[] phase = observers.beforeUpdateAll;
+
+		for (int i = 0; i < phase.length; i++)
 		{
-			observer.beforeUpdate(object);
+			phase[i].beforeUpdateAll(objects);
 		}
 	}
 
@@ -250,4 +611,125 @@ implements ObservableRepository<T>
         	iterator.remove();
         }
 	}
+
+	/**
+	 * An immutable snapshot of the observers, with an array of the observers that handle
+	 * each notification phase, so that notifying is an allocation-free array loop and
+	 * phases no observer handles are skipped. An AbstractRepositoryObserver only handles
+	 * the phases whose methods it overrides, where the batch phases (e.g. afterCreateAll)
+	 * are also handled if the corresponding single-item method is overridden, since those
+	 * are called by default. Other observers are assumed to handle all phases, where an
+	 * observer that isn't a BatchRepositoryObserver is notified of each item of a batch.
+	 */
+	private static final class Observers<T extends Identifiable>
+	{
+		private final RepositoryObserver<T>[] all;
+		private final RepositoryObserver<T>[] afterCreate;
+		private final BatchRepositoryObserver<T>[] afterCreateAll;
+		private final RepositoryObserver<T>[] afterDelete;
+		private final BatchRepositoryObserver<T>[] afterDeleteAll;
+		private final RepositoryObserver<T>[] afterRead;
+		private final BatchRepositoryObserver<T>[] afterReadList;
+		private final RepositoryObserver<T>[] afterUpdate;
+		private final BatchRepositoryObserver<T>[] afterUpdateAll;
+		private final RepositoryObserver<T>[] beforeCreate;
+		private final BatchRepositoryObserver<T>[] beforeCreateAll;
+		private final RepositoryObserver<T>[] beforeDelete;
+		private final BatchRepositoryObserver<T>[] beforeDeleteAll;
+		private final RepositoryObserver<T>[] beforeRead;
+		private final BatchRepositoryObserver<T>[] beforeReadList;
+		private final RepositoryObserver<T>[] beforeUpdate;
+		private final BatchRepositoryObserver<T>[] beforeUpdateAll;
+
+		@SuppressWarnings("unchecked")
+		public Observers()
+		{
+			this((RepositoryObserver<T>[]) new RepositoryObserver<?>[0]);
+		}
+
+		@SuppressWarnings("unchecked")
+		private Observers(RepositoryObserver<T>[] all)
+		{
+			super();
+			this.all = all;
+			BatchRepositoryObserver<T>[] batch = (BatchRepositoryObserver<T>[]) new BatchRepositoryObserver<?>[all.length];
+
+			for (int i = 0; i < all.length; i++)
+			{
+				batch[i] = PerItemRepositoryObserver.adapt(all[i]);
+			}
+
+			this.afterCreate = handling(all, "afterCreate", Identifiable.class);
+			this.afterCreateAll = handling(batch, "afterCreateAll", List.class, "afterCreate", Identifiable.class);
+			this.afterDelete = handling(all, "afterDelete", Identifiable.class);
+			this.afterDeleteAll = handling(batch, "afterDeleteAll", List.class, "afterDelete", Identifiable.class);
+			this.afterRead = handling(all, "afterRead", Identifiable.class);
+			this.afterReadList = handling(batch, "afterReadList", List.class, "afterRead", Identifiable.class);
+			this.afterUpdate = handling(all, "afterUpdate", Identifiable.class);
+			this.afterUpdateAll = handling(batch, "afterUpdateAll", List.class, "afterUpdate", Identifiable.class);
+			this.beforeCreate = handling(all, "beforeCreate", Identifiable.class);
+			this.beforeCreateAll = handling(batch, "beforeCreateAll", Collection.class, "beforeCreate", Identifiable.class);
+			this.beforeDelete = handling(all, "beforeDelete", Identifiable.class);
+			this.beforeDeleteAll = handling(batch, "beforeDeleteAll", Collection.class, "beforeDelete", Identifiable.class);
+			this.beforeRead = handling(all, "beforeRead", Identifier.class);
+			this.beforeReadList = handling(batch, "beforeReadList", Collection.class, "beforeRead", Identifier.class);
+			this.beforeUpdate = handling(all, "beforeUpdate", Identifiable.class);
+			this.beforeUpdateAll = handling(batch, "beforeUpdateAll", Collection.class, "beforeUpdate", Identifiable.class);
+		}
+
+		public Observers<T> with(RepositoryObserver<T> observer)
+		{
+			RepositoryObserver<T>[] added = Arrays.copyOf(all, all.length + 1);
+			added[all.length] = observer;
+			return new Observers<T>(added);
+		}
+
+		/**
+		 * @return a snapshot without the observer, or this snapshot if it doesn't contain it.
+		 */
+		public Observers<T> without(RepositoryObserver<T> observer)
+		{
+			List<RepositoryObserver<T>> remaining = new ArrayList<RepositoryObserver<T>>(Arrays.asList(all));
+
+			if (!remaining.remove(observer)) return this;
+
+			return new Observers<T>(remaining.toArray(Arrays.copyOf(all, 0)));
+		}
+
+		private static <O extends RepositoryObserver<?>> O[] handling(O[] observers, String method, Class<?> type)
+		{
+			return handling(observers, method, type, null, null);
+		}
+
+		private static <O extends RepositoryObserver<?>> O[] handling(O[] observers,
+			String method, Class<?> type, String singleMethod, Class<?> singleType)
+		{
+			List<O> handlers = new ArrayList<O>(observers.length);
+
+			for (O observer : observers)
+			{
+				if (overrides(observer, method, type) || (singleMethod != null && overrides(observer, singleMethod, singleType)))
+				{
+					handlers.add(observer);
+				}
+			}
+
+			return handlers.toArray(Arrays.copyOf(observers, 0));
+		}
+
+		private static boolean overrides(RepositoryObserver<?> observer, String name, Class<?> type)
+		{
+			if (!(observer instanceof AbstractRepositoryObserver)) return true;
+
+			try
+			{
+				Method method = observer.getClass().getMethod(name, type);
+				return (method.getDeclaringClass() != AbstractRepositoryObserver.class);
+			}
+			catch (NoSuchMethodException | SecurityException e)
+			{
+				return true;
+			}
+		}
+	}
 }
@@ -33,6 +33,34 @@ import com.strategicgains.repoexpress.exception.RepositoryException;
 public abstract class AbstractRepository<T extends Identifiable>
 implements Repository<T>
 {
+	/**
+	 * Create each of the given objects, reporting the success or failure of each.
+	 * <p/>
+	 * This default implementation simply calls create(object) for each of the
+	 * given objects. Sub-classes should choose to optimize by overriding this behavior.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public BatchResult<T> createAll(Collection<T> objects)
+	{
+		BatchResult<T> result = new BatchResult<T>(objects.size());
+
+		for (T object : objects)
+		{
+			try
+			{
+				result.addSuccess(create(object));
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(object, e);
+			}
+		}
+
+		return result;
+	}
+
 	/**
 	 * Simply reads the object associated with the given ID before calling
 	 * delete(object).  This ensures existence before calling delete.
@@ -47,6 +75,35 @@ implements Repository<T>
 		delete(object);
 	}
 
+	/**
+	 * Delete each of the given objects, reporting the success or failure of each.
+	 * <p/>
+	 * This default implementation simply calls delete(object) for each of the
+	 * given objects. Sub-classes should choose to optimize by overriding this behavior.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public BatchResult<T> deleteAll(Collection<T> objects)
+	{
+		BatchResult<T> result = new BatchResult<T>(objects.size());
+
+		for (T object : objects)
+		{
+			try
+			{
+				delete(object);
+				result.addSuccess(object);
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(object, e);
+			}
+		}
+
+		return result;
+	}
+
 	/**
 	 * Read all the items in a given collection of IDs.  IDs in the collection
 	 * that are invalid or not found are simply ignored.
@@ -77,6 +134,34 @@ implements Repository<T>
     	return results;
     }
 
+	/**
+	 * Update each of the given objects, reporting the success or failure of each.
+	 * <p/>
+	 * This default implementation simply calls update(object) for each of the
+	 * given objects. Sub-classes should choose to optimize by overriding this behavior.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	@Override
+	public BatchResult<T> updateAll(Collection<T> objects)
+	{
+		BatchResult<T> result = new BatchResult<T>(objects.size());
+
+		for (T object : objects)
+		{
+			try
+			{
+				result.addSuccess(update(object));
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(object, e);
+			}
+		}
+
+		return result;
+	}
+
 	/**
 	 * Returns true if the id already exists in the repository. Otherwise, false.
 	 * Also returns false if an ItemNotFoundException occurs.
@@ -0,0 +1,38 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.strategicgains.repoexpress.async.RepositoryFuture;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see ObservableRepository
+ */
+public interface AsyncObservableRepository<T extends Identifiable>
+extends ObservableRepository<T>, AsyncRepository<T>
+{
+	public RepositoryFuture<T> doCreateAsync(T object);
+	public RepositoryFuture<Void> doDeleteAsync(T object);
+	public RepositoryFuture<T> doReadAsync(Identifier id);
+	public RepositoryFuture<List<T>> doReadListAsync(Collection<Identifier> ids);
+	public RepositoryFuture<T> doUpdateAsync(T object);
+}
@@ -0,0 +1,42 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.strategicgains.repoexpress.async.RepositoryFuture;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * The non-blocking counterpart of Repository. Each method returns immediately with a
+ * RepositoryFuture that completes when the underlying operation does. Failures, such as
+ * DuplicateItemException or ItemNotFoundException, complete the future exceptionally
+ * instead of being thrown.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see Repository
+ */
+public interface AsyncRepository<T extends Identifiable>
+{
+	public RepositoryFuture<T> createAsync(T object);
+	public RepositoryFuture<Void> deleteAsync(T object);
+	public RepositoryFuture<T> readAsync(Identifier id);
+	public RepositoryFuture<List<T>> readListAsync(Collection<Identifier> ids);
+	public RepositoryFuture<T> updateAsync(T object);
+}
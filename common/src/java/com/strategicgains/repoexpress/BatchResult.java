@@ -0,0 +1,119 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * The outcome of a bulk createAll(), updateAll() or deleteAll() operation. Reports,
+ * for each item in the batch, whether it succeeded or failed (and why).
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class BatchResult<T extends Identifiable>
+{
+	private List<T> succeeded;
+	private List<Failure<T>> failures = new ArrayList<Failure<T>>(0);
+
+	public BatchResult()
+	{
+		this(10);
+	}
+
+	public BatchResult(int expectedSize)
+	{
+		super();
+		this.succeeded = new ArrayList<T>(expectedSize);
+	}
+
+	public void addSuccess(T item)
+	{
+		succeeded.add(item);
+	}
+
+	public void addFailure(T item, RepositoryException cause)
+	{
+		failures.add(new Failure<T>(item, cause));
+	}
+
+	/**
+	 * Returns the items that were successfully processed, in the order they were processed.
+	 *
+	 * @return an unmodifiable list of successful items. Never null.
+	 */
+	public List<T> getSucceeded()
+	{
+		return Collections.unmodifiableList(succeeded);
+	}
+
+	/**
+	 * Returns the items that failed, along with the reason for each failure.
+	 *
+	 * @return an unmodifiable list of failures. Never null.
+	 */
+	public List<Failure<T>> getFailures()
+	{
+		return Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * Returns true if every item in the batch succeeded.
+	 */
+	public boolean isSuccessful()
+	{
+		return failures.isEmpty();
+	}
+
+	public int size()
+	{
+		return succeeded.size() + failures.size();
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * An item in a batch that could not be processed and the reason why.
+	 */
+	public static class Failure<T>
+	{
+		private T item;
+		private RepositoryException cause;
+
+		public Failure(T item, RepositoryException cause)
+		{
+			super();
+			this.item = item;
+			this.cause = cause;
+		}
+
+		public T getItem()
+		{
+			return item;
+		}
+
+		public RepositoryException getCause()
+		{
+			return cause;
+		}
+	}
+}
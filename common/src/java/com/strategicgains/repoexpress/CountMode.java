@@ -0,0 +1,36 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+/**
+ * How a Queryable repository computes count(filter).
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public enum CountMode
+{
+	/**
+	 * Count exactly, consulting a count cache, if any. The default.
+	 */
+	EXACT,
+
+	/**
+	 * Estimate, trading accuracy for speed: from collection metadata for unfiltered
+	 * counts, and from a random sample for filtered counts.
+	 */
+	ESTIMATED
+}
@@ -0,0 +1,47 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+
+/**
+ * A Queryable repository that also supports keyset (a.k.a. seek) pagination. Instead of
+ * skipping the results of prior pages, as QueryRange does, each page resumes from an
+ * opaque continuation token that encodes the position of the last result returned, so
+ * that reading page N costs the same as reading page 1.
+ * <p/>
+ * The filter and order must be the same for every page of a given traversal.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public interface KeysetQueryable<T extends Identifiable>
+extends Queryable<T>
+{
+	/**
+	 * Read a page of results.
+	 * 
+	 * @param filter query criteria. May be null.
+	 * @param order the sort order. May be null, in which case results are in identifier order.
+	 * @param limit the maximum number of results in the page. Must be positive.
+	 * @param continuationToken the token from the prior Page, or null for the first page.
+	 * @return a Page of results. Never null.
+	 */
+	public Page<T> readPage(QueryFilter filter, QueryOrder order, int limit, String continuationToken);
+}
@@ -15,6 +15,9 @@
 */
 package com.strategicgains.repoexpress;
 
+import java.util.Collection;
+import java.util.List;
+
 import com.strategicgains.repoexpress.domain.Identifiable;
 import com.strategicgains.repoexpress.domain.Identifier;
 import com.strategicgains.repoexpress.event.Observable;
@@ -27,7 +30,12 @@ public interface ObservableRepository<T extends Identifiable>
 extends Repository<T>, Observable<T>
 {
 	public T doCreate(T object);
+	public BatchResult<T> doCreateAll(Collection<T> objects);
 	public void doDelete(T object);
+	public BatchResult<T> doDeleteAll(Collection<T> objects);
+	public boolean doExists(Identifier id);
 	public T doRead(Identifier id);
+	public List<T> doReadList(Collection<Identifier> ids);
 	public T doUpdate(T object);
+	public BatchResult<T> doUpdateAll(Collection<T> objects);
 }
@@ -0,0 +1,70 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of results from a keyset (a.k.a. seek) paginated query, along with the opaque
+ * continuation token with which to request the following page.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see KeysetQueryable
+ */
+public class Page<T>
+{
+	private List<T> items;
+	private String nextToken;
+
+	/**
+	 * @param items the results in this page.
+	 * @param nextToken the token for the next page, or null if this is the last page.
+	 */
+	public Page(List<T> items, String nextToken)
+	{
+		super();
+		this.items = (items == null ? Collections.<T>emptyList() : items);
+		this.nextToken = nextToken;
+	}
+
+	/**
+	 * @return the results in this page. Never null.
+	 */
+	public List<T> getItems()
+	{
+		return Collections.unmodifiableList(items);
+	}
+
+	/**
+	 * @return the continuation token for the next page, or null if there are no more results.
+	 */
+	public String getNextToken()
+	{
+		return nextToken;
+	}
+
+	public boolean hasNext()
+	{
+		return (nextToken != null);
+	}
+
+	public int size()
+	{
+		return items.size();
+	}
+}
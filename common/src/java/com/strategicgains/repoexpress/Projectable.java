@@ -0,0 +1,55 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * A repository that can read partial entities, retrieving only the properties named in
+ * a Projection.
+ * <p/>
+ * Projected reads are not observable, so that observers (e.g. caches) never see partial
+ * entities.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public interface Projectable<T extends Identifiable>
+{
+	/**
+	 * Read the entity, retrieving only the projected properties.
+	 * 
+	 * @param id the identifier of the entity.
+	 * @param projection the properties to retrieve. If null, the entire entity is read.
+	 * @return the partial entity.
+	 * @throws com.strategicgains.repoexpress.exception.ItemNotFoundException if the ID doesn't exist.
+	 */
+	public T read(Identifier id, Projection projection);
+
+	/**
+	 * Read each of the entities, retrieving only the projected properties. IDs that don't
+	 * exist are simply not included in the results.
+	 * 
+	 * @param ids the identifiers of the entities.
+	 * @param projection the properties to retrieve. If null, the entire entities are read.
+	 * @return a list of partial entities. Never null.
+	 */
+	public List<T> readList(Collection<Identifier> ids, Projection projection);
+}
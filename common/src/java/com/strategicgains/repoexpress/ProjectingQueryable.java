@@ -0,0 +1,44 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.List;
+
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+
+/**
+ * A Queryable repository whose query results can be limited to the properties named in
+ * a Projection, so that list views of wide entities only transfer what they display.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see Projectable
+ */
+public interface ProjectingQueryable<T extends Identifiable>
+extends Queryable<T>
+{
+	/**
+	 * Same as readAll(filter, range, order), but retrieving only the projected properties.
+	 * 
+	 * @param projection the properties to retrieve. If null, entire entities are read.
+	 * @return a list of partial entities. Never null.
+	 */
+	public List<T> readAll(QueryFilter filter, QueryRange range, QueryOrder order, Projection projection);
+}
@@ -0,0 +1,117 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+
+import org.restexpress.common.util.StringUtils;
+
+/**
+ * An immutable set of the entity properties (fields or columns) to retrieve in a read,
+ * so that wide entities are only partially transferred and unmarshalled. The identifier
+ * is always retrieved, whether it is named or not. Properties not retrieved are left at
+ * their default values in the returned entities.
+ * <p/>
+ * Projections are normalized (sorted, without duplicates), so equivalent projections are
+ * equal and may be used as cache keys.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see Projectable
+ */
+public final class Projection
+{
+	private static final Pattern PROPERTY_NAME = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)*");
+
+	private final List<String> fields;
+
+	private Projection(Collection<String> fields)
+	{
+		super();
+		TreeSet<String> normalized = new TreeSet<String>();
+
+		for (String field : fields)
+		{
+			if (field == null || !PROPERTY_NAME.matcher(field).matches())
+			{
+				throw new IllegalArgumentException("Invalid projection property: " + field);
+			}
+
+			normalized.add(field);
+		}
+
+		if (normalized.isEmpty())
+		{
+			throw new IllegalArgumentException("A projection requires at least one property");
+		}
+
+		this.fields = Collections.unmodifiableList(Arrays.asList(normalized.toArray(new String[normalized.size()])));
+	}
+
+	/**
+	 * @param fields the property names to retrieve. Dotted names refer to nested properties,
+	 * where the back-end supports them.
+	 * @throws IllegalArgumentException if no fields are given, or a name is invalid.
+	 */
+	public static Projection of(String... fields)
+	{
+		return new Projection(Arrays.asList(fields));
+	}
+
+	public static Projection of(Collection<String> fields)
+	{
+		return new Projection(fields);
+	}
+
+	/**
+	 * @return the property names, sorted. Never empty.
+	 */
+	public List<String> getFields()
+	{
+		return fields;
+	}
+
+	public boolean includes(String field)
+	{
+		return fields.contains(field);
+	}
+
+	@Override
+	public boolean equals(Object that)
+	{
+		if (this == that) return true;
+		if (!(that instanceof Projection)) return false;
+
+		return fields.equals(((Projection) that).fields);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return fields.hashCode();
+	}
+
+	@Override
+	public String toString()
+	{
+		return StringUtils.join(",", fields);
+	}
+}
@@ -29,10 +29,13 @@ import com.strategicgains.repoexpress.domain.Identifier;
 public interface Repository<T extends Identifiable>
 {
 	public T create(T object);
+	public BatchResult<T> createAll(Collection<T> objects);
 	public void delete(Identifier id);
 	public void delete(T object);
+	public BatchResult<T> deleteAll(Collection<T> objects);
 	public boolean exists(Identifier id);
 	public T read(Identifier id);
 	public List<T> readList(Collection<Identifier> ids);
 	public T update(T object);
+	public BatchResult<T> updateAll(Collection<T> objects);
 }
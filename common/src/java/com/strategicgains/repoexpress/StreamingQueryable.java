@@ -0,0 +1,49 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.util.CloseableIterator;
+
+/**
+ * A Queryable repository that can also stream query results from a cursor, instead of
+ * materializing them into a List, so that large result sets (e.g. exports) are read with
+ * bounded memory. Filtering, range and ordering are the same as for readAll().
+ * <p/>
+ * The returned iterator must be closed, to release the cursor.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public interface StreamingQueryable<T extends Identifiable>
+extends Queryable<T>
+{
+	/**
+	 * Stream the results, using the back-end's default cursor batch size.
+	 */
+	public CloseableIterator<T> stream(QueryFilter filter, QueryRange range, QueryOrder order);
+
+	/**
+	 * Stream the results, fetching batchSize results per round trip to the server.
+	 * 
+	 * @param batchSize the number of results fetched at a time. Zero or less uses the back-end's default.
+	 */
+	public CloseableIterator<T> stream(QueryFilter filter, QueryRange range, QueryOrder order, int batchSize);
+}
@@ -37,7 +37,7 @@ implements IdentifierAdapter
 
 		try
 		{
-			return new Identifier(Integer.valueOf(id));
+			return Identifier.of(Integer.valueOf(id));
 		}
 		catch (NumberFormatException e)
 		{
@@ -37,7 +37,7 @@ implements IdentifierAdapter
 
 		try
 		{
-			return new Identifier(Long.valueOf(id));
+			return Identifier.of(Long.valueOf(id));
 		}
 		catch (NumberFormatException e)
 		{
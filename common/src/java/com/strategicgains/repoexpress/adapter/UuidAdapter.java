@@ -61,7 +61,7 @@ implements IdentifierAdapter
 
 		try
 		{
-			return new Identifier(UuidConverter.parse(id));
+			return Identifier.of(UuidConverter.parse(id));
 		}
 		catch(IllegalArgumentException e)
 		{
@@ -0,0 +1,217 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.async;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.strategicgains.repoexpress.AsyncRepository;
+import com.strategicgains.repoexpress.Repository;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Adapts any blocking Repository into an AsyncRepository by executing each operation
+ * on a bounded executor. Observers of the wrapped repository are notified as usual,
+ * on the executor's threads.
+ * <p/>
+ * When the executor is saturated (all threads busy and its queue full), new operations
+ * are not queued. Instead, the returned future fails immediately with a RepositoryException,
+ * so callers can shed load rather than pile up unbounded work.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class ExecutorAsyncRepository<T extends Identifiable>
+implements AsyncRepository<T>
+{
+	private Repository<T> repository;
+	private ExecutorService executor;
+
+	/**
+	 * Create an adapter with its own thread pool of the given size, which queues up to
+	 * queueCapacity operations before rejecting more.
+	 * 
+	 * @param repository the blocking repository to adapt.
+	 * @param threads the number of threads on which to execute operations.
+	 * @param queueCapacity the maximum number of operations waiting for a thread.
+	 */
+	public ExecutorAsyncRepository(Repository<T> repository, int threads, int queueCapacity)
+	{
+		this(repository, new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<Runnable>(queueCapacity), new DaemonThreadFactory(repository)));
+	}
+
+	/**
+	 * Create an adapter that executes operations on the given executor. For the adapter to
+	 * be bounded, the executor should be, too.
+	 * 
+	 * @param repository the blocking repository to adapt.
+	 * @param executor the executor on which to execute operations.
+	 */
+	public ExecutorAsyncRepository(Repository<T> repository, ExecutorService executor)
+	{
+		super();
+		this.repository = repository;
+		this.executor = executor;
+	}
+
+	public Repository<T> getRepository()
+	{
+		return repository;
+	}
+
+	/**
+	 * Stop accepting new operations, allowing those already submitted to complete.
+	 */
+	public void shutdown()
+	{
+		executor.shutdown();
+	}
+
+	@Override
+	public RepositoryFuture<T> createAsync(final T object)
+	{
+		return submit(new Callable<T>()
+		{
+			@Override
+			public T call()
+			{
+				return repository.create(object);
+			}
+		});
+	}
+
+	@Override
+	public RepositoryFuture<Void> deleteAsync(final T object)
+	{
+		return submit(new Callable<Void>()
+		{
+			@Override
+			public Void call()
+			{
+				repository.delete(object);
+				return null;
+			}
+		});
+	}
+
+	@Override
+	public RepositoryFuture<T> readAsync(final Identifier id)
+	{
+		return submit(new Callable<T>()
+		{
+			@Override
+			public T call()
+			{
+				return repository.read(id);
+			}
+		});
+	}
+
+	@Override
+	public RepositoryFuture<List<T>> readListAsync(Collection<Identifier> ids)
+	{
+		final List<Identifier> copy = new ArrayList<Identifier>(ids);
+		return submit(new Callable<List<T>>()
+		{
+			@Override
+			public List<T> call()
+			{
+				return repository.readList(copy);
+			}
+		});
+	}
+
+	@Override
+	public RepositoryFuture<T> updateAsync(final T object)
+	{
+		return submit(new Callable<T>()
+		{
+			@Override
+			public T call()
+			{
+				return repository.update(object);
+			}
+		});
+	}
+
+	private <R> RepositoryFuture<R> submit(final Callable<R> operation)
+	{
+		final RepositoryFuture<R> future = new RepositoryFuture<R>();
+
+		try
+		{
+			executor.execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					if (future.isDone()) return;
+
+					try
+					{
+						future.complete(operation.call());
+					}
+					catch (Throwable t)
+					{
+						future.fail(t);
+					}
+				}
+			});
+		}
+		catch (RejectedExecutionException e)
+		{
+			future.fail(new RepositoryException("Repository executor saturated or shut down", e));
+		}
+
+		return future;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class DaemonThreadFactory
+	implements ThreadFactory
+	{
+		private AtomicInteger count = new AtomicInteger(0);
+		private String prefix;
+
+		public DaemonThreadFactory(Repository<?> repository)
+		{
+			super();
+			this.prefix = repository.getClass().getSimpleName() + "-async-";
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable)
+		{
+			Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,283 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * The pending result of an asynchronous repository operation. In addition to the usual
+ * blocking Future methods, callbacks may be registered to be notified upon completion,
+ * so that callers need not block a thread waiting on the result.
+ * <p/>
+ * Callbacks are invoked on the thread that completes the future or, if the future is
+ * already complete when the callback is added, on the thread adding the callback.
+ * Exceptions thrown by callbacks are ignored.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class RepositoryFuture<T>
+implements Future<T>
+{
+	private CountDownLatch latch = new CountDownLatch(1);
+	private List<ResultCallback<? super T>> callbacks = new ArrayList<ResultCallback<? super T>>(2);
+	private boolean isDone = false;
+	private boolean isCancelled = false;
+	private T value;
+	private Throwable failure;
+
+	public static <T> RepositoryFuture<T> completed(T value)
+	{
+		RepositoryFuture<T> future = new RepositoryFuture<T>();
+		future.complete(value);
+		return future;
+	}
+
+	public static <T> RepositoryFuture<T> failed(Throwable cause)
+	{
+		RepositoryFuture<T> future = new RepositoryFuture<T>();
+		future.fail(cause);
+		return future;
+	}
+
+	/**
+	 * Complete this future successfully with the given value, notifying callbacks.
+	 * 
+	 * @param value the result of the operation. May be null.
+	 * @return true if this call completed the future. False if it was already complete.
+	 */
+	public boolean complete(T value)
+	{
+		List<ResultCallback<? super T>> pending;
+
+		synchronized (this)
+		{
+			if (isDone) return false;
+
+			this.value = value;
+			pending = finish();
+		}
+
+		for (ResultCallback<? super T> callback : pending)
+		{
+			notifySuccess(callback, value);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Complete this future exceptionally with the given cause, notifying callbacks.
+	 * 
+	 * @param cause the reason the operation failed.
+	 * @return true if this call completed the future. False if it was already complete.
+	 */
+	public boolean fail(Throwable cause)
+	{
+		List<ResultCallback<? super T>> pending;
+
+		synchronized (this)
+		{
+			if (isDone) return false;
+
+			this.failure = cause;
+			pending = finish();
+		}
+
+		for (ResultCallback<? super T> callback : pending)
+		{
+			notifyFailure(callback, cause);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Register a callback to be notified when this future completes. If it has already
+	 * completed, the callback is notified immediately on the calling thread.
+	 * 
+	 * @param callback
+	 * @return this future, to support method chaining.
+	 */
+	public RepositoryFuture<T> addCallback(ResultCallback<? super T> callback)
+	{
+		synchronized (this)
+		{
+			if (!isDone)
+			{
+				callbacks.add(callback);
+				return this;
+			}
+		}
+
+		if (failure == null)
+		{
+			notifySuccess(callback, value);
+		}
+		else
+		{
+			notifyFailure(callback, failure);
+		}
+
+		return this;
+	}
+
+	/**
+	 * Cancelling only marks the future as cancelled. It does not interrupt the
+	 * underlying operation, which may still take effect in the repository.
+	 */
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning)
+	{
+		List<ResultCallback<? super T>> pending;
+		CancellationException cause = new CancellationException();
+
+		synchronized (this)
+		{
+			if (isDone) return false;
+
+			isCancelled = true;
+			this.failure = cause;
+			pending = finish();
+		}
+
+		for (ResultCallback<? super T> callback : pending)
+		{
+			notifyFailure(callback, cause);
+		}
+
+		return true;
+	}
+
+	@Override
+	public synchronized boolean isCancelled()
+	{
+		return isCancelled;
+	}
+
+	@Override
+	public synchronized boolean isDone()
+	{
+		return isDone;
+	}
+
+	@Override
+	public T get()
+	throws InterruptedException, ExecutionException
+	{
+		latch.await();
+		return result();
+	}
+
+	@Override
+	public T get(long timeout, TimeUnit unit)
+	throws InterruptedException, ExecutionException, TimeoutException
+	{
+		if (!latch.await(timeout, unit))
+		{
+			throw new TimeoutException();
+		}
+
+		return result();
+	}
+
+	/**
+	 * Block, uninterruptibly, until the operation completes, returning its result. Unlike get(),
+	 * failures are re-thrown as-is when they are unchecked (e.g. ItemNotFoundException) or
+	 * wrapped in a RepositoryException otherwise.
+	 * 
+	 * @return the result of the operation.
+	 */
+	public T join()
+	{
+		boolean isInterrupted = false;
+
+		try
+		{
+			while (true)
+			{
+				try
+				{
+					latch.await();
+					break;
+				}
+				catch (InterruptedException e)
+				{
+					isInterrupted = true;
+				}
+			}
+		}
+		finally
+		{
+			if (isInterrupted) Thread.currentThread().interrupt();
+		}
+
+		if (failure == null) return value;
+		if (failure instanceof RuntimeException) throw (RuntimeException) failure;
+		if (failure instanceof Error) throw (Error) failure;
+		throw new RepositoryException(failure);
+	}
+
+	private T result()
+	throws ExecutionException
+	{
+		if (isCancelled()) throw (CancellationException) failure;
+		if (failure != null) throw new ExecutionException(failure);
+		return value;
+	}
+
+	private List<ResultCallback<? super T>> finish()
+	{
+		List<ResultCallback<? super T>> pending = callbacks;
+		callbacks = null;
+		isDone = true;
+		latch.countDown();
+		return pending;
+	}
+
+	private void notifySuccess(ResultCallback<? super T> callback, T result)
+	{
+		try
+		{
+			callback.onSuccess(result);
+		}
+		catch (RuntimeException e)
+		{
+			// ignore it, so remaining callbacks are still notified.
+		}
+	}
+
+	private void notifyFailure(ResultCallback<? super T> callback, Throwable cause)
+	{
+		try
+		{
+			callback.onFailure(cause);
+		}
+		catch (RuntimeException e)
+		{
+			// ignore it, so remaining callbacks are still notified.
+		}
+	}
+}
@@ -0,0 +1,615 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.async;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.strategicgains.repoexpress.AbstractRepository;
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.Repository;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.BackpressurePolicy;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * A write-behind decorator for high-rate, loss-tolerant updates, such as counters and session
+ * touches. update() and updateAll() return as soon as the entity is buffered. Repeated updates
+ * of the same ID are coalesced, so only the latest state is written. The buffer is flushed to
+ * the wrapped repository with a single updateAll(), by a background thread, when it reaches the
+ * flush size or when the flush interval elapses, whichever comes first.
+ * <p/>
+ * Reads, and exists(), see buffered updates, including those being flushed until the flush
+ * completes. Creates are written through. Deletes discard any buffered update of the entity
+ * before being written through, though one already being flushed may still reach the
+ * repository (and fail there).
+ * <p/>
+ * The buffer holds at most maxBuffered entities. When it's full, an update of an entity not
+ * already buffered is handled per the BackpressurePolicy: BLOCK waits for a flush, DROP
+ * discards the update and CALLER_RUNS writes it through. Buffered updates are lost if the
+ * process dies, so call shutdown() to flush them on shutdown. Observers of the wrapped
+ * repository are notified when updates are flushed, on the flushing thread.
+ * <p/>
+ * If a flush fails entirely, its updates are returned to the buffer (unless superseded or no
+ * longer fitting) to be retried. Per-entity failures are counted and the latest retained.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class WriteBehindRepository<T extends Identifiable>
+extends AbstractRepository<T>
+{
+	private static final int DEFAULT_FLUSH_SIZE = 500;
+	private static final long DEFAULT_FLUSH_INTERVAL_MILLIS = 1000L;
+
+	private Repository<T> repository;
+	private ConcurrentMap<Identifier, T> buffer = new ConcurrentHashMap<Identifier, T>();
+	private ConcurrentMap<Identifier, T> inFlight = new ConcurrentHashMap<Identifier, T>();
+	private AtomicInteger size = new AtomicInteger(0);
+	private int maxBuffered;
+	private int flushSize;
+	private BackpressurePolicy policy;
+	private ScheduledExecutorService flusher;
+	private AtomicBoolean isFlushRequested = new AtomicBoolean(false);
+	private Object flushLock = new Object();
+	private Object space = new Object();
+	private volatile boolean isShutdown = false;
+
+	private AtomicLong buffered = new AtomicLong(0L);
+	private AtomicLong coalesced = new AtomicLong(0L);
+	private AtomicLong flushed = new AtomicLong(0L);
+	private AtomicLong flushes = new AtomicLong(0L);
+	private AtomicLong dropped = new AtomicLong(0L);
+	private AtomicLong failures = new AtomicLong(0L);
+	private volatile Throwable lastFailure;
+
+	/**
+	 * Buffer at most maxBuffered updates, flushing every 500 updates or every second.
+	 * 
+	 * @param repository the repository to write behind.
+	 * @param maxBuffered the maximum number of buffered entities.
+	 * @param policy what to do with an update when the buffer is full.
+	 */
+	public WriteBehindRepository(Repository<T> repository, int maxBuffered, BackpressurePolicy policy)
+	{
+		this(repository, maxBuffered, policy, Math.min(DEFAULT_FLUSH_SIZE, maxBuffered), DEFAULT_FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * @param repository the repository to write behind.
+	 * @param maxBuffered the maximum number of buffered entities.
+	 * @param policy what to do with an update when the buffer is full.
+	 * @param flushSize flush when this many entities are buffered.
+	 * @param flushInterval flush at least this often.
+	 * @param unit the unit of flushInterval.
+	 */
+	public WriteBehindRepository(Repository<T> repository, int maxBuffered, BackpressurePolicy policy, int flushSize, long flushInterval, TimeUnit unit)
+	{
+		super();
+
+		if (maxBuffered < 1 || flushSize < 1) throw new IllegalArgumentException("Sizes must be positive");
+
+		this.repository = repository;
+		this.maxBuffered = maxBuffered;
+		this.policy = policy;
+		this.flushSize = flushSize;
+		this.flusher = Executors.newSingleThreadScheduledExecutor(new FlusherThreadFactory(repository));
+		this.flusher.scheduleWithFixedDelay(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				flushQuietly();
+			}
+		}, flushInterval, flushInterval, unit);
+	}
+
+	public Repository<T> getRepository()
+	{
+		return repository;
+	}
+
+	/**
+	 * Write all buffered updates to the repository now, on the calling thread.
+	 */
+	public void flush()
+	{
+		synchronized (flushLock)
+		{
+			isFlushRequested.set(false);
+			List<T> batch = new ArrayList<T>(Math.min(size.get(), maxBuffered));
+
+			for (Map.Entry<Identifier, T> entry : buffer.entrySet())
+			{
+				Identifier id = entry.getKey();
+				T object = entry.getValue();
+
+				// Visible in-flight before it leaves the buffer, so reads never miss it.
+				inFlight.put(id, object);
+
+				if (buffer.remove(id, object))
+				{
+					size.decrementAndGet();
+					batch.add(object);
+				}
+				else
+				{
+					inFlight.remove(id, object);
+				}
+			}
+
+			signalSpace();
+
+			if (batch.isEmpty()) return;
+
+			flushes.incrementAndGet();
+
+			try
+			{
+				BatchResult<T> result = repository.updateAll(batch);
+				flushed.addAndGet(result.getSucceeded().size());
+
+				for (BatchResult.Failure<T> failure : result.getFailures())
+				{
+					failures.incrementAndGet();
+					lastFailure = failure.getCause();
+				}
+			}
+			catch (RuntimeException e)
+			{
+				failures.incrementAndGet();
+				lastFailure = e;
+				requeue(batch);
+			}
+			finally
+			{
+				for (T object : batch)
+				{
+					inFlight.remove(object.getId(), object);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Stop the background flushing and flush the buffered updates. Updates after shutdown are
+	 * written through.
+	 */
+	public void shutdown()
+	{
+		isShutdown = true;
+		flusher.shutdown();
+		flush();
+	}
+
+	@Override
+	public T create(T object)
+	{
+		return repository.create(object);
+	}
+
+	@Override
+	public BatchResult<T> createAll(Collection<T> objects)
+	{
+		return repository.createAll(objects);
+	}
+
+	@Override
+	public void delete(Identifier id)
+	{
+		discard(id);
+		repository.delete(id);
+	}
+
+	@Override
+	public void delete(T object)
+	{
+		discard(object.getId());
+		repository.delete(object);
+	}
+
+	@Override
+	public BatchResult<T> deleteAll(Collection<T> objects)
+	{
+		for (T object : objects)
+		{
+			discard(object.getId());
+		}
+
+		return repository.deleteAll(objects);
+	}
+
+	@Override
+	public boolean exists(Identifier id)
+	{
+		return (pending(id) != null || repository.exists(id));
+	}
+
+	@Override
+	public T read(Identifier id)
+	{
+		T object = pending(id);
+		return (object != null ? object : repository.read(id));
+	}
+
+	/**
+	 * Reads the buffered entities from the buffer and the remainder from the wrapped repository
+	 * in a single readList() call.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids)
+	{
+		Map<Identifier, T> found = new HashMap<Identifier, T>(ids.size());
+		List<Identifier> unbuffered = new ArrayList<Identifier>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			T object = pending(id);
+
+			if (object != null)
+			{
+				found.put(id, object);
+			}
+			else if (id != null)
+			{
+				unbuffered.add(id);
+			}
+		}
+
+		if (found.isEmpty()) return repository.readList(ids);
+
+		if (!unbuffered.isEmpty())
+		{
+			for (T object : repository.readList(unbuffered))
+			{
+				found.put(object.getId(), object);
+			}
+		}
+
+		List<T> results = new ArrayList<T>(found.size());
+
+		for (Identifier id : ids)
+		{
+			T object = (id == null ? null : found.remove(id));
+
+			if (object != null) results.add(object);
+		}
+
+		results.addAll(found.values());
+		return results;
+	}
+
+	/**
+	 * Buffer the update, returning immediately.
+	 * 
+	 * @return the object.
+	 */
+	@Override
+	public T update(T object)
+	{
+		if (isShutdown) return repository.update(object);
+
+		if (!offer(object))
+		{
+			if (policy == BackpressurePolicy.CALLER_RUNS) return repository.update(object);
+
+			dropped.incrementAndGet();
+		}
+
+		return object;
+	}
+
+	/**
+	 * Buffer the updates, returning immediately. Updates dropped because the buffer is full are
+	 * reported as failures, those written through as the repository reports them.
+	 */
+	@Override
+	public BatchResult<T> updateAll(Collection<T> objects)
+	{
+		if (isShutdown) return repository.updateAll(objects);
+
+		BatchResult<T> result = new BatchResult<T>(objects.size());
+		List<T> writeThrough = null;
+
+		for (T object : objects)
+		{
+			try
+			{
+				if (offer(object))
+				{
+					result.addSuccess(object);
+				}
+				else if (policy == BackpressurePolicy.CALLER_RUNS)
+				{
+					if (writeThrough == null) writeThrough = new ArrayList<T>();
+
+					writeThrough.add(object);
+				}
+				else
+				{
+					dropped.incrementAndGet();
+					result.addFailure(object, new RepositoryException("Write-behind buffer full. Update dropped: " + object.getId().toString()));
+				}
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(object, e);
+			}
+		}
+
+		if (writeThrough != null)
+		{
+			BatchResult<T> written = repository.updateAll(writeThrough);
+
+			for (T object : written.getSucceeded())
+			{
+				result.addSuccess(object);
+			}
+
+			for (BatchResult.Failure<T> failure : written.getFailures())
+			{
+				result.addFailure(failure.getItem(), failure.getCause());
+			}
+		}
+
+		return result;
+	}
+
+
+	// SECTION: METRICS
+
+	/**
+	 * Returns the number of entities currently buffered.
+	 */
+	public int getBufferedSize()
+	{
+		return size.get();
+	}
+
+	/**
+	 * Returns the number of updates accepted into the buffer, including those coalesced.
+	 */
+	public long getBufferedCount()
+	{
+		return buffered.get();
+	}
+
+	/**
+	 * Returns the number of updates that replaced an update already buffered for the same ID.
+	 */
+	public long getCoalescedCount()
+	{
+		return coalesced.get();
+	}
+
+	/**
+	 * Returns the number of entities successfully written by flushes.
+	 */
+	public long getFlushedCount()
+	{
+		return flushed.get();
+	}
+
+	public long getFlushCount()
+	{
+		return flushes.get();
+	}
+
+	public long getDroppedCount()
+	{
+		return dropped.get();
+	}
+
+	public long getFailureCount()
+	{
+		return failures.get();
+	}
+
+	public Throwable getLastFailure()
+	{
+		return lastFailure;
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * @return true if the object was buffered. False if the buffer is full and the policy isn't BLOCK.
+	 */
+	private boolean offer(T object)
+	{
+		Identifier id = object.getId();
+
+		if (id == null) throw new RepositoryException("ID required for update");
+
+		while (true)
+		{
+			// Coalesce with an update already buffered, which needs no more room.
+			if (buffer.replace(id, object) != null)
+			{
+				buffered.incrementAndGet();
+				coalesced.incrementAndGet();
+				return true;
+			}
+
+			if (reserve())
+			{
+				if (buffer.putIfAbsent(id, object) == null)
+				{
+					buffered.incrementAndGet();
+					requestFlushIfFull();
+					return true;
+				}
+
+				// Another thread buffered the same ID in the meantime.
+				size.decrementAndGet();
+				continue;
+			}
+
+			if (policy != BackpressurePolicy.BLOCK) return false;
+
+			awaitSpace();
+		}
+	}
+
+	private boolean reserve()
+	{
+		while (true)
+		{
+			int current = size.get();
+
+			if (current >= maxBuffered) return false;
+			if (size.compareAndSet(current, current + 1)) return true;
+		}
+	}
+
+	private void requestFlushIfFull()
+	{
+		if (size.get() >= flushSize && isFlushRequested.compareAndSet(false, true) && !isShutdown)
+		{
+			flusher.execute(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					flushQuietly();
+				}
+			});
+		}
+	}
+
+	private void awaitSpace()
+	{
+		requestFlushIfFull();
+
+		synchronized (space)
+		{
+			if (size.get() < maxBuffered) return;
+
+			try
+			{
+				space.wait(10L);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new RepositoryException("Interrupted waiting for write-behind buffer", e);
+			}
+		}
+	}
+
+	private void signalSpace()
+	{
+		synchronized (space)
+		{
+			space.notifyAll();
+		}
+	}
+
+	/**
+	 * Returns the buffered or in-flight update of the ID, or null if there's none.
+	 */
+	private T pending(Identifier id)
+	{
+		if (id == null) return null;
+
+		T object = buffer.get(id);
+		return (object != null ? object : inFlight.get(id));
+	}
+
+	private void discard(Identifier id)
+	{
+		if (id == null) return;
+
+		if (buffer.remove(id) != null)
+		{
+			size.decrementAndGet();
+			signalSpace();
+		}
+
+		inFlight.remove(id);
+	}
+
+	/**
+	 * Return the updates of a failed flush to the buffer, unless superseded or out of room.
+	 */
+	private void requeue(List<T> batch)
+	{
+		for (T object : batch)
+		{
+			if (reserve())
+			{
+				if (buffer.putIfAbsent(object.getId(), object) != null)
+				{
+					size.decrementAndGet();
+				}
+			}
+			else
+			{
+				dropped.incrementAndGet();
+			}
+		}
+	}
+
+	private void flushQuietly()
+	{
+		try
+		{
+			flush();
+		}
+		catch (RuntimeException e)
+		{
+			failures.incrementAndGet();
+			lastFailure = e;
+		}
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class FlusherThreadFactory
+	implements ThreadFactory
+	{
+		private String name;
+
+		public FlusherThreadFactory(Repository<?> repository)
+		{
+			super();
+			this.name = repository.getClass().getSimpleName() + "-write-behind";
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable)
+		{
+			Thread thread = new Thread(runnable, name);
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,295 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * A thread-safe, scalable Bloom filter of Identifiers. mightContain() never returns false
+ * for an Identifier that was put(), but may return true for one that wasn't, with a
+ * probability bounded by the target false-positive rate.
+ * <p/>
+ * Rather than degrading as it fills beyond its expected insertions, the filter grows by
+ * adding slices, each twice the capacity of the last and with a tighter false-positive
+ * rate, such that the compound rate stays within the target (Almeida, et al., "Scalable
+ * Bloom Filters").
+ * <p/>
+ * Identifiers are hashed by their string form, since that is consistent with Identifier
+ * equality, which falls back to comparing components as strings.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class BloomFilter
+{
+	private static final double TIGHTENING_RATIO = 0.5;
+	private static final int GROWTH_FACTOR = 2;
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private long expectedInsertions;
+	private double falsePositiveRate;
+	private volatile Slice[] slices;
+
+	/**
+	 * @param expectedInsertions the number of Identifiers the first slice is sized for.
+	 * @param falsePositiveRate the target false-positive rate, between zero and one (exclusive).
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveRate)
+	{
+		super();
+
+		if (expectedInsertions < 1) throw new IllegalArgumentException("Expected insertions must be positive");
+		if (falsePositiveRate <= 0.0 || falsePositiveRate >= 1.0) throw new IllegalArgumentException("False-positive rate must be between 0 and 1");
+
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		clear();
+	}
+
+	public boolean mightContain(Identifier id)
+	{
+		long hash = hash(id);
+
+		for (Slice slice : slices)
+		{
+			if (slice.mightContain(hash)) return true;
+		}
+
+		return false;
+	}
+
+	public void put(Identifier id)
+	{
+		long hash = hash(id);
+		Slice[] current;
+
+		do
+		{
+			current = slices;
+
+			for (Slice slice : current)
+			{
+				if (slice.mightContain(hash)) return;
+			}
+
+			Slice last = current[current.length - 1];
+
+			if (last.isFull())
+			{
+				last = grow(last);
+			}
+
+			last.put(hash);
+		}
+		// Growing keeps the first slice, so a new one means a concurrent clear() discarded the put.
+		while (slices[0] != current[0]);
+	}
+
+	/**
+	 * Remove all Identifiers from the filter, shrinking it back to a single slice. A put()
+	 * concurrent with clear() is either removed along with the others or kept, never lost
+	 * while appearing to complete afterwards.
+	 */
+	public synchronized void clear()
+	{
+		slices = new Slice[] {new Slice(expectedInsertions, falsePositiveRate * (1.0 - TIGHTENING_RATIO))};
+	}
+
+	/**
+	 * Returns the approximate number of distinct Identifiers put into the filter.
+	 */
+	public long approximateCount()
+	{
+		long count = 0;
+
+		for (Slice slice : slices)
+		{
+			count += slice.count.get();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Returns the total number of bits used by the filter.
+	 */
+	public long bitSize()
+	{
+		long size = 0;
+
+		for (Slice slice : slices)
+		{
+			size += slice.bitSize;
+		}
+
+		return size;
+	}
+
+	public double getTargetFalsePositiveRate()
+	{
+		return falsePositiveRate;
+	}
+
+	/**
+	 * Estimates the current false-positive rate from the fill of each slice.
+	 */
+	public double expectedFalsePositiveRate()
+	{
+		double negative = 1.0;
+
+		for (Slice slice : slices)
+		{
+			negative *= (1.0 - slice.expectedFalsePositiveRate());
+		}
+
+		return 1.0 - negative;
+	}
+
+
+	// SECTION: UTILITY
+
+	private synchronized Slice grow(Slice full)
+	{
+		Slice[] current = slices;
+		Slice last = current[current.length - 1];
+
+		// Another thread already grew the filter.
+		if (last != full) return last;
+
+		Slice[] grown = new Slice[current.length + 1];
+		System.arraycopy(current, 0, grown, 0, current.length);
+		grown[current.length] = new Slice(last.capacity * GROWTH_FACTOR, last.falsePositiveRate * TIGHTENING_RATIO);
+		slices = grown;
+		return grown[current.length];
+	}
+
+	/**
+	 * A 64-bit FNV-1a hash of the Identifier's string form, finished with a MurmurHash3
+	 * mix so that all bits are well-distributed.
+	 */
+	static long hash(Identifier id)
+	{
+		String string = id.toString();
+		long h = FNV_OFFSET_BASIS;
+
+		for (int i = 0; i < string.length(); i++)
+		{
+			h ^= string.charAt(i);
+			h *= FNV_PRIME;
+		}
+
+		return mix(h);
+	}
+
+	private static long mix(long h)
+	{
+		h ^= (h >>> 33);
+		h *= 0xff51afd7ed558ccdL;
+		h ^= (h >>> 33);
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= (h >>> 33);
+		return h;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * A fixed-size Bloom filter, using double hashing to derive its bit indexes.
+	 */
+	private static class Slice
+	{
+		private long capacity;
+		private double falsePositiveRate;
+		private long bitSize;
+		private int hashCount;
+		private AtomicLongArray bits;
+		private AtomicLong count = new AtomicLong(0L);
+
+		public Slice(long capacity, double falsePositiveRate)
+		{
+			super();
+			this.capacity = capacity;
+			this.falsePositiveRate = falsePositiveRate;
+			long words = Math.max(1L, (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)) / 64.0));
+
+			if (words > Integer.MAX_VALUE) throw new IllegalArgumentException("Bloom filter too large");
+
+			this.bits = new AtomicLongArray((int) words);
+			this.bitSize = words * 64L;
+			this.hashCount = Math.max(1, (int) Math.round((double) bitSize / capacity * Math.log(2)));
+		}
+
+		public boolean isFull()
+		{
+			return count.get() >= capacity;
+		}
+
+		public boolean mightContain(long hash)
+		{
+			long h2 = secondHash(hash);
+
+			for (int i = 0; i < hashCount; i++)
+			{
+				long index = ((hash + i * h2) & Long.MAX_VALUE) % bitSize;
+
+				if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) return false;
+			}
+
+			return true;
+		}
+
+		public void put(long hash)
+		{
+			long h2 = secondHash(hash);
+			boolean isChanged = false;
+
+			for (int i = 0; i < hashCount; i++)
+			{
+				long index = ((hash + i * h2) & Long.MAX_VALUE) % bitSize;
+				int word = (int) (index >>> 6);
+				long mask = (1L << index);
+				long current;
+
+				while (((current = bits.get(word)) & mask) == 0)
+				{
+					if (bits.compareAndSet(word, current, current | mask))
+					{
+						isChanged = true;
+						break;
+					}
+				}
+			}
+
+			if (isChanged) count.incrementAndGet();
+		}
+
+		public double expectedFalsePositiveRate()
+		{
+			return Math.pow(1.0 - Math.exp(-hashCount * (double) count.get() / bitSize), hashCount);
+		}
+
+		private static long secondHash(long hash)
+		{
+			return (mix(hash + GOLDEN_GAMMA) | 1L);
+		}
+	}
+}
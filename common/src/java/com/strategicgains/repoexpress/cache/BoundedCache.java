@@ -0,0 +1,442 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A bounded, in-process cache of values by key, with least-recently-used eviction
+ * and an optional time-to-live. The cache is bounded either by its number of entries or by
+ * the total weight of its entries, as calculated by a Weigher.
+ * <p/>
+ * To reduce lock contention, the cache is split into segments by the hash of the key,
+ * each of which is an independent LRU holding its share of the maximum. So eviction is
+ * approximately, not strictly, least-recently-used across the whole cache.
+ * <p/>
+ * Loaders that read from a backing store on a cache miss should call stamp() before the read
+ * and putIfUnchanged() after it, so that a concurrent write or invalidation of the same key
+ * isn't overwritten with the stale value that was read. Writes to other keys don't affect it.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see EntityCache
+ */
+public class BoundedCache<K, T>
+{
+	private static final int MAX_SEGMENTS = 16;
+	private static final int MIN_SEGMENT_CAPACITY = 16;
+	private static final int MAX_TOMBSTONES = 1024;
+
+	private Segment<K, T>[] segments;
+	private Weigher<? super T> weigher;
+	private long timeToLiveNanos = 0L;
+	private AtomicLong hitCount = new AtomicLong(0L);
+	private AtomicLong missCount = new AtomicLong(0L);
+	private AtomicLong evictionCount = new AtomicLong(0L);
+
+	/**
+	 * Create a cache holding at most maximumSize entries.
+	 * 
+	 * @param maximumSize the maximum number of entries.
+	 */
+	public BoundedCache(long maximumSize)
+	{
+		this(maximumSize, new UnitWeigher());
+	}
+
+	/**
+	 * Create a cache whose entries weigh, in total, at most maximumWeight.
+	 * 
+	 * @param maximumWeight the maximum total weight of the entries.
+	 * @param weigher calculates the weight of each entry.
+	 */
+	@SuppressWarnings("unchecked")
+	public BoundedCache(long maximumWeight, Weigher<? super T> weigher)
+	{
+		super();
+
+		if (maximumWeight < 1) throw new IllegalArgumentException("Maximum must be positive");
+
+		this.weigher = weigher;
+		int count = 1;
+
+		while (count < MAX_SEGMENTS && maximumWeight / (count * 2) >= MIN_SEGMENT_CAPACITY)
+		{
+			count *= 2;
+		}
+
+		segments = (Segment<K, T>[]) new Segment<?, ?>[count];
+
+		for (int i = 0; i < count; i++)
+		{
+			segments[i] = new Segment<K, T>(maximumWeight / count + (i < maximumWeight % count ? 1 : 0));
+		}
+	}
+
+	/**
+	 * Expire entries the given duration after they're written. Non-positive durations
+	 * mean entries never expire, which is the default.
+	 * 
+	 * @param duration the time-to-live of an entry.
+	 * @param unit the unit of the duration.
+	 */
+	public void setTimeToLive(long duration, TimeUnit unit)
+	{
+		this.timeToLiveNanos = (duration > 0 ? unit.toNanos(duration) : 0L);
+	}
+
+	/**
+	 * Returns the cached value for the key, or null if it isn't cached or has expired.
+	 * 
+	 * @param key
+	 */
+	public T get(K key)
+	{
+		T value = segmentFor(key).get(key, System.nanoTime());
+
+		if (value == null)
+		{
+			missCount.incrementAndGet();
+		}
+		else
+		{
+			hitCount.incrementAndGet();
+		}
+
+		return value;
+	}
+
+	/**
+	 * Cache the value, replacing any existing value for the key.
+	 * 
+	 * @param key
+	 * @param value
+	 */
+	public void put(K key, T value)
+	{
+		segmentFor(key).put(key, value, weigher.weigh(value), expiresAt(), -1L, evictionCount);
+	}
+
+	/**
+	 * Returns a stamp for use with putIfUnchanged(), which then fails if the key has been
+	 * written or invalidated since.
+	 * 
+	 * @param key
+	 */
+	public long stamp(K key)
+	{
+		return segmentFor(key).stamp();
+	}
+
+	/**
+	 * Cache the value only if the key hasn't been written or invalidated since the stamp
+	 * was taken.
+	 * 
+	 * @param key
+	 * @param value
+	 * @param stamp a value previously returned by stamp(key).
+	 * @return true if the value was cached.
+	 */
+	public boolean putIfUnchanged(K key, T value, long stamp)
+	{
+		return segmentFor(key).put(key, value, weigher.weigh(value), expiresAt(), stamp, evictionCount);
+	}
+
+	/**
+	 * Returns a snapshot of the unexpired entries in the cache, without affecting their
+	 * recency or the hit and miss counts. Later changes to the cache are not reflected in it.
+	 */
+	public Map<K, T> snapshot()
+	{
+		Map<K, T> snapshot = new HashMap<K, T>();
+		long now = System.nanoTime();
+
+		for (Segment<K, T> segment : segments)
+		{
+			segment.copyTo(snapshot, now);
+		}
+
+		return snapshot;
+	}
+
+	public void invalidate(K key)
+	{
+		segmentFor(key).remove(key);
+	}
+
+	public void invalidateAll()
+	{
+		for (Segment<K, T> segment : segments)
+		{
+			segment.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of entries in the cache, which may include expired entries
+	 * that haven't yet been removed.
+	 */
+	public long size()
+	{
+		long size = 0;
+
+		for (Segment<K, T> segment : segments)
+		{
+			size += segment.size();
+		}
+
+		return size;
+	}
+
+	public long weight()
+	{
+		long weight = 0;
+
+		for (Segment<K, T> segment : segments)
+		{
+			weight += segment.weight();
+		}
+
+		return weight;
+	}
+
+	public long getHitCount()
+	{
+		return hitCount.get();
+	}
+
+	public long getMissCount()
+	{
+		return missCount.get();
+	}
+
+	public long getEvictionCount()
+	{
+		return evictionCount.get();
+	}
+
+
+	// SECTION: UTILITY
+
+	private long expiresAt()
+	{
+		return (timeToLiveNanos > 0 ? System.nanoTime() + timeToLiveNanos : 0L);
+	}
+
+	private Segment<K, T> segmentFor(K key)
+	{
+		int h = key.hashCode();
+		h ^= (h >>> 16);
+		return segments[h & (segments.length - 1)];
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class Entry<T>
+	{
+		private T value;
+		private int weight;
+		private long expiresAt;
+		private long version;
+
+		public Entry(T value, int weight, long expiresAt, long version)
+		{
+			super();
+			this.value = value;
+			this.weight = weight;
+			this.expiresAt = expiresAt;
+			this.version = version;
+		}
+
+		public boolean isExpired(long now)
+		{
+			return (expiresAt != 0L && now - expiresAt >= 0);
+		}
+	}
+
+	/**
+	 * An independent LRU, guarded by its own monitor.
+	 * <p/>
+	 * Every write and invalidation takes the next version of the segment's clock, which the
+	 * key keeps: in its entry or, once the entry is gone, in a tombstone. A stamp is simply the
+	 * clock, so a key has changed since a stamp if its version is greater. Only the most recent
+	 * tombstones are kept. The floor is the greatest version forgotten, so stamps older than it
+	 * are conservatively treated as changed.
+	 */
+	private static class Segment<K, T>
+	{
+		private LinkedHashMap<K, Entry<T>> entries = new LinkedHashMap<K, Entry<T>>(16, 0.75f, true);
+		private LinkedHashMap<K, Long> tombstones = new LinkedHashMap<K, Long>();
+		private long maximumWeight;
+		private int maximumTombstones;
+		private long weight = 0L;
+		private long clock = 0L;
+		private long floor = 0L;
+
+		public Segment(long maximumWeight)
+		{
+			super();
+			this.maximumWeight = maximumWeight;
+			this.maximumTombstones = (int) Math.max(MIN_SEGMENT_CAPACITY, Math.min(maximumWeight, MAX_TOMBSTONES));
+		}
+
+		public synchronized T get(K key, long now)
+		{
+			Entry<T> entry = entries.get(key);
+
+			if (entry == null) return null;
+
+			if (entry.isExpired(now))
+			{
+				entries.remove(key);
+				weight -= entry.weight;
+				forget(key, entry.version);
+				return null;
+			}
+
+			return entry.value;
+		}
+
+		public synchronized void copyTo(Map<K, T> snapshot, long now)
+		{
+			// Iterating, rather than calling get(), leaves the access order unchanged.
+			for (Map.Entry<K, Entry<T>> entry : entries.entrySet())
+			{
+				if (!entry.getValue().isExpired(now))
+				{
+					snapshot.put(entry.getKey(), entry.getValue().value);
+				}
+			}
+		}
+
+		public synchronized long stamp()
+		{
+			return clock;
+		}
+
+		/**
+		 * @param expectedStamp the stamp the key must be unchanged since, or negative to write unconditionally.
+		 */
+		public synchronized boolean put(K key, T value, int valueWeight, long expiresAt, long expectedStamp, AtomicLong evictions)
+		{
+			if (expectedStamp >= 0 && (floor > expectedStamp || versionOf(key) > expectedStamp)) return false;
+
+			long version = ++clock;
+			Entry<T> previous = entries.remove(key);
+			tombstones.remove(key);
+
+			if (previous != null)
+			{
+				weight -= previous.weight;
+			}
+
+			// Too heavy to ever fit, so don't flush the whole segment trying.
+			if (valueWeight > maximumWeight)
+			{
+				forget(key, version);
+				return false;
+			}
+
+			entries.put(key, new Entry<T>(value, valueWeight, expiresAt, version));
+			weight += valueWeight;
+			Iterator<Map.Entry<K, Entry<T>>> eldest = entries.entrySet().iterator();
+
+			while (weight > maximumWeight && eldest.hasNext())
+			{
+				Map.Entry<K, Entry<T>> evicted = eldest.next();
+				eldest.remove();
+				weight -= evicted.getValue().weight;
+				forget(evicted.getKey(), evicted.getValue().version);
+				evictions.incrementAndGet();
+			}
+
+			return true;
+		}
+
+		public synchronized void remove(K key)
+		{
+			Entry<T> previous = entries.remove(key);
+
+			if (previous != null)
+			{
+				weight -= previous.weight;
+			}
+
+			forget(key, ++clock);
+		}
+
+		public synchronized void clear()
+		{
+			floor = ++clock;
+			entries.clear();
+			tombstones.clear();
+			weight = 0L;
+		}
+
+		public synchronized int size()
+		{
+			return entries.size();
+		}
+
+		public synchronized long weight()
+		{
+			return weight;
+		}
+
+		private long versionOf(K key)
+		{
+			Entry<T> entry = entries.get(key);
+
+			if (entry != null) return entry.version;
+
+			Long version = tombstones.get(key);
+			return (version == null ? 0L : version);
+		}
+
+		/**
+		 * Keeps the version of a key no longer in the segment, forgetting the oldest
+		 * tombstone if there are too many.
+		 */
+		private void forget(K key, long version)
+		{
+			tombstones.remove(key);
+			tombstones.put(key, version);
+
+			if (tombstones.size() > maximumTombstones)
+			{
+				Iterator<Long> eldest = tombstones.values().iterator();
+				floor = Math.max(floor, eldest.next());
+				eldest.remove();
+			}
+		}
+	}
+
+	private static class UnitWeigher
+	implements Weigher<Object>
+	{
+		@Override
+		public int weigh(Object value)
+		{
+			return 1;
+		}
+	}
+}
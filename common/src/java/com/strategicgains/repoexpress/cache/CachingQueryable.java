@@ -0,0 +1,385 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.ObservableRepository;
+import com.strategicgains.repoexpress.Queryable;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.event.RepositoryObserver;
+import com.strategicgains.repoexpress.query.QueryEvaluator;
+
+/**
+ * A caching decorator for the readAll() results of a Queryable repository, keyed by the
+ * canonical form of the query (see QueryKey), so that equivalent queries share an entry
+ * regardless of the order in which their criteria were added.
+ * <p/>
+ * Results are cached either as the list of entity IDs, which are re-read from the repository
+ * (in one readList() call) on a hit, or as the entities themselves. Caching IDs uses less
+ * memory and always returns current entity state, whereas caching entities avoids the
+ * back-end altogether on a hit, but cached instances are shared between callers, so must
+ * not be mutated.
+ * <p/>
+ * The cache observes the repository and invalidates entries on writes. With
+ * Invalidation.COLLECTION, any write invalidates every entry. With Invalidation.FIELDS, only
+ * the entries whose filter matches the written entity, or whose results contain it, are
+ * invalidated, as evaluated in memory by QueryEvaluator. The latter keeps unrelated queries
+ * cached under a steady write load, but can miss some changes to ranged (paged) results,
+ * such as an update moving an entity out of the filter of a later page, so set a
+ * time-to-live to bound that staleness, along with that of writes by other processes.
+ * <p/>
+ * count() is delegated to the repository. Use a CountCache to cache counts.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see QueryKey
+ * @see CountCache
+ */
+public class CachingQueryable<T extends Identifiable>
+implements Queryable<T>
+{
+	private static final long DEFAULT_TTL_SECONDS = 60;
+
+	private Queryable<T> queryable;
+	private ObservableRepository<T> repository;
+	private BoundedCache<QueryKey, Results<T>> results;
+	private Storage storage = Storage.IDS;
+	private Invalidation invalidation = Invalidation.FIELDS;
+	private RepositoryObserver<T> observer;
+
+	// Incremented on every write, so loads that overlap a write aren't left in the cache.
+	private AtomicLong writes = new AtomicLong(0L);
+
+	/**
+	 * Cache the results of at most maximumSize queries, each for 60 seconds.
+	 * 
+	 * @param repository a repository that is both observable and queryable.
+	 * @param maximumSize the maximum number of query results to cache.
+	 */
+	public <R extends ObservableRepository<T> & Queryable<T>> CachingQueryable(R repository, long maximumSize)
+	{
+		this(repository, repository, maximumSize);
+	}
+
+	/**
+	 * Cache the results of at most maximumSize queries, each for 60 seconds.
+	 * 
+	 * @param queryable performs the queries on a cache miss.
+	 * @param repository the repository that queryable reads, observed for writes and used to
+	 * re-read the entities from cached IDs.
+	 * @param maximumSize the maximum number of query results to cache.
+	 */
+	public CachingQueryable(Queryable<T> queryable, ObservableRepository<T> repository, long maximumSize)
+	{
+		super();
+		this.queryable = queryable;
+		this.repository = repository;
+		this.results = new BoundedCache<QueryKey, Results<T>>(maximumSize);
+		this.results.setTimeToLive(DEFAULT_TTL_SECONDS, TimeUnit.SECONDS);
+		this.observer = new InvalidatingObserver();
+		repository.addObserver(observer);
+	}
+
+	/**
+	 * Expire cached results the given duration after they're read. Non-positive durations mean
+	 * results are only removed by writes and eviction.
+	 */
+	public void setTimeToLive(long duration, TimeUnit unit)
+	{
+		results.setTimeToLive(duration, unit);
+	}
+
+	public Storage getStorage()
+	{
+		return storage;
+	}
+
+	/**
+	 * Set whether results are cached as IDs or entities. Invalidates all cached results.
+	 */
+	public void setStorage(Storage storage)
+	{
+		this.storage = storage;
+		invalidateAll();
+	}
+
+	public Invalidation getInvalidation()
+	{
+		return invalidation;
+	}
+
+	public void setInvalidation(Invalidation invalidation)
+	{
+		this.invalidation = invalidation;
+	}
+
+	/**
+	 * Stop observing the repository and empty the cache. After this, the cache is no longer
+	 * invalidated by writes, so shouldn't be used.
+	 */
+	public void detach()
+	{
+		repository.removeObserver(observer);
+		invalidateAll();
+	}
+
+	public void invalidateAll()
+	{
+		writes.incrementAndGet();
+		results.invalidateAll();
+	}
+
+	@Override
+	public long count(QueryFilter filter)
+	{
+		return queryable.count(filter);
+	}
+
+	@Override
+	public List<T> readAll(QueryFilter filter, QueryRange range, QueryOrder order)
+	{
+		QueryKey key = QueryKey.of(filter, range, order);
+		Results<T> cached = results.get(key);
+
+		if (cached != null)
+		{
+			return cached.toList(repository);
+		}
+
+		long before = writes.get();
+		List<T> entities = queryable.readAll(filter, range, order);
+
+		if (writes.get() == before)
+		{
+			results.put(key, new Results<T>(entities, storage));
+
+			// A write between the check and the put may have missed the new entry.
+			if (writes.get() != before)
+			{
+				results.invalidate(key);
+			}
+		}
+
+		return entities;
+	}
+
+
+	// SECTION: METRICS
+
+	public long size()
+	{
+		return results.size();
+	}
+
+	public long getHitCount()
+	{
+		return results.getHitCount();
+	}
+
+	public long getMissCount()
+	{
+		return results.getMissCount();
+	}
+
+	public long getEvictionCount()
+	{
+		return results.getEvictionCount();
+	}
+
+
+	// SECTION: UTILITY
+
+	private void invalidate(Collection<T> entities)
+	{
+		if (invalidation == Invalidation.COLLECTION)
+		{
+			invalidateAll();
+			return;
+		}
+
+		writes.incrementAndGet();
+
+		for (Map.Entry<QueryKey, Results<T>> entry : results.snapshot().entrySet())
+		{
+			if (isAffected(entry.getKey(), entry.getValue(), entities))
+			{
+				results.invalidate(entry.getKey());
+			}
+		}
+	}
+
+	private boolean isAffected(QueryKey key, Results<T> cached, Collection<T> entities)
+	{
+		for (T entity : entities)
+		{
+			if (cached.contains(entity.getId()) || QueryEvaluator.matches(key.getFilter(), entity))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * How query results are held in the cache.
+	 */
+	public enum Storage
+	{
+		/**
+		 * Cache the entity IDs, re-reading the entities on a hit.
+		 */
+		IDS,
+
+		/**
+		 * Cache the entities themselves.
+		 */
+		ENTITIES
+	}
+
+	/**
+	 * Which cached results a write invalidates.
+	 */
+	public enum Invalidation
+	{
+		/**
+		 * Any write invalidates all cached results.
+		 */
+		COLLECTION,
+
+		/**
+		 * A write invalidates only the results whose filter matches, or that contain, the
+		 * written entity.
+		 */
+		FIELDS
+	}
+
+	private static class Results<T extends Identifiable>
+	{
+		private List<Identifier> ids;
+		private Set<Identifier> idSet;
+		private List<T> entities;
+
+		public Results(List<T> entities, Storage storage)
+		{
+			super();
+			this.ids = new ArrayList<Identifier>(entities.size());
+
+			for (T entity : entities)
+			{
+				ids.add(entity.getId());
+			}
+
+			this.idSet = new HashSet<Identifier>(ids);
+
+			if (storage == Storage.ENTITIES)
+			{
+				this.entities = Collections.unmodifiableList(new ArrayList<T>(entities));
+			}
+		}
+
+		public boolean contains(Identifier id)
+		{
+			return idSet.contains(id);
+		}
+
+		public List<T> toList(ObservableRepository<T> repository)
+		{
+			if (entities != null) return new ArrayList<T>(entities);
+
+			// readList() doesn't guarantee order, so restore that of the query.
+			Map<Identifier, T> byId = new HashMap<Identifier, T>();
+
+			for (T entity : repository.readList(ids))
+			{
+				byId.put(entity.getId(), entity);
+			}
+
+			List<T> list = new ArrayList<T>(ids.size());
+
+			for (Identifier id : ids)
+			{
+				T entity = byId.get(id);
+
+				if (entity != null)
+				{
+					list.add(entity);
+				}
+			}
+
+			return list;
+		}
+	}
+
+	private class InvalidatingObserver
+	extends AbstractRepositoryObserver<T>
+	{
+		@Override
+		public void afterCreate(T object)
+		{
+			invalidate(Collections.singletonList(object));
+		}
+
+		@Override
+		public void afterCreateAll(List<T> objects)
+		{
+			invalidate(objects);
+		}
+
+		@Override
+		public void afterUpdate(T object)
+		{
+			invalidate(Collections.singletonList(object));
+		}
+
+		@Override
+		public void afterUpdateAll(List<T> objects)
+		{
+			invalidate(objects);
+		}
+
+		@Override
+		public void afterDelete(T object)
+		{
+			invalidate(Collections.singletonList(object));
+		}
+
+		@Override
+		public void afterDeleteAll(List<T> objects)
+		{
+			invalidate(objects);
+		}
+	}
+}
@@ -0,0 +1,264 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.strategicgains.repoexpress.AbstractRepository;
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.ObservableRepository;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.event.RepositoryObserver;
+
+/**
+ * A read-through, write-through caching decorator for any ObservableRepository. read(),
+ * readList() and exists() are served from an EntityCache where possible, reading through
+ * to the wrapped repository on a miss. Writes are delegated to the wrapped repository.
+ * <p/>
+ * The cache is kept consistent by an observer registered on the wrapped repository, so
+ * writes made directly against the wrapped repository (not just through this decorator)
+ * update or invalidate the cache, too. Writes made by other processes are not seen, so
+ * set a time-to-live on the cache to bound their staleness.
+ * <p/>
+ * Note that cache hits do not reach the wrapped repository, so its read observers are not
+ * notified of them. Also, cached instances are shared between callers, so must not be
+ * mutated other than to update() them.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CachingRepository<T extends Identifiable>
+extends AbstractRepository<T>
+{
+	private ObservableRepository<T> repository;
+	private EntityCache<T> cache;
+	private RepositoryObserver<T> observer;
+
+	/**
+	 * @param repository the repository to cache.
+	 * @param cache the cache in which to hold entities.
+	 */
+	public CachingRepository(ObservableRepository<T> repository, EntityCache<T> cache)
+	{
+		super();
+		this.repository = repository;
+		this.cache = cache;
+		this.observer = new CacheObserver();
+		repository.addObserver(observer);
+	}
+
+	public ObservableRepository<T> getRepository()
+	{
+		return repository;
+	}
+
+	public EntityCache<T> getCache()
+	{
+		return cache;
+	}
+
+	/**
+	 * Stop observing the wrapped repository and empty the cache. After this, the
+	 * decorator must no longer be used.
+	 */
+	public void detach()
+	{
+		repository.removeObserver(observer);
+		cache.invalidateAll();
+	}
+
+	@Override
+	public T create(T object)
+	{
+		return repository.create(object);
+	}
+
+	@Override
+	public BatchResult<T> createAll(Collection<T> objects)
+	{
+		return repository.createAll(objects);
+	}
+
+	@Override
+	public void delete(Identifier id)
+	{
+		repository.delete(id);
+	}
+
+	@Override
+	public void delete(T object)
+	{
+		repository.delete(object);
+	}
+
+	@Override
+	public BatchResult<T> deleteAll(Collection<T> objects)
+	{
+		return repository.deleteAll(objects);
+	}
+
+	@Override
+	public boolean exists(Identifier id)
+	{
+		if (id == null) return false;
+
+		if (cache.get(id) != null) return true;
+
+		return repository.exists(id);
+	}
+
+	@Override
+	public T read(Identifier id)
+	{
+		T object = cache.get(id);
+
+		if (object != null) return object;
+
+		long stamp = cache.stamp(id);
+		object = repository.read(id);
+		cacheRead(id, object, stamp);
+		return object;
+	}
+
+	/**
+	 * Reads the cached IDs from the cache and the remainder from the wrapped repository
+	 * in a single readList() call, preserving the order of the given IDs.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids)
+	{
+		Map<Identifier, T> cached = new HashMap<Identifier, T>(ids.size());
+		Map<Identifier, Long> stamps = new HashMap<Identifier, Long>();
+
+		for (Identifier id : ids)
+		{
+			if (id == null) continue;
+
+			T object = cache.get(id);
+
+			if (object != null)
+			{
+				cached.put(id, object);
+			}
+			else
+			{
+				stamps.put(id, cache.stamp(id));
+			}
+		}
+
+		if (!stamps.isEmpty())
+		{
+			for (T object : repository.readList(new ArrayList<Identifier>(stamps.keySet())))
+			{
+				Long stamp = (object.getId() == null ? null : stamps.get(object.getId()));
+
+				if (stamp != null)
+				{
+					cacheRead(object.getId(), object, stamp);
+				}
+
+				cached.put(object.getId(), object);
+			}
+		}
+
+		List<T> results = new ArrayList<T>(cached.size());
+
+		for (Identifier id : ids)
+		{
+			T object = (id == null ? null : cached.remove(id));
+
+			if (object != null) results.add(object);
+		}
+
+		// Anything left was returned under an ID not equal to the one requested.
+		results.addAll(cached.values());
+		return results;
+	}
+
+	@Override
+	public T update(T object)
+	{
+		return repository.update(object);
+	}
+
+	@Override
+	public BatchResult<T> updateAll(Collection<T> objects)
+	{
+		return repository.updateAll(objects);
+	}
+
+
+	// SECTION: UTILITY
+
+	private void cacheRead(Identifier id, T object, long stamp)
+	{
+		// Only cache under the entity's own ID, since that's what invalidation uses.
+		if (object != null && id.equals(object.getId()))
+		{
+			cache.putIfUnchanged(id, object, stamp);
+		}
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Keeps the cache consistent with writes to the wrapped repository. Entries are
+	 * invalidated before a write, so readers go to the repository while it's in progress
+	 * (or if it fails), and populated after a successful create. Updated entries are
+	 * invalidated again afterward, rather than re-populated, since concurrent updates
+	 * of an entity may complete in a different order than they notify observers.
+	 */
+	private class CacheObserver
+	extends AbstractRepositoryObserver<T>
+	{
+		@Override
+		public void afterCreate(T object)
+		{
+			if (object.getId() != null) cache.put(object.getId(), object);
+		}
+
+		@Override
+		public void afterUpdate(T object)
+		{
+			if (object.getId() != null) cache.invalidate(object.getId());
+		}
+
+		@Override
+		public void beforeUpdate(T object)
+		{
+			if (object.getId() != null) cache.invalidate(object.getId());
+		}
+
+		@Override
+		public void beforeDelete(T object)
+		{
+			if (object.getId() != null) cache.invalidate(object.getId());
+		}
+
+		@Override
+		public void afterDelete(T object)
+		{
+			if (object.getId() != null) cache.invalidate(object.getId());
+		}
+	}
+}
@@ -0,0 +1,194 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.restexpress.common.query.QueryFilter;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+
+/**
+ * A short-lived cache of exact counts, keyed by the canonical form of the QueryFilter,
+ * for repositories that count the same filters repeatedly (e.g. for the pagination
+ * header of every page of a list).
+ * <p/>
+ * As an observer of the repository, it invalidates every cached count on a create or
+ * delete, and every filtered count on an update (which may move entities in or out of
+ * a filter). The time-to-live bounds staleness from writes made outside the repository.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CountCache<T extends Identifiable>
+extends AbstractRepositoryObserver<T>
+{
+	private static final long DEFAULT_MAXIMUM_SIZE = 1000;
+	private static final long DEFAULT_TTL_SECONDS = 10;
+
+	private BoundedCache<QueryKey, Long> unfiltered;
+	private BoundedCache<QueryKey, Long> filtered;
+
+	/**
+	 * Create a cache of at most 1,000 counts, each cached for 10 seconds.
+	 */
+	public CountCache()
+	{
+		this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TTL_SECONDS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @param maximumSize the maximum number of counts to cache.
+	 * @param timeToLive how long to cache each count.
+	 * @param unit the unit of timeToLive.
+	 */
+	public CountCache(long maximumSize, long timeToLive, TimeUnit unit)
+	{
+		super();
+		this.unfiltered = new BoundedCache<QueryKey, Long>(1);
+		this.unfiltered.setTimeToLive(timeToLive, unit);
+		this.filtered = new BoundedCache<QueryKey, Long>(maximumSize);
+		this.filtered.setTimeToLive(timeToLive, unit);
+	}
+
+	/**
+	 * Returns the cached count for the filter, or null if it isn't cached.
+	 * 
+	 * @param key the canonical form of the filter, from QueryKey.of(filter).
+	 */
+	public Long get(QueryKey key)
+	{
+		return cacheFor(key).get(key);
+	}
+
+	/**
+	 * Returns a stamp to be passed to put(), taken before counting in the back-end.
+	 * 
+	 * @param key
+	 */
+	public long stamp(QueryKey key)
+	{
+		return cacheFor(key).stamp(key);
+	}
+
+	/**
+	 * Cache the count, unless a write has invalidated it since the stamp was taken.
+	 * 
+	 * @param key
+	 * @param count the exact count from the back-end.
+	 * @param stamp a value previously returned by stamp(key).
+	 */
+	public void put(QueryKey key, long count, long stamp)
+	{
+		cacheFor(key).putIfUnchanged(key, count, stamp);
+	}
+
+	/**
+	 * Returns the count for the filter, from the cache if possible. Otherwise, from the counter,
+	 * caching the result.
+	 * 
+	 * @param filter
+	 * @param counter performs the exact count on a cache miss.
+	 */
+	public long count(QueryFilter filter, Counter counter)
+	{
+		QueryKey key = QueryKey.of(filter);
+		Long count = get(key);
+
+		if (count != null) return count;
+
+		long stamp = stamp(key);
+		long exact = counter.count(filter);
+		put(key, exact, stamp);
+		return exact;
+	}
+
+	public void invalidateAll()
+	{
+		unfiltered.invalidateAll();
+		filtered.invalidateAll();
+	}
+
+	@Override
+	public void afterCreate(T object)
+	{
+		invalidateAll();
+	}
+
+	@Override
+	public void afterCreateAll(List<T> objects)
+	{
+		invalidateAll();
+	}
+
+	@Override
+	public void afterDelete(T object)
+	{
+		invalidateAll();
+	}
+
+	@Override
+	public void afterDeleteAll(List<T> objects)
+	{
+		invalidateAll();
+	}
+
+	@Override
+	public void afterUpdate(T object)
+	{
+		filtered.invalidateAll();
+	}
+
+	@Override
+	public void afterUpdateAll(List<T> objects)
+	{
+		filtered.invalidateAll();
+	}
+
+
+	// SECTION: METRICS
+
+	public long getHitCount()
+	{
+		return unfiltered.getHitCount() + filtered.getHitCount();
+	}
+
+	public long getMissCount()
+	{
+		return unfiltered.getMissCount() + filtered.getMissCount();
+	}
+
+
+	// SECTION: UTILITY
+
+	private BoundedCache<QueryKey, Long> cacheFor(QueryKey key)
+	{
+		return (key.isFiltered() ? filtered : unfiltered);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Performs an exact count on a cache miss.
+	 */
+	public interface Counter
+	{
+		public long count(QueryFilter filter);
+	}
+}
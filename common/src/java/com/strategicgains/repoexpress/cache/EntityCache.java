@@ -0,0 +1,51 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * A bounded, in-process cache of entities by Identifier, with least-recently-used eviction
+ * and an optional time-to-live.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see BoundedCache
+ */
+public class EntityCache<T>
+extends BoundedCache<Identifier, T>
+{
+	/**
+	 * Create a cache holding at most maximumSize entries.
+	 * 
+	 * @param maximumSize the maximum number of entries.
+	 */
+	public EntityCache(long maximumSize)
+	{
+		super(maximumSize);
+	}
+
+	/**
+	 * Create a cache whose entries weigh, in total, at most maximumWeight.
+	 * 
+	 * @param maximumWeight the maximum total weight of the entries.
+	 * @param weigher calculates the weight of each entry.
+	 */
+	public EntityCache(long maximumWeight, Weigher<? super T> weigher)
+	{
+		super(maximumWeight, weigher);
+	}
+}
@@ -0,0 +1,253 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+
+/**
+ * An optional membership pre-filter for exists() checks, which answers "definitely absent"
+ * for an Identifier without a round trip to the back-end store. Install it on a repository
+ * via AbstractObservableRepository.setExistenceFilter(), which also registers it as an
+ * observer so that it learns of each Identifier created.
+ * <p/>
+ * It combines two mechanisms:
+ * <ul>
+ * <li>A BloomFilter of every Identifier known to exist. Since a Bloom filter can only answer
+ * for Identifiers it has seen, it is not consulted until warm() has been called with a full
+ * scan of the Identifiers in the repository (or an empty one, for a new repository).</li>
+ * <li>A negative-lookup cache of Identifiers the back-end recently reported as absent, which
+ * is consulted whether or not the Bloom filter is warm.</li>
+ * </ul>
+ * Deletes cannot be removed from a Bloom filter, so they only increase its false-positive
+ * rate. Re-warm the filter periodically if deletes are frequent.
+ * <p/>
+ * Note that the filter only learns of creates made through the repository it observes. If
+ * other processes create entities in the same store, the Bloom filter must not be warmed
+ * (leaving only the negative-lookup cache, whose time-to-live bounds its staleness), or
+ * duplicate checks may wrongly pass.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class ExistenceFilter<T extends Identifiable>
+extends AbstractRepositoryObserver<T>
+{
+	private static final long DEFAULT_NEGATIVE_CACHE_SIZE = 10000;
+	private static final long DEFAULT_NEGATIVE_CACHE_TTL_SECONDS = 60;
+
+	private long expectedInsertions;
+	private double falsePositiveRate;
+	private volatile BloomFilter bloomFilter;
+	private BloomFilter warming;
+	private Object warmLock = new Object();
+	private EntityCache<Boolean> absent;
+	private volatile boolean isWarm = false;
+	private AtomicLong lookups = new AtomicLong(0L);
+	private AtomicLong filterRejections = new AtomicLong(0L);
+	private AtomicLong negativeHits = new AtomicLong(0L);
+	private AtomicLong falsePositives = new AtomicLong(0L);
+
+	/**
+	 * Create a filter with a default negative-lookup cache of 10,000 Identifiers, for 60 seconds.
+	 * 
+	 * @param expectedInsertions the number of Identifiers the Bloom filter is initially sized for.
+	 * @param falsePositiveRate the target false-positive rate of the Bloom filter.
+	 */
+	public ExistenceFilter(long expectedInsertions, double falsePositiveRate)
+	{
+		this(expectedInsertions, falsePositiveRate, DEFAULT_NEGATIVE_CACHE_SIZE, DEFAULT_NEGATIVE_CACHE_TTL_SECONDS, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * @param expectedInsertions the number of Identifiers the Bloom filter is initially sized for.
+	 * @param falsePositiveRate the target false-positive rate of the Bloom filter.
+	 * @param negativeCacheSize the maximum number of absent Identifiers to cache.
+	 * @param negativeCacheTtl how long to cache an absent Identifier.
+	 * @param unit the unit of negativeCacheTtl.
+	 */
+	public ExistenceFilter(long expectedInsertions, double falsePositiveRate, long negativeCacheSize, long negativeCacheTtl, TimeUnit unit)
+	{
+		super();
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+		this.absent = new EntityCache<Boolean>(negativeCacheSize);
+		this.absent.setTimeToLive(negativeCacheTtl, unit);
+	}
+
+	/**
+	 * Replace the contents of the Bloom filter with the given Identifiers, which must be every
+	 * Identifier in the repository, and start consulting it. Identifiers created during the scan
+	 * are added, too, as long as the filter is already observing the repository.
+	 * <p/>
+	 * The new filter is built aside and swapped in once complete, so the current filter keeps
+	 * answering (and learning of creates) meanwhile. Concurrent calls are serialized.
+	 * 
+	 * @param ids a full scan of the Identifiers in the repository.
+	 */
+	public synchronized void warm(Iterable<Identifier> ids)
+	{
+		BloomFilter warmed = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+		synchronized (warmLock)
+		{
+			warming = warmed;
+		}
+
+		try
+		{
+			for (Identifier id : ids)
+			{
+				warmed.put(id);
+			}
+
+			synchronized (warmLock)
+			{
+				bloomFilter = warmed;
+				isWarm = true;
+			}
+		}
+		finally
+		{
+			synchronized (warmLock)
+			{
+				warming = null;
+			}
+		}
+	}
+
+	public boolean isWarm()
+	{
+		return isWarm;
+	}
+
+	/**
+	 * Returns true if the Identifier definitely does not exist in the repository. False means
+	 * it may or may not exist, so the back-end must be checked.
+	 * 
+	 * @param id
+	 */
+	public boolean isDefinitelyAbsent(Identifier id)
+	{
+		lookups.incrementAndGet();
+
+		if (isWarm && !bloomFilter.mightContain(id))
+		{
+			filterRejections.incrementAndGet();
+			return true;
+		}
+
+		if (absent.get(id) != null)
+		{
+			negativeHits.incrementAndGet();
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns a stamp to be passed to recordAbsent(), taken before checking the back-end.
+	 * 
+	 * @param id
+	 */
+	public long stamp(Identifier id)
+	{
+		return absent.stamp(id);
+	}
+
+	/**
+	 * Record that the back-end reported the Identifier as absent, unless it has been
+	 * created (or is being created) since the stamp was taken.
+	 * 
+	 * @param id
+	 * @param stamp a value previously returned by stamp(id).
+	 */
+	public void recordAbsent(Identifier id, long stamp)
+	{
+		if (isWarm) falsePositives.incrementAndGet();
+
+		absent.putIfUnchanged(id, Boolean.TRUE, stamp);
+	}
+
+	@Override
+	public void beforeCreate(T object)
+	{
+		if (object.getId() != null) absent.invalidate(object.getId());
+	}
+
+	@Override
+	public void afterCreate(T object)
+	{
+		if (object.getId() == null) return;
+
+		// Under the lock, so that a create during warm() is in the filter it swaps in.
+		synchronized (warmLock)
+		{
+			bloomFilter.put(object.getId());
+
+			if (warming != null) warming.put(object.getId());
+		}
+
+		absent.invalidate(object.getId());
+	}
+
+
+	// SECTION: METRICS
+
+	public BloomFilter getBloomFilter()
+	{
+		return bloomFilter;
+	}
+
+	/**
+	 * Returns the number of isDefinitelyAbsent() calls.
+	 */
+	public long getLookupCount()
+	{
+		return lookups.get();
+	}
+
+	/**
+	 * Returns the number of lookups answered as absent by the Bloom filter.
+	 */
+	public long getFilterRejectionCount()
+	{
+		return filterRejections.get();
+	}
+
+	/**
+	 * Returns the number of lookups answered as absent by the negative-lookup cache.
+	 */
+	public long getNegativeHitCount()
+	{
+		return negativeHits.get();
+	}
+
+	/**
+	 * Returns the number of lookups the warm Bloom filter passed through to the back-end,
+	 * which the back-end then reported as absent.
+	 */
+	public long getFalsePositiveCount()
+	{
+		return falsePositives.get();
+	}
+}
@@ -0,0 +1,208 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.restexpress.common.query.FilterCallback;
+import org.restexpress.common.query.FilterComponent;
+import org.restexpress.common.query.OrderCallback;
+import org.restexpress.common.query.OrderComponent;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.Projection;
+
+/**
+ * A canonical, immutable key for a query, built from its QueryFilter, QueryRange, QueryOrder
+ * and Projection, for use as a cache key. Equivalent queries produce equal keys: filter
+ * criteria are sorted, as are the values of IN criteria, and values are encoded with their
+ * type, so that, for example, the String "1" and the Long 1 produce different keys.
+ * <p/>
+ * Null, empty and uninitialized criteria are equivalent to one another.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public final class QueryKey
+{
+	private final String canonical;
+	private final Set<String> fields;
+	private final QueryFilter filter;
+	private final boolean isFiltered;
+	private final boolean isRanged;
+
+	private QueryKey(String canonical, Set<String> fields, QueryFilter filter, boolean isFiltered, boolean isRanged)
+	{
+		super();
+		this.canonical = canonical;
+		this.fields = Collections.unmodifiableSet(fields);
+		this.filter = filter;
+		this.isFiltered = isFiltered;
+		this.isRanged = isRanged;
+	}
+
+	public static QueryKey of(QueryFilter filter)
+	{
+		return of(filter, null, null, null);
+	}
+
+	public static QueryKey of(QueryFilter filter, QueryRange range, QueryOrder order)
+	{
+		return of(filter, range, order, null);
+	}
+
+	public static QueryKey of(QueryFilter filter, QueryRange range, QueryOrder order, Projection projection)
+	{
+		final Set<String> fields = new TreeSet<String>();
+		final List<String> criteria = new ArrayList<String>();
+		StringBuilder sb = new StringBuilder();
+
+		if (filter != null)
+		{
+			filter.iterate(new FilterCallback()
+			{
+				@Override
+				public void filterOn(FilterComponent c)
+				{
+					fields.add(c.getField());
+					criteria.add(encode(c.getField()) + c.getOperator().name() + ':' + encode(c.getValue()));
+				}
+			});
+		}
+
+		Collections.sort(criteria);
+		sb.append("filter=").append(criteria);
+
+		boolean isRanged = (range != null && range.isInitialized());
+
+		if (isRanged)
+		{
+			sb.append(";range=").append(range.getStart()).append(',').append(range.getLimit());
+		}
+
+		if (order != null && order.isSorted())
+		{
+			final StringBuilder orders = new StringBuilder();
+
+			order.iterate(new OrderCallback()
+			{
+				@Override
+				public void orderBy(OrderComponent component)
+				{
+					fields.add(component.getFieldName());
+					orders.append(component.isDescending() ? '-' : '+').append(encode(component.getFieldName()));
+				}
+			});
+
+			sb.append(";order=").append(orders);
+		}
+
+		if (projection != null)
+		{
+			sb.append(";projection=").append(projection);
+		}
+
+		return new QueryKey(sb.toString(), fields, filter, !criteria.isEmpty(), isRanged);
+	}
+
+	/**
+	 * Returns the names of the properties the query filters or sorts on.
+	 */
+	public Set<String> getFields()
+	{
+		return fields;
+	}
+
+	/**
+	 * Returns the filter the key was created from. It must not be modified.
+	 */
+	public QueryFilter getFilter()
+	{
+		return filter;
+	}
+
+	/**
+	 * Returns true if the query has filter criteria.
+	 */
+	public boolean isFiltered()
+	{
+		return isFiltered;
+	}
+
+	/**
+	 * Returns true if the query selects a range (page) of its results.
+	 */
+	public boolean isRanged()
+	{
+		return isRanged;
+	}
+
+	@Override
+	public boolean equals(Object that)
+	{
+		if (this == that) return true;
+		if (!(that instanceof QueryKey)) return false;
+
+		return canonical.equals(((QueryKey) that).canonical);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return canonical.hashCode();
+	}
+
+	@Override
+	public String toString()
+	{
+		return canonical;
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * Encodes the value with its type and length, so that no two distinct values, nor
+	 * sequences of them, share an encoding.
+	 */
+	private static String encode(Object value)
+	{
+		if (value == null) return "null";
+
+		if (value instanceof Iterable)
+		{
+			List<String> elements = new ArrayList<String>();
+
+			for (Object element : (Iterable<?>) value)
+			{
+				elements.add(encode(element));
+			}
+
+			Collections.sort(elements);
+			return "in" + elements;
+		}
+
+		String string = (value instanceof Date ? String.valueOf(((Date) value).getTime()) : value.toString());
+		return value.getClass().getName() + ':' + string.length() + ':' + string;
+	}
+}
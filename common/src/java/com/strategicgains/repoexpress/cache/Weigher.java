@@ -0,0 +1,32 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+/**
+ * Calculates the weight of a cached value, so that a cache may be bounded by the total
+ * weight of its entries (e.g. their approximate size in bytes) instead of their count.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public interface Weigher<T>
+{
+	/**
+	 * @param value a value to be cached.
+	 * @return the non-negative weight of the value.
+	 */
+	public int weigh(T value);
+}
@@ -0,0 +1,203 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.codec;
+
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Decorates an EntityCodec, compressing encodings larger than a threshold with DEFLATE at its
+ * fastest setting. Smaller encodings, and those that don't shrink, are stored as-is behind a
+ * one-byte header, so only large entities pay for compression.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CompressingCodec<T>
+implements EntityCodec<T>
+{
+	private static final int DEFAULT_THRESHOLD = 1024;
+	private static final int MIN_COMPRESSIBLE = 16;
+	private static final int DEFAULT_MAX_INFLATED_SIZE = 64 << 20;
+
+	// DEFLATE can't shrink data by more than this factor.
+	private static final long MAX_DEFLATE_RATIO = 1032L;
+	private static final byte RAW = 0;
+	private static final byte DEFLATED = 1;
+
+	private EntityCodec<T> codec;
+	private int threshold;
+	private int maxInflatedSize = DEFAULT_MAX_INFLATED_SIZE;
+
+	/**
+	 * Compresses encodings larger than 1KB.
+	 */
+	public CompressingCodec(EntityCodec<T> codec)
+	{
+		this(codec, DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * @param codec the codec to compress the encodings of.
+	 * @param threshold compress encodings of more than this many bytes.
+	 */
+	public CompressingCodec(EntityCodec<T> codec, int threshold)
+	{
+		super();
+		this.codec = codec;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Set the largest decompressed encoding that decode() accepts, so that a corrupt (or
+	 * hostile) length header can't allocate an arbitrarily large buffer.
+	 * 
+	 * @param maxInflatedSize a positive number of bytes. Default is 64MB.
+	 */
+	public void setMaxInflatedSize(int maxInflatedSize)
+	{
+		if (maxInflatedSize < 1) throw new IllegalArgumentException("Max inflated size must be positive");
+
+		this.maxInflatedSize = maxInflatedSize;
+	}
+
+	@Override
+	public byte[] encode(T entity)
+	{
+		byte[] bytes = codec.encode(entity);
+
+		if (bytes.length > threshold && bytes.length > MIN_COMPRESSIBLE)
+		{
+			byte[] compressed = deflate(bytes);
+
+			if (compressed != null) return compressed;
+		}
+
+		byte[] raw = new byte[bytes.length + 1];
+		raw[0] = RAW;
+		System.arraycopy(bytes, 0, raw, 1, bytes.length);
+		return raw;
+	}
+
+	@Override
+	public T decode(byte[] bytes)
+	{
+		if (bytes.length == 0) throw new RepositoryException("Corrupt encoding. Empty");
+
+		switch (bytes[0])
+		{
+			case RAW: return codec.decode(Arrays.copyOfRange(bytes, 1, bytes.length));
+			case DEFLATED: return codec.decode(inflate(bytes));
+			default: throw new RepositoryException("Corrupt encoding. Unknown compression: " + bytes[0]);
+		}
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * Returns [DEFLATED][int length][compressed bytes], or null if that's no smaller than the
+	 * raw encoding.
+	 */
+	private byte[] deflate(byte[] bytes)
+	{
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+		try
+		{
+			deflater.setInput(bytes);
+			deflater.finish();
+			byte[] out = new byte[bytes.length];
+			out[0] = DEFLATED;
+			writeInt(out, 1, bytes.length);
+			int size = 5;
+
+			while (!deflater.finished() && size < out.length)
+			{
+				size += deflater.deflate(out, size, out.length - size);
+			}
+
+			return (deflater.finished() ? Arrays.copyOf(out, size) : null);
+		}
+		finally
+		{
+			deflater.end();
+		}
+	}
+
+	private byte[] inflate(byte[] bytes)
+	{
+		if (bytes.length < 5) throw new RepositoryException("Corrupt encoding. Truncated");
+
+		Inflater inflater = new Inflater();
+
+		try
+		{
+			int length = readInt(bytes, 1);
+
+			if (length < 0 || length > maxInflatedSize || length > (bytes.length - 5) * MAX_DEFLATE_RATIO)
+			{
+				throw new RepositoryException("Corrupt encoding. Invalid inflated length: " + length);
+			}
+
+			inflater.setInput(bytes, 5, bytes.length - 5);
+			byte[] out = new byte[length];
+			int size = 0;
+
+			while (size < out.length)
+			{
+				int n = inflater.inflate(out, size, out.length - size);
+
+				if (n == 0 && (inflater.finished() || inflater.needsInput()))
+				{
+					throw new RepositoryException("Corrupt encoding. Truncated");
+				}
+
+				size += n;
+			}
+
+			return out;
+		}
+		catch (DataFormatException e)
+		{
+			throw new RepositoryException("Corrupt encoding", e);
+		}
+		finally
+		{
+			inflater.end();
+		}
+	}
+
+	private static void writeInt(byte[] bytes, int offset, int value)
+	{
+		bytes[offset] = (byte) (value >>> 24);
+		bytes[offset + 1] = (byte) (value >>> 16);
+		bytes[offset + 2] = (byte) (value >>> 8);
+		bytes[offset + 3] = (byte) value;
+	}
+
+	private static int readInt(byte[] bytes, int offset)
+	{
+		return ((bytes[offset] & 0xFF) << 24)
+			| ((bytes[offset + 1] & 0xFF) << 16)
+			| ((bytes[offset + 2] & 0xFF) << 8)
+			| (bytes[offset + 3] & 0xFF);
+	}
+}
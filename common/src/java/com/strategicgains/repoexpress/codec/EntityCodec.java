@@ -0,0 +1,33 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.codec;
+
+/**
+ * Converts entities to and from bytes, for repositories that store entities in serialized
+ * form, such as the off-heap in-memory store and RedisRepository.
+ * <p/>
+ * Implementations must be thread safe. Failures should be reported as a RepositoryException.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see BinaryCodec
+ * @see CompressingCodec
+ */
+public interface EntityCodec<T>
+{
+	public byte[] encode(T entity);
+	public T decode(byte[] bytes);
+}
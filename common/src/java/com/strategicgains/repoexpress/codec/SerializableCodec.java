@@ -0,0 +1,73 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.codec;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * An EntityCodec using standard Java serialization, for entities that implement
+ * java.io.Serializable. Simple, but neither compact nor fast.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class SerializableCodec<T>
+implements EntityCodec<T>
+{
+	private Class<T> entityClass;
+
+	public SerializableCodec(Class<T> entityClass)
+	{
+		super();
+		this.entityClass = entityClass;
+	}
+
+	@Override
+	public byte[] encode(T entity)
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+		try (ObjectOutputStream out = new ObjectOutputStream(bytes))
+		{
+			out.writeObject(entity);
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Cannot serialize " + entityClass.getSimpleName(), e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	@Override
+	public T decode(byte[] bytes)
+	{
+		try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes)))
+		{
+			return entityClass.cast(in.readObject());
+		}
+		catch (IOException | ClassNotFoundException e)
+		{
+			throw new RepositoryException("Cannot deserialize " + entityClass.getSimpleName(), e);
+		}
+	}
+}
@@ -38,7 +38,7 @@ implements UuidIdentifiable
 	@Override
 	public Identifier getId()
 	{
-		return (id == null ? null : new Identifier(id));
+		return (id == null ? null : Identifier.of(id));
 	}
 
 	/**
@@ -0,0 +1,102 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.domain;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable identifier holding its components in an array, with its hash code computed
+ * at creation. Also used for the empty identifier.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see Identifier#of(Object...)
+ */
+final class CompoundIdentifier
+extends Identifier
+{
+	private final Object[] components;
+	private final int hash;
+
+	/**
+	 * @param components non-null components, which are not copied.
+	 */
+	CompoundIdentifier(Object[] components)
+	{
+		super(true);
+		this.components = components;
+		this.hash = hashOf(components);
+	}
+
+	@Override
+	public void add(Object component)
+	{
+		throw new UnsupportedOperationException("Identifier is immutable");
+	}
+
+	@Override
+	public List<Object> components()
+	{
+		return Collections.unmodifiableList(Arrays.asList(components));
+	}
+
+	@Override
+	public int size()
+	{
+		return components.length;
+	}
+
+	@Override
+	public boolean isImmutable()
+	{
+		return true;
+	}
+
+	@Override
+	public Identifier toImmutable()
+	{
+		return this;
+	}
+
+	@Override
+	public boolean equals(Object that)
+	{
+		if (this == that) return true;
+
+		if (that instanceof CompoundIdentifier
+			&& hash == ((CompoundIdentifier) that).hash
+			&& Arrays.equals(components, ((CompoundIdentifier) that).components))
+		{
+			return true;
+		}
+
+		return super.equals(that);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hash;
+	}
+
+	@Override
+	Object componentAt(int index)
+	{
+		return components[index];
+	}
+}
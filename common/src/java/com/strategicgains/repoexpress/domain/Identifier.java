@@ -26,6 +26,9 @@ import org.restexpress.common.util.StringUtils;
 /**
  * Supports the concept of a compound identifier. An Identifier is made up of components, which
  * are Object instances. The components are kept in order of which they are added.
+ * <p/>
+ * Identifiers created via the constructors are mutable. Those created via the of() factory
+ * methods are compact, immutable forms with a precomputed hash code, better suited as map keys.
  * 
  * @author toddf
  * @since Aug 29, 2013
@@ -34,8 +37,13 @@ public class Identifier
 implements Comparable<Identifier>
 {
 	private static final String SEPARATOR = ", ";
+	private static final Identifier EMPTY = new CompoundIdentifier(new Object[0]);
+	private static final IdentifierInterner INTERNER = new IdentifierInterner();
 
-	private List<Object> components = new ArrayList<Object>();
+	private List<Object> components;
+
+	// Lazily computed and reset by add(). Zero means not yet computed.
+	private int hash;
 
 	/**
 	 * Create an empty identifier.
@@ -43,6 +51,7 @@ implements Comparable<Identifier>
 	public Identifier()
 	{
 		super();
+		this.components = new ArrayList<Object>();
 	}
 	
 	public Identifier(Identifier that)
@@ -51,7 +60,7 @@ implements Comparable<Identifier>
 		
 		if (that == null || that.isEmpty()) return;
 		
-		add(that.components.toArray());
+		add(that.components().toArray());
 	}
 
 	/**
@@ -66,11 +75,69 @@ implements Comparable<Identifier>
 		add(components);
 	}
 
+	/**
+	 * Creates an identifier without a component list, for the immutable forms, which hold
+	 * their own components.
+	 */
+	Identifier(boolean isImmutable)
+	{
+		super();
+	}
+
+	/**
+	 * Create an immutable identifier with a single component, such as a UUID, Long, String or
+	 * ObjectId. The hash code is computed once, at creation, and no component list is allocated,
+	 * making it the preferred form for map and cache keys.
+	 * <p/>
+	 * Immutable identifiers are equal to, and hash the same as, mutable identifiers having equal
+	 * components, so the two forms are interchangeable as keys.
+	 * 
+	 * @param component the single component. If null, an empty identifier is returned.
+	 * @return an immutable identifier.
+	 */
+	public static Identifier of(Object component)
+	{
+		return (component == null ? EMPTY : new SingleIdentifier(component));
+	}
+
+	/**
+	 * Create an immutable identifier with the given components, in order. Null components are
+	 * ignored, as they are by add().
+	 * 
+	 * @param components the identifier components.
+	 * @return an immutable identifier.
+	 * @see #of(Object)
+	 */
+	public static Identifier of(Object... components)
+	{
+		if (components == null) return EMPTY;
+
+		int count = 0;
+
+		for (Object component : components)
+		{
+			if (component != null) ++count;
+		}
+
+		if (count == 0) return EMPTY;
+
+		Object[] compact = new Object[count];
+		int i = 0;
+
+		for (Object component : components)
+		{
+			if (component != null) compact[i++] = component;
+		}
+
+		return (count == 1 ? new SingleIdentifier(compact[0]) : new CompoundIdentifier(compact));
+	}
+
 	/**
 	 * Add the given components, in order, to the identifier. Duplicate instances
 	 * are not added--only one instance of a component will exist in the identifier.
 	 * 
 	 * @param components
+	 * @throws UnsupportedOperationException if this identifier is immutable.
 	 */
 	public void add(Object... components)
     {
@@ -88,12 +155,14 @@ implements Comparable<Identifier>
 	 * of a component will exist in the identifier.
 	 * 
 	 * @param component
+	 * @throws UnsupportedOperationException if this identifier is immutable.
 	 */
 	public void add(Object component)
     {
 		if (component == null) return;
 
 		components.add(component);
+		hash = 0;
     }
 
 	/**
@@ -127,16 +196,70 @@ implements Comparable<Identifier>
 		return components.size();
 	}
 
+	/**
+	 * Returns true if this identifier was created via one of the of() factory methods
+	 * and, therefore, cannot be modified with add().
+	 */
+	public boolean isImmutable()
+	{
+		return false;
+	}
+
+	/**
+	 * Returns an immutable copy of this identifier, or this identifier itself if it is
+	 * already immutable.
+	 * 
+	 * @return an immutable identifier equal to this one.
+	 */
+	public Identifier toImmutable()
+	{
+		return of(components.toArray());
+	}
+
+	/**
+	 * Returns a canonical, immutable representation of this identifier from a shared, weakly-held
+	 * pool, so that equal identifiers retained in many places (e.g. caches and indexes) share one
+	 * instance. Use an IdentifierInterner directly for a pool with a narrower scope.
+	 * 
+	 * @return the canonical immutable identifier equal to this one.
+	 * @see IdentifierInterner
+	 */
+	public Identifier intern()
+	{
+		return INTERNER.intern(this);
+	}
+
 	/**
 	 * Check for equality between identifiers. Returns true if the identifiers
 	 * contain equal components. Otherwise, returns false.
+	 * <p/>
+	 * Components of the same class are compared with equals(). Components of differing
+	 * classes are compared as in compareTo().
 	 * 
 	 * @return true if the identifiers are equivalent.
 	 */
 	@Override
 	public boolean equals(Object that)
 	{
-		return (compareTo((Identifier) that) == 0);
+		if (this == that) return true;
+		if (!(that instanceof Identifier)) return false;
+
+		Identifier other = (Identifier) that;
+		int size = size();
+
+		if (size != other.size()) return false;
+
+		for (int i = 0; i < size; i++)
+		{
+			Object cThis = this.componentAt(i);
+			Object cThat = other.componentAt(i);
+
+			if (cThis.equals(cThat)) continue;
+			if (cThis.getClass() == cThat.getClass()) return false;
+			if (compareComponents(cThis, cThat) != 0) return false;
+		}
+
+		return true;
 	}
 
 	/**
@@ -147,7 +270,15 @@ implements Comparable<Identifier>
 	@Override
 	public int hashCode()
 	{
-		return 1 + components.hashCode();
+		int h = hash;
+
+		if (h == 0)
+		{
+			h = 1 + components.hashCode();
+			hash = h;
+		}
+
+		return h;
 	}
 
 	/**
@@ -157,9 +288,6 @@ implements Comparable<Identifier>
 	 * 
 	 * @return -1, 0, 1 to indicate less-than, equal-to, or greater-than, respectively.
 	 */
-    @SuppressWarnings({
-        "unchecked", "rawtypes"
-    })
     @Override
     public int compareTo(Identifier that)
     {
@@ -172,18 +300,7 @@ implements Comparable<Identifier>
 
 		while (result == 0 && i < size())
 		{
-			Object cThis = this.components.get(i);
-			Object cThat = that.components.get(i);
-
-			if (ObjectUtils.areComparable(cThis, cThat))
-			{
-				result = ((Comparable) cThis).compareTo(((Comparable) cThat));
-			}
-			else
-			{
-				result = (cThis.toString().compareTo(cThat.toString()));
-			}
-			
+			result = compareComponents(this.componentAt(i), that.componentAt(i));
 			++i;
 		}
 
@@ -198,9 +315,9 @@ implements Comparable<Identifier>
 	@Override
 	public String toString()
 	{
-		if (components.isEmpty()) return "";
+		if (isEmpty()) return "";
 
-		return (components.size() == 1 ? primaryKey().toString() : "(" + StringUtils.join(SEPARATOR, components) + ")");
+		return (size() == 1 ? primaryKey().toString() : "(" + StringUtils.join(SEPARATOR, components()) + ")");
 	}
 
 	/**
@@ -211,7 +328,7 @@ implements Comparable<Identifier>
 	 */
 	public Object primaryKey()
 	{
-		return (isEmpty() ? null : components.get(0));
+		return (isEmpty() ? null : componentAt(0));
 	}
 
 	/**
@@ -221,6 +338,44 @@ implements Comparable<Identifier>
 	 */
 	public boolean isEmpty()
     {
-	    return components.isEmpty();
+	    return (size() == 0);
     }
+
+	/**
+	 * Returns the component at the given index, without bounds checking beyond that of the
+	 * underlying representation.
+	 */
+	Object componentAt(int index)
+	{
+		return components.get(index);
+	}
+
+	/**
+	 * Computes the hash code of the given components exactly as List.hashCode() would,
+	 * plus one, so that all forms of Identifier hash alike.
+	 */
+	static int hashOf(Object... components)
+	{
+		int h = 1;
+
+		for (Object component : components)
+		{
+			h = 31 * h + component.hashCode();
+		}
+
+		return 1 + h;
+	}
+
+    @SuppressWarnings({
+        "unchecked", "rawtypes"
+    })
+	private static int compareComponents(Object cThis, Object cThat)
+	{
+		if (ObjectUtils.areComparable(cThis, cThat))
+		{
+			return ((Comparable) cThis).compareTo(((Comparable) cThat));
+		}
+
+		return (cThis.toString().compareTo(cThat.toString()));
+	}
 }
@@ -0,0 +1,85 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.domain;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical, immutable Identifier instances. Interning the identifiers retained
+ * in long-lived structures, such as caches and secondary indexes, means equal identifiers
+ * share a single instance, and equality checks between them short-circuit on identity.
+ * <p/>
+ * Instances are weakly held, so an identifier is removed from the pool once nothing else
+ * references it. Thread safe.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see Identifier#intern()
+ */
+public class IdentifierInterner
+{
+	private final Map<Identifier, WeakReference<Identifier>> pool = new WeakHashMap<Identifier, WeakReference<Identifier>>();
+
+	/**
+	 * Returns the canonical immutable instance equal to the given identifier, adding an
+	 * immutable copy of it to the pool if there isn't one.
+	 * 
+	 * @param id an identifier. May be null.
+	 * @return the canonical, immutable identifier, or null if id is null.
+	 */
+	public Identifier intern(Identifier id)
+	{
+		if (id == null) return null;
+
+		synchronized (pool)
+		{
+			WeakReference<Identifier> ref = pool.get(id);
+			Identifier canonical = (ref == null ? null : ref.get());
+
+			if (canonical == null)
+			{
+				canonical = id.toImmutable();
+				pool.put(canonical, new WeakReference<Identifier>(canonical));
+			}
+
+			return canonical;
+		}
+	}
+
+	/**
+	 * Returns the number of identifiers currently in the pool.
+	 */
+	public int size()
+	{
+		synchronized (pool)
+		{
+			return pool.size();
+		}
+	}
+
+	/**
+	 * Empties the pool. Identifiers already interned remain valid.
+	 */
+	public void clear()
+	{
+		synchronized (pool)
+		{
+			pool.clear();
+		}
+	}
+}
@@ -0,0 +1,119 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.domain;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An immutable identifier with exactly one component (e.g. a UUID, Long, String or ObjectId),
+ * held directly, with its hash code computed at creation.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see Identifier#of(Object)
+ */
+final class SingleIdentifier
+extends Identifier
+{
+	private final Object component;
+	private final int hash;
+
+	SingleIdentifier(Object component)
+	{
+		super(true);
+		this.component = component;
+		this.hash = hashOf(component);
+	}
+
+	@Override
+	public void add(Object component)
+	{
+		throw new UnsupportedOperationException("Identifier is immutable");
+	}
+
+	@Override
+	public List<Object> components()
+	{
+		return Collections.singletonList(component);
+	}
+
+	@Override
+	public int size()
+	{
+		return 1;
+	}
+
+	@Override
+	public boolean isImmutable()
+	{
+		return true;
+	}
+
+	@Override
+	public Identifier toImmutable()
+	{
+		return this;
+	}
+
+	@Override
+	public boolean equals(Object that)
+	{
+		if (this == that) return true;
+
+		if (that instanceof SingleIdentifier)
+		{
+			SingleIdentifier other = (SingleIdentifier) that;
+
+			if (hash == other.hash && component.equals(other.component)) return true;
+			if (component.getClass() == other.component.getClass()) return false;
+		}
+
+		return super.equals(that);
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return hash;
+	}
+
+	@Override
+	public String toString()
+	{
+		return component.toString();
+	}
+
+	@Override
+	public Object primaryKey()
+	{
+		return component;
+	}
+
+	@Override
+	public boolean isEmpty()
+	{
+		return false;
+	}
+
+	@Override
+	Object componentAt(int index)
+	{
+		if (index != 0) throw new IndexOutOfBoundsException("Index: " + index + ", Size: 1");
+
+		return component;
+	}
+}
@@ -15,6 +15,9 @@
 */
 package com.strategicgains.repoexpress.event;
 
+import java.util.Collection;
+import java.util.List;
+
 import com.strategicgains.repoexpress.domain.Identifiable;
 import com.strategicgains.repoexpress.domain.Identifier;
 
@@ -26,7 +29,7 @@ import com.strategicgains.repoexpress.domain.Identifier;
  * @since Oct 13, 2009
  */
 public abstract class AbstractRepositoryObserver<T extends Identifiable>
-implements RepositoryObserver<T>
+implements BatchRepositoryObserver<T>
 {
 	@Override
     public void afterCreate(T object)
@@ -34,45 +37,150 @@ implements RepositoryObserver<T>
 		// default behavior is to do nothing.
     }
 
+	/**
+	 * Default behavior is to call afterCreate(T) for each of the objects created,
+	 * so sub-classes that only care about single creates need not override this.
+	 */
+	@Override
+	public void afterCreateAll(List<T> objects)
+	{
+		for (T object : objects)
+		{
+			afterCreate(object);
+		}
+	}
+
 	@Override
     public void afterDelete(T object)
     {
 		// default behavior is to do nothing.
     }
 
+	/**
+	 * Default behavior is to call afterDelete(T) for each of the objects deleted,
+	 * so sub-classes that only care about single deletes need not override this.
+	 */
+	@Override
+	public void afterDeleteAll(List<T> objects)
+	{
+		for (T object : objects)
+		{
+			afterDelete(object);
+		}
+	}
+
 	@Override
     public void afterRead(T object)
     {
 		// default behavior is to do nothing.
     }
 
+	/**
+	 * Default behavior is to call afterRead(T) for each of the objects read,
+	 * so sub-classes that only care about single reads need not override this.
+	 */
+	@Override
+	public void afterReadList(List<T> objects)
+	{
+		for (T object : objects)
+		{
+			afterRead(object);
+		}
+	}
+
 	@Override
     public void afterUpdate(T object)
     {
 		// default behavior is to do nothing.
     }
 
+	/**
+	 * Default behavior is to call afterUpdate(T) for each of the objects updated,
+	 * so sub-classes that only care about single updates need not override this.
+	 */
+	@Override
+	public void afterUpdateAll(List<T> objects)
+	{
+		for (T object : objects)
+		{
+			afterUpdate(object);
+		}
+	}
+
 	@Override
     public void beforeCreate(T object)
     {
 		// default behavior is to do nothing.
     }
 
+	/**
+	 * Default behavior is to call beforeCreate(T) for each of the objects to be
+	 * created, so sub-classes that only care about single creates need not override this.
+	 */
+	@Override
+	public void beforeCreateAll(Collection<T> objects)
+	{
+		for (T object : objects)
+		{
+			beforeCreate(object);
+		}
+	}
+
 	@Override
     public void beforeDelete(T object)
     {
 		// default behavior is to do nothing.
     }
 
+	/**
+	 * Default behavior is to call beforeDelete(T) for each of the objects to be
+	 * deleted, so sub-classes that only care about single deletes need not override this.
+	 */
+	@Override
+	public void beforeDeleteAll(Collection<T> objects)
+	{
+		for (T object : objects)
+		{
+			beforeDelete(object);
+		}
+	}
+
 	@Override
     public void beforeRead(Identifier id)
     {
 		// default behavior is to do nothing.
     }
 
+	/**
+	 * Default behavior is to call beforeRead(Identifier) for each of the IDs
+	 * to be read, so sub-classes that only care about single reads need not
+	 * override this.
+	 */
+	@Override
+	public void beforeReadList(Collection<Identifier> ids)
+	{
+		for (Identifier id : ids)
+		{
+			beforeRead(id);
+		}
+	}
+
 	@Override
     public void beforeUpdate(T object)
     {
 		// default behavior is to do nothing.
     }
+
+	/**
+	 * Default behavior is to call beforeUpdate(T) for each of the objects to be
+	 * updated, so sub-classes that only care about single updates need not override this.
+	 */
+	@Override
+	public void beforeUpdateAll(Collection<T> objects)
+	{
+		for (T object : objects)
+		{
+			beforeUpdate(object);
+		}
+	}
 }
@@ -0,0 +1,485 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * Decorates a RepositoryObserver so that its after* events are delivered asynchronously,
+ * keeping the observer's latency off the calling thread. Register the decorator with a
+ * repository in place of the observer itself.
+ * <p/>
+ * After* events are placed on a bounded queue and drained, in batches, by dedicated worker
+ * threads. With a single worker (the default), events are delivered in the order they
+ * occurred. When the queue is full, the BackpressurePolicy determines what happens.
+ * <p/>
+ * Before* events are still delivered synchronously, on the calling thread, so that the
+ * observer can mutate the entity before it is persisted (or veto the operation by throwing).
+ * <p/>
+ * Since after* events are delivered later, on another thread, an exception thrown by the
+ * observer can't propagate to the caller. It is counted, and the latest is retained. Also,
+ * the observer must not rely on the entity remaining unchanged after the event occurred.
+ * <p/>
+ * Call shutdown() when the observer is no longer needed, to stop the worker threads.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class AsyncRepositoryObserver<T extends Identifiable>
+implements BatchRepositoryObserver<T>
+{
+	private static final int DEFAULT_BATCH_SIZE = 64;
+
+	private RepositoryObserver<T> observer;
+	private BatchRepositoryObserver<T> batchObserver;
+	private BlockingQueue<Event<T>> queue;
+	private BackpressurePolicy policy;
+	private int batchSize = DEFAULT_BATCH_SIZE;
+	private Thread[] workers;
+	private CountDownLatch terminated;
+	private volatile boolean isShutdown = false;
+
+	private AtomicLong enqueued = new AtomicLong(0L);
+	private AtomicLong delivered = new AtomicLong(0L);
+	private AtomicLong dropped = new AtomicLong(0L);
+	private AtomicLong callerRuns = new AtomicLong(0L);
+	private AtomicLong failures = new AtomicLong(0L);
+	private AtomicLong totalLagNanos = new AtomicLong(0L);
+	private AtomicLong maxLagNanos = new AtomicLong(0L);
+	private volatile Throwable lastFailure;
+
+	/**
+	 * Create an asynchronous observer with a single worker thread.
+	 * 
+	 * @param observer the observer to notify asynchronously.
+	 * @param capacity the maximum number of events waiting in the queue.
+	 * @param policy what to do when the queue is full.
+	 */
+	public AsyncRepositoryObserver(RepositoryObserver<T> observer, int capacity, BackpressurePolicy policy)
+	{
+		this(observer, capacity, policy, 1);
+	}
+
+	/**
+	 * @param observer the observer to notify asynchronously.
+	 * @param capacity the maximum number of events waiting in the queue.
+	 * @param policy what to do when the queue is full.
+	 * @param workerCount the number of worker threads. More than one means events may be
+	 * delivered out of order, and concurrently, so the observer must be thread safe.
+	 */
+	public AsyncRepositoryObserver(RepositoryObserver<T> observer, int capacity, BackpressurePolicy policy, int workerCount)
+	{
+		super();
+
+		if (workerCount < 1) throw new IllegalArgumentException("Worker count must be positive");
+
+		this.observer = observer;
+		this.batchObserver = PerItemRepositoryObserver.adapt(observer);
+		this.queue = new ArrayBlockingQueue<Event<T>>(capacity);
+		this.policy = policy;
+		this.workers = new Thread[workerCount];
+		this.terminated = new CountDownLatch(workerCount);
+		String name = observer.getClass().getSimpleName() + "-async-";
+
+		for (int i = 0; i < workerCount; i++)
+		{
+			workers[i] = new Thread(new Worker(), name + (i + 1));
+			workers[i].setDaemon(true);
+			workers[i].start();
+		}
+	}
+
+	/**
+	 * Set the maximum number of events a worker takes from the queue at once.
+	 * 
+	 * @param batchSize a positive number. Default is 64.
+	 */
+	public void setBatchSize(int batchSize)
+	{
+		if (batchSize < 1) throw new IllegalArgumentException("Batch size must be positive");
+
+		this.batchSize = batchSize;
+	}
+
+	public RepositoryObserver<T> getObserver()
+	{
+		return observer;
+	}
+
+	/**
+	 * Stop accepting events and stop the worker threads once they have delivered the
+	 * events already queued. Events occurring after shutdown are delivered on the calling
+	 * thread.
+	 */
+	public void shutdown()
+	{
+		isShutdown = true;
+
+		for (Thread worker : workers)
+		{
+			worker.interrupt();
+		}
+	}
+
+	/**
+	 * Wait for the worker threads to finish after shutdown().
+	 * 
+	 * @return true if they finished. False if the timeout elapsed first.
+	 */
+	public boolean awaitTermination(long timeout, TimeUnit unit)
+	throws InterruptedException
+	{
+		return terminated.await(timeout, unit);
+	}
+
+
+	// SECTION: AFTER EVENTS (ASYNCHRONOUS)
+
+	@Override
+	public void afterCreate(T object)
+	{
+		enqueue(new Event<T>(Phase.CREATE, object, null));
+	}
+
+	@Override
+	public void afterCreateAll(List<T> objects)
+	{
+		enqueue(new Event<T>(Phase.CREATE_ALL, null, objects));
+	}
+
+	@Override
+	public void afterDelete(T object)
+	{
+		enqueue(new Event<T>(Phase.DELETE, object, null));
+	}
+
+	@Override
+	public void afterDeleteAll(List<T> objects)
+	{
+		enqueue(new Event<T>(Phase.DELETE_ALL, null, objects));
+	}
+
+	@Override
+	public void afterRead(T object)
+	{
+		enqueue(new Event<T>(Phase.READ, object, null));
+	}
+
+	@Override
+	public void afterReadList(List<T> objects)
+	{
+		enqueue(new Event<T>(Phase.READ_LIST, null, objects));
+	}
+
+	@Override
+	public void afterUpdate(T object)
+	{
+		enqueue(new Event<T>(Phase.UPDATE, object, null));
+	}
+
+	@Override
+	public void afterUpdateAll(List<T> objects)
+	{
+		enqueue(new Event<T>(Phase.UPDATE_ALL, null, objects));
+	}
+
+
+	// SECTION: BEFORE EVENTS (SYNCHRONOUS)
+
+	@Override
+	public void beforeCreate(T object)
+	{
+		observer.beforeCreate(object);
+	}
+
+	@Override
+	public void beforeCreateAll(Collection<T> objects)
+	{
+		batchObserver.beforeCreateAll(objects);
+	}
+
+	@Override
+	public void beforeDelete(T object)
+	{
+		observer.beforeDelete(object);
+	}
+
+	@Override
+	public void beforeDeleteAll(Collection<T> objects)
+	{
+		batchObserver.beforeDeleteAll(objects);
+	}
+
+	@Override
+	public void beforeRead(Identifier id)
+	{
+		observer.beforeRead(id);
+	}
+
+	@Override
+	public void beforeReadList(Collection<Identifier> ids)
+	{
+		batchObserver.beforeReadList(ids);
+	}
+
+	@Override
+	public void beforeUpdate(T object)
+	{
+		observer.beforeUpdate(object);
+	}
+
+	@Override
+	public void beforeUpdateAll(Collection<T> objects)
+	{
+		batchObserver.beforeUpdateAll(objects);
+	}
+
+
+	// SECTION: METRICS
+
+	/**
+	 * Returns the number of events waiting in the queue.
+	 */
+	public int getQueueDepth()
+	{
+		return queue.size();
+	}
+
+	public long getEnqueuedCount()
+	{
+		return enqueued.get();
+	}
+
+	/**
+	 * Returns the number of events delivered by the worker threads.
+	 */
+	public long getDeliveredCount()
+	{
+		return delivered.get();
+	}
+
+	public long getDroppedCount()
+	{
+		return dropped.get();
+	}
+
+	/**
+	 * Returns the number of events delivered on the calling thread, because the queue
+	 * was full (with CALLER_RUNS) or the observer was shut down.
+	 */
+	public long getCallerRunsCount()
+	{
+		return callerRuns.get();
+	}
+
+	/**
+	 * Returns the number of events whose delivery threw an exception.
+	 */
+	public long getFailureCount()
+	{
+		return failures.get();
+	}
+
+	public Throwable getLastFailure()
+	{
+		return lastFailure;
+	}
+
+	/**
+	 * Returns the mean time, in nanoseconds, between an event occurring and its delivery
+	 * by a worker thread.
+	 */
+	public long getMeanLagNanos()
+	{
+		long count = delivered.get();
+		return (count == 0 ? 0L : totalLagNanos.get() / count);
+	}
+
+	/**
+	 * Returns the longest time, in nanoseconds, between an event occurring and its delivery
+	 * by a worker thread.
+	 */
+	public long getMaxLagNanos()
+	{
+		return maxLagNanos.get();
+	}
+
+
+	// SECTION: UTILITY
+
+	private void enqueue(Event<T> event)
+	{
+		if (isShutdown)
+		{
+			callerRuns.incrementAndGet();
+			event.deliverTo(batchObserver);
+			return;
+		}
+
+		if (queue.offer(event))
+		{
+			enqueued.incrementAndGet();
+
+			// Shut down concurrently, so the workers may have already finished.
+			if (isShutdown && queue.remove(event))
+			{
+				callerRuns.incrementAndGet();
+				event.deliverTo(batchObserver);
+			}
+
+			return;
+		}
+
+		switch (policy)
+		{
+			case BLOCK:
+				try
+				{
+					queue.put(event);
+					enqueued.incrementAndGet();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					dropped.incrementAndGet();
+				}
+				break;
+			case CALLER_RUNS:
+				callerRuns.incrementAndGet();
+				event.deliverTo(batchObserver);
+				break;
+			default:
+				dropped.incrementAndGet();
+				break;
+		}
+	}
+
+	private void deliver(Event<T> event)
+	{
+		long lag = System.nanoTime() - event.occurredAt;
+		totalLagNanos.addAndGet(lag);
+		long max;
+
+		while (lag > (max = maxLagNanos.get()) && !maxLagNanos.compareAndSet(max, lag));
+
+		try
+		{
+			event.deliverTo(batchObserver);
+		}
+		catch (Throwable t)
+		{
+			failures.incrementAndGet();
+			lastFailure = t;
+		}
+
+		delivered.incrementAndGet();
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private enum Phase
+	{
+		CREATE, CREATE_ALL, DELETE, DELETE_ALL, READ, READ_LIST, UPDATE, UPDATE_ALL
+	}
+
+	private static class Event<T extends Identifiable>
+	{
+		private Phase phase;
+		private T object;
+		private List<T> objects;
+		private long occurredAt = System.nanoTime();
+
+		public Event(Phase phase, T object, List<T> objects)
+		{
+			super();
+			this.phase = phase;
+			this.object = object;
+			this.objects = objects;
+		}
+
+		public void deliverTo(BatchRepositoryObserver<T> observer)
+		{
+			switch (phase)
+			{
+				case CREATE: observer.afterCreate(object); break;
+				case CREATE_ALL: observer.afterCreateAll(objects); break;
+				case DELETE: observer.afterDelete(object); break;
+				case DELETE_ALL: observer.afterDeleteAll(objects); break;
+				case READ: observer.afterRead(object); break;
+				case READ_LIST: observer.afterReadList(objects); break;
+				case UPDATE: observer.afterUpdate(object); break;
+				case UPDATE_ALL: observer.afterUpdateAll(objects); break;
+			}
+		}
+	}
+
+	/**
+	 * Takes batches of events from the queue and delivers them, until shut down and
+	 * the queue is empty.
+	 */
+	private class Worker
+	implements Runnable
+	{
+		@Override
+		public void run()
+		{
+			List<Event<T>> batch = new ArrayList<Event<T>>(batchSize);
+
+			try
+			{
+				while (!isShutdown || !queue.isEmpty())
+				{
+					try
+					{
+						Event<T> first = queue.poll(1, TimeUnit.SECONDS);
+
+						if (first == null) continue;
+
+						batch.add(first);
+					}
+					catch (InterruptedException e)
+					{
+						// shutdown() interrupts to wake the worker. Check for remaining events.
+					}
+
+					queue.drainTo(batch, batchSize - batch.size());
+
+					for (Event<T> event : batch)
+					{
+						deliver(event);
+					}
+
+					batch.clear();
+				}
+			}
+			finally
+			{
+				terminated.countDown();
+			}
+		}
+	}
+}
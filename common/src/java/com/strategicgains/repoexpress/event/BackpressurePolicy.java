@@ -0,0 +1,41 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+/**
+ * What an AsyncRepositoryObserver does with an event when its queue is full, or a
+ * WriteBehindRepository with an update when its buffer is full.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public enum BackpressurePolicy
+{
+	/**
+	 * Block the calling thread until there is room in the queue (or buffer).
+	 */
+	BLOCK,
+
+	/**
+	 * Discard the event (or update), counting it as dropped.
+	 */
+	DROP,
+
+	/**
+	 * Notify the observer (or write the update through) synchronously, on the calling thread.
+	 */
+	CALLER_RUNS
+}
@@ -0,0 +1,47 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * A RepositoryObserver that is notified once for an entire batch (e.g. createAll(),
+ * readList()), instead of once per item.
+ * <p/>
+ * Observers that only implement RepositoryObserver are still notified of batches, once
+ * for each of the items. AbstractRepositoryObserver implements this interface, calling
+ * the single-item methods by default.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public interface BatchRepositoryObserver<T extends Identifiable>
+extends RepositoryObserver<T>
+{
+	public void afterCreateAll(List<T> objects);
+	public void afterDeleteAll(List<T> objects);
+	public void afterReadList(List<T> objects);
+	public void afterUpdateAll(List<T> objects);
+
+	public void beforeCreateAll(Collection<T> objects);
+	public void beforeDeleteAll(Collection<T> objects);
+	public void beforeReadList(Collection<Identifier> ids);
+	public void beforeUpdateAll(Collection<T> objects);
+}
@@ -0,0 +1,105 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * Adapts a RepositoryObserver that doesn't implement BatchRepositoryObserver, notifying
+ * it of a batch once for each of the items.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class PerItemRepositoryObserver<T extends Identifiable>
+extends AbstractRepositoryObserver<T>
+{
+	private RepositoryObserver<T> observer;
+
+	public PerItemRepositoryObserver(RepositoryObserver<T> observer)
+	{
+		super();
+		this.observer = observer;
+	}
+
+	/**
+	 * @return the observer itself, if it's a BatchRepositoryObserver. Otherwise, an
+	 * adapter notifying it once for each item of a batch.
+	 */
+	public static <T extends Identifiable> BatchRepositoryObserver<T> adapt(RepositoryObserver<T> observer)
+	{
+		if (observer instanceof BatchRepositoryObserver)
+		{
+			return (BatchRepositoryObserver<T>) observer;
+		}
+
+		return new PerItemRepositoryObserver<T>(observer);
+	}
+
+	public RepositoryObserver<T> getObserver()
+	{
+		return observer;
+	}
+
+	@Override
+	public void afterCreate(T object)
+	{
+		observer.afterCreate(object);
+	}
+
+	@Override
+	public void afterDelete(T object)
+	{
+		observer.afterDelete(object);
+	}
+
+	@Override
+	public void afterRead(T object)
+	{
+		observer.afterRead(object);
+	}
+
+	@Override
+	public void afterUpdate(T object)
+	{
+		observer.afterUpdate(object);
+	}
+
+	@Override
+	public void beforeCreate(T object)
+	{
+		observer.beforeCreate(object);
+	}
+
+	@Override
+	public void beforeDelete(T object)
+	{
+		observer.beforeDelete(object);
+	}
+
+	@Override
+	public void beforeRead(Identifier id)
+	{
+		observer.beforeRead(id);
+	}
+
+	@Override
+	public void beforeUpdate(T object)
+	{
+		observer.beforeUpdate(object);
+	}
+}
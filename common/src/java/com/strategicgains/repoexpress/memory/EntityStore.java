@@ -0,0 +1,73 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.List;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * The storage behind an InMemoryRepository: a concurrent map of entities, keyed by their own
+ * Identifier. Implementations may support only certain forms of Identifier (e.g. a single
+ * numeric component), in which case lookups of other forms simply find nothing.
+ * <p/>
+ * Writes report only whether an entity existed, rather than returning it, so that stores
+ * holding entities in serialized form needn't decode them to write.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see InMemoryRepository
+ */
+public interface EntityStore<T extends Identifiable>
+{
+	/**
+	 * Returns true if the store can hold an entity with the given ID.
+	 */
+	public boolean supports(Identifier id);
+
+	public T get(Identifier id);
+	public boolean contains(Identifier id);
+
+	/**
+	 * Store the entity by its ID, replacing any existing entity with that ID.
+	 * 
+	 * @return true if an existing entity was replaced.
+	 * @throws IllegalArgumentException if the entity's ID isn't supported.
+	 */
+	public boolean put(T entity);
+
+	/**
+	 * Store the entity by its ID, unless an entity with that ID already exists.
+	 * 
+	 * @return true if the entity was stored, false if one with its ID already exists.
+	 * @throws IllegalArgumentException if the entity's ID isn't supported.
+	 */
+	public boolean putIfAbsent(T entity);
+
+	/**
+	 * @return true if an entity was removed.
+	 */
+	public boolean remove(Identifier id);
+
+	public int size();
+	public void clear();
+
+	/**
+	 * Returns a snapshot of the stored entities, in no particular order.
+	 */
+	public List<T> values();
+}
@@ -16,32 +16,71 @@
  */
 package com.strategicgains.repoexpress.memory;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.restexpress.common.query.FilterCallback;
+import org.restexpress.common.query.FilterComponent;
+import org.restexpress.common.query.OrderCallback;
+import org.restexpress.common.query.OrderComponent;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
 
 import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.Queryable;
 import com.strategicgains.repoexpress.domain.Identifiable;
 import com.strategicgains.repoexpress.domain.Identifier;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
 import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.query.QueryEvaluator;
 
 /**
- * An extremely basic in-memory repository backed by a Map implementation.  Filtering, sorting, etc.
- * are not supported, so methods operate over the entire collection.
+ * A basic in-memory repository backed by an EntityStore, by default a Map.
+ * <p/>
+ * Queries are evaluated in memory by QueryEvaluator, with the same operators and ordering as
+ * the database-backed repositories, so it can stand in for them in tests. Without indexes,
+ * queries scan the entire collection. Declare secondary indexes with addIndex(), for equality
+ * criteria, or addSortedIndex(), for range criteria and ordering as well, to narrow them.
+ * <p/>
+ * Generated IDs are unique per repository instance. Use LongInMemoryRepository or
+ * UuidInMemoryRepository for a much more compact store of numeric or UUID IDs, or an
+ * OffHeapEntityStore to keep large data sets out of the garbage-collected heap.
  * 
  * @author toddf
  * @since Oct 12, 2010
+ * @see EntityStore
  */
 public abstract class InMemoryRepository<T extends Identifiable>
 extends AbstractObservableRepository<T>
+implements Queryable<T>
 {
-	private static long nextId = 0;
-	protected Map<Identifier, T> items = new ConcurrentHashMap<Identifier, T>();
-	
+	private AtomicLong nextId = new AtomicLong(0L);
+	private ConcurrentMap<String, PropertyIndex> indexes = new ConcurrentHashMap<String, PropertyIndex>();
+	protected EntityStore<T> store;
+
+	public InMemoryRepository()
+	{
+		this(new MapEntityStore<T>());
+	}
+
+	public InMemoryRepository(EntityStore<T> store)
+	{
+		super();
+		this.store = store;
+	}
+
 	@Override
-	public boolean exists(Identifier id)
+	public boolean doExists(Identifier id)
 	{
-		return items.containsKey(id);
+		return store.contains(id);
 	}
 
 	@Override
@@ -49,29 +88,32 @@ extends AbstractObservableRepository<T>
 	{
 		if (hasId(item))
 		{
-			try
+			assertSupported(item);
+
+			if (!store.putIfAbsent(item))
 			{
-				read(item.getId());
 				throw new DuplicateItemException(item.getClass().getSimpleName() + " ID already exists: " + item.getId().toString());
 			}
-			catch(ItemNotFoundException e)
-			{
-				// expected.
-			}
+
+			index(item);
+			return item;
 		}
-		else
+
+		// Skip any generated IDs already taken by items created with explicit IDs.
+		do
 		{
-			item.setId(new Identifier(item.getClass().getSimpleName(), ++nextId));
+			item.setId(generateId(item));
 		}
+		while (!store.putIfAbsent(item));
 
-		items.put(item.getId(), item);
+		index(item);
 		return item;
 	}
 
     @Override
     public T doRead(Identifier id)
     {
-    	T b = items.get(id);
+    	T b = store.get(id);
     	
     	if (b == null)
     	{
@@ -81,21 +123,271 @@ extends AbstractObservableRepository<T>
     	return b;
     }
 
+    /**
+     * Reads the entire batch in a single pass over the map, ignoring IDs that don't exist.
+     */
+    @Override
+    public List<T> doReadList(Collection<Identifier> ids)
+    {
+    	List<T> results = new ArrayList<T>(ids.size());
+
+    	for (Identifier id : ids)
+    	{
+    		T item = store.get(id);
+
+    		if (item != null)
+    		{
+    			results.add(item);
+    		}
+    	}
+
+    	return results;
+    }
+
     @Override
     public T doUpdate(T item)
     {
-    	items.put(item.getId(), item);
+    	assertSupported(item);
+    	store.put(item);
+    	index(item);
     	return item;
     }
 
     @Override
     public void doDelete(T object)
     {
-    	T item = items.remove(object.getId());
-
-    	if (item == null)
+    	if (!store.remove(object.getId()))
     	{
     		throw new ItemNotFoundException("ID not found: " + object.getId().toString());
     	}
+
+    	for (PropertyIndex index : indexes.values())
+    	{
+    		index.remove(object.getId());
+    	}
     }
+
+	/**
+	 * Declare a hash index on the (possibly dotted) property, to serve EQUALS and IN criteria.
+	 * Existing entities are indexed immediately. Indexes should be declared before the
+	 * repository is in concurrent use.
+	 */
+	public void addIndex(String property)
+	{
+		addIndex(new PropertyIndex(property, false));
+	}
+
+	/**
+	 * Declare a sorted index on the (possibly dotted) property, to serve range and STARTS_WITH
+	 * criteria, as well as EQUALS and IN, and to order results by the property without sorting.
+	 * 
+	 * @see #addIndex(String)
+	 */
+	public void addSortedIndex(String property)
+	{
+		addIndex(new PropertyIndex(property, true));
+	}
+
+	public void removeIndex(String property)
+	{
+		indexes.remove(property);
+	}
+
+	@Override
+	public long count(QueryFilter filter)
+	{
+		long count = 0;
+
+		for (T item : candidatesFor(indexedCandidatesFor(filter)))
+		{
+			if (QueryEvaluator.matches(filter, item)) ++count;
+		}
+
+		return count;
+	}
+
+	@Override
+	public List<T> readAll(QueryFilter filter, QueryRange range, QueryOrder order)
+	{
+		List<OrderComponent> sorts = sortsOf(order);
+		Set<Identifier> ids = indexedCandidatesFor(filter);
+
+		if (ids == null && sorts.size() == 1)
+		{
+			PropertyIndex index = indexes.get(sorts.get(0).getFieldName());
+			Iterable<Identifier> ordered = (index == null ? null : index.orderedIds(sorts.get(0).isDescending()));
+
+			if (ordered != null)
+			{
+				return readOrdered(ordered, filter, range);
+			}
+		}
+
+		List<T> results = new ArrayList<T>();
+
+		for (T item : candidatesFor(ids))
+		{
+			if (QueryEvaluator.matches(filter, item)) results.add(item);
+		}
+
+		if (!sorts.isEmpty())
+		{
+			Collections.sort(results, QueryEvaluator.<T>comparator(order));
+		}
+
+		if (range == null || !range.isInitialized()) return results;
+
+		int start = (int) Math.min(range.getStart(), results.size());
+		int end = (range.hasLimit() ? (int) Math.min(range.getStart() + range.getLimit(), results.size()) : results.size());
+		return new ArrayList<T>(results.subList(start, end));
+	}
+
+	/**
+	 * Returns a new ID for an item created without one. By default, the item's simple class name
+	 * and a sequence number.
+	 */
+	protected Identifier generateId(T item)
+	{
+		return Identifier.of(item.getClass().getSimpleName(), nextId());
+	}
+
+	/**
+	 * Returns the next value of this repository's ID sequence, starting at one.
+	 */
+	protected long nextId()
+	{
+		return nextId.incrementAndGet();
+	}
+
+
+	// SECTION: UTILITY
+
+	private void addIndex(PropertyIndex index)
+	{
+		for (T item : store.values())
+		{
+			index.put(item.getId(), item);
+		}
+
+		indexes.put(index.getProperty(), index);
+	}
+
+	private void index(T item)
+	{
+		for (PropertyIndex index : indexes.values())
+		{
+			index.put(item.getId(), item);
+		}
+	}
+
+	/**
+	 * Returns the entities that may match a filter: those with the candidate IDs of an index
+	 * lookup or, if null, every entity.
+	 */
+	private Collection<T> candidatesFor(Set<Identifier> ids)
+	{
+		if (ids == null) return store.values();
+
+		List<T> items = new ArrayList<T>(ids.size());
+
+		for (Identifier id : ids)
+		{
+			T item = store.get(id);
+
+			if (item != null) items.add(item);
+		}
+
+		return items;
+	}
+
+	/**
+	 * Returns the smallest set of candidate IDs from the indexes on the filter's properties,
+	 * or null if none of the criteria are indexed.
+	 */
+	private Set<Identifier> indexedCandidatesFor(QueryFilter filter)
+	{
+		if (filter == null || indexes.isEmpty()) return null;
+
+		final List<Set<Identifier>> smallest = new ArrayList<Set<Identifier>>(1);
+
+		filter.iterate(new FilterCallback()
+		{
+			@Override
+			public void filterOn(FilterComponent c)
+			{
+				PropertyIndex index = indexes.get(c.getField());
+				Set<Identifier> ids = (index == null ? null : index.candidates(c));
+
+				if (ids == null) return;
+
+				if (smallest.isEmpty())
+				{
+					smallest.add(ids);
+				}
+				else if (ids.size() < smallest.get(0).size())
+				{
+					smallest.set(0, ids);
+				}
+			}
+		});
+
+		return (smallest.isEmpty() ? null : smallest.get(0));
+	}
+
+	/**
+	 * Reads the matching entities in the index's order, stopping at the end of the range.
+	 */
+	private List<T> readOrdered(Iterable<Identifier> ordered, QueryFilter filter, QueryRange range)
+	{
+		boolean isRanged = (range != null && range.isInitialized());
+		long skip = (isRanged ? range.getStart() : 0L);
+		int limit = (isRanged && range.hasLimit() ? range.getLimit() : Integer.MAX_VALUE);
+		List<T> results = new ArrayList<T>();
+
+		for (Identifier id : ordered)
+		{
+			if (results.size() >= limit) break;
+
+			T item = store.get(id);
+
+			if (item == null || !QueryEvaluator.matches(filter, item)) continue;
+
+			if (skip > 0)
+			{
+				--skip;
+				continue;
+			}
+
+			results.add(item);
+		}
+
+		return results;
+	}
+
+	private List<OrderComponent> sortsOf(QueryOrder order)
+	{
+		final List<OrderComponent> sorts = new ArrayList<OrderComponent>();
+
+		if (order != null && order.isSorted())
+		{
+			order.iterate(new OrderCallback()
+			{
+				@Override
+				public void orderBy(OrderComponent component)
+				{
+					sorts.add(component);
+				}
+			});
+		}
+
+		return sorts;
+	}
+
+	private void assertSupported(T item)
+	{
+		if (!store.supports(item.getId()))
+		{
+			throw new InvalidObjectIdException("ID not supported by " + store.getClass().getSimpleName() + ": " + item.getId().toString());
+		}
+	}
 }
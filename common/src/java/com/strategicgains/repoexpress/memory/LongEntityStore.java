@@ -0,0 +1,124 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * A high-density EntityStore for entities identified by a single integral number (Long,
+ * Integer, Short or Byte). The IDs are held as primitive longs in a striped, open-addressed
+ * table, rather than as Identifier keys of a map, which suits stores of millions of entities.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class LongEntityStore<T extends Identifiable>
+implements EntityStore<T>
+{
+	private StripedKeyTable<T> table;
+
+	public LongEntityStore()
+	{
+		this(0);
+	}
+
+	/**
+	 * @param expectedSize the number of entities to presize for.
+	 */
+	public LongEntityStore(int expectedSize)
+	{
+		super();
+		this.table = new StripedKeyTable<T>(1, expectedSize);
+	}
+
+	@Override
+	public boolean supports(Identifier id)
+	{
+		if (id == null || id.size() != 1) return false;
+
+		Object key = id.primaryKey();
+		return (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte);
+	}
+
+	@Override
+	public T get(Identifier id)
+	{
+		return (supports(id) ? table.get(keyOf(id), 0L) : null);
+	}
+
+	@Override
+	public boolean contains(Identifier id)
+	{
+		return (get(id) != null);
+	}
+
+	@Override
+	public boolean put(T entity)
+	{
+		return (table.put(requireKey(entity.getId()), 0L, entity, false) != null);
+	}
+
+	@Override
+	public boolean putIfAbsent(T entity)
+	{
+		return (table.put(requireKey(entity.getId()), 0L, entity, true) == null);
+	}
+
+	@Override
+	public boolean remove(Identifier id)
+	{
+		return (supports(id) && table.remove(keyOf(id), 0L) != null);
+	}
+
+	@Override
+	public int size()
+	{
+		return table.size();
+	}
+
+	@Override
+	public void clear()
+	{
+		table.clear();
+	}
+
+	@Override
+	public List<T> values()
+	{
+		List<T> values = new ArrayList<T>(table.size());
+		table.addValuesTo(values);
+		return values;
+	}
+
+
+	// SECTION: UTILITY
+
+	private long keyOf(Identifier id)
+	{
+		return ((Number) id.primaryKey()).longValue();
+	}
+
+	private long requireKey(Identifier id)
+	{
+		if (!supports(id)) throw new IllegalArgumentException("Not a single, integral ID: " + id);
+
+		return keyOf(id);
+	}
+}
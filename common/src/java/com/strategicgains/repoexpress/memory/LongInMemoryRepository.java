@@ -0,0 +1,50 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * An in-memory repository of entities identified by a single integral number, held in a
+ * compact LongEntityStore. IDs are generated from a sequence, per repository, starting at one.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see LongEntityStore
+ */
+public abstract class LongInMemoryRepository<T extends Identifiable>
+extends InMemoryRepository<T>
+{
+	public LongInMemoryRepository()
+	{
+		this(0);
+	}
+
+	/**
+	 * @param expectedSize the number of entities to presize the store for.
+	 */
+	public LongInMemoryRepository(int expectedSize)
+	{
+		super(new LongEntityStore<T>(expectedSize));
+	}
+
+	@Override
+	protected Identifier generateId(T item)
+	{
+		return Identifier.of(nextId());
+	}
+}
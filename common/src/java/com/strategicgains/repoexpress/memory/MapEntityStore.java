@@ -0,0 +1,90 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * The default EntityStore, backed by a ConcurrentHashMap, that supports any form of Identifier.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class MapEntityStore<T extends Identifiable>
+implements EntityStore<T>
+{
+	private ConcurrentMap<Identifier, T> items = new ConcurrentHashMap<Identifier, T>();
+
+	@Override
+	public boolean supports(Identifier id)
+	{
+		return (id != null);
+	}
+
+	@Override
+	public T get(Identifier id)
+	{
+		return items.get(id);
+	}
+
+	@Override
+	public boolean contains(Identifier id)
+	{
+		return items.containsKey(id);
+	}
+
+	@Override
+	public boolean put(T entity)
+	{
+		return (items.put(entity.getId(), entity) != null);
+	}
+
+	@Override
+	public boolean putIfAbsent(T entity)
+	{
+		return (items.putIfAbsent(entity.getId(), entity) == null);
+	}
+
+	@Override
+	public boolean remove(Identifier id)
+	{
+		return (items.remove(id) != null);
+	}
+
+	@Override
+	public int size()
+	{
+		return items.size();
+	}
+
+	@Override
+	public void clear()
+	{
+		items.clear();
+	}
+
+	@Override
+	public List<T> values()
+	{
+		return new ArrayList<T>(items.values());
+	}
+}
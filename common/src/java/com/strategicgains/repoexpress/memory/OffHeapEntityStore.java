@@ -0,0 +1,418 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.strategicgains.repoexpress.codec.EntityCodec;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * An EntityStore that holds entities serialized, via an EntityCodec, in direct (off-heap)
+ * ByteBuffers, so that large data sets don't burden the garbage collector. Only a map of ID to
+ * location is kept on the heap. Each read decodes a new instance of the entity, so callers may
+ * mutate what they read without affecting the store until they update() it.
+ * <p/>
+ * Records are appended to fixed-size chunks of memory. Updates append a new record and deletes
+ * abandon the old one, so the store compacts itself, copying the live records to new chunks,
+ * once the abandoned space exceeds a threshold (half, by default) of the space used. Released
+ * chunks are freed when their ByteBuffers are garbage collected.
+ * <p/>
+ * Reads proceed concurrently. Writes and compaction are serialized, though encoding is done
+ * outside of the lock.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see EntityCodec
+ */
+public class OffHeapEntityStore<T extends Identifiable>
+implements EntityStore<T>
+{
+	private static final int DEFAULT_CHUNK_SIZE = 16 * 1024 * 1024;
+	private static final double DEFAULT_COMPACTION_THRESHOLD = 0.5d;
+	private static final int HEADER_SIZE = 4;
+
+	private EntityCodec<T> codec;
+	private int chunkSize;
+	private double compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+	private ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// Guarded by lock. A location is the chunk index in the high 32 bits and offset in the low.
+	private Map<Identifier, Long> locations = new HashMap<Identifier, Long>();
+	private List<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+	private long usedBytes = 0L;
+	private long liveBytes = 0L;
+
+	/**
+	 * Create a store that allocates off-heap memory in chunks of 16MB.
+	 * 
+	 * @param codec converts entities to and from bytes.
+	 */
+	public OffHeapEntityStore(EntityCodec<T> codec)
+	{
+		this(codec, DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param codec converts entities to and from bytes.
+	 * @param chunkSize the size, in bytes, of each allocation of off-heap memory.
+	 */
+	public OffHeapEntityStore(EntityCodec<T> codec, int chunkSize)
+	{
+		super();
+
+		if (chunkSize <= HEADER_SIZE) throw new IllegalArgumentException("Chunk size too small: " + chunkSize);
+
+		this.codec = codec;
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Set the fraction of used space that may be abandoned before the store compacts itself.
+	 * 
+	 * @param threshold between zero and one. One disables automatic compaction.
+	 */
+	public void setCompactionThreshold(double threshold)
+	{
+		this.compactionThreshold = threshold;
+	}
+
+	@Override
+	public boolean supports(Identifier id)
+	{
+		return (id != null && !id.isEmpty());
+	}
+
+	@Override
+	public T get(Identifier id)
+	{
+		byte[] bytes;
+		lock.readLock().lock();
+
+		try
+		{
+			Long location = locations.get(id);
+
+			if (location == null) return null;
+
+			bytes = read(location);
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+
+		return codec.decode(bytes);
+	}
+
+	@Override
+	public boolean contains(Identifier id)
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return locations.containsKey(id);
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean put(T entity)
+	{
+		return write(entity, false);
+	}
+
+	@Override
+	public boolean putIfAbsent(T entity)
+	{
+		return !write(entity, true);
+	}
+
+	@Override
+	public boolean remove(Identifier id)
+	{
+		lock.writeLock().lock();
+
+		try
+		{
+			Long location = locations.remove(id);
+
+			if (location == null) return false;
+
+			abandon(location);
+			compactIfNeeded();
+			return true;
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int size()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return locations.size();
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public void clear()
+	{
+		lock.writeLock().lock();
+
+		try
+		{
+			locations.clear();
+			chunks.clear();
+			usedBytes = 0L;
+			liveBytes = 0L;
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public List<T> values()
+	{
+		List<byte[]> records;
+		lock.readLock().lock();
+
+		try
+		{
+			records = new ArrayList<byte[]>(locations.size());
+
+			for (Long location : locations.values())
+			{
+				records.add(read(location));
+			}
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+
+		List<T> values = new ArrayList<T>(records.size());
+
+		for (byte[] bytes : records)
+		{
+			values.add(codec.decode(bytes));
+		}
+
+		return values;
+	}
+
+	/**
+	 * Copy the live records to new chunks, releasing the space of updated and deleted records.
+	 */
+	public void compact()
+	{
+		lock.writeLock().lock();
+
+		try
+		{
+			List<ByteBuffer> previous = chunks;
+			chunks = new ArrayList<ByteBuffer>();
+			usedBytes = 0L;
+			liveBytes = 0L;
+
+			for (Map.Entry<Identifier, Long> entry : locations.entrySet())
+			{
+				entry.setValue(append(read(previous, entry.getValue())));
+			}
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+
+	// SECTION: METRICS
+
+	/**
+	 * Returns the off-heap memory allocated, in bytes.
+	 */
+	public long getAllocatedBytes()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			long allocated = 0L;
+
+			for (ByteBuffer chunk : chunks)
+			{
+				allocated += chunk.capacity();
+			}
+
+			return allocated;
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the bytes taken by records, both live and abandoned.
+	 */
+	public long getUsedBytes()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return usedBytes;
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the bytes taken by the current record of each entity.
+	 */
+	public long getLiveBytes()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return liveBytes;
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * @return true if an entity with the same ID already existed.
+	 */
+	private boolean write(T entity, boolean onlyIfAbsent)
+	{
+		Identifier id = entity.getId();
+
+		if (!supports(id)) throw new IllegalArgumentException("ID required");
+
+		byte[] bytes = codec.encode(entity);
+		lock.writeLock().lock();
+
+		try
+		{
+			Long previous = locations.get(id);
+
+			if (previous != null && onlyIfAbsent) return true;
+
+			locations.put(id.toImmutable(), append(bytes));
+
+			if (previous != null)
+			{
+				abandon(previous);
+				compactIfNeeded();
+			}
+
+			return (previous != null);
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	private long append(byte[] bytes)
+	{
+		int recordSize = HEADER_SIZE + bytes.length;
+		ByteBuffer chunk = (chunks.isEmpty() ? null : chunks.get(chunks.size() - 1));
+
+		if (chunk == null || chunk.remaining() < recordSize)
+		{
+			chunk = ByteBuffer.allocateDirect(Math.max(chunkSize, recordSize));
+			chunks.add(chunk);
+		}
+
+		long location = ((long) (chunks.size() - 1) << 32) | chunk.position();
+		chunk.putInt(bytes.length);
+		chunk.put(bytes);
+		usedBytes += recordSize;
+		liveBytes += recordSize;
+		return location;
+	}
+
+	private void abandon(long location)
+	{
+		liveBytes -= HEADER_SIZE + chunkAt(chunks, location).getInt(offsetOf(location));
+	}
+
+	private void compactIfNeeded()
+	{
+		if (usedBytes > chunkSize && usedBytes - liveBytes > usedBytes * compactionThreshold)
+		{
+			compact();
+		}
+	}
+
+	private byte[] read(long location)
+	{
+		return read(chunks, location);
+	}
+
+	private static byte[] read(List<ByteBuffer> chunks, long location)
+	{
+		// A duplicate, so that concurrent readers don't share a position.
+		ByteBuffer buffer = chunkAt(chunks, location).duplicate();
+		buffer.position(offsetOf(location));
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return bytes;
+	}
+
+	private static ByteBuffer chunkAt(List<ByteBuffer> chunks, long location)
+	{
+		return chunks.get((int) (location >>> 32));
+	}
+
+	private static int offsetOf(long location)
+	{
+		return (int) location;
+	}
+}
@@ -0,0 +1,406 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.restexpress.common.query.FilterComponent;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.query.QueryEvaluator;
+
+/**
+ * A secondary index of the IDs of entities by the value of one of their properties, for
+ * InMemoryRepository queries. A hash index serves EQUALS and IN criteria. A sorted index,
+ * backed by a skip list, also serves range comparisons and STARTS_WITH, and can be walked in
+ * order to avoid sorting.
+ * <p/>
+ * Values are normalized so that lookups agree with QueryEvaluator: integral numbers (and whole
+ * floating point numbers) are indexed as Longs and enums by name. Each element of a collection
+ * property is indexed in a hash index; sorted indexes set collection values aside as candidates
+ * for every lookup. Lookups return candidates only, which are verified against the filter.
+ * <p/>
+ * Writes are serialized per index. Lookups are lock-free and may, or may not, reflect
+ * concurrent writes.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class PropertyIndex
+{
+	private static final Comparator<Object> VALUE_ORDER = new Comparator<Object>()
+	{
+		@Override
+		public int compare(Object a, Object b)
+		{
+			return QueryEvaluator.compareValues(a, b);
+		}
+	};
+
+	// Stands for a null value in valuesById, which can't hold nulls.
+	private static final Object NULL = new Object();
+
+	private final String property;
+	private final boolean isSorted;
+	private final ConcurrentMap<Object, Set<Identifier>> entries;
+	private final ConcurrentMap<Identifier, Object> valuesById = new ConcurrentHashMap<Identifier, Object>();
+	private final Set<Identifier> nullIds = newIdSet();
+	private final Set<Identifier> collectionIds = newIdSet();
+	private int nonStringKeys = 0;
+
+	public PropertyIndex(String property, boolean isSorted)
+	{
+		super();
+		this.property = property;
+		this.isSorted = isSorted;
+		this.entries = (isSorted ? new ConcurrentSkipListMap<Object, Set<Identifier>>(VALUE_ORDER) : new ConcurrentHashMap<Object, Set<Identifier>>());
+	}
+
+	public String getProperty()
+	{
+		return property;
+	}
+
+	public boolean isSorted()
+	{
+		return isSorted;
+	}
+
+	/**
+	 * Index the entity's current value of the property, replacing any previous value.
+	 */
+	public synchronized void put(Identifier id, Object entity)
+	{
+		remove(id);
+		Object value = normalize(QueryEvaluator.getProperty(entity, property));
+		valuesById.put(id, (value == null ? NULL : value));
+
+		if (value == null)
+		{
+			nullIds.add(id);
+		}
+		else if (value instanceof Collection)
+		{
+			if (isSorted)
+			{
+				collectionIds.add(id);
+				return;
+			}
+
+			for (Object element : (Collection<?>) value)
+			{
+				add(normalize(element), id);
+			}
+		}
+		else
+		{
+			add(value, id);
+		}
+	}
+
+	public synchronized void remove(Identifier id)
+	{
+		Object value = valuesById.remove(id);
+
+		if (value == null) return;
+
+		if (value == NULL)
+		{
+			nullIds.remove(id);
+		}
+		else if (value instanceof Collection)
+		{
+			if (isSorted)
+			{
+				collectionIds.remove(id);
+				return;
+			}
+
+			for (Object element : (Collection<?>) value)
+			{
+				discard(normalize(element), id);
+			}
+		}
+		else
+		{
+			discard(value, id);
+		}
+	}
+
+	public synchronized void clear()
+	{
+		entries.clear();
+		valuesById.clear();
+		nullIds.clear();
+		collectionIds.clear();
+		nonStringKeys = 0;
+	}
+
+	/**
+	 * Returns the IDs of the entities that may satisfy the criterion, or null if this index
+	 * can't serve the criterion's operator.
+	 */
+	public Set<Identifier> candidates(FilterComponent c)
+	{
+		Object operand = c.getValue();
+
+		if (operand == null) return null;
+
+		switch (c.getOperator())
+		{
+			case EQUALS:
+				return withCollections(idsFor(normalize(operand), new HashSet<Identifier>()));
+			case IN:
+				return withCollections(idsForAll(operand));
+			case STARTS_WITH:
+				if (!isSorted || !(operand instanceof String) || nonStringKeys > 0) return null;
+
+				String prefix = (String) operand;
+				return withCollections(idsIn(sorted().subMap(prefix, true, prefix + Character.MAX_VALUE, true)));
+			case GREATER_THAN:
+				return (isSorted ? withCollections(idsIn(sorted().tailMap(normalize(operand), false))) : null);
+			case GREATER_THAN_OR_EQUAL_TO:
+				return (isSorted ? withCollections(idsIn(sorted().tailMap(normalize(operand), true))) : null);
+			case LESS_THAN:
+				return (isSorted ? withCollections(idsIn(sorted().headMap(normalize(operand), false))) : null);
+			case LESS_THAN_OR_EQUAL_TO:
+				return (isSorted ? withCollections(idsIn(sorted().headMap(normalize(operand), true))) : null);
+			default:
+				return null;
+		}
+	}
+
+	/**
+	 * Returns the IDs of every indexed entity, lazily, in the order of the property's values
+	 * (nulls first when ascending, as QueryEvaluator sorts them), or null if the index can't
+	 * provide an order.
+	 */
+	public Iterable<Identifier> orderedIds(final boolean isDescending)
+	{
+		if (!isSorted || !collectionIds.isEmpty()) return null;
+
+		return new Iterable<Identifier>()
+		{
+			@Override
+			public Iterator<Identifier> iterator()
+			{
+				NavigableMap<Object, Set<Identifier>> map = (isDescending ? sorted().descendingMap() : sorted());
+				return new OrderedIdIterator(map.values().iterator(), (isDescending ? null : nullIds), (isDescending ? nullIds : null));
+			}
+		};
+	}
+
+
+	// SECTION: UTILITY
+
+	private void add(Object key, Identifier id)
+	{
+		Set<Identifier> ids = entries.get(key);
+
+		if (ids == null)
+		{
+			ids = newIdSet();
+			entries.put(key, ids);
+
+			if (!(key instanceof String)) ++nonStringKeys;
+		}
+
+		ids.add(id);
+	}
+
+	private void discard(Object key, Identifier id)
+	{
+		Set<Identifier> ids = entries.get(key);
+
+		if (ids == null) return;
+
+		ids.remove(id);
+
+		if (ids.isEmpty())
+		{
+			entries.remove(key);
+
+			if (!(key instanceof String)) --nonStringKeys;
+		}
+	}
+
+	private Set<Identifier> idsFor(Object key, Set<Identifier> results)
+	{
+		Set<Identifier> ids = (key == null ? null : entries.get(key));
+
+		if (ids != null) results.addAll(ids);
+
+		return results;
+	}
+
+	private Set<Identifier> idsForAll(Object operand)
+	{
+		Set<Identifier> results = new HashSet<Identifier>();
+
+		if (operand instanceof Iterable)
+		{
+			for (Object element : (Iterable<?>) operand)
+			{
+				idsFor(normalize(element), results);
+			}
+		}
+		else if (operand instanceof Object[])
+		{
+			for (Object element : (Object[]) operand)
+			{
+				idsFor(normalize(element), results);
+			}
+		}
+		else
+		{
+			idsFor(normalize(operand), results);
+		}
+
+		return results;
+	}
+
+	private Set<Identifier> idsIn(Map<Object, Set<Identifier>> range)
+	{
+		Set<Identifier> results = new HashSet<Identifier>();
+
+		for (Set<Identifier> ids : range.values())
+		{
+			results.addAll(ids);
+		}
+
+		return results;
+	}
+
+	private Set<Identifier> withCollections(Set<Identifier> results)
+	{
+		if (isSorted) results.addAll(collectionIds);
+
+		return results;
+	}
+
+	private NavigableMap<Object, Set<Identifier>> sorted()
+	{
+		return (NavigableMap<Object, Set<Identifier>>) entries;
+	}
+
+	private static Object normalize(Object value)
+	{
+		if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+		{
+			return ((Number) value).longValue();
+		}
+
+		if (value instanceof Double || value instanceof Float)
+		{
+			double d = ((Number) value).doubleValue();
+			return (d == Math.rint(d) && !Double.isInfinite(d) && Math.abs(d) < 0x1p63 ? (Object) (long) d : (Object) d);
+		}
+
+		if (value instanceof Enum)
+		{
+			return ((Enum<?>) value).name();
+		}
+
+		if (value instanceof Collection)
+		{
+			return Collections.unmodifiableList(new ArrayList<Object>((Collection<?>) value));
+		}
+
+		return value;
+	}
+
+	private static Set<Identifier> newIdSet()
+	{
+		return Collections.newSetFromMap(new ConcurrentHashMap<Identifier, Boolean>());
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Iterates the IDs of a sequence of sets, preceded or followed by those of another set.
+	 */
+	private static class OrderedIdIterator
+	implements Iterator<Identifier>
+	{
+		private Iterator<Set<Identifier>> sets;
+		private Set<Identifier> first;
+		private Set<Identifier> last;
+		private Iterator<Identifier> current = Collections.<Identifier>emptySet().iterator();
+
+		public OrderedIdIterator(Iterator<Set<Identifier>> sets, Set<Identifier> first, Set<Identifier> last)
+		{
+			super();
+			this.sets = sets;
+			this.first = first;
+			this.last = last;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			while (!current.hasNext())
+			{
+				if (first != null)
+				{
+					current = first.iterator();
+					first = null;
+				}
+				else if (sets.hasNext())
+				{
+					current = sets.next().iterator();
+				}
+				else if (last != null)
+				{
+					current = last.iterator();
+					last = null;
+				}
+				else
+				{
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public Identifier next()
+		{
+			if (!hasNext()) throw new NoSuchElementException();
+
+			return current.next();
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -0,0 +1,310 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.List;
+
+/**
+ * A concurrent, open-addressed hash table from one or two primitive longs (e.g. a numeric ID,
+ * or the two halves of a UUID) to a value. The keys are held in parallel long arrays, rather
+ * than as boxed objects in map entries, for a small fraction of the memory per entry.
+ * <p/>
+ * The table is split into independently-locked stripes by the high bits of the key's hash.
+ * Each stripe uses linear probing, with backward-shift deletion, so there are no tombstones.
+ * A null value marks an empty slot, so values may not be null.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class StripedKeyTable<V>
+{
+	private static final int DEFAULT_STRIPES = 32;
+	private static final int MIN_STRIPE_CAPACITY = 16;
+
+	private final Stripe<V>[] stripes;
+	private final int width;
+	private final int stripeShift;
+
+	/**
+	 * @param width the number of longs in a key, one or two.
+	 * @param expectedSize the number of entries to presize for.
+	 */
+	@SuppressWarnings("unchecked")
+	public StripedKeyTable(int width, int expectedSize)
+	{
+		super();
+		this.width = width;
+		this.stripes = (Stripe<V>[]) new Stripe<?>[DEFAULT_STRIPES];
+		this.stripeShift = 64 - Integer.numberOfTrailingZeros(DEFAULT_STRIPES);
+		int perStripe = Math.max(MIN_STRIPE_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize / DEFAULT_STRIPES * 4 / 3)) * 2);
+
+		for (int i = 0; i < stripes.length; i++)
+		{
+			stripes[i] = new Stripe<V>(width, perStripe);
+		}
+	}
+
+	public V get(long k0, long k1)
+	{
+		long h = hash(k0, k1);
+		return stripeFor(h).get(k0, k1, (int) h);
+	}
+
+	public V put(long k0, long k1, V value, boolean onlyIfAbsent)
+	{
+		long h = hash(k0, k1);
+		return stripeFor(h).put(k0, k1, (int) h, value, onlyIfAbsent);
+	}
+
+	public V remove(long k0, long k1)
+	{
+		long h = hash(k0, k1);
+		return stripeFor(h).remove(k0, k1, (int) h);
+	}
+
+	public int size()
+	{
+		int size = 0;
+
+		for (Stripe<V> stripe : stripes)
+		{
+			size += stripe.size();
+		}
+
+		return size;
+	}
+
+	public void clear()
+	{
+		for (Stripe<V> stripe : stripes)
+		{
+			stripe.clear();
+		}
+	}
+
+	public void addValuesTo(List<V> values)
+	{
+		for (Stripe<V> stripe : stripes)
+		{
+			stripe.addValuesTo(values);
+		}
+	}
+
+
+	// SECTION: UTILITY
+
+	private Stripe<V> stripeFor(long hash)
+	{
+		return stripes[(int) (hash >>> stripeShift)];
+	}
+
+	private long hash(long k0, long k1)
+	{
+		return mix(width == 1 ? k0 : k0 * 31 + mix(k1));
+	}
+
+	/**
+	 * The MurmurHash3 64-bit finalizer, so that sequential keys spread across stripes and slots.
+	 */
+	private static long mix(long k)
+	{
+		k ^= (k >>> 33);
+		k *= 0xff51afd7ed558ccdL;
+		k ^= (k >>> 33);
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= (k >>> 33);
+		return k;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static final class Stripe<V>
+	{
+		private static final float LOAD_FACTOR = 0.75f;
+
+		private final int width;
+		private long[] keys;
+		private int[] hashes;
+		private Object[] values;
+		private int size = 0;
+		private int mask;
+
+		public Stripe(int width, int capacity)
+		{
+			super();
+			this.width = width;
+			allocate(capacity);
+		}
+
+		@SuppressWarnings("unchecked")
+		public synchronized V get(long k0, long k1, int hash)
+		{
+			int i = indexOf(k0, k1, hash);
+			return (i < 0 ? null : (V) values[i]);
+		}
+
+		@SuppressWarnings("unchecked")
+		public synchronized V put(long k0, long k1, int hash, V value, boolean onlyIfAbsent)
+		{
+			int i = indexOf(k0, k1, hash);
+
+			if (i >= 0)
+			{
+				V previous = (V) values[i];
+
+				if (!onlyIfAbsent)
+				{
+					values[i] = value;
+				}
+
+				return previous;
+			}
+
+			if (size + 1 > values.length * LOAD_FACTOR)
+			{
+				resize();
+				i = indexOf(k0, k1, hash);
+			}
+
+			store(-(i + 1), k0, k1, hash, value);
+			++size;
+			return null;
+		}
+
+		@SuppressWarnings("unchecked")
+		public synchronized V remove(long k0, long k1, int hash)
+		{
+			int i = indexOf(k0, k1, hash);
+
+			if (i < 0) return null;
+
+			V previous = (V) values[i];
+			deleteAt(i);
+			--size;
+			return previous;
+		}
+
+		public synchronized int size()
+		{
+			return size;
+		}
+
+		public synchronized void clear()
+		{
+			allocate(MIN_STRIPE_CAPACITY);
+			size = 0;
+		}
+
+		@SuppressWarnings("unchecked")
+		public synchronized void addValuesTo(List<V> list)
+		{
+			for (Object value : values)
+			{
+				if (value != null)
+				{
+					list.add((V) value);
+				}
+			}
+		}
+
+		/**
+		 * Returns the slot holding the key or, if absent, -(slot + 1) of the empty slot that ends its probe.
+		 */
+		private int indexOf(long k0, long k1, int hash)
+		{
+			int i = hash & mask;
+
+			while (values[i] != null)
+			{
+				if (hashes[i] == hash && keys[i * width] == k0 && (width == 1 || keys[i * width + 1] == k1))
+				{
+					return i;
+				}
+
+				i = (i + 1) & mask;
+			}
+
+			return -(i + 1);
+		}
+
+		private void store(int i, long k0, long k1, int hash, Object value)
+		{
+			keys[i * width] = k0;
+
+			if (width > 1)
+			{
+				keys[i * width + 1] = k1;
+			}
+
+			hashes[i] = hash;
+			values[i] = value;
+		}
+
+		/**
+		 * Empties the slot, shifting back any later entries in the probe sequence that would
+		 * otherwise become unreachable.
+		 */
+		private void deleteAt(int i)
+		{
+			int j = i;
+
+			while (true)
+			{
+				j = (j + 1) & mask;
+
+				if (values[j] == null) break;
+
+				int home = hashes[j] & mask;
+
+				// Move the entry at j back to i, unless its home slot lies cyclically in (i, j].
+				boolean isReachable = (i <= j ? (i < home && home <= j) : (i < home || home <= j));
+
+				if (!isReachable)
+				{
+					store(i, keys[j * width], (width > 1 ? keys[j * width + 1] : 0L), hashes[j], values[j]);
+					i = j;
+				}
+			}
+
+			values[i] = null;
+		}
+
+		private void resize()
+		{
+			long[] oldKeys = keys;
+			int[] oldHashes = hashes;
+			Object[] oldValues = values;
+			allocate(oldValues.length * 2);
+
+			for (int j = 0; j < oldValues.length; j++)
+			{
+				if (oldValues[j] == null) continue;
+
+				int i = -(indexOf(oldKeys[j * width], (width > 1 ? oldKeys[j * width + 1] : 0L), oldHashes[j]) + 1);
+				store(i, oldKeys[j * width], (width > 1 ? oldKeys[j * width + 1] : 0L), oldHashes[j], oldValues[j]);
+			}
+		}
+
+		private void allocate(int capacity)
+		{
+			keys = new long[capacity * width];
+			hashes = new int[capacity];
+			values = new Object[capacity];
+			mask = capacity - 1;
+		}
+	}
+}
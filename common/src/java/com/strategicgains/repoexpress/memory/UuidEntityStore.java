@@ -0,0 +1,125 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * A high-density EntityStore for entities identified by a single UUID. Each ID is held as its
+ * two primitive longs in a striped, open-addressed table, rather than as an Identifier key of a
+ * map, which suits stores of millions of entities.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class UuidEntityStore<T extends Identifiable>
+implements EntityStore<T>
+{
+	private StripedKeyTable<T> table;
+
+	public UuidEntityStore()
+	{
+		this(0);
+	}
+
+	/**
+	 * @param expectedSize the number of entities to presize for.
+	 */
+	public UuidEntityStore(int expectedSize)
+	{
+		super();
+		this.table = new StripedKeyTable<T>(2, expectedSize);
+	}
+
+	@Override
+	public boolean supports(Identifier id)
+	{
+		return (id != null && id.size() == 1 && id.primaryKey() instanceof UUID);
+	}
+
+	@Override
+	public T get(Identifier id)
+	{
+		if (!supports(id)) return null;
+
+		UUID uuid = (UUID) id.primaryKey();
+		return table.get(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits());
+	}
+
+	@Override
+	public boolean contains(Identifier id)
+	{
+		return (get(id) != null);
+	}
+
+	@Override
+	public boolean put(T entity)
+	{
+		UUID uuid = requireUuid(entity.getId());
+		return (table.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), entity, false) != null);
+	}
+
+	@Override
+	public boolean putIfAbsent(T entity)
+	{
+		UUID uuid = requireUuid(entity.getId());
+		return (table.put(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits(), entity, true) == null);
+	}
+
+	@Override
+	public boolean remove(Identifier id)
+	{
+		if (!supports(id)) return false;
+
+		UUID uuid = (UUID) id.primaryKey();
+		return (table.remove(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()) != null);
+	}
+
+	@Override
+	public int size()
+	{
+		return table.size();
+	}
+
+	@Override
+	public void clear()
+	{
+		table.clear();
+	}
+
+	@Override
+	public List<T> values()
+	{
+		List<T> values = new ArrayList<T>(table.size());
+		table.addValuesTo(values);
+		return values;
+	}
+
+
+	// SECTION: UTILITY
+
+	private UUID requireUuid(Identifier id)
+	{
+		if (!supports(id)) throw new IllegalArgumentException("Not a single UUID ID: " + id);
+
+		return (UUID) id.primaryKey();
+	}
+}
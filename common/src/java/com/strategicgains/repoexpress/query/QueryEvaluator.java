@@ -0,0 +1,369 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.query;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.restexpress.common.query.FilterCallback;
+import org.restexpress.common.query.FilterComponent;
+import org.restexpress.common.query.OrderCallback;
+import org.restexpress.common.query.OrderComponent;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Evaluates QueryFilter and QueryOrder criteria against entities in memory, with semantics
+ * close to those of the back-end stores, for in-memory querying and cache invalidation.
+ * <p/>
+ * Properties are read via a getter (getName() or isName()), or else the field itself, and
+ * dotted names traverse nested objects. The names "id" and "_id" refer to the primary key
+ * of the entity's Identifier. Numbers of differing types compare by value, enums compare
+ * equal to their names and nulls sort first.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public final class QueryEvaluator
+{
+	private static final String ID_PROPERTY = "id";
+	private static final String MONGO_ID_PROPERTY = "_id";
+	private static final ClassValue<ConcurrentMap<String, Accessor>> ACCESSORS = new ClassValue<ConcurrentMap<String, Accessor>>()
+	{
+		@Override
+		protected ConcurrentMap<String, Accessor> computeValue(Class<?> type)
+		{
+			return new ConcurrentHashMap<String, Accessor>();
+		}
+	};
+	private static final Accessor MISSING = new Accessor(null, null);
+
+	private QueryEvaluator()
+	{
+		// prevents instantiation.
+	}
+
+	/**
+	 * Returns true if the entity satisfies every criterion of the filter. A null or empty
+	 * filter matches every entity.
+	 */
+	public static boolean matches(QueryFilter filter, final Object entity)
+	{
+		if (filter == null) return true;
+
+		final boolean[] matches = {true};
+
+		filter.iterate(new FilterCallback()
+		{
+			@Override
+			public void filterOn(FilterComponent c)
+			{
+				if (matches[0] && !matches(c, getProperty(entity, c.getField())))
+				{
+					matches[0] = false;
+				}
+			}
+		});
+
+		return matches[0];
+	}
+
+	/**
+	 * Returns a Comparator that sorts entities per the order. A null or unsorted order
+	 * compares all entities as equal.
+	 */
+	public static <T> Comparator<T> comparator(QueryOrder order)
+	{
+		final List<OrderComponent> sorts = new ArrayList<OrderComponent>();
+
+		if (order != null && order.isSorted())
+		{
+			order.iterate(new OrderCallback()
+			{
+				@Override
+				public void orderBy(OrderComponent component)
+				{
+					sorts.add(component);
+				}
+			});
+		}
+
+		return new Comparator<T>()
+		{
+			@Override
+			public int compare(T a, T b)
+			{
+				for (OrderComponent sort : sorts)
+				{
+					int result = compareValues(getProperty(a, sort.getFieldName()), getProperty(b, sort.getFieldName()));
+
+					if (result != 0) return (sort.isDescending() ? -result : result);
+				}
+
+				return 0;
+			}
+		};
+	}
+
+	/**
+	 * Returns the value of the (possibly dotted) property of the object, or null if the
+	 * property, or any object along its path, is null or doesn't exist.
+	 */
+	public static Object getProperty(Object object, String name)
+	{
+		if (object == null || name == null) return null;
+
+		if (object instanceof Identifiable && (ID_PROPERTY.equals(name) || MONGO_ID_PROPERTY.equals(name)))
+		{
+			Identifier id = ((Identifiable) object).getId();
+			return (id == null ? null : id.primaryKey());
+		}
+
+		int dot = name.indexOf('.');
+
+		if (dot > 0)
+		{
+			return getProperty(getProperty(object, name.substring(0, dot)), name.substring(dot + 1));
+		}
+
+		return accessorFor(object.getClass(), name).get(object);
+	}
+
+	/**
+	 * Compares two property values, sorting nulls first. Numbers compare by value, enums
+	 * compare to Strings by name and otherwise incomparable values compare by toString().
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public static int compareValues(Object a, Object b)
+	{
+		if (a == b) return 0;
+		if (a == null) return -1;
+		if (b == null) return 1;
+
+		if (a instanceof Number && b instanceof Number)
+		{
+			return compareNumbers((Number) a, (Number) b);
+		}
+
+		if (a instanceof Enum && b instanceof String) return ((Enum) a).name().compareTo((String) b);
+		if (a instanceof String && b instanceof Enum) return ((String) a).compareTo(((Enum) b).name());
+
+		if (a instanceof Comparable && a.getClass().isInstance(b))
+		{
+			return ((Comparable) a).compareTo(b);
+		}
+
+		return a.toString().compareTo(b.toString());
+	}
+
+
+	// SECTION: UTILITY
+
+	private static boolean matches(FilterComponent c, Object value)
+	{
+		Object operand = c.getValue();
+
+		switch (c.getOperator())
+		{
+			case CONTAINS:
+				return (value != null && operand != null && value.toString().contains(operand.toString()));
+			case STARTS_WITH:
+				return (value != null && operand != null && value.toString().startsWith(operand.toString()));
+			case GREATER_THAN:
+				return (value != null && operand != null && compareValues(value, operand) > 0);
+			case GREATER_THAN_OR_EQUAL_TO:
+				return (value != null && operand != null && compareValues(value, operand) >= 0);
+			case LESS_THAN:
+				return (value != null && operand != null && compareValues(value, operand) < 0);
+			case LESS_THAN_OR_EQUAL_TO:
+				return (value != null && operand != null && compareValues(value, operand) <= 0);
+			case NOT_EQUALS:
+				return !isEqual(value, operand);
+			case IN:
+				return isIn(value, operand);
+			case EQUALS:
+			default:
+				return isEqual(value, operand);
+		}
+	}
+
+	private static boolean isEqual(Object value, Object operand)
+	{
+		if (value == null || operand == null) return (value == operand);
+
+		if (value instanceof Collection && !(operand instanceof Collection))
+		{
+			// Like MongoDB, equality against an array property matches any element.
+			for (Object element : (Collection<?>) value)
+			{
+				if (isEqual(element, operand)) return true;
+			}
+
+			return false;
+		}
+
+		return (value.equals(operand) || compareValues(value, operand) == 0 && isComparable(value, operand));
+	}
+
+	private static boolean isComparable(Object a, Object b)
+	{
+		return (a instanceof Number && b instanceof Number)
+			|| (a instanceof Enum && b instanceof String)
+			|| (a instanceof String && b instanceof Enum)
+			|| (a instanceof Comparable && a.getClass().isInstance(b));
+	}
+
+	private static boolean isIn(Object value, Object operand)
+	{
+		if (operand instanceof Iterable)
+		{
+			for (Object candidate : (Iterable<?>) operand)
+			{
+				if (isEqual(value, candidate)) return true;
+			}
+
+			return false;
+		}
+
+		if (operand instanceof Object[])
+		{
+			for (Object candidate : (Object[]) operand)
+			{
+				if (isEqual(value, candidate)) return true;
+			}
+
+			return false;
+		}
+
+		return isEqual(value, operand);
+	}
+
+	private static int compareNumbers(Number a, Number b)
+	{
+		if (isIntegral(a) && isIntegral(b))
+		{
+			long x = a.longValue();
+			long y = b.longValue();
+			return (x < y ? -1 : (x == y ? 0 : 1));
+		}
+
+		return Double.compare(a.doubleValue(), b.doubleValue());
+	}
+
+	private static boolean isIntegral(Number n)
+	{
+		return (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte);
+	}
+
+	private static Accessor accessorFor(Class<?> type, String name)
+	{
+		ConcurrentMap<String, Accessor> accessors = ACCESSORS.get(type);
+		Accessor accessor = accessors.get(name);
+
+		if (accessor == null)
+		{
+			accessor = Accessor.find(type, name);
+			Accessor existing = accessors.putIfAbsent(name, accessor);
+
+			if (existing != null) accessor = existing;
+		}
+
+		return accessor;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Reads a single property via its getter or field.
+	 */
+	private static class Accessor
+	{
+		private Method getter;
+		private Field field;
+
+		public Accessor(Method getter, Field field)
+		{
+			super();
+			this.getter = getter;
+			this.field = field;
+		}
+
+		public static Accessor find(Class<?> type, String name)
+		{
+			String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+			for (String prefix : new String[] {"get", "is"})
+			{
+				try
+				{
+					Method getter = type.getMethod(prefix + suffix);
+
+					if (getter.getReturnType() != void.class)
+					{
+						getter.setAccessible(true);
+						return new Accessor(getter, null);
+					}
+				}
+				catch (NoSuchMethodException e)
+				{
+					// try the next.
+				}
+			}
+
+			for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass())
+			{
+				try
+				{
+					Field field = c.getDeclaredField(name);
+					field.setAccessible(true);
+					return new Accessor(null, field);
+				}
+				catch (NoSuchFieldException e)
+				{
+					// try the superclass.
+				}
+			}
+
+			return MISSING;
+		}
+
+		public Object get(Object object)
+		{
+			try
+			{
+				if (getter != null) return getter.invoke(object);
+				if (field != null) return field.get(object);
+
+				return null;
+			}
+			catch (Exception e)
+			{
+				throw new RepositoryException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,42 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.util;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+/**
+ * An Iterator over a server-side cursor or other resource that must be released when
+ * iteration is finished, even if it is abandoned part way. Use with try-with-resources:
+ * <pre>
+ * try (CloseableIterator&lt;Order&gt; orders = repository.stream(filter, null, order))
+ * {
+ *     while (orders.hasNext()) export(orders.next());
+ * }
+ * </pre>
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public interface CloseableIterator<T>
+extends Iterator<T>, Closeable
+{
+	/**
+	 * Releases the underlying cursor. Idempotent.
+	 */
+	@Override
+	public void close();
+}
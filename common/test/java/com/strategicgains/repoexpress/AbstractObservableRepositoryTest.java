@@ -0,0 +1,194 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.event.RepositoryObserver;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class AbstractObservableRepositoryTest
+{
+	private InMemoryRepository<TestEntity> repository;
+	private List<String> events;
+
+	@Before
+	public void setup()
+	{
+		repository = new InMemoryRepository<TestEntity>(){};
+		events = new ArrayList<String>();
+	}
+
+	@Test
+	public void shouldNotifyOverriddenSingleItemMethodForBatch()
+	{
+		repository.addObserver(new AbstractRepositoryObserver<TestEntity>()
+		{
+			@Override
+			public void afterCreate(TestEntity object)
+			{
+				events.add("afterCreate " + object.getName());
+			}
+		});
+
+		repository.createAll(Arrays.asList(new TestEntity("a"), new TestEntity("b")));
+		assertEquals(Arrays.asList("afterCreate a", "afterCreate b"), events);
+	}
+
+	@Test
+	public void shouldNotifyPlainObserverOfEachItemInBatch()
+	{
+		repository.addObserver(new PlainObserver());
+
+		Identifier id = repository.createAll(Arrays.asList(new TestEntity("a"), new TestEntity("b"))).getSucceeded().get(0).getId();
+		repository.readList(Arrays.asList(id));
+		assertEquals(Arrays.asList("beforeCreate a", "beforeCreate b", "afterCreate a", "afterCreate b", "beforeRead", "afterRead a"), events);
+	}
+
+	@Test
+	public void shouldNotifyInOrderOfAddition()
+	{
+		repository.addObserver(new NamedObserver("first"));
+		repository.addObserver(new NamedObserver("second"));
+		repository.create(new TestEntity("a"));
+		assertEquals(Arrays.asList("first", "second"), events);
+	}
+
+	@Test
+	public void shouldRemoveObservers()
+	{
+		NamedObserver first = new NamedObserver("first");
+		repository.addObserver(first);
+		repository.addObserver(new NamedObserver("second"));
+		assertTrue(repository.removeObserver(first));
+		assertFalse(repository.removeObserver(first));
+		assertEquals(1, repository.getObservers().size());
+
+		repository.create(new TestEntity("a"));
+		assertEquals(Arrays.asList("second"), events);
+
+		repository.clearObservers();
+		repository.create(new TestEntity("b"));
+		assertEquals(1, events.size());
+	}
+
+	@Test
+	public void shouldAllowObserverRemovalDuringNotification()
+	{
+		repository.addObserver(new AbstractRepositoryObserver<TestEntity>()
+		{
+			@Override
+			public void beforeCreate(TestEntity object)
+			{
+				repository.removeObserver(this);
+				events.add("removed");
+			}
+		});
+		repository.addObserver(new NamedObserver("second"));
+
+		repository.create(new TestEntity("a"));
+		repository.create(new TestEntity("b"));
+		assertEquals(Arrays.asList("removed", "second", "second"), events);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private class NamedObserver
+	extends AbstractRepositoryObserver<TestEntity>
+	{
+		private String name;
+
+		public NamedObserver(String name)
+		{
+			super();
+			this.name = name;
+		}
+
+		@Override
+		public void afterCreate(TestEntity object)
+		{
+			events.add(name);
+		}
+	}
+	/**
+	 * Implements RepositoryObserver directly, as observers written before batch
+	 * notifications were introduced do.
+	 */
+	private class PlainObserver
+	implements RepositoryObserver<TestEntity>
+	{
+		@Override
+		public void afterCreate(TestEntity object)
+		{
+			events.add("afterCreate " + object.getName());
+		}
+
+		@Override
+		public void afterDelete(TestEntity object)
+		{
+		}
+
+		@Override
+		public void afterRead(TestEntity object)
+		{
+			events.add("afterRead " + object.getName());
+		}
+
+		@Override
+		public void afterUpdate(TestEntity object)
+		{
+		}
+
+		@Override
+		public void beforeCreate(TestEntity object)
+		{
+			events.add("beforeCreate " + object.getName());
+		}
+
+		@Override
+		public void beforeDelete(TestEntity object)
+		{
+		}
+
+		@Override
+		public void beforeRead(Identifier id)
+		{
+			events.add("beforeRead");
+		}
+
+		@Override
+		public void beforeUpdate(TestEntity object)
+		{
+		}
+	}
+}
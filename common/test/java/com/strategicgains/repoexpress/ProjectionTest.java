@@ -0,0 +1,67 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class ProjectionTest
+{
+	@Test
+	public void shouldNormalize()
+	{
+		Projection p = Projection.of("name", "email", "name");
+		assertEquals(Arrays.asList("email", "name"), p.getFields());
+		assertEquals(p, Projection.of(Arrays.asList("email", "name")));
+		assertEquals(p.hashCode(), Projection.of("email", "name").hashCode());
+		assertEquals("email,name", p.toString());
+		assertTrue(p.includes("email"));
+		assertFalse(p.includes("phone"));
+	}
+
+	@Test
+	public void shouldAllowNestedProperties()
+	{
+		assertTrue(Projection.of("address.city").includes("address.city"));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectEmpty()
+	{
+		Projection.of();
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectInjection()
+	{
+		Projection.of("name from users; drop table users");
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectNull()
+	{
+		Projection.of("name", null);
+	}
+}
@@ -0,0 +1,169 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class ExecutorAsyncRepositoryTest
+{
+	private InMemoryRepository<TestEntity> blocking;
+	private ExecutorAsyncRepository<TestEntity> repository;
+
+	@Before
+	public void setup()
+	{
+		blocking = new InMemoryRepository<TestEntity>(){};
+		repository = new ExecutorAsyncRepository<TestEntity>(blocking, 2, 10);
+	}
+
+	@After
+	public void teardown()
+	{
+		repository.shutdown();
+	}
+
+	@Test
+	public void shouldCreateReadUpdateAndDelete()
+	{
+		TestEntity created = repository.createAsync(new TestEntity("a")).join();
+		assertEquals("a", repository.readAsync(created.getId()).join().getName());
+
+		created.setName("b");
+		repository.updateAsync(created).join();
+		List<TestEntity> read = repository.readListAsync(Arrays.asList(created.getId())).join();
+		assertEquals(1, read.size());
+		assertEquals("b", read.get(0).getName());
+
+		assertNull(repository.deleteAsync(created).join());
+		assertFalse(blocking.exists(created.getId()));
+	}
+
+	@Test
+	public void shouldFailFutureOnRepositoryException()
+	throws InterruptedException
+	{
+		RepositoryFuture<TestEntity> future = repository.readAsync(new Identifier("missing"));
+
+		try
+		{
+			future.get();
+			fail("Expected ExecutionException");
+		}
+		catch (ExecutionException e)
+		{
+			assertTrue(e.getCause() instanceof ItemNotFoundException);
+		}
+	}
+
+	@Test
+	public void shouldNotifyCallbacks()
+	throws InterruptedException
+	{
+		final CountDownLatch latch = new CountDownLatch(1);
+		final TestEntity[] seen = new TestEntity[1];
+		repository.createAsync(new TestEntity("a")).addCallback(new ResultCallback<TestEntity>()
+		{
+			@Override
+			public void onSuccess(TestEntity result)
+			{
+				seen[0] = result;
+				latch.countDown();
+			}
+
+			@Override
+			public void onFailure(Throwable cause)
+			{
+				latch.countDown();
+			}
+		});
+
+		assertTrue(latch.await(5, TimeUnit.SECONDS));
+		assertEquals("a", seen[0].getName());
+	}
+
+	@Test
+	public void shouldRejectWhenSaturated()
+	throws InterruptedException
+	{
+		final CountDownLatch release = new CountDownLatch(1);
+		InMemoryRepository<TestEntity> slow = new InMemoryRepository<TestEntity>()
+		{
+			@Override
+			public TestEntity doCreate(TestEntity item)
+			{
+				try
+				{
+					release.await();
+				}
+				catch (InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+				}
+
+				return super.doCreate(item);
+			}
+		};
+		ExecutorAsyncRepository<TestEntity> bounded = new ExecutorAsyncRepository<TestEntity>(slow,
+			new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(1)));
+
+		RepositoryFuture<TestEntity> running = bounded.createAsync(new TestEntity("a"));
+		RepositoryFuture<TestEntity> queued = bounded.createAsync(new TestEntity("b"));
+		RepositoryFuture<TestEntity> rejected = bounded.createAsync(new TestEntity("c"));
+
+		assertTrue(rejected.isDone());
+
+		try
+		{
+			rejected.join();
+			fail("Expected RepositoryException");
+		}
+		catch (RepositoryException e)
+		{
+			// expected
+		}
+
+		release.countDown();
+		assertTrue(slow.exists(running.join().getId()));
+		assertTrue(slow.exists(queued.join().getId()));
+		bounded.shutdown();
+	}
+}
@@ -0,0 +1,101 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class RepositoryFutureTest
+{
+	@Test
+	public void shouldCompleteOnlyOnce()
+	{
+		RepositoryFuture<String> future = new RepositoryFuture<String>();
+		assertTrue(future.complete("a"));
+		assertFalse(future.complete("b"));
+		assertFalse(future.fail(new RuntimeException()));
+		assertEquals("a", future.join());
+	}
+
+	@Test
+	public void shouldNotifyCallbackAddedAfterCompletion()
+	{
+		final String[] seen = new String[1];
+		RepositoryFuture.completed("a").addCallback(new ResultCallback<String>()
+		{
+			@Override
+			public void onSuccess(String result)
+			{
+				seen[0] = result;
+			}
+
+			@Override
+			public void onFailure(Throwable cause)
+			{
+			}
+		});
+
+		assertEquals("a", seen[0]);
+	}
+
+	@Test
+	public void shouldRethrowRuntimeExceptionFromJoin()
+	{
+		RepositoryException cause = new RepositoryException("boom");
+
+		try
+		{
+			RepositoryFuture.failed(cause).join();
+			fail("Expected RepositoryException");
+		}
+		catch (RepositoryException e)
+		{
+			assertSame(cause, e);
+		}
+	}
+
+	@Test(expected=CancellationException.class)
+	public void shouldCancel()
+	{
+		RepositoryFuture<String> future = new RepositoryFuture<String>();
+		assertTrue(future.cancel(true));
+		assertTrue(future.isCancelled());
+		assertFalse(future.complete("a"));
+		future.join();
+	}
+
+	@Test(expected=TimeoutException.class)
+	public void shouldTimeOut()
+	throws Exception
+	{
+		new RepositoryFuture<String>().get(10, TimeUnit.MILLISECONDS);
+	}
+}
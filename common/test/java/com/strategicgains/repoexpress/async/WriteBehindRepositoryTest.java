@@ -0,0 +1,229 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.async;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.event.BackpressurePolicy;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class WriteBehindRepositoryTest
+{
+	@Test
+	public void shouldCoalesceUpdatesAndFlushOnShutdown()
+	{
+		UpdateCounter counter = new UpdateCounter();
+		InMemoryRepository<TestEntity> backend = newBackend(counter);
+		TestEntity a = backend.create(new TestEntity("a"));
+		WriteBehindRepository<TestEntity> repository = new WriteBehindRepository<TestEntity>(backend, 100, BackpressurePolicy.BLOCK, 100, 1, TimeUnit.HOURS);
+
+		for (int i = 0; i < 10; i++)
+		{
+			repository.update(copyOf(a, "a" + i));
+		}
+
+		assertEquals(0, counter.updates.get());
+		assertEquals(1, repository.getBufferedSize());
+		assertEquals(10, repository.getBufferedCount());
+		assertEquals(9, repository.getCoalescedCount());
+
+		repository.shutdown();
+		assertEquals(1, counter.updates.get());
+		assertEquals(1, repository.getFlushedCount());
+		assertEquals(0, repository.getBufferedSize());
+		assertEquals("a9", backend.read(a.getId()).getName());
+	}
+
+	@Test
+	public void shouldReadBufferedUpdates()
+	{
+		InMemoryRepository<TestEntity> backend = newBackend(new UpdateCounter());
+		TestEntity a = backend.create(new TestEntity("a"));
+		TestEntity b = backend.create(new TestEntity("b"));
+		WriteBehindRepository<TestEntity> repository = new WriteBehindRepository<TestEntity>(backend, 100, BackpressurePolicy.BLOCK, 100, 1, TimeUnit.HOURS);
+
+		TestEntity updated = copyOf(a, "updated");
+		repository.update(updated);
+		assertSame(updated, repository.read(a.getId()));
+		assertEquals("a", backend.read(a.getId()).getName());
+		assertEquals(2, repository.readList(Arrays.asList(a.getId(), b.getId())).size());
+		assertEquals("updated", repository.readList(Arrays.asList(a.getId(), b.getId())).get(0).getName());
+
+		repository.delete(a.getId());
+		assertFalse(repository.exists(a.getId()));
+		assertEquals(0, repository.getBufferedSize());
+		repository.shutdown();
+		assertFalse(backend.exists(a.getId()));
+	}
+
+	@Test
+	public void shouldReadUpdatesBeingFlushed()
+	{
+		InMemoryRepository<TestEntity> backend = newBackend(new UpdateCounter());
+		final TestEntity a = backend.create(new TestEntity("a"));
+		final WriteBehindRepository<TestEntity> repository = new WriteBehindRepository<TestEntity>(backend, 100, BackpressurePolicy.BLOCK, 100, 1, TimeUnit.HOURS);
+		final List<String> seen = new ArrayList<String>();
+		backend.addObserver(new AbstractRepositoryObserver<TestEntity>()
+		{
+			@Override
+			public void beforeUpdate(TestEntity object)
+			{
+				seen.add(repository.read(a.getId()).getName());
+			}
+		});
+
+		repository.update(copyOf(a, "updated"));
+		repository.flush();
+		assertEquals(Arrays.asList("updated"), seen);
+		assertEquals("updated", repository.read(a.getId()).getName());
+		repository.shutdown();
+	}
+
+	@Test
+	public void shouldFlushWhenFlushSizeReached()
+	throws InterruptedException
+	{
+		UpdateCounter counter = new UpdateCounter();
+		InMemoryRepository<TestEntity> backend = newBackend(counter);
+		WriteBehindRepository<TestEntity> repository = new WriteBehindRepository<TestEntity>(backend, 100, BackpressurePolicy.BLOCK, 5, 1, TimeUnit.HOURS);
+
+		for (int i = 0; i < 5; i++)
+		{
+			repository.update(backend.create(new TestEntity("e" + i)));
+		}
+
+		long deadline = System.currentTimeMillis() + 5000L;
+
+		while (repository.getFlushedCount() < 5 && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10L);
+		}
+
+		assertEquals(5, repository.getFlushedCount());
+		assertEquals(1, repository.getFlushCount());
+		assertEquals(5, counter.updates.get());
+		repository.shutdown();
+	}
+
+	@Test
+	public void shouldApplyBackpressurePolicyWhenFull()
+	{
+		UpdateCounter counter = new UpdateCounter();
+		InMemoryRepository<TestEntity> backend = newBackend(counter);
+		TestEntity a = backend.create(new TestEntity("a"));
+		TestEntity b = backend.create(new TestEntity("b"));
+		TestEntity c = backend.create(new TestEntity("c"));
+
+		WriteBehindRepository<TestEntity> dropping = new WriteBehindRepository<TestEntity>(backend, 1, BackpressurePolicy.DROP, 10, 1, TimeUnit.HOURS);
+		dropping.update(a);
+		dropping.update(b);
+		dropping.update(a);
+		assertEquals(1, dropping.getDroppedCount());
+		assertEquals(1, dropping.getCoalescedCount());
+
+		BatchResult<TestEntity> result = dropping.updateAll(Arrays.asList(a, c));
+		assertEquals(1, result.getSucceeded().size());
+		assertEquals(1, result.getFailures().size());
+		assertSame(c, result.getFailures().get(0).getItem());
+		dropping.shutdown();
+		assertEquals(1, counter.updates.get());
+
+		WriteBehindRepository<TestEntity> writeThrough = new WriteBehindRepository<TestEntity>(backend, 1, BackpressurePolicy.CALLER_RUNS, 10, 1, TimeUnit.HOURS);
+		writeThrough.update(a);
+		writeThrough.update(b);
+		assertEquals(2, counter.updates.get());
+		assertEquals(0, writeThrough.getDroppedCount());
+		writeThrough.shutdown();
+		assertEquals(3, counter.updates.get());
+	}
+
+	@Test
+	public void shouldRequeueWhenFlushFails()
+	{
+		UpdateCounter counter = new UpdateCounter();
+		InMemoryRepository<TestEntity> backend = newBackend(counter);
+		TestEntity a = backend.create(new TestEntity("a"));
+		WriteBehindRepository<TestEntity> repository = new WriteBehindRepository<TestEntity>(backend, 10, BackpressurePolicy.BLOCK, 10, 1, TimeUnit.HOURS);
+
+		repository.update(a);
+		counter.fail = true;
+		repository.flush();
+		assertEquals(1, repository.getFailureCount());
+		assertEquals(1, repository.getBufferedSize());
+
+		counter.fail = false;
+		repository.shutdown();
+		assertEquals(0, repository.getBufferedSize());
+		assertEquals(1, repository.getFlushedCount());
+	}
+
+
+	// SECTION: UTILITY
+
+	private TestEntity copyOf(TestEntity entity, String name)
+	{
+		TestEntity copy = new TestEntity(name);
+		copy.setId(entity.getId());
+		return copy;
+	}
+
+	private InMemoryRepository<TestEntity> newBackend(UpdateCounter counter)
+	{
+		InMemoryRepository<TestEntity> backend = new InMemoryRepository<TestEntity>(){};
+		backend.addObserver(counter);
+		return backend;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class UpdateCounter
+	extends AbstractRepositoryObserver<TestEntity>
+	{
+		private AtomicInteger updates = new AtomicInteger(0);
+		private volatile boolean fail = false;
+
+		@Override
+		public void beforeUpdate(TestEntity object)
+		{
+			if (fail) throw new IllegalStateException("Unavailable");
+		}
+
+		@Override
+		public void afterUpdate(TestEntity object)
+		{
+			updates.incrementAndGet();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class BloomFilterTest
+{
+	@Test
+	public void shouldContainEverythingPut()
+	{
+		BloomFilter filter = new BloomFilter(100, 0.01);
+
+		for (int i = 0; i < 1000; i++)
+		{
+			filter.put(new Identifier("id-" + i));
+		}
+
+		for (int i = 0; i < 1000; i++)
+		{
+			assertTrue(filter.mightContain(new Identifier("id-" + i)));
+		}
+	}
+
+	@Test
+	public void shouldStayNearTargetRateWhenGrown()
+	{
+		BloomFilter filter = new BloomFilter(1000, 0.01);
+
+		for (int i = 0; i < 10000; i++)
+		{
+			filter.put(new Identifier(i));
+		}
+
+		int falsePositives = 0;
+
+		for (int i = 10000; i < 30000; i++)
+		{
+			if (filter.mightContain(new Identifier(i))) ++falsePositives;
+		}
+
+		assertTrue("False positives: " + falsePositives, falsePositives < 20000 * 0.02);
+		assertTrue(filter.expectedFalsePositiveRate() <= 0.01);
+	}
+
+	@Test
+	public void shouldHashConsistentlyWithEquality()
+	{
+		BloomFilter filter = new BloomFilter(10, 0.01);
+		filter.put(new Identifier("42"));
+		assertTrue(filter.mightContain(new Identifier(42)));
+	}
+
+	@Test
+	public void shouldClear()
+	{
+		BloomFilter filter = new BloomFilter(10, 0.01);
+		filter.put(new Identifier("a"));
+		assertEquals(1, filter.approximateCount());
+		filter.clear();
+		assertFalse(filter.mightContain(new Identifier("a")));
+		assertEquals(0, filter.approximateCount());
+	}
+}
@@ -0,0 +1,160 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CachingQueryableTest
+{
+	private static final QueryFilter A = new QueryFilter().addCriteria("name", FilterOperator.STARTS_WITH, "a");
+	private static final QueryFilter B = new QueryFilter().addCriteria("name", FilterOperator.STARTS_WITH, "b");
+	private static final QueryOrder BY_NAME = new QueryOrder().addSort("name");
+
+	private QueryableRepository repository;
+	private CachingQueryable<TestEntity> cache;
+
+	@Before
+	public void setup()
+	{
+		repository = new QueryableRepository();
+		repository.create(new TestEntity("apple"));
+		repository.create(new TestEntity("avocado"));
+		repository.create(new TestEntity("banana"));
+		cache = new CachingQueryable<TestEntity>(repository, 100);
+	}
+
+	@Test
+	public void shouldCacheResults()
+	{
+		assertEquals(2, cache.readAll(A, null, BY_NAME).size());
+		assertEquals(2, cache.readAll(A, null, BY_NAME).size());
+		assertEquals(1, repository.queries);
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void shouldPreserveOrderWhenCachingIds()
+	{
+		cache.readAll(A, null, new QueryOrder().addSort("-name"));
+		List<TestEntity> results = cache.readAll(A, null, new QueryOrder().addSort("-name"));
+		assertEquals("avocado", results.get(0).getName());
+		assertEquals("apple", results.get(1).getName());
+	}
+
+	@Test
+	public void shouldReturnCurrentStateWhenCachingIds()
+	{
+		List<TestEntity> results = cache.readAll(A, null, BY_NAME);
+		TestEntity updated = new TestEntity("apricot");
+		updated.setId(results.get(0).getId());
+		repository.replace(updated);
+		assertEquals("apricot", cache.readAll(A, null, BY_NAME).get(0).getName());
+		assertEquals(1, repository.queries);
+	}
+
+	@Test
+	public void shouldInvalidateOnlyAffectedQueries()
+	{
+		cache.readAll(A, null, BY_NAME);
+		cache.readAll(B, null, BY_NAME);
+		repository.create(new TestEntity("blueberry"));
+		assertEquals(2, cache.readAll(B, null, BY_NAME).size());
+		assertEquals(2, cache.readAll(A, null, BY_NAME).size());
+		assertEquals(3, repository.queries);
+	}
+
+	@Test
+	public void shouldInvalidateWhenEntityLeavesFilter()
+	{
+		TestEntity apple = cache.readAll(A, null, BY_NAME).get(0);
+		TestEntity cherry = new TestEntity("cherry");
+		cherry.setId(apple.getId());
+		repository.update(cherry);
+		assertEquals(1, cache.readAll(A, null, BY_NAME).size());
+		assertEquals(2, repository.queries);
+	}
+
+	@Test
+	public void shouldInvalidateCollectionOnAnyWrite()
+	{
+		cache.setInvalidation(CachingQueryable.Invalidation.COLLECTION);
+		cache.readAll(A, null, BY_NAME);
+		repository.create(new TestEntity("cherry"));
+		cache.readAll(A, null, BY_NAME);
+		assertEquals(2, repository.queries);
+	}
+
+	@Test
+	public void shouldCacheEntities()
+	{
+		cache.setStorage(CachingQueryable.Storage.ENTITIES);
+		List<TestEntity> first = cache.readAll(A, new QueryRange(0, 1), BY_NAME);
+		List<TestEntity> second = cache.readAll(A, new QueryRange(0, 1), BY_NAME);
+		assertEquals(1, second.size());
+		assertEquals(first.get(0), second.get(0));
+		assertEquals(1, repository.queries);
+	}
+
+	@Test
+	public void shouldStopInvalidatingWhenDetached()
+	{
+		cache.readAll(A, null, BY_NAME);
+		cache.detach();
+		assertEquals(0, cache.size());
+		repository.create(new TestEntity("apricot"));
+		assertEquals(0, cache.size());
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class QueryableRepository
+	extends InMemoryRepository<TestEntity>
+	{
+		private int queries;
+
+		/**
+		 * Writes without notifying observers, as another process would.
+		 */
+		public void replace(TestEntity entity)
+		{
+			store.put(entity);
+		}
+
+		@Override
+		public List<TestEntity> readAll(QueryFilter filter, QueryRange range, QueryOrder order)
+		{
+			++queries;
+			return super.readAll(filter, range, order);
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CachingRepositoryTest
+{
+	private InMemoryRepository<TestEntity> backing;
+	private CachingRepository<TestEntity> repository;
+	private int backingReads;
+
+	@Before
+	public void setup()
+	{
+		backing = new InMemoryRepository<TestEntity>(){};
+		backing.addObserver(new AbstractRepositoryObserver<TestEntity>()
+		{
+			@Override
+			public void beforeRead(Identifier id)
+			{
+				++backingReads;
+			}
+		});
+		repository = new CachingRepository<TestEntity>(backing, new EntityCache<TestEntity>(100));
+	}
+
+	@Test
+	public void shouldReadThroughOnce()
+	{
+		TestEntity a = backing.create(new TestEntity("a"));
+		repository.getCache().invalidateAll();
+
+		assertEquals("a", repository.read(a.getId()).getName());
+		assertEquals("a", repository.read(a.getId()).getName());
+		assertTrue(repository.exists(a.getId()));
+		assertEquals(1, backingReads);
+	}
+
+	@Test
+	public void shouldPopulateOnCreateAndEvictOnUpdate()
+	{
+		TestEntity a = repository.create(new TestEntity("a"));
+		assertSame(a, repository.read(a.getId()));
+		assertEquals(0, backingReads);
+
+		TestEntity b = new TestEntity("b");
+		b.setId(a.getId());
+		backing.update(b);
+		assertEquals("b", repository.read(a.getId()).getName());
+		assertEquals(1, backingReads);
+	}
+
+	@Test
+	public void shouldNotCacheUpdateOvertakenByAnother()
+	{
+		final InMemoryRepository<TestEntity> store = new InMemoryRepository<TestEntity>(){};
+		final TestEntity a = store.create(new TestEntity("a"));
+		final TestEntity c = new TestEntity("c");
+		c.setId(a.getId());
+
+		// Completes a second update before the cache observer sees the first.
+		store.addObserver(new AbstractRepositoryObserver<TestEntity>()
+		{
+			@Override
+			public void afterUpdate(TestEntity object)
+			{
+				if (object != c) store.update(c);
+			}
+		});
+		CachingRepository<TestEntity> caching = new CachingRepository<TestEntity>(store, new EntityCache<TestEntity>(100));
+
+		TestEntity b = new TestEntity("b");
+		b.setId(a.getId());
+		caching.update(b);
+		assertEquals("c", caching.read(a.getId()).getName());
+	}
+
+	@Test(expected=ItemNotFoundException.class)
+	public void shouldInvalidateOnDelete()
+	{
+		TestEntity a = repository.create(new TestEntity("a"));
+		repository.read(a.getId());
+		backing.delete(a);
+		assertFalse(repository.exists(a.getId()));
+		repository.read(a.getId());
+	}
+
+	@Test
+	public void shouldReadListMissesInOneCall()
+	{
+		TestEntity a = backing.create(new TestEntity("a"));
+		TestEntity b = backing.create(new TestEntity("b"));
+		TestEntity c = backing.create(new TestEntity("c"));
+		repository.getCache().invalidateAll();
+		repository.read(b.getId());
+
+		List<TestEntity> results = repository.readList(Arrays.asList(a.getId(), b.getId(), new Identifier("missing"), c.getId()));
+		assertEquals(3, results.size());
+		assertEquals("a", results.get(0).getName());
+		assertEquals("b", results.get(1).getName());
+		assertEquals("c", results.get(2).getName());
+
+		repository.readList(Arrays.asList(a.getId(), c.getId()));
+		assertEquals(4, repository.getCache().getMissCount());
+		assertEquals(3, repository.getCache().getHitCount());
+	}
+}
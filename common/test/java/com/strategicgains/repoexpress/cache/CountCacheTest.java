@@ -0,0 +1,91 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class CountCacheTest
+{
+	private static final QueryFilter FILTER = new QueryFilter().addCriteria("name", FilterOperator.EQUALS, "a");
+
+	private InMemoryRepository<TestEntity> repository;
+	private CountCache<TestEntity> cache;
+	private int counts;
+	private CountCache.Counter counter = new CountCache.Counter()
+	{
+		@Override
+		public long count(QueryFilter filter)
+		{
+			++counts;
+			return 1L;
+		}
+	};
+
+	@Before
+	public void setup()
+	{
+		repository = new InMemoryRepository<TestEntity>(){};
+		cache = new CountCache<TestEntity>();
+		repository.addObserver(cache);
+	}
+
+	@Test
+	public void shouldCacheCounts()
+	{
+		assertEquals(1L, cache.count(FILTER, counter));
+		assertEquals(1L, cache.count(new QueryFilter().addCriteria("name", FilterOperator.EQUALS, "a"), counter));
+		assertEquals(1, counts);
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void shouldInvalidateOnCreateAndDelete()
+	{
+		cache.count(null, counter);
+		cache.count(FILTER, counter);
+		TestEntity entity = repository.create(new TestEntity("a"));
+		cache.count(null, counter);
+		cache.count(FILTER, counter);
+		assertEquals(4, counts);
+		repository.delete(entity);
+		cache.count(null, counter);
+		assertEquals(5, counts);
+	}
+
+	@Test
+	public void shouldInvalidateOnlyFilteredCountsOnUpdate()
+	{
+		TestEntity entity = repository.create(new TestEntity("a"));
+		cache.count(null, counter);
+		cache.count(FILTER, counter);
+		repository.update(entity);
+		cache.count(null, counter);
+		cache.count(FILTER, counter);
+		assertEquals(3, counts);
+	}
+}
@@ -0,0 +1,128 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class EntityCacheTest
+{
+	@Test
+	public void shouldEvictLeastRecentlyUsed()
+	{
+		EntityCache<String> cache = new EntityCache<String>(2);
+		cache.put(new Identifier("a"), "a");
+		cache.put(new Identifier("b"), "b");
+		cache.get(new Identifier("a"));
+		cache.put(new Identifier("c"), "c");
+
+		assertEquals("a", cache.get(new Identifier("a")));
+		assertNull(cache.get(new Identifier("b")));
+		assertEquals("c", cache.get(new Identifier("c")));
+		assertEquals(1, cache.getEvictionCount());
+	}
+
+	@Test
+	public void shouldBoundByWeight()
+	{
+		EntityCache<String> cache = new EntityCache<String>(5, new Weigher<String>()
+		{
+			@Override
+			public int weigh(String value)
+			{
+				return value.length();
+			}
+		});
+
+		cache.put(new Identifier(1), "abc");
+		cache.put(new Identifier(2), "de");
+		assertEquals(5, cache.weight());
+
+		cache.put(new Identifier(3), "f");
+		assertNull(cache.get(new Identifier(1)));
+		assertEquals(3, cache.weight());
+
+		cache.put(new Identifier(4), "too heavy");
+		assertNull(cache.get(new Identifier(4)));
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void shouldExpireAfterTimeToLive()
+	throws InterruptedException
+	{
+		EntityCache<String> cache = new EntityCache<String>(10);
+		cache.setTimeToLive(1, TimeUnit.MILLISECONDS);
+		cache.put(new Identifier("a"), "a");
+		Thread.sleep(5);
+		assertNull(cache.get(new Identifier("a")));
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void shouldNotPutIfChangedSinceStamp()
+	{
+		EntityCache<String> cache = new EntityCache<String>(10);
+		Identifier id = new Identifier("a");
+		long stamp = cache.stamp(id);
+		cache.invalidate(id);
+		assertFalse(cache.putIfUnchanged(id, "stale", stamp));
+		assertNull(cache.get(id));
+
+		assertTrue(cache.putIfUnchanged(id, "fresh", cache.stamp(id)));
+		assertSame("fresh", cache.get(id));
+		assertEquals(1, cache.getHitCount());
+		assertEquals(1, cache.getMissCount());
+	}
+
+	@Test
+	public void shouldPutIfOnlyOtherKeysChangedSinceStamp()
+	{
+		// Small enough to be a single segment.
+		EntityCache<String> cache = new EntityCache<String>(10);
+		Identifier id = new Identifier("a");
+		long stamp = cache.stamp(id);
+		cache.put(new Identifier("b"), "b");
+		cache.invalidate(new Identifier("c"));
+		assertTrue(cache.putIfUnchanged(id, "a", stamp));
+		assertSame("a", cache.get(id));
+	}
+
+	@Test
+	public void shouldNotPutIfEvictedSinceStamp()
+	{
+		EntityCache<String> cache = new EntityCache<String>(1);
+		Identifier id = new Identifier("a");
+		long stamp = cache.stamp(id);
+		cache.put(id, "written");
+		cache.put(new Identifier("b"), "b");
+		assertNull(cache.get(id));
+		assertFalse(cache.putIfUnchanged(id, "stale", stamp));
+	}
+}
@@ -0,0 +1,115 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class ExistenceFilterTest
+{
+	private InMemoryRepository<TestEntity> repository;
+	private ExistenceFilter<TestEntity> filter;
+	private int backendChecks;
+
+	@Before
+	public void setup()
+	{
+		repository = new InMemoryRepository<TestEntity>()
+		{
+			@Override
+			public boolean doExists(Identifier id)
+			{
+				++backendChecks;
+				return super.doExists(id);
+			}
+		};
+		filter = new ExistenceFilter<TestEntity>(100, 0.01);
+		repository.setExistenceFilter(filter);
+	}
+
+	@Test
+	public void shouldCacheNegativeLookupsBeforeWarm()
+	{
+		Identifier missing = new Identifier("missing");
+		assertFalse(repository.exists(missing));
+		assertFalse(repository.exists(missing));
+		assertEquals(1, backendChecks);
+		assertEquals(1, filter.getNegativeHitCount());
+	}
+
+	@Test
+	public void shouldRejectWithoutBackendWhenWarm()
+	{
+		filter.warm(Collections.<Identifier>emptyList());
+		TestEntity a = repository.create(new TestEntity("a"));
+		backendChecks = 0;
+
+		assertTrue(repository.exists(a.getId()));
+		assertFalse(repository.exists(new Identifier("missing")));
+		assertEquals(1, backendChecks);
+		assertEquals(1, filter.getFilterRejectionCount());
+	}
+
+	@Test(expected=DuplicateItemException.class)
+	public void shouldForgetNegativeLookupOnCreate()
+	{
+		TestEntity a = new TestEntity("a");
+		a.setId(new Identifier("a"));
+		assertFalse(repository.exists(a.getId()));
+		repository.create(a);
+		assertTrue(repository.exists(a.getId()));
+		repository.create(a);
+	}
+
+	@Test
+	public void shouldKeepCreatesMadeDuringWarm()
+	{
+		final List<TestEntity> created = new ArrayList<TestEntity>();
+
+		// A create made mid-scan, after the scan has passed its ID.
+		filter.warm(new Iterable<Identifier>()
+		{
+			@Override
+			public Iterator<Identifier> iterator()
+			{
+				created.add(repository.create(new TestEntity("a")));
+				return Collections.<Identifier>emptyList().iterator();
+			}
+		});
+
+		backendChecks = 0;
+		assertTrue(repository.exists(created.get(0).getId()));
+		assertEquals(1, backendChecks);
+	}
+}
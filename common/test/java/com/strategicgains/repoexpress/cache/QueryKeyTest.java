@@ -0,0 +1,98 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.Projection;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class QueryKeyTest
+{
+	@Test
+	public void shouldIgnoreCriteriaOrder()
+	{
+		QueryFilter a = new QueryFilter()
+			.addCriteria("name", FilterOperator.EQUALS, "todd")
+			.addCriteria("age", FilterOperator.GREATER_THAN, 21);
+		QueryFilter b = new QueryFilter()
+			.addCriteria("age", FilterOperator.GREATER_THAN, 21)
+			.addCriteria("name", FilterOperator.EQUALS, "todd");
+		assertEquals(QueryKey.of(a), QueryKey.of(b));
+		assertEquals(QueryKey.of(a).hashCode(), QueryKey.of(b).hashCode());
+		assertTrue(QueryKey.of(a).isFiltered());
+		assertEquals(2, QueryKey.of(a).getFields().size());
+	}
+
+	@Test
+	public void shouldIgnoreInValueOrder()
+	{
+		QueryFilter a = new QueryFilter().addCriteria("status", FilterOperator.IN, Arrays.asList("a", "b"));
+		QueryFilter b = new QueryFilter().addCriteria("status", FilterOperator.IN, Arrays.asList("b", "a"));
+		assertEquals(QueryKey.of(a), QueryKey.of(b));
+	}
+
+	@Test
+	public void shouldDistinguishValueTypes()
+	{
+		QueryFilter a = new QueryFilter().addCriteria("age", FilterOperator.EQUALS, "1");
+		QueryFilter b = new QueryFilter().addCriteria("age", FilterOperator.EQUALS, 1L);
+		assertNotEquals(QueryKey.of(a), QueryKey.of(b));
+	}
+
+	@Test
+	public void shouldNotConfuseSeparatorsInValues()
+	{
+		QueryFilter a = new QueryFilter()
+			.addCriteria("a", FilterOperator.EQUALS, "x")
+			.addCriteria("b", FilterOperator.EQUALS, "y");
+		QueryFilter b = new QueryFilter()
+			.addCriteria("a", FilterOperator.EQUALS, "x, 1:bEQUALS:java.lang.String:1:y");
+		assertNotEquals(QueryKey.of(a), QueryKey.of(b));
+	}
+
+	@Test
+	public void shouldTreatEmptyAsNull()
+	{
+		assertEquals(QueryKey.of(null, null, null), QueryKey.of(new QueryFilter(), new QueryRange(), new QueryOrder()));
+		assertFalse(QueryKey.of(null).isFiltered());
+	}
+
+	@Test
+	public void shouldDistinguishRangeOrderAndProjection()
+	{
+		QueryFilter filter = new QueryFilter().addCriteria("name", FilterOperator.EQUALS, "todd");
+		QueryKey base = QueryKey.of(filter, new QueryRange(0, 10), new QueryOrder("name"));
+		assertEquals(base, QueryKey.of(filter, new QueryRange(0, 10), new QueryOrder("name")));
+		assertNotEquals(base, QueryKey.of(filter, new QueryRange(10, 10), new QueryOrder("name")));
+		assertNotEquals(base, QueryKey.of(filter, new QueryRange(0, 10), new QueryOrder("-name")));
+		assertNotEquals(base, QueryKey.of(filter, new QueryRange(0, 10), new QueryOrder("name"), Projection.of("name")));
+	}
+}
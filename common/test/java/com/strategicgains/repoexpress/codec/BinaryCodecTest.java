@@ -0,0 +1,237 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.codec;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.math.BigDecimal;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class BinaryCodecTest
+{
+	private static final Charset LATIN_1 = Charset.forName("ISO-8859-1");
+
+	@Test
+	public void shouldRoundTripSupportedTypes()
+	{
+		Sample sample = new Sample();
+		sample.id = Identifier.of(UUID.randomUUID());
+		sample.name = "n\u00e4me";
+		sample.count = -42;
+		sample.total = Long.MAX_VALUE;
+		sample.ratio = 0.25;
+		sample.active = true;
+		sample.boxed = 7;
+		sample.amount = new BigDecimal("12.50");
+		sample.createdAt = new Date(1234567890L);
+		sample.color = Color.GREEN;
+		sample.data = new byte[] {1, 2, 3};
+		sample.tags = new ArrayList<String>(Arrays.asList("a", "b"));
+		sample.colors = new LinkedHashSet<Color>(Arrays.asList(Color.BLUE, Color.RED));
+		sample.scores = new HashMap<String, Long>();
+		sample.scores.put("x", 1L);
+		sample.child = new TestEntity("child");
+		sample.any = Color.BLUE;
+		sample.skipped = "transient";
+
+		BinaryCodec<Sample> codec = new BinaryCodec<Sample>(Sample.class, Color.class);
+		Sample decoded = codec.decode(codec.encode(sample));
+
+		assertEquals(sample.id, decoded.id);
+		assertEquals(sample.name, decoded.name);
+		assertEquals(sample.count, decoded.count);
+		assertEquals(sample.total, decoded.total);
+		assertEquals(sample.ratio, decoded.ratio, 0.0);
+		assertTrue(decoded.active);
+		assertEquals(sample.boxed, decoded.boxed);
+		assertEquals(sample.amount, decoded.amount);
+		assertEquals(sample.createdAt, decoded.createdAt);
+		assertEquals(Color.GREEN, decoded.color);
+		assertArrayEquals(sample.data, decoded.data);
+		assertEquals(sample.tags, decoded.tags);
+		assertEquals(Arrays.asList(Color.BLUE, Color.RED), new ArrayList<Color>(decoded.colors));
+		assertEquals(sample.scores, decoded.scores);
+		assertEquals("child", decoded.child.getName());
+		assertEquals(Color.BLUE, decoded.any);
+		assertNull(decoded.skipped);
+		assertNull(decoded.missing);
+	}
+
+	@Test
+	public void shouldBeSmallerThanJson()
+	{
+		TestEntity entity = new TestEntity("name");
+		entity.setId(Identifier.of(12345L));
+		byte[] bytes = new BinaryCodec<TestEntity>(TestEntity.class).encode(entity);
+
+		// {"id":12345,"name":"name"} is 26 bytes.
+		assertTrue(bytes.length < 20);
+	}
+
+	@Test(expected=RepositoryException.class)
+	public void shouldRejectOtherSchema()
+	{
+		TestEntity entity = new TestEntity("name");
+		new BinaryCodec<Sample>(Sample.class).decode(new BinaryCodec<TestEntity>(TestEntity.class).encode(entity));
+	}
+
+	@Test(expected=RepositoryException.class)
+	public void shouldNotEncodeUnlistedSubtype()
+	{
+		Sample sample = new Sample();
+		sample.any = Color.BLUE;
+		new BinaryCodec<Sample>(Sample.class).encode(sample);
+	}
+
+	@Test
+	public void shouldOnlyDecodeListedSubtypes()
+	{
+		Sample sample = new Sample();
+		sample.any = new TestEntity("any");
+		BinaryCodec<Sample> codec = new BinaryCodec<Sample>(Sample.class, TestEntity.class);
+		byte[] bytes = codec.encode(sample);
+		assertEquals("any", ((TestEntity) codec.decode(bytes).any).getName());
+
+		// Name a class that isn't a listed subtype, of the same length, in the encoding.
+		String listed = TestEntity.class.getName();
+		String other = listed.substring(0, listed.length() - 3) + "Xyz";
+		byte[] forged = new String(bytes, LATIN_1).replace(listed, other).getBytes(LATIN_1);
+
+		try
+		{
+			codec.decode(forged);
+			fail("Decoded a class that isn't a listed subtype");
+		}
+		catch (RepositoryException e)
+		{
+			assertTrue(e.getMessage().contains(other));
+		}
+	}
+
+	@Test(expected=RepositoryException.class)
+	public void shouldRejectDifferentSubtypes()
+	{
+		Sample sample = new Sample();
+		sample.any = Color.BLUE;
+		new BinaryCodec<Sample>(Sample.class, TestEntity.class).decode(new BinaryCodec<Sample>(Sample.class, Color.class).encode(sample));
+	}
+
+	@Test
+	public void shouldRejectInflatedLengthOverMaximum()
+	{
+		CompressingCodec<TestEntity> codec = new CompressingCodec<TestEntity>(new BinaryCodec<TestEntity>(TestEntity.class), 64);
+		byte[] bytes = codec.encode(new TestEntity(new String(new char[4096]).replace('\0', 'x')));
+		codec.setMaxInflatedSize(1024);
+
+		try
+		{
+			codec.decode(bytes);
+			fail("Inflated beyond the maximum");
+		}
+		catch (RepositoryException e)
+		{
+			assertTrue(e.getMessage().contains("length"));
+		}
+
+		// A length header of Integer.MAX_VALUE.
+		bytes[1] = 0x7f;
+		bytes[2] = bytes[3] = bytes[4] = (byte) 0xff;
+		codec.setMaxInflatedSize(Integer.MAX_VALUE);
+
+		try
+		{
+			codec.decode(bytes);
+			fail("Trusted the length header");
+		}
+		catch (RepositoryException e)
+		{
+			assertTrue(e.getMessage().contains("length"));
+		}
+	}
+
+	@Test
+	public void shouldCompressAboveThreshold()
+	{
+		CompressingCodec<TestEntity> codec = new CompressingCodec<TestEntity>(new BinaryCodec<TestEntity>(TestEntity.class), 64);
+		TestEntity small = new TestEntity("small");
+		TestEntity large = new TestEntity(new String(new char[4096]).replace('\0', 'x'));
+
+		byte[] smallBytes = codec.encode(small);
+		byte[] largeBytes = codec.encode(large);
+
+		assertEquals(0, smallBytes[0]);
+		assertEquals(1, largeBytes[0]);
+		assertTrue(largeBytes.length < 256);
+		assertEquals("small", codec.decode(smallBytes).getName());
+		assertEquals(large.getName(), codec.decode(largeBytes).getName());
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private enum Color
+	{
+		RED, GREEN, BLUE
+	}
+
+	@SuppressWarnings("unused")
+	private static class Sample
+	{
+		private static final String CONSTANT = "ignored";
+
+		private Identifier id;
+		private String name;
+		private int count;
+		private long total;
+		private double ratio;
+		private boolean active;
+		private Integer boxed;
+		private BigDecimal amount;
+		private Date createdAt;
+		private Color color;
+		private byte[] data;
+		private List<String> tags;
+		private Set<Color> colors;
+		private Map<String, Long> scores;
+		private TestEntity child;
+		private Object any;
+		private String missing;
+		private transient String skipped;
+	}
+}
@@ -2,6 +2,10 @@ package com.strategicgains.repoexpress.domain;
 
 import static org.junit.Assert.*;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 import org.junit.Test;
 
 public class IdentifierTest
@@ -40,4 +44,78 @@ public class IdentifierTest
 		assertEquals(1, new Identifier("key1", "key2", "key4").compareTo(new Identifier("key1", "key2", "key3")));
 		assertEquals(1, new Identifier("key2").compareTo(new Identifier("key1")));
 	}
+
+	@Test
+	public void shouldBeEqualAcrossForms()
+	{
+		UUID uuid = UUID.randomUUID();
+		assertEquals(new Identifier(uuid), Identifier.of(uuid));
+		assertEquals(Identifier.of(uuid), new Identifier(uuid));
+		assertEquals(new Identifier(uuid).hashCode(), Identifier.of(uuid).hashCode());
+		assertEquals(new Identifier("key1", 2L), Identifier.of("key1", 2L));
+		assertEquals(Identifier.of("key1", 2L), new Identifier("key1", 2L));
+		assertEquals(new Identifier("key1", 2L).hashCode(), Identifier.of("key1", 2L).hashCode());
+		assertEquals(new Identifier(), Identifier.of((Object) null));
+		assertEquals(new Identifier().hashCode(), Identifier.of().hashCode());
+		assertFalse(Identifier.of(1L).equals(Identifier.of(2L)));
+		assertFalse(Identifier.of("key1", 2L).equals(Identifier.of("key1", 3L)));
+		assertFalse(Identifier.of("key1").equals("key1"));
+	}
+
+	@Test
+	public void shouldBeInterchangeableAsKeys()
+	{
+		Map<Identifier, String> map = new HashMap<Identifier, String>();
+		map.put(Identifier.of(42L), "compact");
+		map.put(new Identifier("a", "b"), "mutable");
+		assertEquals("compact", map.get(new Identifier(42L)));
+		assertEquals("mutable", map.get(Identifier.of("a", "b")));
+	}
+
+	@Test
+	public void shouldResetHashOnAdd()
+	{
+		Identifier id = new Identifier("key1");
+		int hash = id.hashCode();
+		id.add("key2");
+		assertNotEquals(hash, id.hashCode());
+		assertEquals(Identifier.of("key1", "key2").hashCode(), id.hashCode());
+	}
+
+	@Test
+	public void shouldMatchMutableBehavior()
+	{
+		Identifier compact = Identifier.of("key1", null, 2L);
+		assertEquals(2, compact.size());
+		assertEquals("key1", compact.primaryKey());
+		assertEquals(new Identifier("key1", 2L).toString(), compact.toString());
+		assertEquals("key1", Identifier.of("key1").toString());
+		assertEquals(0, compact.compareTo(new Identifier("key1", 2L)));
+		assertTrue(Identifier.of().isEmpty());
+		assertEquals("", Identifier.of().toString());
+	}
+
+	@Test(expected=UnsupportedOperationException.class)
+	public void shouldNotModifyImmutable()
+	{
+		Identifier.of("key1").add("key2");
+	}
+
+	@Test
+	public void shouldIntern()
+	{
+		Identifier mutable = new Identifier("key1", 2L);
+		Identifier interned = mutable.intern();
+		assertTrue(interned.isImmutable());
+		assertEquals(mutable, interned);
+		assertSame(interned, new Identifier("key1", 2L).intern());
+		assertSame(interned, Identifier.of("key1", 2L).intern());
+
+		IdentifierInterner interner = new IdentifierInterner();
+		Identifier compact = Identifier.of(7L);
+		assertSame(compact, interner.intern(compact));
+		assertSame(compact, interner.intern(new Identifier(7L)));
+		assertEquals(1, interner.size());
+		assertNull(interner.intern(null));
+	}
 }
@@ -0,0 +1,190 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class AsyncRepositoryObserverTest
+{
+	@Test
+	public void shouldDeliverAfterEventsInOrderOnWorker()
+	throws InterruptedException
+	{
+		RecordingObserver recorder = new RecordingObserver();
+		AsyncRepositoryObserver<TestEntity> async = new AsyncRepositoryObserver<TestEntity>(recorder, 100, BackpressurePolicy.BLOCK);
+		InMemoryRepository<TestEntity> repository = new InMemoryRepository<TestEntity>(){};
+		repository.addObserver(async);
+
+		TestEntity a = repository.create(new TestEntity("a"));
+		repository.update(a);
+		repository.delete(a);
+
+		async.shutdown();
+		assertTrue(async.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(async.getEnqueuedCount(), async.getDeliveredCount());
+		assertEquals(4, recorder.events.size());
+		assertEquals("beforeCreate", recorder.events.get(0));
+		assertEquals("afterCreate", recorder.events.get(1));
+		assertEquals("afterUpdate", recorder.events.get(2));
+		assertEquals("afterDelete", recorder.events.get(3));
+		assertTrue(recorder.threads.get(1).endsWith("-async-1"));
+	}
+
+	@Test
+	public void shouldDeliverBeforeEventsSynchronously()
+	{
+		RecordingObserver recorder = new RecordingObserver();
+		AsyncRepositoryObserver<TestEntity> async = new AsyncRepositoryObserver<TestEntity>(recorder, 100, BackpressurePolicy.BLOCK);
+		async.beforeCreate(new TestEntity("a"));
+		assertEquals(Collections.singletonList("beforeCreate"), recorder.events);
+		assertEquals(Thread.currentThread().getName(), recorder.threads.get(0));
+		async.shutdown();
+	}
+
+	@Test
+	public void shouldApplyBackpressurePolicyWhenFull()
+	throws InterruptedException
+	{
+		BlockingObserver blocking = new BlockingObserver();
+		AsyncRepositoryObserver<TestEntity> dropping = new AsyncRepositoryObserver<TestEntity>(blocking, 1, BackpressurePolicy.DROP);
+		dropping.afterCreate(new TestEntity("a"));
+		assertTrue(blocking.started.await(5, TimeUnit.SECONDS));
+		dropping.afterCreate(new TestEntity("b"));
+		dropping.afterCreate(new TestEntity("c"));
+		assertEquals(1, dropping.getDroppedCount());
+
+		BlockingObserver blocking2 = new BlockingObserver();
+		AsyncRepositoryObserver<TestEntity> callerRuns = new AsyncRepositoryObserver<TestEntity>(blocking2, 1, BackpressurePolicy.CALLER_RUNS);
+		callerRuns.afterCreate(new TestEntity("a"));
+		assertTrue(blocking2.started.await(5, TimeUnit.SECONDS));
+		callerRuns.afterCreate(new TestEntity("b"));
+		callerRuns.afterCreate(new TestEntity("c"));
+		assertEquals(1, callerRuns.getCallerRunsCount());
+		assertEquals(1, blocking2.callerRuns);
+		blocking2.release.countDown();
+
+		blocking.release.countDown();
+		dropping.shutdown();
+		callerRuns.shutdown();
+		assertTrue(dropping.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(2, dropping.getDeliveredCount());
+	}
+
+	@Test
+	public void shouldCountObserverFailures()
+	throws InterruptedException
+	{
+		AsyncRepositoryObserver<TestEntity> async = new AsyncRepositoryObserver<TestEntity>(new AbstractRepositoryObserver<TestEntity>()
+		{
+			@Override
+			public void afterCreate(TestEntity object)
+			{
+				throw new IllegalStateException("boom");
+			}
+		}, 10, BackpressurePolicy.BLOCK);
+
+		async.afterCreate(new TestEntity("a"));
+		async.shutdown();
+		assertTrue(async.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(1, async.getFailureCount());
+		assertTrue(async.getLastFailure() instanceof IllegalStateException);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class RecordingObserver
+	extends AbstractRepositoryObserver<TestEntity>
+	{
+		private List<String> events = Collections.synchronizedList(new ArrayList<String>());
+		private List<String> threads = Collections.synchronizedList(new ArrayList<String>());
+
+		private void record(String event)
+		{
+			events.add(event);
+			threads.add(Thread.currentThread().getName());
+		}
+
+		@Override
+		public void afterCreate(TestEntity object)
+		{
+			record("afterCreate");
+		}
+
+		@Override
+		public void afterUpdate(TestEntity object)
+		{
+			record("afterUpdate");
+		}
+
+		@Override
+		public void afterDelete(TestEntity object)
+		{
+			record("afterDelete");
+		}
+
+		@Override
+		public void beforeCreate(TestEntity object)
+		{
+			record("beforeCreate");
+		}
+	}
+
+	private static class BlockingObserver
+	extends AbstractRepositoryObserver<TestEntity>
+	{
+		private CountDownLatch started = new CountDownLatch(1);
+		private CountDownLatch release = new CountDownLatch(1);
+		private int callerRuns = 0;
+
+		@Override
+		public void afterCreate(TestEntity object)
+		{
+			if (!Thread.currentThread().getName().contains("-async-"))
+			{
+				++callerRuns;
+				return;
+			}
+
+			started.countDown();
+
+			try
+			{
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
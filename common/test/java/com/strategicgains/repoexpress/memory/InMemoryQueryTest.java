@@ -0,0 +1,120 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+import org.restexpress.common.query.QueryRange;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class InMemoryQueryTest
+{
+	private static final String[] NAMES = {"pear", "apple", null, "plum", "apricot", "banana", "peach"};
+
+	private LongInMemoryRepository<TestEntity> plain;
+	private LongInMemoryRepository<TestEntity> indexed;
+
+	@Before
+	public void setup()
+	{
+		plain = new LongInMemoryRepository<TestEntity>(){};
+		indexed = new LongInMemoryRepository<TestEntity>(){};
+		indexed.addSortedIndex("name");
+
+		for (String name : NAMES)
+		{
+			plain.create(new TestEntity(name));
+			indexed.create(new TestEntity(name));
+		}
+
+		indexed.addIndex("id");
+	}
+
+	@Test
+	public void shouldFilterAndCount()
+	{
+		assertQuery(Arrays.asList("apple", "apricot"), filter("name", FilterOperator.STARTS_WITH, "ap"), null, new QueryOrder("name"));
+		assertQuery(Arrays.asList("peach", "pear", "plum"), filter("name", FilterOperator.GREATER_THAN_OR_EQUAL_TO, "p"), null, new QueryOrder("name"));
+		assertQuery(Arrays.asList("apple", "banana"), filter("name", FilterOperator.IN, Arrays.asList("banana", "apple", "kiwi")), null, new QueryOrder("name"));
+		assertQuery(Arrays.asList("plum"), filter("id", FilterOperator.EQUALS, 4), null, null);
+		assertQuery(Arrays.asList("banana"), filter("name", FilterOperator.CONTAINS, "nan"), null, null);
+		assertEquals(2, indexed.count(filter("name", FilterOperator.LESS_THAN, "b")));
+		assertEquals(2, plain.count(filter("name", FilterOperator.LESS_THAN, "b")));
+	}
+
+	@Test
+	public void shouldOrderAndRange()
+	{
+		assertQuery(Arrays.asList(null, "apple", "apricot"), null, new QueryRange(0, 3), new QueryOrder("name"));
+		assertQuery(Arrays.asList("pear", "peach"), null, new QueryRange(1, 2), new QueryOrder("-name"));
+		assertQuery(Arrays.asList("apricot", "apple"), filter("name", FilterOperator.NOT_EQUALS, "peach"), new QueryRange(3, 2), new QueryOrder("-name"));
+		assertQuery(Arrays.asList("peach", "banana"), null, new QueryRange(0, 2), new QueryOrder("-id"));
+	}
+
+	@Test
+	public void shouldMaintainIndexesOnWrites()
+	{
+		TestEntity banana = indexed.read(Identifier.of(6L));
+		banana.setName("avocado");
+		indexed.update(banana);
+		indexed.delete(indexed.read(Identifier.of(2L)));
+		indexed.create(new TestEntity("almond"));
+		assertEquals(Arrays.asList("almond", "apricot", "avocado"), names(indexed.readAll(filter("name", FilterOperator.STARTS_WITH, "a"), null, new QueryOrder("name"))));
+		assertEquals(0, indexed.count(filter("name", FilterOperator.EQUALS, "banana")));
+		assertEquals(1, indexed.count(filter("id", FilterOperator.EQUALS, 8L)));
+	}
+
+
+	// SECTION: UTILITY
+
+	private void assertQuery(List<String> expected, QueryFilter filter, QueryRange range, QueryOrder order)
+	{
+		assertEquals(expected, names(plain.readAll(filter, range, order)));
+		assertEquals(expected, names(indexed.readAll(filter, range, order)));
+		assertEquals(plain.count(filter), indexed.count(filter));
+	}
+
+	private QueryFilter filter(String field, FilterOperator operator, Object value)
+	{
+		return new QueryFilter().addCriteria(field, operator, value);
+	}
+
+	private List<String> names(List<TestEntity> entities)
+	{
+		List<String> names = new ArrayList<String>(entities.size());
+
+		for (TestEntity entity : entities)
+		{
+			names.add(entity.getName());
+		}
+
+		return names;
+	}
+}
@@ -0,0 +1,188 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class InMemoryRepositoryTest
+{
+	private InMemoryRepository<TestEntity> repository;
+	private CountingObserver observer;
+
+	@Before
+	public void setup()
+	{
+		repository = new InMemoryRepository<TestEntity>(){};
+		observer = new CountingObserver();
+		repository.addObserver(observer);
+	}
+
+	@Test
+	public void shouldReadListIgnoringMissingIds()
+	{
+		TestEntity a = repository.create(new TestEntity("a"));
+		TestEntity b = repository.create(new TestEntity("b"));
+		List<TestEntity> results = repository.readList(Arrays.asList(a.getId(), new Identifier("missing"), b.getId()));
+		assertEquals(2, results.size());
+		assertEquals("a", results.get(0).getName());
+		assertEquals("b", results.get(1).getName());
+	}
+
+	@Test
+	public void shouldNotifyOncePerReadList()
+	{
+		TestEntity a = repository.create(new TestEntity("a"));
+		TestEntity b = repository.create(new TestEntity("b"));
+		repository.readList(Arrays.asList(a.getId(), b.getId()));
+		assertEquals(1, observer.beforeReadLists);
+		assertEquals(1, observer.afterReadLists);
+		assertEquals(0, observer.reads);
+	}
+
+	@Test
+	public void shouldDelegateReadListToSingleReadByDefault()
+	{
+		AbstractRepositoryObserver<TestEntity> perItem = new AbstractRepositoryObserver<TestEntity>()
+		{
+			@Override
+			public void afterRead(TestEntity object)
+			{
+				object.setName(object.getName() + "!");
+			}
+		};
+
+		repository.addObserver(perItem);
+		TestEntity a = repository.create(new TestEntity("a"));
+		List<TestEntity> results = repository.readList(Arrays.asList(a.getId()));
+		assertEquals("a!", results.get(0).getName());
+	}
+
+	@Test
+	public void shouldReportPerItemCreateAllResults()
+	{
+		TestEntity existing = repository.create(new TestEntity("a"));
+		TestEntity duplicate = new TestEntity("dup");
+		duplicate.setId(existing.getId());
+		BatchResult<TestEntity> result = repository.createAll(Arrays.asList(new TestEntity("b"), duplicate, new TestEntity("c")));
+		assertFalse(result.isSuccessful());
+		assertEquals(3, result.size());
+		assertEquals(2, result.getSucceeded().size());
+		assertEquals(1, result.getFailures().size());
+		assertTrue(result.getFailures().get(0).getCause() instanceof DuplicateItemException);
+		assertEquals(3, observer.creates);
+	}
+
+	@Test
+	public void shouldUpdateAndDeleteAll()
+	{
+		TestEntity a = repository.create(new TestEntity("a"));
+		TestEntity b = repository.create(new TestEntity("b"));
+		a.setName("a2");
+		b.setName("b2");
+		BatchResult<TestEntity> updated = repository.updateAll(Arrays.asList(a, b));
+		assertTrue(updated.isSuccessful());
+		assertEquals("a2", repository.read(a.getId()).getName());
+
+		repository.delete(b);
+		BatchResult<TestEntity> deleted = repository.deleteAll(Arrays.asList(a, b));
+		assertEquals(1, deleted.getSucceeded().size());
+		assertTrue(deleted.getFailures().get(0).getCause() instanceof ItemNotFoundException);
+		assertFalse(repository.exists(a.getId()));
+	}
+
+	@Test
+	public void shouldGenerateIdsPerRepository()
+	{
+		InMemoryRepository<TestEntity> other = new InMemoryRepository<TestEntity>(){};
+		assertEquals(Identifier.of("TestEntity", 1L), repository.create(new TestEntity("a")).getId());
+		assertEquals(Identifier.of("TestEntity", 1L), other.create(new TestEntity("a")).getId());
+	}
+
+	@Test
+	public void shouldSkipTakenIdsInLongRepository()
+	{
+		LongInMemoryRepository<TestEntity> longs = new LongInMemoryRepository<TestEntity>(){};
+		TestEntity explicit = new TestEntity("explicit");
+		explicit.setId(Identifier.of(1L));
+		longs.create(explicit);
+		assertEquals(Identifier.of(2L), longs.create(new TestEntity("a")).getId());
+		assertEquals("explicit", longs.read(Identifier.of(1)).getName());
+	}
+
+	@Test(expected=InvalidObjectIdException.class)
+	public void shouldRejectUnsupportedIdInUuidRepository()
+	{
+		UuidInMemoryRepository<TestEntity> uuids = new UuidInMemoryRepository<TestEntity>(){};
+		assertTrue(uuids.create(new TestEntity("a")).getId().primaryKey() instanceof UUID);
+		TestEntity invalid = new TestEntity("b");
+		invalid.setId(Identifier.of(1L));
+		uuids.create(invalid);
+	}
+
+	private static class CountingObserver
+	extends AbstractRepositoryObserver<TestEntity>
+	{
+		int beforeReadLists = 0;
+		int afterReadLists = 0;
+		int reads = 0;
+		int creates = 0;
+
+		@Override
+		public void afterCreate(TestEntity object)
+		{
+			++creates;
+		}
+
+		@Override
+		public void beforeReadList(Collection<Identifier> ids)
+		{
+			++beforeReadLists;
+		}
+
+		@Override
+		public void afterReadList(List<TestEntity> objects)
+		{
+			++afterReadLists;
+		}
+
+		@Override
+		public void afterRead(TestEntity object)
+		{
+			++reads;
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class LongEntityStoreTest
+{
+	@Test
+	public void shouldStoreByIntegralId()
+	{
+		LongEntityStore<TestEntity> store = new LongEntityStore<TestEntity>();
+		TestEntity e = entity(Identifier.of(42L));
+		assertTrue(store.putIfAbsent(e));
+		assertSame(e, store.get(Identifier.of(42)));
+		assertSame(e, store.get(new Identifier(42L)));
+		assertFalse(store.putIfAbsent(entity(Identifier.of(42L))));
+		assertSame(e, store.get(Identifier.of(42L)));
+		assertEquals(1, store.size());
+	}
+
+	@Test
+	public void shouldNotSupportOtherIds()
+	{
+		LongEntityStore<TestEntity> store = new LongEntityStore<TestEntity>();
+		assertFalse(store.supports(Identifier.of("42")));
+		assertFalse(store.supports(Identifier.of(1L, 2L)));
+		assertNull(store.get(Identifier.of("42")));
+		assertFalse(store.remove(Identifier.of(UUID.randomUUID())));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void shouldRejectUnsupportedPut()
+	{
+		new LongEntityStore<TestEntity>().put(entity(Identifier.of("a")));
+	}
+
+	@Test
+	public void shouldMatchMapUnderRandomOperations()
+	{
+		LongEntityStore<TestEntity> store = new LongEntityStore<TestEntity>();
+		Map<Long, TestEntity> expected = new HashMap<Long, TestEntity>();
+		Random random = new Random(17L);
+
+		for (int i = 0; i < 200000; i++)
+		{
+			long key = random.nextInt(20000);
+			Identifier id = Identifier.of(key);
+
+			if (random.nextInt(3) == 0)
+			{
+				assertEquals(expected.remove(key) != null, store.remove(id));
+			}
+			else
+			{
+				TestEntity e = entity(id);
+				assertEquals(expected.put(key, e) != null, store.put(e));
+			}
+		}
+
+		assertEquals(expected.size(), store.size());
+		assertEquals(expected.size(), store.values().size());
+
+		for (long key = 0; key < 20000; key++)
+		{
+			assertSame(expected.get(key), store.get(Identifier.of(key)));
+		}
+
+		store.clear();
+		assertEquals(0, store.size());
+		assertTrue(store.values().isEmpty());
+	}
+
+	@Test
+	public void shouldStoreByUuid()
+	{
+		UuidEntityStore<TestEntity> store = new UuidEntityStore<TestEntity>(1000);
+		Map<UUID, TestEntity> expected = new HashMap<UUID, TestEntity>();
+
+		for (int i = 0; i < 10000; i++)
+		{
+			TestEntity e = entity(Identifier.of(UUID.randomUUID()));
+			store.put(e);
+			expected.put((UUID) e.getId().primaryKey(), e);
+		}
+
+		for (Map.Entry<UUID, TestEntity> entry : expected.entrySet())
+		{
+			assertSame(entry.getValue(), store.get(Identifier.of(entry.getKey())));
+			assertTrue(store.remove(Identifier.of(entry.getKey())));
+		}
+
+		assertEquals(0, store.size());
+		assertFalse(store.supports(Identifier.of(1L)));
+	}
+
+
+	// SECTION: UTILITY
+
+	private TestEntity entity(Identifier id)
+	{
+		TestEntity e = new TestEntity();
+		e.setId(id);
+		return e;
+	}
+}
@@ -0,0 +1,191 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.memory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+
+import com.strategicgains.repoexpress.codec.EntityCodec;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class OffHeapEntityStoreTest
+{
+	private OffHeapEntityStore<TestEntity> store;
+
+	@Before
+	public void setup()
+	{
+		store = new OffHeapEntityStore<TestEntity>(new TestEntityCodec(), 1024);
+	}
+
+	@Test
+	public void shouldStoreCopies()
+	{
+		TestEntity e = entity(1L, "a");
+		assertTrue(store.putIfAbsent(e));
+		assertFalse(store.putIfAbsent(entity(1L, "b")));
+		TestEntity read = store.get(Identifier.of(1L));
+		assertNotSame(e, read);
+		assertEquals("a", read.getName());
+		assertEquals(Identifier.of(1L), read.getId());
+
+		read.setName("changed");
+		assertEquals("a", store.get(Identifier.of(1L)).getName());
+		assertTrue(store.put(read));
+		assertEquals("changed", store.get(Identifier.of(1L)).getName());
+	}
+
+	@Test
+	public void shouldRemove()
+	{
+		store.put(entity(1L, "a"));
+		assertTrue(store.remove(Identifier.of(1L)));
+		assertFalse(store.remove(Identifier.of(1L)));
+		assertNull(store.get(Identifier.of(1L)));
+		assertEquals(0, store.size());
+		assertEquals(0L, store.getLiveBytes());
+	}
+
+	@Test
+	public void shouldCompactAbandonedRecords()
+	{
+		for (int i = 0; i < 100; i++)
+		{
+			store.put(entity(i, "name-" + i));
+		}
+
+		long live = store.getLiveBytes();
+
+		for (int round = 0; round < 50; round++)
+		{
+			for (int i = 0; i < 100; i++)
+			{
+				store.put(entity(i, "name-" + i));
+			}
+		}
+
+		assertEquals(live, store.getLiveBytes());
+		assertTrue(store.getUsedBytes() <= live * 2 + 1024);
+		assertTrue(store.getAllocatedBytes() <= live * 2 + 2048);
+
+		store.compact();
+		assertEquals(live, store.getUsedBytes());
+		assertEquals(100, store.values().size());
+
+		for (int i = 0; i < 100; i++)
+		{
+			assertEquals("name-" + i, store.get(Identifier.of((long) i)).getName());
+		}
+	}
+
+	@Test
+	public void shouldStoreRecordsLargerThanChunk()
+	{
+		StringBuilder name = new StringBuilder();
+
+		for (int i = 0; i < 3000; i++) name.append('x');
+
+		store.put(entity(1L, name.toString()));
+		store.put(entity(2L, "small"));
+		assertEquals(3000, store.get(Identifier.of(1L)).getName().length());
+		assertEquals("small", store.get(Identifier.of(2L)).getName());
+	}
+
+	@Test
+	public void shouldBackRepository()
+	{
+		InMemoryRepository<TestEntity> repository = new InMemoryRepository<TestEntity>(store){};
+		repository.addIndex("name");
+		repository.create(entity(1L, "a"));
+		repository.create(entity(2L, "b"));
+		TestEntity b = repository.read(Identifier.of(2L));
+		b.setName("a");
+		repository.update(b);
+		assertEquals(2, repository.count(new QueryFilter().addCriteria("name", FilterOperator.EQUALS, "a")));
+		repository.delete(b);
+		assertEquals(1, repository.readAll(null, null, null).size());
+	}
+
+
+	// SECTION: UTILITY
+
+	private TestEntity entity(long id, String name)
+	{
+		TestEntity e = new TestEntity(name);
+		e.setId(Identifier.of(id));
+		return e;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class TestEntityCodec
+	implements EntityCodec<TestEntity>
+	{
+		@Override
+		public byte[] encode(TestEntity entity)
+		{
+			try
+			{
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream out = new DataOutputStream(bytes);
+				out.writeLong(((Number) entity.getId().primaryKey()).longValue());
+				out.writeUTF(entity.getName());
+				return bytes.toByteArray();
+			}
+			catch (IOException e)
+			{
+				throw new RepositoryException(e);
+			}
+		}
+
+		@Override
+		public TestEntity decode(byte[] bytes)
+		{
+			try
+			{
+				DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+				TestEntity entity = new TestEntity();
+				entity.setId(Identifier.of(in.readLong()));
+				entity.setName(in.readUTF());
+				return entity;
+			}
+			catch (IOException e)
+			{
+				throw new RepositoryException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.memory.TestEntity;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class QueryEvaluatorTest
+{
+	@Test
+	public void shouldMatchEmptyFilter()
+	{
+		assertTrue(QueryEvaluator.matches(null, entity(1, "a")));
+		assertTrue(QueryEvaluator.matches(new QueryFilter(), entity(1, "a")));
+	}
+
+	@Test
+	public void shouldMatchOperators()
+	{
+		TestEntity e = entity(1, "apple");
+		assertTrue(matches(e, "name", FilterOperator.EQUALS, "apple"));
+		assertFalse(matches(e, "name", FilterOperator.EQUALS, "pear"));
+		assertTrue(matches(e, "name", FilterOperator.NOT_EQUALS, "pear"));
+		assertTrue(matches(e, "name", FilterOperator.STARTS_WITH, "app"));
+		assertTrue(matches(e, "name", FilterOperator.CONTAINS, "ppl"));
+		assertTrue(matches(e, "name", FilterOperator.GREATER_THAN, "a"));
+		assertTrue(matches(e, "name", FilterOperator.LESS_THAN_OR_EQUAL_TO, "apple"));
+		assertFalse(matches(e, "name", FilterOperator.LESS_THAN, "apple"));
+		assertTrue(matches(e, "name", FilterOperator.IN, Arrays.asList("pear", "apple")));
+		assertFalse(matches(e, "name", FilterOperator.IN, Arrays.asList("pear", "plum")));
+	}
+
+	@Test
+	public void shouldMatchIdAndCompareNumbersByValue()
+	{
+		TestEntity e = entity(5, "a");
+		assertTrue(matches(e, "id", FilterOperator.EQUALS, 5));
+		assertTrue(matches(e, "_id", FilterOperator.GREATER_THAN, 4.5d));
+		assertFalse(matches(e, "id", FilterOperator.LESS_THAN, 5L));
+	}
+
+	@Test
+	public void shouldRequireAllCriteria()
+	{
+		QueryFilter filter = new QueryFilter()
+			.addCriteria("name", FilterOperator.STARTS_WITH, "a")
+			.addCriteria("id", FilterOperator.GREATER_THAN, 2L);
+		assertFalse(QueryEvaluator.matches(filter, entity(1L, "apple")));
+		assertTrue(QueryEvaluator.matches(filter, entity(3L, "apple")));
+	}
+
+	@Test
+	public void shouldNotMatchNullProperty()
+	{
+		TestEntity e = entity(1, null);
+		assertNull(QueryEvaluator.getProperty(e, "name"));
+		assertFalse(matches(e, "name", FilterOperator.EQUALS, "a"));
+		assertFalse(matches(e, "name", FilterOperator.STARTS_WITH, "a"));
+	}
+
+	@Test
+	public void shouldSortByOrder()
+	{
+		List<TestEntity> entities = new ArrayList<TestEntity>();
+		entities.add(entity(1, "b"));
+		entities.add(entity(2, null));
+		entities.add(entity(3, "a"));
+		entities.add(entity(4, "b"));
+
+		Collections.sort(entities, QueryEvaluator.<TestEntity>comparator(new QueryOrder().addSort("name").addSort("-id")));
+		assertEquals(2L, entities.get(0).getId().primaryKey());
+		assertEquals(3L, entities.get(1).getId().primaryKey());
+		assertEquals(4L, entities.get(2).getId().primaryKey());
+		assertEquals(1L, entities.get(3).getId().primaryKey());
+	}
+
+
+	// SECTION: UTILITY
+
+	private TestEntity entity(long id, String name)
+	{
+		TestEntity e = new TestEntity(name);
+		e.setId(Identifier.of(id));
+		return e;
+	}
+
+	private boolean matches(TestEntity entity, String name, FilterOperator operator, Object value)
+	{
+		return QueryEvaluator.matches(new QueryFilter().addCriteria(name, operator, value), entity);
+	}
+}
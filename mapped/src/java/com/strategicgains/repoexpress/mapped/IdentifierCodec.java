@@ -0,0 +1,138 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mapped;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Encodes an Identifier into the log, so that the index can be rebuilt without decoding
+ * entities. Components may be Strings, UUIDs and integral numbers, which are decoded as Longs.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class IdentifierCodec
+{
+	private static final byte LONG = 'L';
+	private static final byte STRING = 'S';
+	private static final byte UUID_TYPE = 'U';
+
+	private IdentifierCodec()
+	{
+		// prevents instantiation.
+	}
+
+	public static boolean supports(Identifier id)
+	{
+		if (id == null || id.isEmpty() || id.size() > Byte.MAX_VALUE) return false;
+
+		for (Object component : id.components())
+		{
+			if (!(component instanceof String || component instanceof UUID || isIntegral(component))) return false;
+		}
+
+		return true;
+	}
+
+	public static byte[] encode(Identifier id)
+	{
+		if (!supports(id)) throw new InvalidObjectIdException("Unsupported ID: " + id);
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(32);
+		DataOutputStream out = new DataOutputStream(bytes);
+
+		try
+		{
+			out.writeByte(id.size());
+
+			for (Object component : id.components())
+			{
+				if (component instanceof String)
+				{
+					out.writeByte(STRING);
+					out.writeUTF((String) component);
+				}
+				else if (component instanceof UUID)
+				{
+					out.writeByte(UUID_TYPE);
+					out.writeLong(((UUID) component).getMostSignificantBits());
+					out.writeLong(((UUID) component).getLeastSignificantBits());
+				}
+				else
+				{
+					out.writeByte(LONG);
+					out.writeLong(((Number) component).longValue());
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException(e);
+		}
+
+		return bytes.toByteArray();
+	}
+
+	public static Identifier decode(byte[] bytes)
+	{
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+		try
+		{
+			Object[] components = new Object[in.readByte()];
+
+			for (int i = 0; i < components.length; i++)
+			{
+				byte type = in.readByte();
+
+				switch (type)
+				{
+					case STRING:
+						components[i] = in.readUTF();
+						break;
+					case UUID_TYPE:
+						components[i] = new UUID(in.readLong(), in.readLong());
+						break;
+					case LONG:
+						components[i] = in.readLong();
+						break;
+					default:
+						throw new RepositoryException("Corrupt ID component type: " + type);
+				}
+			}
+
+			return Identifier.of(components);
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException(e);
+		}
+	}
+
+	private static boolean isIntegral(Object o)
+	{
+		return (o instanceof Long || o instanceof Integer || o instanceof Short || o instanceof Byte);
+	}
+}
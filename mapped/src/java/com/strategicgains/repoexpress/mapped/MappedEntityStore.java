@@ -0,0 +1,873 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mapped;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileFilter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+import com.strategicgains.repoexpress.codec.EntityCodec;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.memory.EntityStore;
+
+/**
+ * A persistent EntityStore: an append-only log of entities, serialized via an EntityCodec, in
+ * memory-mapped segment files within a directory. Only the index of ID to log location is held
+ * on the heap. Each read decodes a new instance of the entity.
+ * <p/>
+ * On opening, the index is loaded from the snapshot written by snapshot() or close(), if any,
+ * and the log beyond it is replayed. Without a snapshot, the whole log is replayed. A record
+ * torn by a crash ends the log.
+ * <p/>
+ * Updates and deletes abandon the space of earlier records. compact() copies the live records
+ * of sealed segments whose abandoned space exceeds a threshold (half, by default) to the end
+ * of the log and deletes the segments. It may also be scheduled in the background. Writes,
+ * and compaction, hold an exclusive lock, while reads proceed concurrently.
+ * <p/>
+ * IDs may have components that are Strings, UUIDs or integral numbers (decoded as Longs).
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see MappedRepository
+ * @see SyncPolicy
+ */
+public class MappedEntityStore<T extends Identifiable>
+implements EntityStore<T>, Closeable
+{
+	private static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+	private static final double DEFAULT_COMPACTION_THRESHOLD = 0.5d;
+	private static final String SEGMENT_PREFIX = "segment-";
+	private static final String SEGMENT_SUFFIX = ".log";
+	private static final String SNAPSHOT_FILE = "index.snapshot";
+	private static final int SNAPSHOT_MAGIC = 0x52584931;
+	private static final byte[] NO_BYTES = new byte[0];
+
+	private File directory;
+	private EntityCodec<T> codec;
+	private int segmentSize;
+	private SyncPolicy syncPolicy = SyncPolicy.NONE;
+	private double compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+	private ScheduledExecutorService scheduler;
+	private ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// Guarded by lock. A location is the segment number in the high 32 bits and offset in the low.
+	private Map<Identifier, Long> locations = new HashMap<Identifier, Long>();
+	private TreeMap<Integer, Segment> segments = new TreeMap<Integer, Segment>();
+	private Segment active;
+	private boolean isClosed = false;
+
+	/**
+	 * Open, or create, a store in the directory, with segments of 64MB.
+	 * 
+	 * @param directory holds the segment files and index snapshot. Created if necessary.
+	 * @param codec converts entities to and from bytes.
+	 */
+	public MappedEntityStore(File directory, EntityCodec<T> codec)
+	{
+		this(directory, codec, DEFAULT_SEGMENT_SIZE);
+	}
+
+	/**
+	 * @param directory holds the segment files and index snapshot. Created if necessary.
+	 * @param codec converts entities to and from bytes.
+	 * @param segmentSize the size, in bytes, of each segment file.
+	 */
+	public MappedEntityStore(File directory, EntityCodec<T> codec, int segmentSize)
+	{
+		super();
+		this.directory = directory;
+		this.codec = codec;
+		this.segmentSize = segmentSize;
+
+		try
+		{
+			open();
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Cannot open " + directory, e);
+		}
+	}
+
+	/**
+	 * Set when writes are forced to disk.
+	 * 
+	 * @param policy the sync policy.
+	 * @param interval for SyncPolicy.INTERVAL, the time between syncs.
+	 * @param unit the unit of interval.
+	 */
+	public void setSyncPolicy(SyncPolicy policy, long interval, TimeUnit unit)
+	{
+		this.syncPolicy = policy;
+
+		if (policy == SyncPolicy.INTERVAL)
+		{
+			scheduler().scheduleWithFixedDelay(new Runnable()
+			{
+				@Override
+				public void run()
+				{
+					sync();
+				}
+			}, interval, interval, unit);
+		}
+	}
+
+	/**
+	 * Set the fraction of a sealed segment that may be abandoned before compact() rewrites it.
+	 */
+	public void setCompactionThreshold(double threshold)
+	{
+		this.compactionThreshold = threshold;
+	}
+
+	/**
+	 * Run compact() periodically in the background.
+	 */
+	public void setCompactionInterval(long interval, TimeUnit unit)
+	{
+		scheduler().scheduleWithFixedDelay(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				compact();
+			}
+		}, interval, interval, unit);
+	}
+
+	/**
+	 * Write an index snapshot periodically in the background, to shorten replay on opening.
+	 */
+	public void setSnapshotInterval(long interval, TimeUnit unit)
+	{
+		scheduler().scheduleWithFixedDelay(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				snapshot();
+			}
+		}, interval, interval, unit);
+	}
+
+	@Override
+	public boolean supports(Identifier id)
+	{
+		return IdentifierCodec.supports(id);
+	}
+
+	@Override
+	public T get(Identifier id)
+	{
+		byte[] bytes;
+		lock.readLock().lock();
+
+		try
+		{
+			ensureOpen();
+			Long location = locations.get(id);
+
+			if (location == null) return null;
+
+			bytes = segmentAt(location).readEntity(offsetOf(location));
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+
+		return codec.decode(bytes);
+	}
+
+	@Override
+	public boolean contains(Identifier id)
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			ensureOpen();
+			return locations.containsKey(id);
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	@Override
+	public boolean put(T entity)
+	{
+		return write(entity, false);
+	}
+
+	@Override
+	public boolean putIfAbsent(T entity)
+	{
+		return !write(entity, true);
+	}
+
+	@Override
+	public boolean remove(Identifier id)
+	{
+		if (!supports(id)) return false;
+
+		byte[] idBytes = IdentifierCodec.encode(id);
+		lock.writeLock().lock();
+
+		try
+		{
+			ensureOpen();
+			Long previous = locations.remove(id);
+
+			if (previous == null) return false;
+
+			append(Segment.DELETE, idBytes, NO_BYTES);
+			abandon(previous);
+			syncIfRequired();
+			return true;
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Cannot write to " + directory, e);
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public int size()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return locations.size();
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Delete every entity, along with the log and snapshot.
+	 */
+	@Override
+	public void clear()
+	{
+		lock.writeLock().lock();
+
+		try
+		{
+			ensureOpen();
+			deleteSnapshot();
+
+			for (Segment segment : segments.values())
+			{
+				segment.delete();
+			}
+
+			segments.clear();
+			locations.clear();
+			active = null;
+			roll(0);
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Cannot clear " + directory, e);
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public List<T> values()
+	{
+		List<byte[]> records;
+		lock.readLock().lock();
+
+		try
+		{
+			ensureOpen();
+			records = new ArrayList<byte[]>(locations.size());
+
+			for (Long location : locations.values())
+			{
+				records.add(segmentAt(location).readEntity(offsetOf(location)));
+			}
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+
+		List<T> values = new ArrayList<T>(records.size());
+
+		for (byte[] bytes : records)
+		{
+			values.add(codec.decode(bytes));
+		}
+
+		return values;
+	}
+
+	/**
+	 * Force all writes to disk.
+	 */
+	public void sync()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			if (!isClosed) active.force();
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Copy the live records of each sealed segment whose abandoned space exceeds the compaction
+	 * threshold to the end of the log, then delete the segment. Deletion markers are dropped once
+	 * no older segment remains. Invalidates any index snapshot.
+	 */
+	public void compact()
+	{
+		lock.writeLock().lock();
+
+		try
+		{
+			if (isClosed) return;
+
+			for (Segment segment : new ArrayList<Segment>(segments.values()))
+			{
+				if (segment != active && segment.position() - segment.getLiveBytes() > segment.position() * compactionThreshold)
+				{
+					deleteSnapshot();
+					compact(segment);
+				}
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Cannot compact " + directory, e);
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Write a snapshot of the index, so that only the log beyond it is replayed on opening.
+	 */
+	public void snapshot()
+	{
+		lock.writeLock().lock();
+
+		try
+		{
+			if (!isClosed) writeSnapshot();
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Cannot snapshot " + directory, e);
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Stop background tasks, force writes to disk, write an index snapshot and close the files.
+	 */
+	@Override
+	public void close()
+	{
+		if (scheduler != null)
+		{
+			scheduler.shutdownNow();
+		}
+
+		lock.writeLock().lock();
+
+		try
+		{
+			if (isClosed) return;
+
+			active.force();
+			writeSnapshot();
+			isClosed = true;
+
+			for (Segment segment : segments.values())
+			{
+				segment.close();
+			}
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Cannot close " + directory, e);
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+
+	// SECTION: METRICS
+
+	public int getSegmentCount()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			return segments.size();
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the bytes of the log taken by the current record of each entity.
+	 */
+	public long getLiveBytes()
+	{
+		lock.readLock().lock();
+
+		try
+		{
+			long live = 0L;
+
+			for (Segment segment : segments.values())
+			{
+				live += segment.getLiveBytes();
+			}
+
+			return live;
+		}
+		finally
+		{
+			lock.readLock().unlock();
+		}
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * @return true if an entity with the same ID already existed.
+	 */
+	private boolean write(T entity, boolean onlyIfAbsent)
+	{
+		Identifier id = entity.getId();
+
+		if (!supports(id)) throw new IllegalArgumentException("Unsupported ID: " + id);
+
+		byte[] idBytes = IdentifierCodec.encode(id);
+		byte[] bytes = codec.encode(entity);
+		lock.writeLock().lock();
+
+		try
+		{
+			ensureOpen();
+			Long previous = locations.get(id);
+
+			if (previous != null && onlyIfAbsent) return true;
+
+			locations.put(id.toImmutable(), append(Segment.PUT, idBytes, bytes));
+
+			if (previous != null)
+			{
+				abandon(previous);
+			}
+
+			syncIfRequired();
+			return (previous != null);
+		}
+		catch (IOException e)
+		{
+			throw new RepositoryException("Cannot write to " + directory, e);
+		}
+		finally
+		{
+			lock.writeLock().unlock();
+		}
+	}
+
+	private long append(byte operation, byte[] id, byte[] entity)
+	throws IOException
+	{
+		int size = Segment.recordSize(id.length, entity.length);
+
+		if (active.remaining() < size)
+		{
+			roll(size);
+		}
+
+		int offset = active.append(operation, id, entity);
+
+		if (operation == Segment.PUT)
+		{
+			active.addLiveBytes(size);
+		}
+
+		return locationOf(active, offset);
+	}
+
+	private long appendRecord(byte[] record)
+	throws IOException
+	{
+		if (active.remaining() < record.length)
+		{
+			roll(record.length);
+		}
+
+		return locationOf(active, active.appendRecord(record));
+	}
+
+	private void abandon(long location)
+	{
+		Segment segment = segmentAt(location);
+		segment.addLiveBytes(-segment.recordSizeAt(offsetOf(location)));
+	}
+
+	private void syncIfRequired()
+	{
+		if (syncPolicy == SyncPolicy.ALWAYS)
+		{
+			active.force();
+		}
+	}
+
+	/**
+	 * Seal the active segment and start a new one, at least minimumSize bytes.
+	 */
+	private void roll(int minimumSize)
+	throws IOException
+	{
+		if (active != null && syncPolicy != SyncPolicy.NONE)
+		{
+			active.force();
+		}
+
+		int number = (segments.isEmpty() ? 0 : segments.lastKey() + 1);
+		active = Segment.open(segmentFile(number), number, Math.max(segmentSize, minimumSize));
+		segments.put(number, active);
+	}
+
+	private void compact(Segment segment)
+	throws IOException
+	{
+		boolean isOldest = (segment.getNumber() == segments.firstKey());
+		int end = segment.position();
+		int offset = 0;
+
+		while (offset < end)
+		{
+			int size = segment.recordSizeAt(offset);
+			Identifier id = IdentifierCodec.decode(segment.readId(offset));
+
+			if (segment.operationAt(offset) == Segment.PUT)
+			{
+				Long location = locations.get(id);
+
+				if (location != null && location == locationOf(segment, offset))
+				{
+					locations.put(id, appendRecord(segment.readRecord(offset)));
+					active.addLiveBytes(size);
+				}
+			}
+			else if (!isOldest && !locations.containsKey(id))
+			{
+				// Still needed to mask any earlier record of the entity in an older segment.
+				appendRecord(segment.readRecord(offset));
+			}
+
+			offset += size;
+		}
+
+		// Make the copies durable before the originals are gone.
+		active.force();
+		segments.remove(segment.getNumber());
+		segment.delete();
+	}
+
+	private void open()
+	throws IOException
+	{
+		if (!directory.isDirectory() && !directory.mkdirs())
+		{
+			throw new IOException("Cannot create directory " + directory);
+		}
+
+		File[] files = directory.listFiles(new FileFilter()
+		{
+			@Override
+			public boolean accept(File file)
+			{
+				return file.getName().startsWith(SEGMENT_PREFIX) && file.getName().endsWith(SEGMENT_SUFFIX);
+			}
+		});
+
+		for (File file : files)
+		{
+			String name = file.getName();
+			int number = Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+			segments.put(number, Segment.open(file, number, segmentSize));
+		}
+
+		long start = readSnapshot();
+
+		for (Segment segment : segments.tailMap((int) (start >>> 32), true).values())
+		{
+			int offset = (segment.getNumber() == (int) (start >>> 32) ? offsetOf(start) : 0);
+
+			while (segment.isRecordAt(offset))
+			{
+				replay(segment, offset);
+				offset += segment.recordSizeAt(offset);
+			}
+
+			segment.truncateTo(offset);
+		}
+
+		if (segments.isEmpty())
+		{
+			roll(0);
+		}
+
+		active = segments.lastEntry().getValue();
+	}
+
+	private void replay(Segment segment, int offset)
+	{
+		Identifier id = IdentifierCodec.decode(segment.readId(offset));
+		Long previous;
+
+		if (segment.operationAt(offset) == Segment.PUT)
+		{
+			previous = locations.put(id, locationOf(segment, offset));
+			segment.addLiveBytes(segment.recordSizeAt(offset));
+		}
+		else
+		{
+			previous = locations.remove(id);
+		}
+
+		if (previous != null)
+		{
+			abandon(previous);
+		}
+	}
+
+	/**
+	 * Writes the end position of each segment, then the location of each entity, with a checksum.
+	 */
+	private void writeSnapshot()
+	throws IOException
+	{
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(SNAPSHOT_MAGIC);
+		out.writeInt(segments.size());
+
+		for (Segment segment : segments.values())
+		{
+			out.writeInt(segment.getNumber());
+			out.writeInt(segment.position());
+		}
+
+		out.writeInt(locations.size());
+
+		for (Map.Entry<Identifier, Long> entry : locations.entrySet())
+		{
+			byte[] id = IdentifierCodec.encode(entry.getKey());
+			out.writeShort(id.length);
+			out.write(id);
+			out.writeLong(entry.getValue());
+		}
+
+		CRC32 crc = new CRC32();
+		crc.update(bytes.toByteArray());
+		out.writeLong(crc.getValue());
+		File temp = new File(directory, SNAPSHOT_FILE + ".tmp");
+
+		try (FileOutputStream file = new FileOutputStream(temp))
+		{
+			bytes.writeTo(file);
+			file.getChannel().force(true);
+		}
+
+		Files.move(temp.toPath(), new File(directory, SNAPSHOT_FILE).toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	/**
+	 * Loads the index from a valid snapshot, if any, returning the location from which to replay.
+	 */
+	private long readSnapshot()
+	throws IOException
+	{
+		File file = new File(directory, SNAPSHOT_FILE);
+
+		if (!file.isFile() || file.length() < 8) return 0L;
+
+		byte[] bytes = Files.readAllBytes(file.toPath());
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length - 8);
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+		if (in.readInt() != SNAPSHOT_MAGIC || crc.getValue() != readLong(bytes, bytes.length - 8)) return 0L;
+
+		Map<Integer, Integer> positions = new HashMap<Integer, Integer>();
+		int segmentCount = in.readInt();
+		long start = 0L;
+
+		for (int i = 0; i < segmentCount; i++)
+		{
+			int number = in.readInt();
+			int position = in.readInt();
+			Segment segment = segments.get(number);
+
+			if (segment == null || position > segment.remaining()) return 0L;
+
+			positions.put(number, position);
+			start = locationOf(number, position);
+		}
+
+		if (!positions.keySet().equals(segments.headMap((int) (start >>> 32), true).keySet())) return 0L;
+
+		int entryCount = in.readInt();
+
+		for (int i = 0; i < entryCount; i++)
+		{
+			byte[] id = new byte[in.readUnsignedShort()];
+			in.readFully(id);
+			long location = in.readLong();
+			locations.put(IdentifierCodec.decode(id), location);
+			Segment segment = segmentAt(location);
+			segment.addLiveBytes(segment.recordSizeAt(offsetOf(location)));
+		}
+
+		for (Map.Entry<Integer, Integer> entry : positions.entrySet())
+		{
+			segments.get(entry.getKey()).seek(entry.getValue());
+		}
+
+		return start;
+	}
+
+	private void deleteSnapshot()
+	throws IOException
+	{
+		Files.deleteIfExists(new File(directory, SNAPSHOT_FILE).toPath());
+	}
+
+	private File segmentFile(int number)
+	{
+		return new File(directory, String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+	}
+
+	private Segment segmentAt(long location)
+	{
+		return segments.get((int) (location >>> 32));
+	}
+
+	private void ensureOpen()
+	{
+		if (isClosed) throw new RepositoryException("Store is closed: " + directory);
+	}
+
+	private synchronized ScheduledExecutorService scheduler()
+	{
+		if (scheduler == null)
+		{
+			scheduler = Executors.newSingleThreadScheduledExecutor(new ThreadFactory()
+			{
+				@Override
+				public Thread newThread(Runnable runnable)
+				{
+					Thread thread = new Thread(runnable, "MappedEntityStore-" + directory.getName());
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+
+		return scheduler;
+	}
+
+	private static long locationOf(Segment segment, int offset)
+	{
+		return locationOf(segment.getNumber(), offset);
+	}
+
+	private static long locationOf(int number, int offset)
+	{
+		return ((long) number << 32) | (offset & 0xffffffffL);
+	}
+
+	private static int offsetOf(long location)
+	{
+		return (int) location;
+	}
+
+	private static long readLong(byte[] bytes, int offset)
+	{
+		long value = 0L;
+
+		for (int i = 0; i < 8; i++)
+		{
+			value = (value << 8) | (bytes[offset + i] & 0xff);
+		}
+
+		return value;
+	}
+}
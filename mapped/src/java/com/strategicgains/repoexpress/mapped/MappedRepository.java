@@ -0,0 +1,84 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mapped;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.UUID;
+
+import com.strategicgains.repoexpress.codec.EntityCodec;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.memory.InMemoryRepository;
+
+/**
+ * An embedded, persistent, single-process repository, backed by a MappedEntityStore: an
+ * append-only log of serialized entities in memory-mapped files. It suits edge nodes and
+ * single-node test environments that need persistence without a database server.
+ * <p/>
+ * Queries, and secondary indexes, are as for InMemoryRepository, though each entity examined
+ * is decoded, so declare indexes for frequent queries. Indexes are rebuilt on opening. IDs are
+ * generated as random UUIDs, so they remain unique across restarts.
+ * <p/>
+ * Call close() on shutdown, which writes an index snapshot for a fast restart.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see MappedEntityStore
+ */
+public class MappedRepository<T extends Identifiable>
+extends InMemoryRepository<T>
+implements Closeable
+{
+	private MappedEntityStore<T> mappedStore;
+
+	/**
+	 * Open, or create, a repository in the directory.
+	 * 
+	 * @param directory holds the log segments and index snapshot.
+	 * @param codec converts entities to and from bytes.
+	 */
+	public MappedRepository(File directory, EntityCodec<T> codec)
+	{
+		this(new MappedEntityStore<T>(directory, codec));
+	}
+
+	public MappedRepository(MappedEntityStore<T> store)
+	{
+		super(store);
+		this.mappedStore = store;
+	}
+
+	/**
+	 * Returns the underlying store, to configure syncing, compaction and snapshots.
+	 */
+	public MappedEntityStore<T> getMappedStore()
+	{
+		return mappedStore;
+	}
+
+	@Override
+	public void close()
+	{
+		mappedStore.close();
+	}
+
+	@Override
+	protected Identifier generateId(T item)
+	{
+		return Identifier.of(UUID.randomUUID());
+	}
+}
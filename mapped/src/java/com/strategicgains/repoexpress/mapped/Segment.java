@@ -0,0 +1,268 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mapped;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.zip.CRC32;
+
+/**
+ * One memory-mapped file of the log. Records are appended, never modified, each being:
+ * <pre>
+ * int bodyLength, int crc32(body), body: [byte operation, short idLength, id, entity]
+ * </pre>
+ * The file is preallocated, so a body length of zero marks the end of the records. A record
+ * that is truncated, or fails its checksum, is treated as the end, having been torn by a crash.
+ * <p/>
+ * Not thread safe. MappedEntityStore guards all access, and readers use duplicate buffers.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class Segment
+implements Closeable
+{
+	static final byte PUT = 1;
+	static final byte DELETE = 2;
+	private static final int HEADER_SIZE = 8;
+	private static final int BODY_PREFIX_SIZE = 3;
+
+	private final int number;
+	private final File file;
+	private final RandomAccessFile raf;
+	private final MappedByteBuffer buffer;
+	private long liveBytes = 0L;
+
+	private Segment(int number, File file, RandomAccessFile raf, MappedByteBuffer buffer)
+	{
+		super();
+		this.number = number;
+		this.file = file;
+		this.raf = raf;
+		this.buffer = buffer;
+	}
+
+	/**
+	 * Open, or create, the segment file, mapping at least size bytes of it.
+	 */
+	public static Segment open(File file, int number, int size)
+	throws IOException
+	{
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+
+		try
+		{
+			long length = Math.max(size, raf.length());
+			MappedByteBuffer buffer = raf.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, length);
+			return new Segment(number, file, raf, buffer);
+		}
+		catch (IOException e)
+		{
+			raf.close();
+			throw e;
+		}
+	}
+
+	public static int recordSize(int idLength, int entityLength)
+	{
+		return HEADER_SIZE + BODY_PREFIX_SIZE + idLength + entityLength;
+	}
+
+	public int getNumber()
+	{
+		return number;
+	}
+
+	public File getFile()
+	{
+		return file;
+	}
+
+	public int position()
+	{
+		return buffer.position();
+	}
+
+	public int remaining()
+	{
+		return buffer.remaining();
+	}
+
+	public long getLiveBytes()
+	{
+		return liveBytes;
+	}
+
+	public void addLiveBytes(long bytes)
+	{
+		liveBytes += bytes;
+	}
+
+	/**
+	 * Append a record, returning its offset.
+	 */
+	public int append(byte operation, byte[] id, byte[] entity)
+	{
+		int offset = buffer.position();
+		int bodyLength = BODY_PREFIX_SIZE + id.length + entity.length;
+		CRC32 crc = new CRC32();
+		crc.update(operation);
+		crc.update(id.length >>> 8);
+		crc.update(id.length);
+		crc.update(id);
+		crc.update(entity);
+
+		buffer.putInt(bodyLength);
+		buffer.putInt((int) crc.getValue());
+		buffer.put(operation);
+		buffer.putShort((short) id.length);
+		buffer.put(id);
+		buffer.put(entity);
+		return offset;
+	}
+
+	/**
+	 * Append a copy of a record read by readRecord(), returning its offset.
+	 */
+	public int appendRecord(byte[] record)
+	{
+		int offset = buffer.position();
+		buffer.put(record);
+		return offset;
+	}
+
+	/**
+	 * Returns the size of the record at the offset.
+	 */
+	public int recordSizeAt(int offset)
+	{
+		return HEADER_SIZE + buffer.getInt(offset);
+	}
+
+	public byte operationAt(int offset)
+	{
+		return buffer.get(offset + HEADER_SIZE);
+	}
+
+	public byte[] readId(int offset)
+	{
+		ByteBuffer b = buffer.duplicate();
+		b.position(offset + HEADER_SIZE + 1);
+		byte[] id = new byte[b.getShort() & 0xffff];
+		b.get(id);
+		return id;
+	}
+
+	public byte[] readEntity(int offset)
+	{
+		ByteBuffer b = buffer.duplicate();
+		int bodyLength = b.getInt(offset);
+		b.position(offset + HEADER_SIZE + 1);
+		int idLength = b.getShort() & 0xffff;
+		byte[] entity = new byte[bodyLength - BODY_PREFIX_SIZE - idLength];
+		b.position(b.position() + idLength);
+		b.get(entity);
+		return entity;
+	}
+
+	/**
+	 * Returns a copy of the whole record at the offset.
+	 */
+	public byte[] readRecord(int offset)
+	{
+		ByteBuffer b = buffer.duplicate();
+		b.position(offset);
+		byte[] record = new byte[recordSizeAt(offset)];
+		b.get(record);
+		return record;
+	}
+
+	/**
+	 * Returns true if a complete, intact record starts at the offset.
+	 */
+	public boolean isRecordAt(int offset)
+	{
+		if (offset + HEADER_SIZE > buffer.capacity()) return false;
+
+		int bodyLength = buffer.getInt(offset);
+
+		if (bodyLength < BODY_PREFIX_SIZE || bodyLength > buffer.capacity() - offset - HEADER_SIZE) return false;
+
+		ByteBuffer b = buffer.duplicate();
+		b.position(offset + HEADER_SIZE);
+		byte[] body = new byte[bodyLength];
+		b.get(body);
+		CRC32 crc = new CRC32();
+		crc.update(body);
+
+		if ((int) crc.getValue() != buffer.getInt(offset + 4)) return false;
+
+		int idLength = ((body[1] & 0xff) << 8) | (body[2] & 0xff);
+		return (idLength <= bodyLength - BODY_PREFIX_SIZE);
+	}
+
+	/**
+	 * Set the write position, as recorded by an index snapshot.
+	 */
+	public void seek(int offset)
+	{
+		buffer.position(offset);
+	}
+
+	/**
+	 * Set the write position after recovery, zeroing any torn record beyond it.
+	 */
+	public void truncateTo(int offset)
+	{
+		if (offset + 4 <= buffer.capacity())
+		{
+			buffer.putInt(offset, 0);
+		}
+
+		buffer.position(offset);
+	}
+
+	public void force()
+	{
+		buffer.force();
+	}
+
+	@Override
+	public void close()
+	throws IOException
+	{
+		raf.close();
+	}
+
+	/**
+	 * Close and delete the segment file. The mapping itself is released when garbage collected.
+	 */
+	public void delete()
+	throws IOException
+	{
+		close();
+
+		if (!file.delete())
+		{
+			file.deleteOnExit();
+		}
+	}
+}
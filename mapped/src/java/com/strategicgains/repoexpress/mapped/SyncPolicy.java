@@ -0,0 +1,42 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mapped;
+
+/**
+ * When a MappedEntityStore forces its writes to disk. Writes to memory-mapped files survive a
+ * crash of the process regardless, as they're in the operating system's page cache, so the
+ * policy only bounds what may be lost if the machine itself fails.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public enum SyncPolicy
+{
+	/**
+	 * Force each write to disk before returning. Durable, but slow.
+	 */
+	ALWAYS,
+
+	/**
+	 * Force writes to disk periodically, in the background.
+	 */
+	INTERVAL,
+
+	/**
+	 * Leave writes to the operating system, forcing them to disk only on close().
+	 */
+	NONE
+}
@@ -0,0 +1,252 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mapped;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.UUID;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.restexpress.common.query.FilterOperator;
+import org.restexpress.common.query.QueryFilter;
+
+import com.strategicgains.repoexpress.codec.EntityCodec;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class MappedRepositoryTest
+{
+	private static final int SEGMENT_SIZE = 4096;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private File directory;
+	private MappedRepository<Item> repository;
+
+	@Before
+	public void setup()
+	throws IOException
+	{
+		directory = folder.newFolder("store");
+		repository = open();
+	}
+
+	@After
+	public void teardown()
+	{
+		repository.close();
+	}
+
+	@Test
+	public void shouldPersistAcrossReopen()
+	{
+		Item a = repository.create(new Item("a"));
+		Item b = repository.create(new Item("b"));
+		b.name = "b2";
+		repository.update(b);
+		repository.delete(a);
+		repository.close();
+
+		repository = open();
+		assertFalse(repository.exists(a.getId()));
+		assertEquals("b2", repository.read(b.getId()).name);
+		assertEquals(1, repository.readAll(null, null, null).size());
+	}
+
+	@Test
+	public void shouldReplayLogWithoutSnapshot()
+	{
+		Item a = repository.create(new Item("a"));
+		repository.getMappedStore().snapshot();
+		Item b = repository.create(new Item("b"));
+		repository.delete(a);
+
+		// Abandon the store without closing, as in a crash.
+		repository = open();
+		assertFalse(repository.exists(a.getId()));
+		assertEquals("b", repository.read(b.getId()).name);
+
+		repository.close();
+		assertTrue(new File(directory, "index.snapshot").delete());
+		repository = open();
+		assertEquals(1, repository.count(null));
+	}
+
+	@Test
+	public void shouldIgnoreTornRecord()
+	throws IOException
+	{
+		Item a = repository.create(new Item("a"));
+		repository.getMappedStore().sync();
+
+		// Write a partial record after the last record, as if the process died mid-write.
+		try (RandomAccessFile file = new RandomAccessFile(new File(directory, "segment-00000000.log"), "rw"))
+		{
+			long offset = 0;
+			int bodyLength;
+
+			while ((bodyLength = file.readInt()) != 0)
+			{
+				offset += 8 + bodyLength;
+				file.seek(offset);
+			}
+
+			file.seek(offset);
+			file.writeInt(100);
+			file.writeInt(12345);
+			file.writeByte(1);
+		}
+
+		repository = open();
+		assertEquals("a", repository.read(a.getId()).name);
+		assertEquals(1, repository.count(null));
+		Item b = repository.create(new Item("b"));
+		repository.close();
+		repository = open();
+		assertEquals("b", repository.read(b.getId()).name);
+	}
+
+	@Test
+	public void shouldCompactSegments()
+	{
+		Item a = repository.create(new Item("a"));
+
+		for (int i = 0; i < 500; i++)
+		{
+			a.name = "a" + i;
+			repository.update(a);
+		}
+
+		int segments = repository.getMappedStore().getSegmentCount();
+		assertTrue(segments > 2);
+		repository.getMappedStore().compact();
+		assertTrue(repository.getMappedStore().getSegmentCount() < segments);
+		assertEquals("a499", repository.read(a.getId()).name);
+
+		repository.close();
+		repository = open();
+		assertEquals("a499", repository.read(a.getId()).name);
+		assertEquals(1, repository.count(null));
+	}
+
+	@Test
+	public void shouldQueryWithIndexAfterReopen()
+	{
+		repository.create(new Item("apple"));
+		repository.create(new Item("banana"));
+		repository.close();
+
+		repository = open();
+		repository.addSortedIndex("name");
+		assertEquals(1, repository.count(new QueryFilter().addCriteria("name", FilterOperator.STARTS_WITH, "b")));
+	}
+
+	private MappedRepository<Item> open()
+	{
+		return new MappedRepository<Item>(new MappedEntityStore<Item>(directory, new ItemCodec(), SEGMENT_SIZE));
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class Item
+	implements Identifiable
+	{
+		private Identifier id;
+		private String name;
+
+		public Item(String name)
+		{
+			super();
+			this.name = name;
+		}
+
+		@Override
+		public Identifier getId()
+		{
+			return id;
+		}
+
+		@Override
+		public void setId(Identifier id)
+		{
+			this.id = id;
+		}
+
+		@SuppressWarnings("unused")
+		public String getName()
+		{
+			return name;
+		}
+	}
+
+	private static class ItemCodec
+	implements EntityCodec<Item>
+	{
+		@Override
+		public byte[] encode(Item entity)
+		{
+			try
+			{
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream out = new DataOutputStream(bytes);
+				out.writeUTF(entity.getId().primaryKey().toString());
+				out.writeUTF(entity.name);
+				return bytes.toByteArray();
+			}
+			catch (IOException e)
+			{
+				throw new RepositoryException(e);
+			}
+		}
+
+		@Override
+		public Item decode(byte[] bytes)
+		{
+			try
+			{
+				DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+				String id = in.readUTF();
+				Item item = new Item(in.readUTF());
+				item.setId(Identifier.of(UUID.fromString(id)));
+				return item;
+			}
+			catch (IOException e)
+			{
+				throw new RepositoryException(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mongodb;
+
+import java.util.List;
+
+import org.bson.BSONObject;
+import org.bson.BasicBSONDecoder;
+import org.bson.BasicBSONEncoder;
+import org.bson.BasicBSONObject;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Encodes and decodes the continuation tokens used for keyset pagination. A token holds
+ * the sort-key values of the last result on a page, followed by its _id, as a BSON array,
+ * hex encoded so it's safe to pass in a URL.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class KeysetToken
+{
+	private static final String KEYS = "k";
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	private KeysetToken()
+	{
+		// prevents instantiation.
+	}
+
+	public static String encode(List<Object> keys)
+	{
+		byte[] bytes = new BasicBSONEncoder().encode(new BasicBSONObject(KEYS, keys));
+		char[] chars = new char[bytes.length * 2];
+
+		for (int i = 0; i < bytes.length; i++)
+		{
+			chars[i * 2] = HEX[(bytes[i] >> 4) & 0xf];
+			chars[i * 2 + 1] = HEX[bytes[i] & 0xf];
+		}
+
+		return new String(chars);
+	}
+
+	@SuppressWarnings("unchecked")
+	public static List<Object> decode(String token, int expectedSize)
+	{
+		try
+		{
+			if (token.length() % 2 != 0) throw new IllegalArgumentException("odd length");
+
+			byte[] bytes = new byte[token.length() / 2];
+
+			for (int i = 0; i < bytes.length; i++)
+			{
+				bytes[i] = (byte) Integer.parseInt(token.substring(i * 2, i * 2 + 2), 16);
+			}
+
+			BSONObject decoded = new BasicBSONDecoder().readObject(bytes);
+			List<Object> keys = (List<Object>) decoded.get(KEYS);
+
+			if (keys == null || keys.size() != expectedSize)
+			{
+				throw new IllegalArgumentException("wrong number of keys");
+			}
+
+			return keys;
+		}
+		catch (RuntimeException e)
+		{
+			throw new RepositoryException("Invalid continuation token: " + token, e);
+		}
+	}
+}
@@ -15,12 +15,24 @@
 */
 package com.strategicgains.repoexpress.mongodb;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
+import org.mongodb.morphia.AdvancedDatastore;
 import org.mongodb.morphia.Datastore;
+import org.mongodb.morphia.Key;
 import org.mongodb.morphia.Morphia;
+import org.mongodb.morphia.mapping.MappedClass;
+import org.mongodb.morphia.mapping.MappedField;
+import org.mongodb.morphia.mapping.cache.EntityCache;
+import org.mongodb.morphia.query.Criteria;
 import org.mongodb.morphia.query.FindOptions;
+import org.mongodb.morphia.query.MorphiaIterator;
 import org.mongodb.morphia.query.Query;
 import org.restexpress.common.query.FilterCallback;
 import org.restexpress.common.query.FilterComponent;
@@ -30,15 +42,35 @@ import org.restexpress.common.query.QueryFilter;
 import org.restexpress.common.query.QueryOrder;
 import org.restexpress.common.query.QueryRange;
 
+import com.mongodb.AggregationOptions;
+import com.mongodb.BasicDBObject;
+import com.mongodb.BulkWriteError;
+import com.mongodb.BulkWriteException;
+import com.mongodb.BulkWriteOperation;
+import com.mongodb.Cursor;
+import com.mongodb.DBCollection;
+import com.mongodb.DBObject;
+import com.mongodb.DuplicateKeyException;
 import com.mongodb.Mongo;
 import com.mongodb.MongoClient;
+import com.mongodb.MongoException;
 import com.strategicgains.repoexpress.AbstractObservableRepository;
-import com.strategicgains.repoexpress.Queryable;
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.CountMode;
+import com.strategicgains.repoexpress.KeysetQueryable;
+import com.strategicgains.repoexpress.Page;
+import com.strategicgains.repoexpress.Projectable;
+import com.strategicgains.repoexpress.ProjectingQueryable;
+import com.strategicgains.repoexpress.Projection;
+import com.strategicgains.repoexpress.StreamingQueryable;
+import com.strategicgains.repoexpress.cache.CountCache;
 import com.strategicgains.repoexpress.domain.Identifiable;
 import com.strategicgains.repoexpress.domain.Identifier;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
 import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
 import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+import com.strategicgains.repoexpress.util.CloseableIterator;
 
 /**
  * Uses MongoDB as its back-end store to persist Identifiable implementations.
@@ -50,12 +82,29 @@ import com.strategicgains.repoexpress.exception.ItemNotFoundException;
  */
 public class MongodbRepository<T extends Identifiable>
 extends AbstractObservableRepository<T>
-implements Queryable<T>
+implements StreamingQueryable<T>, KeysetQueryable<T>, ProjectingQueryable<T>, Projectable<T>
 {
+	private static final String ID_FIELD = "_id";
+	private static final int DEFAULT_ESTIMATE_SAMPLE_SIZE = 1000;
+	private static final int DUPLICATE_KEY_ERROR = 11000;
+
 	private MongoClient mongo;
 	private Morphia morphia;
 	private Datastore datastore;
 	private Class<T> inheritanceRoot;
+	private boolean isVersioned;
+	private boolean conditionalWrites = false;
+	private CountMode countMode = CountMode.EXACT;
+	private CountCache<T> countCache;
+	private int estimateSampleSize = DEFAULT_ESTIMATE_SAMPLE_SIZE;
+	private CountCache.Counter exactCounter = new CountCache.Counter()
+	{
+		@Override
+		public long count(QueryFilter filter)
+		{
+			return MongodbRepository.this.count(inheritanceRoot, filter);
+		}
+	};
 
 	/**
 	 * 
@@ -81,14 +130,95 @@ implements Queryable<T>
 			morphia.map(entityClass);
 		}
 
+		isVersioned = (morphia.getMapper().getMappedClass(inheritanceRoot).getMappedVersionField() != null);
 		datastore = morphia.createDatastore(mongo, name);
 		datastore.ensureIndexes();
 		datastore.ensureCaps();
 	}
 
+	/**
+	 * When conditional writes are enabled, create() and update() make their duplicate and
+	 * not-found checks atomically, in the same round trip as the write, instead of calling
+	 * exists() first. A create is an insert that fails on a duplicate key. An update is a
+	 * document replacement that fails if it matched no document.
+	 * <p/>
+	 * Entities with a {@literal @}Version field are always updated via Datastore.save(),
+	 * which performs its own optimistic-locking check, so their updates still check for
+	 * existence first.
+	 * 
+	 * @param conditionalWrites true to enable conditional writes. Default is false.
+	 */
+	public void setConditionalWrites(boolean conditionalWrites)
+	{
+		this.conditionalWrites = conditionalWrites;
+	}
+
+	public boolean isConditionalWrites()
+	{
+		return conditionalWrites;
+	}
+
+	/**
+	 * Set how count(filter) is computed. In ESTIMATED mode, counts come from estimateCount().
+	 * 
+	 * @param countMode the count mode. Default is EXACT.
+	 */
+	public void setCountMode(CountMode countMode)
+	{
+		this.countMode = (countMode == null ? CountMode.EXACT : countMode);
+	}
+
+	public CountMode getCountMode()
+	{
+		return countMode;
+	}
+
+	/**
+	 * Cache the exact counts made by count(filter), registering the cache as an observer of
+	 * this repository, so that it is invalidated by writes.
+	 * 
+	 * @param cache a CountCache, or null to remove the current one.
+	 */
+	public void setCountCache(CountCache<T> cache)
+	{
+		if (countCache != null)
+		{
+			removeObserver(countCache);
+		}
+
+		if (cache != null)
+		{
+			addObserver(cache);
+		}
+
+		this.countCache = cache;
+	}
+
+	public CountCache<T> getCountCache()
+	{
+		return countCache;
+	}
+
+	/**
+	 * Set the number of documents randomly sampled to estimate a filtered count.
+	 * 
+	 * @param estimateSampleSize a positive sample size. Default is 1,000.
+	 */
+	public void setEstimateSampleSize(int estimateSampleSize)
+	{
+		if (estimateSampleSize < 1) throw new IllegalArgumentException("Sample size must be positive");
+
+		this.estimateSampleSize = estimateSampleSize;
+	}
+
 	@Override
 	public T doCreate(T item)
 	{
+		if (conditionalWrites)
+		{
+			return insert(item);
+		}
+
 		if (exists(item.getId()))
 		{
 			throw new DuplicateItemException(item.getClass().getSimpleName()
@@ -99,6 +229,75 @@ implements Queryable<T>
 		return item;
 	}
 
+	/**
+	 * Creates the batch with a single unordered bulk insert. Duplicate IDs, whether already
+	 * stored or repeated within the batch, are rejected atomically by the unique _id index
+	 * and reported per item, while the rest of the batch is still inserted.
+	 */
+	@Override
+	public BatchResult<T> doCreateAll(Collection<T> items)
+	{
+		BatchResult<T> result = new BatchResult<T>(items.size());
+
+		if (items.isEmpty()) return result;
+
+		List<T> creatable = new ArrayList<T>(items);
+		List<DBObject> documents = new ArrayList<DBObject>(creatable.size());
+		BulkWriteOperation bulk = datastore.getCollection(inheritanceRoot).initializeUnorderedBulkOperation();
+
+		for (T item : creatable)
+		{
+			DBObject document = morphia.toDBObject(item);
+			bulk.insert(document);
+			documents.add(document);
+		}
+
+		Set<Integer> failed = new HashSet<Integer>();
+
+		try
+		{
+			bulk.execute();
+		}
+		catch (BulkWriteException e)
+		{
+			for (BulkWriteError error : e.getWriteErrors())
+			{
+				T item = creatable.get(error.getIndex());
+				failed.add(error.getIndex());
+
+				if (error.getCode() == DUPLICATE_KEY_ERROR)
+				{
+					result.addFailure(item, new DuplicateItemException(item.getClass().getSimpleName()
+					    + " ID already exists: " + item.getId()));
+				}
+				else
+				{
+					result.addFailure(item, new RepositoryException(error.getMessage()));
+				}
+			}
+		}
+		catch (MongoException e)
+		{
+			addFailures(result, creatable, new RepositoryException(e));
+			return result;
+		}
+
+		// Copy any IDs generated by the driver back to the created items.
+		EntityCache cache = morphia.getMapper().createEntityCache();
+
+		for (int i = 0; i < creatable.size(); i++)
+		{
+			if (!failed.contains(i))
+			{
+				T item = creatable.get(i);
+				morphia.getMapper().updateKeyAndVersionInfo(datastore, documents.get(i), cache, item);
+				result.addSuccess(item);
+			}
+		}
+
+		return result;
+	}
+
 	@Override
 	public T doRead(Identifier id)
 	{
@@ -115,6 +314,11 @@ implements Queryable<T>
 	@Override
 	public T doUpdate(T item)
 	{
+		if (conditionalWrites && !isVersioned)
+		{
+			return replace(item);
+		}
+
 		if (!exists(item.getId()))
 		{
 			throw new ItemNotFoundException(item.getClass().getSimpleName()
@@ -125,6 +329,74 @@ implements Queryable<T>
 		return item;
 	}
 
+	/**
+	 * Updates the batch using a single $in query to detect missing IDs and a single
+	 * unordered bulk write of document replacements for the remainder.
+	 * <p/>
+	 * Note that the replacement documents are mapped directly by Morphia and written
+	 * via the driver's bulk API, so {@literal @}Version optimistic-locking checks made
+	 * by Datastore.save() are not performed on this path.
+	 */
+	@Override
+	public BatchResult<T> doUpdateAll(Collection<T> items)
+	{
+		BatchResult<T> result = new BatchResult<T>(items.size());
+		Set<Object> existing = findExistingIds(items);
+		List<T> updatable = new ArrayList<T>(items.size());
+		BulkWriteOperation bulk = datastore.getCollection(inheritanceRoot).initializeUnorderedBulkOperation();
+
+		for (T item : items)
+		{
+			if (!hasId(item) || !existing.contains(item.getId().primaryKey()))
+			{
+				result.addFailure(item, new ItemNotFoundException(item.getClass().getSimpleName()
+				    + " ID not found: " + item.getId()));
+			}
+			else
+			{
+				bulk.find(new BasicDBObject("_id", item.getId().primaryKey())).replaceOne(morphia.toDBObject(item));
+				updatable.add(item);
+			}
+		}
+
+		if (updatable.isEmpty()) return result;
+
+		try
+		{
+			bulk.execute();
+
+			for (T item : updatable)
+			{
+				result.addSuccess(item);
+			}
+		}
+		catch (BulkWriteException e)
+		{
+			Set<Integer> failed = new HashSet<Integer>();
+
+			for (BulkWriteError error : e.getWriteErrors())
+			{
+				T item = updatable.get(error.getIndex());
+				result.addFailure(item, new RepositoryException(error.getMessage()));
+				failed.add(error.getIndex());
+			}
+
+			for (int i = 0; i < updatable.size(); i++)
+			{
+				if (!failed.contains(i))
+				{
+					result.addSuccess(updatable.get(i));
+				}
+			}
+		}
+		catch (MongoException e)
+		{
+			addFailures(result, updatable, new RepositoryException(e));
+		}
+
+		return result;
+	}
+
 	@Override
 	public void doDelete(T object)
 	{
@@ -138,6 +410,50 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Deletes the batch using a single $in query to detect missing IDs and a single
+	 * $in delete for the remainder.
+	 */
+	@Override
+	public BatchResult<T> doDeleteAll(Collection<T> items)
+	{
+		BatchResult<T> result = new BatchResult<T>(items.size());
+		Set<Object> existing = findExistingIds(items);
+		List<T> deletable = new ArrayList<T>(items.size());
+		List<Object> ids = new ArrayList<Object>(items.size());
+
+		for (T item : items)
+		{
+			if (!hasId(item) || !existing.contains(item.getId().primaryKey()))
+			{
+				result.addFailure(item, new ItemNotFoundException("ID not found: " + item.getId()));
+			}
+			else
+			{
+				deletable.add(item);
+				ids.add(item.getId().primaryKey());
+			}
+		}
+
+		if (deletable.isEmpty()) return result;
+
+		try
+		{
+			datastore.delete(inheritanceRoot, ids);
+
+			for (T item : deletable)
+			{
+				result.addSuccess(item);
+			}
+		}
+		catch (MongoException e)
+		{
+			addFailures(result, deletable, new RepositoryException(e));
+		}
+
+		return result;
+	}
+
 	/**
 	 * A general-purpose 'finder' method, useful for implementing alternate-key queries. Since
 	 * it does not support ordering and range sub-sets, it's best for creating queries that
@@ -173,28 +489,116 @@ implements Queryable<T>
 		return query(inheritanceRoot, filter, range, order);
 	}
 
+	/**
+	 * Same as readAll(filter, range, order), but retrieving only the projected fields of each
+	 * document, via a MongoDB projection.
+	 */
+	@Override
+	public List<T> readAll(QueryFilter filter, QueryRange range, QueryOrder order, Projection projection)
+	{
+		return query(inheritanceRoot, filter, range, order, projection);
+	}
+
+	/**
+	 * Streams instances of the inheritance root class matching the given criteria from a
+	 * MongoDB cursor, instead of loading them all into a List. The caller must close the
+	 * returned iterator.
+	 * <p/>
+	 * Like readAll(), this method is not observable by default.
+	 */
+	@Override
+	public CloseableIterator<T> stream(QueryFilter filter, QueryRange range, QueryOrder order)
+	{
+		return stream(filter, range, order, 0);
+	}
+
+	@Override
+	public CloseableIterator<T> stream(QueryFilter filter, QueryRange range, QueryOrder order, int batchSize)
+	{
+		return stream(inheritanceRoot, filter, range, order, batchSize);
+	}
+
+	/**
+	 * Reads a page of instances of the inheritance root class, using keyset pagination. The
+	 * results are sorted by the given order, then by _id as a tie-breaker, and each page
+	 * seeks directly past the last result of the prior page, via an index on the sort keys,
+	 * instead of skipping documents.
+	 * <p/>
+	 * Sort keys must be top-level, non-null properties of the entity. For good performance,
+	 * define a compound index on the sort keys, followed by _id.
+	 * <p/>
+	 * Like readAll(), this method is not observable by default.
+	 */
+	@Override
+	public Page<T> readPage(QueryFilter filter, QueryOrder order, int limit, String continuationToken)
+	{
+		return readPage(inheritanceRoot, filter, order, limit, continuationToken);
+	}
+
 	/**
 	 * Read each of the instances corresponding to the given Collection of IDs, returning the 
 	 * results as a list.  If an ID in the provided Collection does not exist, it is simply
 	 * not included in the returned results.
+	 * <p/>
+	 * Performs a single $in query for the entire batch.
 	 * 
 	 * @param ids a Collection of IDs to read.
 	 */
 	@Override
-	public List<T> readList(Collection<Identifier> ids)
+	public List<T> doReadList(Collection<Identifier> ids)
 	{
 		return getDataStore().find(inheritanceRoot).field("_id").in(new PrimaryIdIterable(ids)).asList();
 	}
 
+	/**
+	 * Reads the document, retrieving only the projected fields. Not observable.
+	 */
+	@Override
+	public T read(Identifier id, Projection projection)
+	{
+		T item = (id == null ? null : project(getDataStore().find(inheritanceRoot).field(ID_FIELD).equal(id.primaryKey()), projection).get());
+
+		if (item == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + id);
+		}
+
+		return item;
+	}
+
+	/**
+	 * Reads the documents using a single $in query, retrieving only the projected fields.
+	 * Not observable.
+	 */
+	@Override
+	public List<T> readList(Collection<Identifier> ids, Projection projection)
+	{
+		return project(getDataStore().find(inheritanceRoot).field(ID_FIELD).in(new PrimaryIdIterable(ids)), projection).asList();
+	}
+
 	/**
 	 * Count the instances of the inheritance root (class) that match the given filter criteria.
+	 * Depending on the count mode, the count is either estimated or exact, in which case it
+	 * is served from the count cache, if one is set.
 	 * 
 	 * @param filter
 	 */
 	@Override
 	public long count(QueryFilter filter)
 	{
-		return count(inheritanceRoot, filter);
+		if (countMode == CountMode.ESTIMATED)
+		{
+			return estimateCount(inheritanceRoot, filter);
+		}
+
+		CountCache<T> cache = countCache;
+
+		if (cache == null)
+		{
+			return count(inheritanceRoot, filter);
+		}
+
+		return cache.count(filter, exactCounter);
 	}
 
 	/**
@@ -208,13 +612,62 @@ implements Queryable<T>
 		return getBaseFilterQuery(type, filter).count();
 	}
 
+	/**
+	 * Estimate the number of instances of the given type matching the filter criteria.
+	 * Unfiltered counts come from the collection metadata, so include every type stored
+	 * in the collection. Filtered counts are extrapolated from the fraction of a random
+	 * $sample of documents that match the filter, unless the collection is no bigger than
+	 * the sample, in which case the count is exact.
+	 * <p/>
+	 * The sample's IDs are drawn by aggregation, then counted with the filter query,
+	 * restricted to those IDs, which is served by the _id index.
+	 * 
+	 * @param type
+	 * @param filter
+	 */
+	public long estimateCount(Class<T> type, QueryFilter filter)
+	{
+		DBCollection collection = getDataStore().getCollection(type);
+		long total = collection.getCount();
+
+		if (filter == null || !filter.hasFilters()) return total;
+
+		if (total <= estimateSampleSize) return count(type, filter);
+
+		List<DBObject> pipeline = Arrays.<DBObject>asList(
+			new BasicDBObject("$sample", new BasicDBObject("size", estimateSampleSize)),
+			new BasicDBObject("$project", new BasicDBObject(ID_FIELD, 1)));
+		Cursor cursor = collection.aggregate(pipeline, AggregationOptions.builder()
+			.outputMode(AggregationOptions.OutputMode.CURSOR)
+			.build());
+		List<Object> sampled = new ArrayList<Object>(estimateSampleSize);
+
+		try
+		{
+			while (cursor.hasNext())
+			{
+				sampled.add(cursor.next().get(ID_FIELD));
+			}
+		}
+		finally
+		{
+			cursor.close();
+		}
+
+		if (sampled.isEmpty()) return 0L;
+
+		Query<T> q = getBaseFilterQuery(type, filter);
+		q.field(ID_FIELD).in(sampled);
+		return Math.round((double) total * q.count() / sampled.size());
+	}
+
 	/**
 	 * Returns true if the given id exists in the repository.
 	 * 
 	 * @param id the identifier of the object.
 	 */
 	@Override
-	public boolean exists(Identifier id)
+	public boolean doExists(Identifier id)
 	{
 		if (id == null) return false;
 
@@ -247,6 +700,78 @@ implements Queryable<T>
 		return mongo;
 	}
 
+	/**
+	 * Insert the item, relying on the unique _id index to detect duplicates.
+	 */
+	private T insert(T item)
+	{
+		try
+		{
+			((AdvancedDatastore) datastore).insert(item);
+			return item;
+		}
+		catch (DuplicateKeyException e)
+		{
+			throw new DuplicateItemException(item.getClass().getSimpleName()
+			    + " ID already exists: " + item.getId());
+		}
+	}
+
+	/**
+	 * Replace the document having the item's ID, without upserting, using the matched
+	 * count to detect a missing document.
+	 */
+	private T replace(T item)
+	{
+		if (!hasId(item) || datastore.updateFirst(datastore.createQuery(inheritanceRoot)
+			.field("_id").equal(item.getId().primaryKey()), item, false).getUpdatedCount() == 0)
+		{
+			throw new ItemNotFoundException(item.getClass().getSimpleName()
+			    + " ID not found: " + item.getId());
+		}
+
+		return item;
+	}
+
+	/**
+	 * Determine which of the given items' IDs already exist in the repository, using a
+	 * single $in query that only returns the keys.
+	 * 
+	 * @param items
+	 * @return a mutable set of the primary keys that exist. Never null.
+	 */
+	private Set<Object> findExistingIds(Collection<T> items)
+	{
+		List<Object> ids = new ArrayList<Object>(items.size());
+
+		for (T item : items)
+		{
+			if (hasId(item))
+			{
+				ids.add(item.getId().primaryKey());
+			}
+		}
+
+		Set<Object> existing = new HashSet<Object>();
+
+		if (ids.isEmpty()) return existing;
+
+		for (Key<T> key : datastore.find(inheritanceRoot).field("_id").in(ids).asKeyList())
+		{
+			existing.add(key.getId());
+		}
+
+		return existing;
+	}
+
+	private void addFailures(BatchResult<T> result, List<T> items, RepositoryException cause)
+	{
+		for (T item : items)
+		{
+			result.addFailure(item, cause);
+		}
+	}
+
 	/**
 	 * Execute a query against the repository, using QueryFilter, QueryRange and QueryOrder
 	 * as criteria against the type.  Returns the results as a List.
@@ -257,10 +782,105 @@ implements Queryable<T>
 	 * @param order
 	 */
 	protected List<T> query(Class<T> type, QueryFilter filter, QueryRange range, QueryOrder order)
+	{
+		return query(type, filter, range, order, null);
+	}
+
+	/**
+	 * Execute a query against the repository, using QueryFilter, QueryRange and QueryOrder
+	 * as criteria against the type, retrieving only the projected fields.  Returns the
+	 * results as a List.
+	 * 
+	 * @param type
+	 * @param filter
+	 * @param range
+	 * @param order
+	 * @param projection the fields to retrieve. Null retrieves entire documents.
+	 */
+	protected List<T> query(Class<T> type, QueryFilter filter, QueryRange range, QueryOrder order, Projection projection)
+	{
+		FindOptions options = new FindOptions();
+		configureQueryRange(options, range);
+		return project(getBaseQuery(type, filter, order), projection).asList(options);
+	}
+
+	/**
+	 * Limit the fields retrieved by the query to those in the projection, plus _id.
+	 * 
+	 * @param q
+	 * @param projection may be null, in which case the query is unchanged.
+	 * @return the query.
+	 */
+	protected Query<T> project(Query<T> q, Projection projection)
+	{
+		if (projection == null) return q;
+
+		for (String field : projection.getFields())
+		{
+			q.project(field, true);
+		}
+
+		return q;
+	}
+
+	/**
+	 * Execute a query against the repository, using QueryFilter, QueryRange and QueryOrder
+	 * as criteria against the type.  Returns the results as an iterator over a cursor that
+	 * fetches batchSize documents at a time.
+	 * 
+	 * @param type
+	 * @param filter
+	 * @param range
+	 * @param order
+	 * @param batchSize the cursor batch size. Zero or less uses the driver's default.
+	 */
+	protected CloseableIterator<T> stream(Class<T> type, QueryFilter filter, QueryRange range, QueryOrder order, int batchSize)
 	{
 		FindOptions options = new FindOptions();
 		configureQueryRange(options, range);
-		return getBaseQuery(type, filter, order).asList(options);
+
+		if (batchSize > 0)
+		{
+			options.batchSize(batchSize);
+		}
+
+		return new CursorIterator<T>(getBaseQuery(type, filter, order).fetch(options));
+	}
+
+	/**
+	 * Execute a keyset-paginated query against the repository, using QueryFilter and QueryOrder
+	 * as criteria against the type.
+	 * 
+	 * @param type
+	 * @param filter
+	 * @param order
+	 * @param limit the maximum number of results in the page.
+	 * @param continuationToken the token from the prior page, or null for the first page.
+	 */
+	protected Page<T> readPage(Class<T> type, QueryFilter filter, QueryOrder order, int limit, String continuationToken)
+	{
+		if (limit < 1) throw new IllegalArgumentException("Page limit must be positive");
+
+		List<OrderComponent> sorts = getKeysetOrder(order);
+		Query<T> q = getBaseFilterQuery(type, filter);
+
+		if (continuationToken != null)
+		{
+			configureKeysetSeek(q, sorts, KeysetToken.decode(continuationToken, sorts.size()));
+		}
+
+		configureKeysetOrder(q, sorts);
+
+		// Read one extra to determine whether there is a next page.
+		List<T> results = q.asList(new FindOptions().limit(limit + 1));
+
+		if (results.size() <= limit)
+		{
+			return new Page<T>(results, null);
+		}
+
+		results = new ArrayList<T>(results.subList(0, limit));
+		return new Page<T>(results, KeysetToken.encode(getKeysetValues(type, sorts, results.get(limit - 1))));
 	}
 
 	/**
@@ -389,7 +1009,175 @@ implements Queryable<T>
 		}
 	}
 
+	/**
+	 * Returns the sort components of the given order, ending with _id as a tie-breaker,
+	 * ascending unless the order already includes it.
+	 */
+	private List<OrderComponent> getKeysetOrder(QueryOrder order)
+	{
+		final List<OrderComponent> sorts = new ArrayList<OrderComponent>();
+
+		if (order != null && order.isSorted())
+		{
+			order.iterate(new OrderCallback()
+			{
+				@Override
+				public void orderBy(OrderComponent component)
+				{
+					sorts.add(component);
+				}
+			});
+		}
+
+		if (sorts.isEmpty() || !ID_FIELD.equals(sorts.get(sorts.size() - 1).getFieldName()))
+		{
+			sorts.add(new OrderComponent(ID_FIELD, false));
+		}
+
+		return sorts;
+	}
+
+	private void configureKeysetOrder(Query<T> q, List<OrderComponent> sorts)
+	{
+		StringBuilder sb = new StringBuilder();
+
+		for (OrderComponent component : sorts)
+		{
+			if (sb.length() > 0)
+			{
+				sb.append(',');
+			}
+
+			if (component.isDescending())
+			{
+				sb.append('-');
+			}
+
+			sb.append(component.getFieldName());
+		}
+
+		q.order(sb.toString());
+	}
+
+	/**
+	 * Adds the criteria to seek past the given key values: (k0 > v0) OR (k0 = v0 AND k1 > v1) OR ...
+	 * where '>' is '<' for descending keys.
+	 */
+	private void configureKeysetSeek(Query<T> q, List<OrderComponent> sorts, List<Object> values)
+	{
+		Criteria[] branches = new Criteria[sorts.size()];
+
+		for (int i = 0; i < sorts.size(); i++)
+		{
+			Criteria[] terms = new Criteria[i + 1];
+
+			for (int j = 0; j < i; j++)
+			{
+				terms[j] = q.criteria(sorts.get(j).getFieldName()).equal(values.get(j));
+			}
+
+			OrderComponent sort = sorts.get(i);
+			terms[i] = (sort.isDescending()
+				? q.criteria(sort.getFieldName()).lessThan(values.get(i))
+				: q.criteria(sort.getFieldName()).greaterThan(values.get(i)));
+			branches[i] = (i == 0 ? terms[0] : q.and(terms));
+		}
+
+		q.or(branches);
+	}
+
+	/**
+	 * Extracts the values of the sort keys from the entity, for the continuation token.
+	 */
+	private List<Object> getKeysetValues(Class<T> type, List<OrderComponent> sorts, T entity)
+	{
+		MappedClass mappedClass = morphia.getMapper().getMappedClass(type);
+		List<Object> values = new ArrayList<Object>(sorts.size());
+
+		for (OrderComponent sort : sorts)
+		{
+			if (ID_FIELD.equals(sort.getFieldName()))
+			{
+				values.add(entity.getId().primaryKey());
+				continue;
+			}
+
+			MappedField field = mappedClass.getMappedFieldByJavaField(sort.getFieldName());
+
+			if (field == null)
+			{
+				field = mappedClass.getMappedField(sort.getFieldName());
+			}
+
+			if (field == null)
+			{
+				throw new RepositoryException("Cannot paginate on unknown property: " + sort.getFieldName());
+			}
+
+			values.add(field.getFieldValue(entity));
+		}
+
+		return values;
+	}
+
 	public Morphia getMorphia() {
 		return morphia;
 	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * Adapts a Morphia cursor iterator to CloseableIterator, closing the cursor
+	 * automatically once it is exhausted.
+	 */
+	private static class CursorIterator<T>
+	implements CloseableIterator<T>
+	{
+		private MorphiaIterator<T, T> cursor;
+		private boolean isClosed = false;
+
+		public CursorIterator(MorphiaIterator<T, T> cursor)
+		{
+			super();
+			this.cursor = cursor;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if (isClosed) return false;
+
+			if (!cursor.hasNext())
+			{
+				close();
+				return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public T next()
+		{
+			if (!hasNext()) throw new NoSuchElementException();
+
+			return cursor.next();
+		}
+
+		@Override
+		public void remove()
+		{
+			throw new UnsupportedOperationException("remove");
+		}
+
+		@Override
+		public void close()
+		{
+			if (isClosed) return;
+
+			isClosed = true;
+			cursor.close();
+		}
+	}
 }
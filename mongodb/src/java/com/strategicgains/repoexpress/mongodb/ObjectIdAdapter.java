@@ -41,7 +41,7 @@ implements IdentifierAdapter
 
 		if (ObjectId.isValid(id))
 		{
-			return new Identifier(new ObjectId(id));
+			return Identifier.of(new ObjectId(id));
 		}
 
 		throw new InvalidObjectIdException(id);
@@ -16,6 +16,7 @@
 package com.strategicgains.repoexpress.mongodb;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 
 import java.text.DateFormat;
@@ -33,6 +34,9 @@ import org.junit.Ignore;
 import org.junit.Test;
 import org.restexpress.common.query.FilterOperator;
 import org.restexpress.common.query.QueryFilter;
+import org.restexpress.common.query.QueryOrder;
+
+import com.strategicgains.repoexpress.util.CloseableIterator;
 
 /**
  * @author tfredrich
@@ -106,4 +110,25 @@ public class DateFilteringTest
 		assertEquals((long) CREATE_COUNT - 3, REPOSITORY.count(filter));
 	}
 
+	@Test
+	public void testStreamedComputedIntermediateDate()
+	{
+		Date date = new Date(CREATED.get(2).getCreatedAt().getTime() + 1);
+		QueryFilter filter = new QueryFilter()
+			.addCriteria("createdAt", FilterOperator.GREATER_THAN_OR_EQUAL_TO, date);
+		int count = 0;
+
+		try (CloseableIterator<TestEntity> entities = REPOSITORY.stream(filter, null, new QueryOrder("createdAt"), 1))
+		{
+			while (entities.hasNext())
+			{
+				assertNotNull(entities.next());
+				++count;
+			}
+
+			assertFalse(entities.hasNext());
+		}
+
+		assertEquals(CREATE_COUNT - 3, count);
+	}
 }
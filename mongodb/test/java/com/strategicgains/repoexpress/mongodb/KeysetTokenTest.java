@@ -0,0 +1,55 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.mongodb;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class KeysetTokenTest
+{
+	@Test
+	public void shouldRoundTripKeys()
+	{
+		List<Object> keys = Arrays.<Object>asList(new Date(1234567890L), "name", 42L, 7, UUID.randomUUID(), new ObjectId());
+		String token = KeysetToken.encode(keys);
+		assertEquals(keys, KeysetToken.decode(token, keys.size()));
+	}
+
+	@Test(expected=RepositoryException.class)
+	public void shouldRejectMalformedToken()
+	{
+		KeysetToken.decode("not-a-token", 1);
+	}
+
+	@Test(expected=RepositoryException.class)
+	public void shouldRejectTokenForDifferentOrder()
+	{
+		KeysetToken.decode(KeysetToken.encode(Arrays.<Object>asList("name", 42L)), 3);
+	}
+}
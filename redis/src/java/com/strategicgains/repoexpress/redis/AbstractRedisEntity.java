@@ -32,7 +32,7 @@ implements Identifiable
 	@Override
 	public Identifier getId()
 	{
-		return (id == null ? new Identifier() : new Identifier(id));
+		return (id == null ? new Identifier() : Identifier.of(id));
 	}
 
 	@Override
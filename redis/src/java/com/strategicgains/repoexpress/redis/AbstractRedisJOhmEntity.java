@@ -37,7 +37,7 @@ extends AbstractTimestampedIdentifiable
 	@Override
 	public Identifier getId()
 	{
-		return (id == null ? null : new Identifier(id));
+		return (id == null ? null : Identifier.of(id));
 	}
 
 	@Override
@@ -0,0 +1,244 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import java.io.Closeable;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisException;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Routes keys to the primary of their Redis Cluster slot, discovered with CLUSTER SLOTS from
+ * any of the known nodes. Unlike JedisCluster, it exposes the node pools, so RedisRepository can
+ * pipeline batches per node (and MGET per slot) instead of sending each key separately.
+ * <p/>
+ * When a node redirects a command (MOVED or ASK), because slots are migrating, the repository
+ * retries it once against the node named in the redirection. MOVED also calls refresh(), once
+ * per batch, which re-reads the slots unless they were read within the last second (see
+ * setMinRefreshInterval()), so a burst of redirections costs a single CLUSTER SLOTS.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class ClusterRouter
+implements RedisRouter, Closeable
+{
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	private ConcurrentMap<String, JedisPool> pools = new ConcurrentHashMap<String, JedisPool>();
+	private Set<HostAndPort> seeds;
+	private volatile JedisPool[] slots = new JedisPool[HashTags.SLOT_COUNT];
+	private long minRefreshIntervalNanos = TimeUnit.SECONDS.toNanos(1L);
+	private long lastRefresh;
+
+	/**
+	 * @param seeds some of the cluster's nodes, from which to discover the rest.
+	 * @throws RepositoryException if none of the seeds can be reached.
+	 */
+	public ClusterRouter(Set<HostAndPort> seeds)
+	{
+		super();
+		this.seeds = new HashSet<HostAndPort>(seeds);
+		load();
+	}
+
+	/**
+	 * Sets the minimum time between refreshes of the slots, which are skipped if called sooner.
+	 * 
+	 * @param duration the minimum interval. Default is one second.
+	 * @param unit the unit of the duration.
+	 */
+	public synchronized void setMinRefreshInterval(long duration, TimeUnit unit)
+	{
+		this.minRefreshIntervalNanos = unit.toNanos(Math.max(0L, duration));
+	}
+
+	@Override
+	public JedisPool getPool(byte[] key)
+	{
+		JedisPool pool = slots[HashTags.slotOf(key)];
+
+		if (pool == null)
+		{
+			throw new RepositoryException("Cluster slot not covered: " + HashTags.slotOf(key));
+		}
+
+		return pool;
+	}
+
+	/**
+	 * Keys in the same slot can be read together.
+	 */
+	@Override
+	public Object getGroup(byte[] key)
+	{
+		return HashTags.slotOf(key);
+	}
+
+	@Override
+	public JedisPool getPool(HostAndPort node)
+	{
+		return poolFor(node.getHost(), node.getPort());
+	}
+
+	@Override
+	public Collection<JedisPool> getPools()
+	{
+		return Collections.unmodifiableCollection(pools.values());
+	}
+
+	/**
+	 * Re-reads the slot assignments, unless they were read within the minimum refresh interval.
+	 */
+	@Override
+	public synchronized void refresh()
+	{
+		if (System.nanoTime() - lastRefresh < minRefreshIntervalNanos) return;
+
+		load();
+	}
+
+	/**
+	 * Closes the pools of all the nodes.
+	 */
+	@Override
+	public void close()
+	{
+		for (JedisPool pool : pools.values())
+		{
+			pool.close();
+		}
+
+		pools.clear();
+	}
+
+	/**
+	 * Creates the pool for a node. Override to configure the pools.
+	 */
+	protected JedisPool createPool(HostAndPort node)
+	{
+		return new JedisPool(node.getHost(), node.getPort());
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * Reads the slot assignments from the first reachable node.
+	 */
+	private synchronized void load()
+	{
+		JedisException lastFailure = null;
+		lastRefresh = System.nanoTime();
+
+		for (HostAndPort node : candidates())
+		{
+			Jedis jedis = new Jedis(node.getHost(), node.getPort());
+
+			try
+			{
+				slots = toSlots(jedis.clusterSlots());
+				return;
+			}
+			catch (JedisException e)
+			{
+				lastFailure = e;
+			}
+			finally
+			{
+				jedis.close();
+			}
+		}
+
+		throw new RepositoryException("No reachable cluster node", lastFailure);
+	}
+
+	/**
+	 * The seeds, then every node discovered since.
+	 */
+	private List<HostAndPort> candidates()
+	{
+		List<HostAndPort> candidates = new ArrayList<HostAndPort>(seeds);
+
+		for (String name : pools.keySet())
+		{
+			int colon = name.lastIndexOf(':');
+			candidates.add(new HostAndPort(name.substring(0, colon), Integer.parseInt(name.substring(colon + 1))));
+		}
+
+		return candidates;
+	}
+
+	/**
+	 * Parses the CLUSTER SLOTS reply: [[start, end, [host, port, ...], replicas...], ...].
+	 */
+	private JedisPool[] toSlots(List<Object> reply)
+	{
+		JedisPool[] assigned = new JedisPool[HashTags.SLOT_COUNT];
+
+		for (Object entry : reply)
+		{
+			List<?> range = (List<?>) entry;
+			int start = ((Long) range.get(0)).intValue();
+			int end = ((Long) range.get(1)).intValue();
+			List<?> primary = (List<?>) range.get(2);
+			String host = new String((byte[]) primary.get(0), UTF_8);
+			int port = ((Long) primary.get(1)).intValue();
+			JedisPool pool = poolFor(host, port);
+
+			for (int slot = start; slot <= end; slot++)
+			{
+				assigned[slot] = pool;
+			}
+		}
+
+		return assigned;
+	}
+
+	private JedisPool poolFor(String host, int port)
+	{
+		String name = host + ":" + port;
+		JedisPool pool = pools.get(name);
+
+		if (pool == null)
+		{
+			pool = createPool(new HostAndPort(host, port));
+			JedisPool existing = pools.putIfAbsent(name, pool);
+
+			if (existing != null)
+			{
+				pool.close();
+				pool = existing;
+			}
+		}
+
+		return pool;
+	}
+}
@@ -0,0 +1,107 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPool;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Shards keys across independent Redis servers by consistent hashing, with 160 virtual nodes
+ * per server, so adding or removing a server moves only about 1/n of the keys. Keys are
+ * hashed by their hash tag, if any (see RedisRepository.setHashTagged()), so keys with equal
+ * hash tags are on the same server and are read together with one MGET.
+ * <p/>
+ * Servers are placed on the ring by name, so the names, not the order, of the shards
+ * determine the routing. Keep them stable.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class ConsistentHashRouter
+implements RedisRouter
+{
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final int VIRTUAL_NODES = 160;
+
+	private TreeMap<Long, JedisPool> ring = new TreeMap<Long, JedisPool>();
+	private Collection<JedisPool> pools;
+
+	/**
+	 * @param shards the pools of the servers, by unique name (e.g. "host:port").
+	 */
+	public ConsistentHashRouter(Map<String, JedisPool> shards)
+	{
+		super();
+
+		if (shards.isEmpty()) throw new IllegalArgumentException("No shards");
+
+		for (Map.Entry<String, JedisPool> shard : shards.entrySet())
+		{
+			for (int i = 0; i < VIRTUAL_NODES; i++)
+			{
+				ring.put(HashTags.hash64((shard.getKey() + "#" + i).getBytes(UTF_8)), shard.getValue());
+			}
+		}
+
+		this.pools = Collections.unmodifiableList(new ArrayList<JedisPool>(shards.values()));
+	}
+
+	@Override
+	public JedisPool getPool(byte[] key)
+	{
+		Map.Entry<Long, JedisPool> node = ring.ceilingEntry(HashTags.hash64(key));
+		return (node != null ? node.getValue() : ring.firstEntry().getValue());
+	}
+
+	/**
+	 * Standalone servers never redirect commands.
+	 */
+	@Override
+	public JedisPool getPool(HostAndPort node)
+	{
+		throw new RepositoryException("Unexpected redirection to " + node);
+	}
+
+	/**
+	 * Keys on the same server can always be read together.
+	 */
+	@Override
+	public Object getGroup(byte[] key)
+	{
+		return getPool(key);
+	}
+
+	@Override
+	public Collection<JedisPool> getPools()
+	{
+		return pools;
+	}
+
+	@Override
+	public void refresh()
+	{
+		// The ring is fixed.
+	}
+}
@@ -1,13 +1,19 @@
 package com.strategicgains.repoexpress.redis;
 
+import java.util.Collection;
+
 import redis.clients.jedis.JedisPool;
 
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.codec.EntityCodec;
 import com.strategicgains.repoexpress.domain.ExpiringIdentifiable;
 import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
 
 /**
  * This Redis repository extends RedisRepository and allows the persisted entities to set an
- * expiration time. A time of -1 is used to specify that the entity should never expire.
+ * expiration time. A time of -1 is used to specify that the entity should never expire and a
+ * time of zero that it expires immediately, so isn't stored (or, on update, is deleted).
  * 
  * @since Aug 24, 2013
  * @see AbstractRepositoryObserver
@@ -21,15 +27,41 @@ extends RedisRepository<T>
 		super(jedisPool, entityClass);
 	}
 
-	@Override
-	public T doCreate(T item)
+	public ExpiringRedisRepository(JedisPool jedisPool, Class<? extends T> entityClass, EntityCodec<T> codec)
+	{
+		super(jedisPool, entityClass, codec);
+	}
+
+	public ExpiringRedisRepository(RedisRouter router, Class<? extends T> entityClass, EntityCodec<T> codec)
+	{
+		super(router, entityClass, codec);
+	}
+
+	/**
+	 * Restarts the item's time-to-live, per its getTtlSeconds(), without re-writing it, in a
+	 * single EXPIRE round trip.
+	 * 
+	 * @throws ItemNotFoundException if the item doesn't exist (or has already expired).
+	 */
+	public void refresh(T item)
+	{
+		expire(item);
+	}
+
+	/**
+	 * Restarts the time-to-live of each of the items, per their getTtlSeconds(), in one
+	 * pipelined round trip. Items that don't exist (or have already expired) are failures.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	public BatchResult<T> refreshAll(Collection<T> items)
 	{
-		return super.doCreate(item,  item.getTtlSeconds());
+		return expireAll(items);
 	}
 
 	@Override
-	public T doUpdate(T item)
+	protected int getTtlSeconds(T item)
 	{
-		return super.doUpdate(item, item.getTtlSeconds());
+		return item.getTtlSeconds();
 	}
 }
@@ -0,0 +1,118 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+/**
+ * Hashing of Redis keys by their hash tag, as Redis Cluster does: if the key contains a '{'
+ * followed by a '}' with at least one byte between them, only the bytes between the first
+ * such pair are hashed. Otherwise, the whole key is.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+final class HashTags
+{
+	public static final int SLOT_COUNT = 16384;
+
+	private static final int[] CRC16_TABLE = new int[256];
+
+	static
+	{
+		// CRC-16/XMODEM (polynomial 0x1021), per the Redis Cluster specification.
+		for (int i = 0; i < 256; i++)
+		{
+			int crc = i << 8;
+
+			for (int bit = 0; bit < 8; bit++)
+			{
+				crc = ((crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1);
+			}
+
+			CRC16_TABLE[i] = crc & 0xFFFF;
+		}
+	}
+
+	private HashTags()
+	{
+		// prevents instantiation.
+	}
+
+	/**
+	 * Returns the Redis Cluster slot of the key.
+	 */
+	public static int slotOf(byte[] key)
+	{
+		int[] range = hashedRange(key);
+		int crc = 0;
+
+		for (int i = range[0]; i < range[1]; i++)
+		{
+			crc = ((crc << 8) ^ CRC16_TABLE[((crc >>> 8) ^ key[i]) & 0xFF]) & 0xFFFF;
+		}
+
+		return crc & (SLOT_COUNT - 1);
+	}
+
+	/**
+	 * Returns a well-mixed 64-bit hash (FNV-1a, then the MurmurHash3 finalizer) of the key.
+	 */
+	public static long hash64(byte[] key)
+	{
+		int[] range = hashedRange(key);
+		long h = 0xcbf29ce484222325L;
+
+		for (int i = range[0]; i < range[1]; i++)
+		{
+			h ^= (key[i] & 0xFF);
+			h *= 0x100000001b3L;
+		}
+
+		return mix64(h);
+	}
+
+	public static long mix64(long h)
+	{
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+
+	/**
+	 * Returns the [start, end) range of the key's bytes to hash.
+	 */
+	private static int[] hashedRange(byte[] key)
+	{
+		for (int open = 0; open < key.length; open++)
+		{
+			if (key[open] != '{') continue;
+
+			for (int close = open + 1; close < key.length; close++)
+			{
+				if (key[close] == '}')
+				{
+					return (close > open + 1 ? new int[] {open + 1, close} : new int[] {0, key.length});
+				}
+			}
+
+			break;
+		}
+
+		return new int[] {0, key.length};
+	}
+}
@@ -0,0 +1,912 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisDataException;
+
+import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.domain.ExpiringIdentifiable;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
+import com.strategicgains.repoexpress.exception.ItemNotFoundException;
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * A Redis repository that stores each entity as a hash under id.toString(), one hash field per
+ * entity field, instead of as a single serialized value. Individual fields can then be updated,
+ * with update(T, String...), and read, with read(Identifier, String...), without transferring
+ * (or re-writing) the rest of the entity.
+ * <p/>
+ * Fields are the entity's instance fields, by name, excluding static and transient fields and
+ * those of type Identifier, which the entity's ID is set from on read. Field values are stored
+ * as Strings: numbers, booleans and characters in their usual String form, enums by name, UUIDs
+ * as Strings and Dates as epoch milliseconds. Null fields aren't stored. For other field types,
+ * override format() and parse(), or make the field transient. Entities must have a no-arg
+ * constructor. The field metadata of each class is computed once and cached.
+ * <p/>
+ * Entities that implement ExpiringIdentifiable expire per getTtlSeconds(), set by EXPIRE in the
+ * same round trip as the write. As in RedisRepository, a TTL of zero means the entity expires
+ * immediately and isn't stored (or, on update, is deleted).
+ * <p/>
+ * As in RedisRepository, every write checks existence atomically with the write itself: a small
+ * server-side script checks EXISTS and then writes the fields and TTL, so concurrent creates of
+ * the same ID can't both succeed and an update can't resurrect a deleted or expired entity.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see RedisRepository
+ */
+public class RedisHashRepository<T extends Identifiable>
+extends AbstractObservableRepository<T>
+{
+	private static final int NEVER_EXPIRE = -1;
+
+	// Keeps the hash, so the entity, in existence when all of its fields are null.
+	private static final String PRESENCE_FIELD = "@";
+
+	private static final String CREATE = "create";
+	private static final String REPLACE = "replace";
+	private static final String PATCH = "patch";
+	private static final String PATCH_AND_READ = "patch-read";
+
+	// Checks existence and writes atomically. ARGV: mode, TTL seconds, the count of null fields
+	// to delete, those fields, then the field-value pairs to set. Replies OK, or nil if the key
+	// exists (create) or doesn't (replace and patch). PATCH_AND_READ replies with the stored hash
+	// instead of OK, which is empty if the TTL of zero deleted it.
+	private static final String WRITE_SCRIPT =
+		"local exists = redis.call('EXISTS', KEYS[1]) == 1 "
+		+ "if exists == (ARGV[1] == '" + CREATE + "') then return false end "
+		+ "local ttl = tonumber(ARGV[2]) "
+		+ "if ttl == 0 then redis.call('DEL', KEYS[1]) "
+		+ "if ARGV[1] == '" + PATCH_AND_READ + "' then return {} end return 'OK' end "
+		+ "if ARGV[1] == '" + REPLACE + "' then redis.call('DEL', KEYS[1]) end "
+		+ "local nulls = tonumber(ARGV[3]) "
+		+ "if nulls > 0 then "
+		+ "redis.call('HSET', KEYS[1], '" + PRESENCE_FIELD + "', '1') "
+		+ "redis.call('HDEL', KEYS[1], unpack(ARGV, 4, 3 + nulls)) end "
+		+ "if #ARGV > 3 + nulls then redis.call('HMSET', KEYS[1], unpack(ARGV, 4 + nulls)) end "
+		+ "if ttl > 0 then redis.call('EXPIRE', KEYS[1], ttl) else redis.call('PERSIST', KEYS[1]) end "
+		+ "if ARGV[1] == '" + PATCH_AND_READ + "' then return redis.call('HGETALL', KEYS[1]) end "
+		+ "return 'OK'";
+
+	private static final ClassValue<HashSchema> SCHEMAS = new ClassValue<HashSchema>()
+	{
+		@Override
+		protected HashSchema computeValue(Class<?> type)
+		{
+			return new HashSchema(type);
+		}
+	};
+
+	private JedisPool jedisPool;
+	private Class<? extends T> entityClass;
+	private HashSchema schema;
+
+	public RedisHashRepository(JedisPool jedisPool, Class<? extends T> entityClass)
+	{
+		super();
+		this.jedisPool = jedisPool;
+		this.entityClass = entityClass;
+		this.schema = SCHEMAS.get(entityClass);
+	}
+
+	protected JedisPool getJedisPool()
+	{
+		return jedisPool;
+	}
+
+	@Override
+	public T doCreate(T item)
+	{
+		int ttlSeconds = getTtlSeconds(item);
+
+		//Item expires immediately, so no sense in storing it.
+		if (ttlSeconds == 0)
+		{
+			return item;
+		}
+
+		if (!writeFields(item, CREATE, ttlSeconds, Collections.<String>emptyList(), toHash(item)))
+		{
+			throw new DuplicateItemException(item.getClass().getSimpleName()
+			    + " ID already exists: " + item.getId());
+		}
+
+		return item;
+	}
+
+	/**
+	 * Creates the batch on a single pooled connection in one pipelined round trip of
+	 * conditional writes.
+	 */
+	@Override
+	public BatchResult<T> doCreateAll(Collection<T> items)
+	{
+		return writeAll(items, true);
+	}
+
+	@Override
+	public void doDelete(T object)
+	{
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			if (jedis.del(object.getId().toString()) < 1)
+			{
+				throw new ItemNotFoundException("ID not found: " + object.getId());
+			}
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
+	/**
+	 * Deletes the batch on a single pooled connection in one pipelined round trip.
+	 */
+	@Override
+	public BatchResult<T> doDeleteAll(Collection<T> items)
+	{
+		BatchResult<T> result = new BatchResult<T>(items.size());
+		List<T> deletable = new ArrayList<T>(items.size());
+		List<Response<Long>> replies = new ArrayList<Response<Long>>(items.size());
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			Pipeline pipeline = jedis.pipelined();
+
+			for (T item : items)
+			{
+				if (hasId(item))
+				{
+					deletable.add(item);
+					replies.add(pipeline.del(item.getId().toString()));
+				}
+				else
+				{
+					result.addFailure(item, new ItemNotFoundException("ID not found: " + item.getId()));
+				}
+			}
+
+			pipeline.sync();
+		}
+		finally
+		{
+			jedis.close();
+		}
+
+		for (int i = 0; i < deletable.size(); i++)
+		{
+			T item = deletable.get(i);
+
+			try
+			{
+				if (replies.get(i).get() < 1)
+				{
+					result.addFailure(item, new ItemNotFoundException("ID not found: " + item.getId()));
+				}
+				else
+				{
+					result.addSuccess(item);
+				}
+			}
+			catch (JedisDataException e)
+			{
+				result.addFailure(item, new RepositoryException(e));
+			}
+		}
+
+		return result;
+	}
+
+	@Override
+	public T doRead(Identifier id)
+	{
+		Map<String, String> hash = readHash(id.toString());
+
+		if (hash == null || hash.isEmpty())
+		{
+			throw new ItemNotFoundException("ID not found: " + id);
+		}
+
+		return fromHash(id, hash);
+	}
+
+	/**
+	 * Reads only the named fields of the entity, leaving the others at their defaults, with
+	 * HMGET (and EXISTS) in a single round trip. Not observable, since the entity is partial.
+	 * 
+	 * @param id the entity's ID.
+	 * @param fields the names of the fields to read.
+	 * @return a partially-populated entity.
+	 * @throws ItemNotFoundException if the entity doesn't exist.
+	 */
+	public T read(Identifier id, String... fields)
+	{
+		String[] names = schema.validate(fields);
+		Response<Boolean> exists;
+		Response<List<String>> values;
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			Pipeline pipeline = jedis.pipelined();
+			exists = pipeline.exists(id.toString());
+			values = pipeline.hmget(id.toString(), names);
+			pipeline.sync();
+		}
+		finally
+		{
+			jedis.close();
+		}
+
+		T result = fromValues(id, names, exists.get(), values.get());
+
+		if (result == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + id);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Reads the entire batch with a single pipelined round trip of HGETALL commands on one
+	 * pooled connection. IDs that don't exist are simply not included in the returned results.
+	 */
+	@Override
+	public List<T> doReadList(Collection<Identifier> ids)
+	{
+		List<T> results = new ArrayList<T>(ids.size());
+
+		if (ids.isEmpty()) return results;
+
+		List<Response<Map<String, String>>> replies = new ArrayList<Response<Map<String, String>>>(ids.size());
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			Pipeline pipeline = jedis.pipelined();
+
+			for (Identifier id : ids)
+			{
+				replies.add(pipeline.hgetAll(id.toString()));
+			}
+
+			pipeline.sync();
+		}
+		finally
+		{
+			jedis.close();
+		}
+
+		int i = 0;
+
+		for (Identifier id : ids)
+		{
+			Map<String, String> hash = replies.get(i++).get();
+
+			if (hash != null && !hash.isEmpty())
+			{
+				results.add(fromHash(id, hash));
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Reads only the named fields of each entity, with a single pipelined round trip of HMGET
+	 * (and EXISTS) commands. IDs that don't exist are simply not included in the returned results.
+	 * Not observable, since the entities are partial.
+	 */
+	public List<T> readList(Collection<Identifier> ids, String... fields)
+	{
+		String[] names = schema.validate(fields);
+		List<T> results = new ArrayList<T>(ids.size());
+		List<Response<Boolean>> existences = new ArrayList<Response<Boolean>>(ids.size());
+		List<Response<List<String>>> replies = new ArrayList<Response<List<String>>>(ids.size());
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			Pipeline pipeline = jedis.pipelined();
+
+			for (Identifier id : ids)
+			{
+				existences.add(pipeline.exists(id.toString()));
+				replies.add(pipeline.hmget(id.toString(), names));
+			}
+
+			pipeline.sync();
+		}
+		finally
+		{
+			jedis.close();
+		}
+
+		int i = 0;
+
+		for (Identifier id : ids)
+		{
+			T item = fromValues(id, names, existences.get(i).get(), replies.get(i).get());
+			++i;
+
+			if (item != null) results.add(item);
+		}
+
+		return results;
+	}
+
+	/**
+	 * Replaces the stored entity atomically, if it exists: the hash is deleted and re-written,
+	 * along with its expiration, in a single round trip. An item with a TTL of zero expires
+	 * immediately, so is deleted.
+	 */
+	@Override
+	public T doUpdate(T item)
+	{
+		if (!writeFields(item, REPLACE, getTtlSeconds(item), Collections.<String>emptyList(), toHash(item)))
+		{
+			throw new ItemNotFoundException(item.getClass().getSimpleName()
+			    + " ID not found: " + item.getId());
+		}
+
+		return item;
+	}
+
+	/**
+	 * Writes only the named fields of the entity, if it exists, atomically in a single round
+	 * trip: HMSET of the non-null fields, HDEL of the null ones and the TTL, by EXPIRE for an
+	 * ExpiringIdentifiable or PERSIST if it never expires. A TTL of zero deletes the entity.
+	 * Other fields are left as stored.
+	 * <p/>
+	 * Since the item is partial, observers aren't notified of it. Instead, if there are
+	 * observers, the script replies with the entity as stored after the write, which observers
+	 * are notified of by afterUpdate(), or by afterDelete() if a TTL of zero deleted it. So a
+	 * cache observing this repository never holds a partial entity.
+	 * 
+	 * @param item the entity holding the new field values.
+	 * @param fields the names of the fields to write.
+	 * @return the item.
+	 * @throws ItemNotFoundException if the entity doesn't exist.
+	 */
+	public T update(T item, String... fields)
+	{
+		String[] names = schema.validate(fields);
+		Map<String, String> values = new HashMap<String, String>(names.length * 2);
+		List<String> nulls = new ArrayList<String>(0);
+
+		for (String name : names)
+		{
+			String value = format(schema.get(name), schema.valueOf(name, item));
+
+			if (value == null)
+			{
+				nulls.add(name);
+			}
+			else
+			{
+				values.put(name, value);
+			}
+		}
+
+		boolean isObserved = !getObservers().isEmpty();
+		Object reply = evalWrite(item.getId().toString(),
+			argsOf((isObserved ? PATCH_AND_READ : PATCH), getTtlSeconds(item), nulls, values));
+
+		if (reply == null)
+		{
+			throw new ItemNotFoundException(item.getClass().getSimpleName()
+			    + " ID not found: " + item.getId());
+		}
+
+		if (isObserved)
+		{
+			Map<String, String> stored = toMap(reply);
+
+			if (stored.isEmpty())
+			{
+				notifyAfterDelete(item);
+			}
+			else
+			{
+				notifyAfterUpdate(fromHash(item.getId(), stored));
+			}
+		}
+
+		return item;
+	}
+
+	/**
+	 * Updates the batch on a single pooled connection in one pipelined round trip of
+	 * conditional writes.
+	 */
+	@Override
+	public BatchResult<T> doUpdateAll(Collection<T> items)
+	{
+		return writeAll(items, false);
+	}
+
+	@Override
+	public boolean doExists(Identifier id)
+	{
+		if (id == null) return false;
+
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			return jedis.exists(id.toString());
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * The time-to-live of the given item: getTtlSeconds() for an ExpiringIdentifiable.
+	 * Otherwise, never expire. Zero means the item expires immediately, so is not stored.
+	 * Non-positive values mean the item never expires.
+	 * 
+	 * @param item the item to be written.
+	 * @return the TTL for the item, in seconds.
+	 */
+	protected int getTtlSeconds(T item)
+	{
+		if (item instanceof ExpiringIdentifiable)
+		{
+			return ((ExpiringIdentifiable) item).getTtlSeconds();
+		}
+
+		return NEVER_EXPIRE;
+	}
+
+	/**
+	 * Formats a non-null field value for storage. Override to support other field types.
+	 * 
+	 * @return the String form of the value, or null if value is null.
+	 * @throws RepositoryException if the field's type isn't supported.
+	 */
+	protected String format(Field field, Object value)
+	{
+		if (value == null) return null;
+
+		if (value instanceof Date) return String.valueOf(((Date) value).getTime());
+		if (value instanceof Enum) return ((Enum<?>) value).name();
+		if (value instanceof String
+			|| value instanceof Number
+			|| value instanceof Boolean
+			|| value instanceof Character
+			|| value instanceof UUID)
+		{
+			return value.toString();
+		}
+
+		throw new RepositoryException("Unsupported field type. Override format() and parse(), or make it transient: "
+			+ field.getDeclaringClass().getSimpleName() + "." + field.getName());
+	}
+
+	/**
+	 * Parses a stored field value, as formatted by format(), into a value of the field's type.
+	 * 
+	 * @throws RepositoryException if the field's type isn't supported.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	protected Object parse(Field field, String value)
+	{
+		Class<?> type = field.getType();
+
+		if (type == String.class) return value;
+		if (type == int.class || type == Integer.class) return Integer.valueOf(value);
+		if (type == long.class || type == Long.class) return Long.valueOf(value);
+		if (type == boolean.class || type == Boolean.class) return Boolean.valueOf(value);
+		if (type == double.class || type == Double.class) return Double.valueOf(value);
+		if (type == float.class || type == Float.class) return Float.valueOf(value);
+		if (type == short.class || type == Short.class) return Short.valueOf(value);
+		if (type == byte.class || type == Byte.class) return Byte.valueOf(value);
+		if (type == char.class || type == Character.class) return value.charAt(0);
+		if (type == BigDecimal.class) return new BigDecimal(value);
+		if (type == BigInteger.class) return new BigInteger(value);
+		if (type == UUID.class) return UUID.fromString(value);
+		if (type == Date.class) return new Date(Long.parseLong(value));
+		if (type.isEnum()) return Enum.valueOf((Class<Enum>) type, value);
+
+		throw new RepositoryException("Unsupported field type. Override format() and parse(), or make it transient: "
+			+ field.getDeclaringClass().getSimpleName() + "." + field.getName());
+	}
+
+	private Map<String, String> toHash(T item)
+	{
+		Map<String, String> hash = new LinkedHashMap<String, String>(schema.size() * 2);
+
+		for (Field field : schema.fields())
+		{
+			String value = format(field, schema.valueOf(field, item));
+
+			if (value != null) hash.put(field.getName(), value);
+		}
+
+		if (hash.isEmpty())
+		{
+			hash.put(PRESENCE_FIELD, "1");
+		}
+
+		return hash;
+	}
+
+	/**
+	 * Returns the hash of a script's reply, a flat list of fields and values.
+	 */
+	private static Map<String, String> toMap(Object reply)
+	{
+		List<?> list = (List<?>) reply;
+		Map<String, String> hash = new LinkedHashMap<String, String>(list.size());
+
+		for (int i = 0; i + 1 < list.size(); i += 2)
+		{
+			hash.put((String) list.get(i), (String) list.get(i + 1));
+		}
+
+		return hash;
+	}
+
+	private T fromHash(Identifier id, Map<String, String> hash)
+	{
+		T item = newEntity(id);
+
+		for (Map.Entry<String, String> entry : hash.entrySet())
+		{
+			Field field = schema.get(entry.getKey());
+
+			// Ignore the presence marker and fields since removed from the class.
+			if (field != null)
+			{
+				schema.set(field, item, parse(field, entry.getValue()));
+			}
+		}
+
+		return item;
+	}
+
+	/**
+	 * Returns the entity with the named fields set from values, or null if it doesn't exist.
+	 */
+	private T fromValues(Identifier id, String[] names, Boolean exists, List<String> values)
+	{
+		if (exists == null || !exists || values == null) return null;
+
+		T item = newEntity(id);
+
+		for (int i = 0; i < names.length; i++)
+		{
+			String value = values.get(i);
+
+			if (value != null)
+			{
+				Field field = schema.get(names[i]);
+				schema.set(field, item, parse(field, value));
+			}
+		}
+
+		return item;
+	}
+
+	private T newEntity(Identifier id)
+	{
+		T item = entityClass.cast(schema.newInstance());
+		item.setId(id);
+		return item;
+	}
+
+	/**
+	 * Writes the fields in a single round trip, if the entity is absent (create) or present
+	 * (replace and patch).
+	 * 
+	 * @return true if written.
+	 */
+	private boolean writeFields(T item, String mode, int ttlSeconds, List<String> nulls, Map<String, String> values)
+	{
+		return "OK".equals(evalWrite(item.getId().toString(), argsOf(mode, ttlSeconds, nulls, values)));
+	}
+
+	/**
+	 * Reads the entire hash. Package-private, so tests can substitute the server.
+	 */
+	Map<String, String> readHash(String key)
+	{
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			return jedis.hgetAll(key);
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
+	/**
+	 * Runs the write script. Package-private, so tests can substitute the server.
+	 * 
+	 * @return the script's reply: OK (or the stored hash, for PATCH_AND_READ) if written, else null.
+	 */
+	Object evalWrite(String key, List<String> args)
+	{
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			return jedis.eval(WRITE_SCRIPT, Collections.singletonList(key), args);
+		}
+		finally
+		{
+			jedis.close();
+		}
+	}
+
+	/**
+	 * Queues the write script.
+	 * 
+	 * @return the reply, OK if written.
+	 */
+	private Response<String> write(Pipeline pipeline, String key, String mode, int ttlSeconds, List<String> nulls, Map<String, String> values)
+	{
+		return pipeline.eval(WRITE_SCRIPT, Collections.singletonList(key), argsOf(mode, ttlSeconds, nulls, values));
+	}
+
+	/**
+	 * Returns the write script's arguments.
+	 */
+	private static List<String> argsOf(String mode, int ttlSeconds, List<String> nulls, Map<String, String> values)
+	{
+		List<String> args = new ArrayList<String>(3 + nulls.size() + values.size() * 2);
+		args.add(mode);
+		args.add(String.valueOf(ttlSeconds));
+		args.add(String.valueOf(nulls.size()));
+		args.addAll(nulls);
+
+		for (Map.Entry<String, String> value : values.entrySet())
+		{
+			args.add(value.getKey());
+			args.add(value.getValue());
+		}
+
+		return args;
+	}
+
+	private BatchResult<T> writeAll(Collection<T> items, boolean isCreate)
+	{
+		BatchResult<T> result = new BatchResult<T>(items.size());
+		List<T> written = new ArrayList<T>(items.size());
+		List<Response<String>> replies = new ArrayList<Response<String>>(items.size());
+		Jedis jedis = jedisPool.getResource();
+
+		try
+		{
+			Pipeline pipeline = jedis.pipelined();
+
+			for (T item : items)
+			{
+				int ttlSeconds = getTtlSeconds(item);
+
+				if (!hasId(item))
+				{
+					result.addFailure(item, new InvalidObjectIdException("ID required"));
+				}
+				else if (isCreate && ttlSeconds == 0)
+				{
+					//Item expires immediately, so no sense in storing it.
+					result.addSuccess(item);
+				}
+				else
+				{
+					written.add(item);
+					replies.add(write(pipeline, item.getId().toString(), (isCreate ? CREATE : REPLACE), ttlSeconds,
+						Collections.<String>emptyList(), toHash(item)));
+				}
+			}
+
+			pipeline.sync();
+		}
+		finally
+		{
+			jedis.close();
+		}
+
+		for (int i = 0; i < written.size(); i++)
+		{
+			T item = written.get(i);
+
+			try
+			{
+				if ("OK".equalsIgnoreCase(replies.get(i).get()))
+				{
+					result.addSuccess(item);
+				}
+				else if (isCreate)
+				{
+					result.addFailure(item, new DuplicateItemException(item.getClass().getSimpleName()
+					    + " ID already exists: " + item.getId()));
+				}
+				else
+				{
+					result.addFailure(item, new ItemNotFoundException(item.getClass().getSimpleName()
+					    + " ID not found: " + item.getId()));
+				}
+			}
+			catch (JedisDataException e)
+			{
+				result.addFailure(item, new RepositoryException(e));
+			}
+		}
+
+		return result;
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	/**
+	 * The cached, stored fields of an entity class, by name, and its no-arg constructor.
+	 */
+	private static class HashSchema
+	{
+		private Class<?> type;
+		private Map<String, Field> fields = new LinkedHashMap<String, Field>();
+		private Constructor<?> constructor;
+
+		public HashSchema(Class<?> type)
+		{
+			super();
+			this.type = type;
+
+			for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass())
+			{
+				for (Field field : c.getDeclaredFields())
+				{
+					int modifiers = field.getModifiers();
+
+					if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) continue;
+					if (Identifier.class.isAssignableFrom(field.getType())) continue;
+					if (fields.containsKey(field.getName())) continue;
+
+					field.setAccessible(true);
+					fields.put(field.getName(), field);
+				}
+			}
+
+			try
+			{
+				this.constructor = type.getDeclaredConstructor();
+				this.constructor.setAccessible(true);
+			}
+			catch (NoSuchMethodException e)
+			{
+				// Fails on read.
+			}
+		}
+
+		public int size()
+		{
+			return fields.size();
+		}
+
+		public Collection<Field> fields()
+		{
+			return Collections.unmodifiableCollection(fields.values());
+		}
+
+		public Field get(String name)
+		{
+			return fields.get(name);
+		}
+
+		public String[] validate(String... names)
+		{
+			if (names == null || names.length == 0)
+			{
+				throw new RepositoryException("At least one field of " + type.getSimpleName() + " is required");
+			}
+
+			for (String name : names)
+			{
+				if (!fields.containsKey(name))
+				{
+					throw new RepositoryException("Not a stored field of " + type.getSimpleName() + ": " + name);
+				}
+			}
+
+			return names;
+		}
+
+		public Object valueOf(String name, Object item)
+		{
+			return valueOf(fields.get(name), item);
+		}
+
+		public Object valueOf(Field field, Object item)
+		{
+			try
+			{
+				return field.get(item);
+			}
+			catch (IllegalAccessException e)
+			{
+				throw new RepositoryException(e);
+			}
+		}
+
+		public void set(Field field, Object item, Object value)
+		{
+			try
+			{
+				field.set(item, value);
+			}
+			catch (IllegalAccessException e)
+			{
+				throw new RepositoryException(e);
+			}
+		}
+
+		public Object newInstance()
+		{
+			if (constructor == null)
+			{
+				throw new RepositoryException("No no-arg constructor: " + type.getName());
+			}
+
+			try
+			{
+				return constructor.newInstance();
+			}
+			catch (ReflectiveOperationException e)
+			{
+				throw new RepositoryException("Cannot instantiate " + type.getName(), e);
+			}
+		}
+	}
+}
@@ -80,7 +80,7 @@ extends AbstractObservableRepository<T>
 	}
 
     @Override
-    public boolean exists(Identifier id)
+    public boolean doExists(Identifier id)
     {
     	return (JOhm.get(entityClass, (Long) id.primaryKey()) != null);
     }
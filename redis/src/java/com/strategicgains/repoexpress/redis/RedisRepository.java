@@ -15,14 +15,46 @@
  */
 package com.strategicgains.repoexpress.redis;
 
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import redis.clients.jedis.BuilderFactory;
+import redis.clients.jedis.Client;
+import redis.clients.jedis.HostAndPort;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisAskDataException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.exceptions.JedisRedirectionException;
 
 import com.strategicgains.repoexpress.AbstractObservableRepository;
+import com.strategicgains.repoexpress.BatchResult;
+import com.strategicgains.repoexpress.codec.EntityCodec;
 import com.strategicgains.repoexpress.domain.Identifiable;
 import com.strategicgains.repoexpress.domain.Identifier;
 import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
 import com.strategicgains.repoexpress.exception.DuplicateItemException;
+import com.strategicgains.repoexpress.exception.InvalidObjectIdException;
 import com.strategicgains.repoexpress.exception.ItemNotFoundException;
 import com.strategicgains.repoexpress.exception.RepositoryException;
 
@@ -35,166 +67,1300 @@ import com.strategicgains.repoexpress.exception.RepositoryException;
  * on a create operation if desired.
  * <p/>
  * Usage of this repository requires de/serialization to occur during the persistence operation.
- * Consequently, sub-classes must implement the marshalFrom(T) and marshalTo(String, T) methods.
- * If using this within a RestExpress service suite, DefaultJsonProcessor or DefaultXmlProcessor
- * can be used.  Or, if a RestExpress Maven archetype was used, SerlializationProvider.JSON_SERIALIZER
- * or SerlializationProvider.XML_SERIALIZER may be leveraged (you might need to make them public or
+ * Entities are stored as bytes, encoded by an EntityCodec given to the constructor, such as a
+ * (possibly compressing) BinaryCodec, which avoids the intermediate String entirely and is
+ * typically much smaller than JSON. Otherwise, sub-classes must implement the marshalFrom(T) and
+ * marshalTo(String, T) methods, whose Strings are stored UTF-8 encoded. If using this within a
+ * RestExpress service suite, DefaultJsonProcessor or DefaultXmlProcessor can be used.  Or, if a
+ * RestExpress Maven archetype was used, SerlializationProvider.JSON_SERIALIZER or
+ * SerlializationProvider.XML_SERIALIZER may be leveraged (you might need to make them public or
  * provide a static accessor).
+ * <p/>
+ * The two forms are not interchangeable: entities written by one can't be read by the other.
+ * <p/>
+ * Entities never expire, unless a sub-class (e.g. ExpiringRedisRepository) returns a TTL from
+ * getTtlSeconds() or getTtlMillis(). The TTL is always set in the same command as the write:
+ * SET EX, or PX for sub-second TTLs, or plain SET for entities that never expire. Updates may
+ * keep the remaining TTL instead (see setKeepTtlOnUpdate()), and reads may extend it (see
+ * setTouchOnRead()). touchAll() refreshes the TTLs of a batch of entities in one round trip.
+ * <p/>
+ * To scale beyond one server, construct the repository with a RedisRouter: a
+ * ConsistentHashRouter over independent servers or a ClusterRouter over a Redis Cluster. Batch
+ * operations are then split into one pipeline per server, run in parallel, with a single MGET
+ * per slot (or server) for readList(). Enable setHashTagged() to keep entities with compound
+ * IDs sharing a primary key component together, on one slot. Commands a cluster node redirects,
+ * while its slots migrate, are retried once on the node named in the redirection.
  * 
  * @author toddf, seans
  * @since Jul 19, 2012
  * @see AbstractRepositoryObserver
  * @see RedisJOhmRepository
+ * @see EntityCodec
+ * @see RedisRouter
  */
 public abstract class RedisRepository<T extends Identifiable>
 extends AbstractObservableRepository<T>
 {
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
 	private static final int NEVER_EXPIRE = -1;
-	private JedisPool jedisPool;
+	private static final byte[] SET_IF_ABSENT = "NX".getBytes(UTF_8);
+	private static final byte[] SET_IF_PRESENT = "XX".getBytes(UTF_8);
+	private static final byte[] EXPIRE_SECONDS = "EX".getBytes(UTF_8);
+	private static final byte[] EXPIRE_MILLIS = "PX".getBytes(UTF_8);
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	// SET XX, keeping the remaining TTL, as SET KEEPTTL does in Redis 6.0 and later. Run by its
+	// SHA-1 digest, with EVALSHA, so the script itself is only sent when a server lacks it.
+	private static final byte[] KEEP_TTL_SCRIPT = (
+		"local ttl = redis.call('PTTL', KEYS[1]) "
+		+ "if ttl == -2 then return false end "
+		+ "if ttl > 0 then return redis.call('SET', KEYS[1], ARGV[1], 'PX', ttl) end "
+		+ "return redis.call('SET', KEYS[1], ARGV[1])").getBytes(UTF_8);
+	private static final byte[] KEEP_TTL_SHA = sha1Of(KEEP_TTL_SCRIPT);
+	private static final String NO_SCRIPT = "NOSCRIPT";
+
+	// Shard pipelines awaiting a thread, beyond which the calling thread runs them itself.
+	private static final int MAX_QUEUED_SHARDS = 1024;
+
+	private RedisRouter router;
 	private Class<? extends T> entityClass;
+	private EntityCodec<T> codec;
+	private boolean keepTtlOnUpdate = false;
+	private int touchOnReadSeconds = 0;
+	private boolean hashTagged = false;
+	private volatile ExecutorService executor;
+	private boolean isExecutorOwned = true;
 
+	/**
+	 * Stores entities as the UTF-8 encoded Strings of marshalFrom(T).
+	 */
 	public RedisRepository(JedisPool jedisPool, Class<? extends T> entityClass)
+	{
+		this(jedisPool, entityClass, null);
+	}
+
+	/**
+	 * Stores entities as encoded by the codec. marshalFrom(T) and marshalTo(String, T) are unused.
+	 */
+	public RedisRepository(JedisPool jedisPool, Class<? extends T> entityClass, EntityCodec<T> codec)
+	{
+		this(new SinglePoolRouter(jedisPool), entityClass, codec);
+	}
+
+	/**
+	 * Stores entities across the servers of the router, as encoded by the codec or, if null,
+	 * as the UTF-8 encoded Strings of marshalFrom(T).
+	 */
+	public RedisRepository(RedisRouter router, Class<? extends T> entityClass, EntityCodec<T> codec)
 	{
 		super();
-		this.jedisPool = jedisPool;
+		this.router = router;
 		this.entityClass = entityClass;
+		this.codec = codec;
+		this.executor = newExecutor(threadsFor(router));
 	}
 
+	/**
+	 * Returns the pool of the single server this repository uses.
+	 * 
+	 * @throws IllegalStateException if the repository is routed across several servers.
+	 */
 	protected JedisPool getJedisPool()
 	{
-		return jedisPool;
+		Collection<JedisPool> pools = router.getPools();
+
+		if (pools.size() != 1)
+		{
+			throw new IllegalStateException("Routed across " + pools.size() + " servers. Use getRouter()");
+		}
+
+		return pools.iterator().next();
+	}
+
+	protected RedisRouter getRouter()
+	{
+		return router;
+	}
+
+	/**
+	 * When true, update() keeps the stored item's remaining time-to-live, as SET KEEPTTL would,
+	 * instead of restarting it from the item's TTL. The existence check, write and TTL are
+	 * still made atomically, in a single round trip, by a small server-side script, run with
+	 * EVALSHA. It's loaded on a server, with SCRIPT LOAD, the first time that server lacks it.
+	 * As without this setting, an item with a TTL of zero expires immediately, so is deleted.
+	 * 
+	 * @param keepTtlOnUpdate true to keep TTLs on update. Default is false.
+	 */
+	public void setKeepTtlOnUpdate(boolean keepTtlOnUpdate)
+	{
+		this.keepTtlOnUpdate = keepTtlOnUpdate;
+	}
+
+	public boolean isKeepTtlOnUpdate()
+	{
+		return keepTtlOnUpdate;
+	}
+
+	/**
+	 * Enables sliding expiration: when ttlSeconds is positive, read() and readList() restart the
+	 * time-to-live of what they read at ttlSeconds, with EXPIRE commands pipelined in the same
+	 * round trip as the GET or MGET.
+	 * 
+	 * @param ttlSeconds the TTL to restart on read. Zero, the default, disables touch-on-read.
+	 */
+	public void setTouchOnRead(int ttlSeconds)
+	{
+		this.touchOnReadSeconds = Math.max(0, ttlSeconds);
+	}
+
+	public int getTouchOnRead()
+	{
+		return touchOnReadSeconds;
+	}
+
+	/**
+	 * When true, the keys of entities with compound IDs start with a hash tag of the primary
+	 * key component, e.g. "{tenant}(tenant, 42)", so that all the entities sharing it are on
+	 * the same server (or cluster slot) and are read together with one MGET. This changes the
+	 * keys, so it must be decided before any entities are stored.
+	 * 
+	 * @param hashTagged true to hash tag compound keys. Default is false.
+	 */
+	public void setHashTagged(boolean hashTagged)
+	{
+		this.hashTagged = hashTagged;
+	}
+
+	public boolean isHashTagged()
+	{
+		return hashTagged;
+	}
+
+	/**
+	 * Sets the executor running the per-server pipelines of batch operations in parallel,
+	 * when routed across several servers, replacing (and shutting down) the repository's own.
+	 * By default, a pool of daemon threads, one per server (at least one), started as needed
+	 * and stopped when idle, resized whenever the routing is refreshed. Its queue is bounded,
+	 * and when it's full the calling thread runs the pipeline itself. The given executor is
+	 * the caller's to shut down.
+	 */
+	public synchronized void setExecutor(ExecutorService executor)
+	{
+		if (isExecutorOwned)
+		{
+			this.executor.shutdown();
+		}
+
+		this.executor = executor;
+		this.isExecutorOwned = false;
+	}
+
+	/**
+	 * Shuts down the repository's own executor, if setExecutor() hasn't replaced it, allowing
+	 * running batches to complete. The router and its pools are the caller's to close.
+	 */
+	public synchronized void shutdown()
+	{
+		if (isExecutorOwned)
+		{
+			executor.shutdown();
+		}
 	}
 
+	/**
+	 * Creates the item in a single round trip, using SET NX to check for duplicates.
+	 */
 	@Override
 	public T doCreate(T item)
 	{
-		return doCreate(item, NEVER_EXPIRE);
+		return write(item, getTtlMillis(item), true);
 	}
 
 	protected T doCreate(T item, int ttlSeconds)
 	{
-		//Item expires immediately, so no sense in storing it.
-		if (ttlSeconds == 0)
+		return write(item, toMillis(ttlSeconds), true);
+	}
+
+	/**
+	 * Creates the batch in one pipelined round trip of SET NX commands per server.
+	 */
+	@Override
+	public BatchResult<T> doCreateAll(Collection<T> items)
+	{
+		return writeAll(items, true);
+	}
+
+	/**
+	 * Deletes the item with a single DEL when there are no observers (including any
+	 * ExistenceFilter) to pass it to. Otherwise, the item is read first, as usual, so that
+	 * observers are notified with it.
+	 */
+	@Override
+	public void delete(Identifier id)
+	{
+		if (!getObservers().isEmpty())
 		{
-			return item;
+			super.delete(id);
+			return;
+		}
+
+		if (del(keyOf(id)) < 1)
+		{
+			throw new ItemNotFoundException("ID not found: " + id);
 		}
+	}
 
-		if (exists(item.getId()))
+	@Override
+	public void doDelete(T object)
+	{
+		if (del(keyOf(object.getId())) < 1)
 		{
-			throw new DuplicateItemException(item.getClass().getSimpleName()
-			    + " ID already exists: " + item.getId());
+			throw new ItemNotFoundException("ID not found: " + object.getId());
 		}
+	}
 
-		Jedis jedis = jedisPool.getResource();
-		
-		try
+	/**
+	 * Deletes the batch in one pipelined round trip per server.
+	 */
+	@Override
+	public BatchResult<T> doDeleteAll(Collection<T> items)
+	{
+		BatchResult<T> result = new BatchResult<T>(items.size());
+		List<T> deletable = new ArrayList<T>(items.size());
+
+		for (T item : items)
 		{
-			if (!jedis.setex(item.getId().toString(), ttlSeconds, marshalFrom(item)).equalsIgnoreCase("OK"))
+			if (hasId(item))
 			{
-				throw new RepositoryException("Error creating object: " + item.getId());
+				deletable.add(item);
 			}
+			else
+			{
+				result.addFailure(item, new ItemNotFoundException("ID not found: " + item.getId()));
+			}
+		}
 
-			return item;
+		Response<?>[] replies = pipelined(keysOf(deletable), new KeyCommand()
+		{
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
+			{
+				return pipeline.del(key);
+			}
+		});
+
+		for (int i = 0; i < deletable.size(); i++)
+		{
+			T item = deletable.get(i);
+
+			try
+			{
+				if (isSuccess(replies[i]))
+				{
+					result.addSuccess(item);
+				}
+				else
+				{
+					result.addFailure(item, new ItemNotFoundException("ID not found: " + item.getId()));
+				}
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(item, e);
+			}
 		}
-		finally
+
+		return result;
+	}
+
+	@Override
+	public T doRead(Identifier id)
+	{
+		Response<?> value = pipelined(keyOf(id), new KeyCommand()
 		{
-			jedis.close();
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
+			{
+				Response<byte[]> get = pipeline.get(key);
+
+				if (touchOnReadSeconds > 0)
+				{
+					pipeline.expire(key, touchOnReadSeconds);
+				}
+
+				return get;
+			}
+		});
+
+		T item = decode((byte[]) valueOf(value));
+
+		if (item == null)
+		{
+			throw new ItemNotFoundException("ID not found: " + id);
 		}
+
+		return item;
 	}
 
+	/**
+	 * Reads the entire batch with a single MGET per server, or per slot of a cluster, in one
+	 * pipelined round trip per server (along with the EXPIRE commands of touch-on-read, if
+	 * enabled). IDs that don't exist are simply not included in the returned results.
+	 */
 	@Override
-	public void doDelete(T object)
+	public List<T> doReadList(Collection<Identifier> ids)
 	{
-		Jedis jedis = jedisPool.getResource();
+		List<T> results = new ArrayList<T>(ids.size());
 
-		try
+		if (ids.isEmpty()) return results;
+
+		final byte[][] keys = new byte[ids.size()][];
+		int i = 0;
+
+		for (Identifier id : ids)
 		{
-			Long reply = jedis.del(object.getId().toString());
+			keys[i++] = keyOf(id);
+		}
+
+		final List<Response<List<byte[]>>> mgets = new ArrayList<Response<List<byte[]>>>(
+			Collections.<Response<List<byte[]>>>nCopies(keys.length, null));
+		final int[] positions = new int[keys.length];
 
-			if (reply < 1)
+		runPerPool(keys, new PoolCommand()
+		{
+			@Override
+			public void queue(ShardPipeline pipeline, List<Integer> indexes)
 			{
-				throw new ItemNotFoundException("ID not found: " + object.getId());
+				Map<Object, List<Integer>> groups = new LinkedHashMap<Object, List<Integer>>();
+
+				for (int index : indexes)
+				{
+					listFor(groups, router.getGroup(keys[index])).add(index);
+				}
+
+				for (List<Integer> group : groups.values())
+				{
+					byte[][] groupKeys = new byte[group.size()][];
+
+					for (int j = 0; j < groupKeys.length; j++)
+					{
+						groupKeys[j] = keys[group.get(j)];
+					}
+
+					Response<List<byte[]>> mget = pipeline.mget(groupKeys);
+
+					for (int j = 0; j < groupKeys.length; j++)
+					{
+						mgets.set(group.get(j), mget);
+						positions[group.get(j)] = j;
+					}
+				}
+
+				if (touchOnReadSeconds > 0)
+				{
+					for (int index : indexes)
+					{
+						pipeline.expire(keys[index], touchOnReadSeconds);
+					}
+				}
 			}
-		}
-		finally
+
+			@Override
+			public Response<?> replyOf(int index)
+			{
+				return mgets.get(index);
+			}
+		});
+
+		for (i = 0; i < keys.length; i++)
 		{
-			jedis.close();
+			List<byte[]> values = valueOf(mgets.get(i));
+			T item = decode(values.get(positions[i]));
+
+			if (item != null)
+			{
+				results.add(item);
+			}
 		}
+
+		return results;
 	}
 
+	/**
+	 * Updates the item in a single round trip, using SET XX to check that it exists. An item
+	 * with a TTL of zero expires immediately, so is deleted.
+	 */
 	@Override
-	public T doRead(Identifier id)
+	public T doUpdate(T item)
 	{
-		Jedis jedis = jedisPool.getResource();
+		return write(item, getTtlMillis(item), false);
+	}
 
-		try
+	protected T doUpdate(T item, int ttlSeconds)
+	{
+		return write(item, toMillis(ttlSeconds), false);
+	}
+
+	/**
+	 * Updates the batch in one pipelined round trip of SET XX commands per server.
+	 */
+	@Override
+	public BatchResult<T> doUpdateAll(Collection<T> items)
+	{
+		return writeAll(items, false);
+	}
+
+	/**
+	 * Restarts the time-to-live of each of the identified items, without re-writing them, in
+	 * one pipelined round trip of EXPIRE commands per server. Suited to keeping a batch of hot
+	 * sessions alive.
+	 * 
+	 * @param ids the IDs of the items to touch.
+	 * @param ttlSeconds the new TTL. Must be positive.
+	 * @return the number of items that exist, so were touched.
+	 */
+	public int touchAll(Collection<Identifier> ids, final int ttlSeconds)
+	{
+		if (ttlSeconds <= 0) throw new IllegalArgumentException("TTL must be positive: " + ttlSeconds);
+
+		byte[][] keys = new byte[ids.size()][];
+		int i = 0;
+
+		for (Identifier id : ids)
 		{
-			String json = jedis.get(id.toString());
+			keys[i++] = keyOf(id);
+		}
 
-			if (json == null || json.trim().isEmpty())
+		Response<?>[] replies = pipelined(keys, new KeyCommand()
+		{
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
 			{
-				throw new ItemNotFoundException("ID not found: " + id);
+				return pipeline.expire(key, ttlSeconds);
 			}
+		});
 
-			return marshalTo(json, entityClass);
-		}
-		finally
+		int touched = 0;
+
+		for (Response<?> reply : replies)
 		{
-			jedis.close();
+			if (isSuccess(reply)) ++touched;
 		}
+
+		return touched;
 	}
 
 	@Override
-	public T doUpdate(T item)
+	public boolean doExists(Identifier id)
+	{
+		if (id == null) return false;
+
+		Response<?> reply = pipelined(keyOf(id), new KeyCommand()
+		{
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
+			{
+				return pipeline.exists(key);
+			}
+		});
+
+		return isSuccess(reply);
+	}
+
+
+	// SECTION: UTILITY
+
+	/**
+	 * The time-to-live of the given item. Zero means the item expires immediately, so is not
+	 * stored. Negative values mean the item never expires.
+	 * 
+	 * @param item the item to be written.
+	 * @return the TTL for the item, in seconds. By default, never expire.
+	 */
+	protected int getTtlSeconds(T item)
 	{
-		return doUpdate(item, NEVER_EXPIRE);
+		return NEVER_EXPIRE;
 	}
 
-	protected T doUpdate(T item, int ttlSeconds)
+	/**
+	 * The time-to-live of the given item, in milliseconds. By default, getTtlSeconds() in
+	 * milliseconds. Override for sub-second TTLs, which are set with PX instead of EX.
+	 * 
+	 * @param item the item to be written.
+	 * @return the TTL for the item, in milliseconds.
+	 */
+	protected long getTtlMillis(T item)
+	{
+		return toMillis(getTtlSeconds(item));
+	}
+
+	/**
+	 * Sets the time-to-live of the stored item, per getTtlMillis(), without re-writing it, in a
+	 * single round trip: EXPIRE (or PEXPIRE) if positive, DEL if zero (it expires immediately)
+	 * and PERSIST if negative (it never expires).
+	 * 
+	 * @throws ItemNotFoundException if the item doesn't exist.
+	 */
+	protected void expire(T item)
+	{
+		final long ttlMillis = getTtlMillis(item);
+		Response<?> reply = pipelined(keyOf(item.getId()), new KeyCommand()
+		{
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
+			{
+				return queueExpire(pipeline, key, ttlMillis);
+			}
+		});
+
+		if (!isSuccess(reply))
+		{
+			throw new ItemNotFoundException("ID not found: " + item.getId());
+		}
+	}
+
+	/**
+	 * Sets the time-to-live of each of the stored items, as expire(T) does, in one pipelined
+	 * round trip per server.
+	 * 
+	 * @return the per-item outcome of the batch. Never null.
+	 */
+	protected BatchResult<T> expireAll(Collection<T> items)
 	{
-		if (!exists(item.getId()))
+		BatchResult<T> result = new BatchResult<T>(items.size());
+		final List<T> expired = new ArrayList<T>(items.size());
+
+		for (T item : items)
 		{
-			throw new ItemNotFoundException(item.getClass().getSimpleName()
-			    + " ID not found: " + item.getId());
+			if (hasId(item))
+			{
+				expired.add(item);
+			}
+			else
+			{
+				result.addFailure(item, new InvalidObjectIdException("ID required"));
+			}
 		}
 
-		Jedis jedis = jedisPool.getResource();
-		
-		try
+		Response<?>[] replies = pipelined(keysOf(expired), new KeyCommand()
 		{
-			if (!jedis.setex(item.getId().toString(), ttlSeconds, marshalFrom(item)).equalsIgnoreCase("OK"))
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
 			{
-				throw new RepositoryException("Error updating object: " + item.getId());
+				return queueExpire(pipeline, key, getTtlMillis(expired.get(index)));
 			}
+		});
 
+		for (int i = 0; i < expired.size(); i++)
+		{
+			T item = expired.get(i);
+
+			try
+			{
+				if (isSuccess(replies[i]))
+				{
+					result.addSuccess(item);
+				}
+				else
+				{
+					result.addFailure(item, new ItemNotFoundException("ID not found: " + item.getId()));
+				}
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(item, e);
+			}
+		}
+
+		return result;
+	}
+
+	private T write(final T item, final long ttlMillis, final boolean isCreate)
+	{
+		//Item expires immediately, so no sense in storing it.
+		if (isCreate && ttlMillis == 0)
+		{
 			return item;
 		}
+
+		Response<?> reply = pipelined(keyOf(item.getId()), new KeyCommand()
+		{
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
+			{
+				return queueWrite(pipeline, key, item, ttlMillis, isCreate);
+			}
+		});
+
+		if (!isSuccess(reply))
+		{
+			throw (isCreate
+				? new DuplicateItemException(item.getClass().getSimpleName() + " ID already exists: " + item.getId())
+				: new ItemNotFoundException(item.getClass().getSimpleName() + " ID not found: " + item.getId()));
+		}
+
+		return item;
+	}
+
+	private BatchResult<T> writeAll(Collection<T> items, final boolean isCreate)
+	{
+		BatchResult<T> result = new BatchResult<T>(items.size());
+		final List<T> written = new ArrayList<T>(items.size());
+		final List<Long> ttls = new ArrayList<Long>(items.size());
+
+		for (T item : items)
+		{
+			long ttlMillis = getTtlMillis(item);
+
+			if (!hasId(item))
+			{
+				result.addFailure(item, new InvalidObjectIdException("ID required"));
+			}
+			else if (isCreate && ttlMillis == 0)
+			{
+				//Item expires immediately, so no sense in storing it.
+				result.addSuccess(item);
+			}
+			else
+			{
+				written.add(item);
+				ttls.add(ttlMillis);
+			}
+		}
+
+		Response<?>[] replies = pipelined(keysOf(written), new KeyCommand()
+		{
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
+			{
+				return queueWrite(pipeline, key, written.get(index), ttls.get(index), isCreate);
+			}
+		});
+
+		for (int i = 0; i < written.size(); i++)
+		{
+			T item = written.get(i);
+
+			try
+			{
+				if (isSuccess(replies[i]))
+				{
+					result.addSuccess(item);
+				}
+				else if (isCreate)
+				{
+					result.addFailure(item, new DuplicateItemException(item.getClass().getSimpleName()
+					    + " ID already exists: " + item.getId()));
+				}
+				else
+				{
+					result.addFailure(item, new ItemNotFoundException(item.getClass().getSimpleName()
+					    + " ID not found: " + item.getId()));
+				}
+			}
+			catch (RepositoryException e)
+			{
+				result.addFailure(item, e);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Queues the single command that writes the item, only if absent (create) or present
+	 * (update), along with its time-to-live.
+	 * 
+	 * @return the reply, which isSuccess() if the item was written.
+	 */
+	private Response<?> queueWrite(ShardPipeline pipeline, byte[] key, T item, long ttlMillis, boolean isCreate)
+	{
+		if (!isCreate && ttlMillis == 0)
+		{
+			//Item expires immediately.
+			return pipeline.del(key);
+		}
+
+		if (!isCreate && keepTtlOnUpdate)
+		{
+			return pipeline.evalsha(KEEP_TTL_SHA, key, encode(item));
+		}
+
+		byte[] condition = (isCreate ? SET_IF_ABSENT : SET_IF_PRESENT);
+
+		if (ttlMillis < 0)
+		{
+			return pipeline.set(key, encode(item), condition);
+		}
+
+		if (ttlMillis % 1000L == 0 || ttlMillis > Integer.MAX_VALUE)
+		{
+			return pipeline.set(key, encode(item), condition, EXPIRE_SECONDS, (int) Math.min((ttlMillis + 999L) / 1000L, Integer.MAX_VALUE));
+		}
+
+		return pipeline.set(key, encode(item), condition, EXPIRE_MILLIS, (int) ttlMillis);
+	}
+
+	/**
+	 * Queues the commands that set the key's time-to-live.
+	 * 
+	 * @return the reply, which isSuccess() if the key exists.
+	 */
+	private Response<?> queueExpire(ShardPipeline pipeline, byte[] key, long ttlMillis)
+	{
+		if (ttlMillis > 0)
+		{
+			return (ttlMillis % 1000L == 0
+				? pipeline.expire(key, (int) Math.min(ttlMillis / 1000L, Integer.MAX_VALUE))
+				: pipeline.pexpire(key, ttlMillis));
+		}
+
+		if (ttlMillis == 0)
+		{
+			return pipeline.del(key);
+		}
+
+		// PERSIST replies 0 for an existing key without a TTL, too, so ask EXISTS.
+		pipeline.persist(key);
+		return pipeline.exists(key);
+	}
+
+	private long del(byte[] key)
+	{
+		Response<?> reply = pipelined(key, new KeyCommand()
+		{
+			@Override
+			public Response<?> queue(ShardPipeline pipeline, byte[] key, int index)
+			{
+				return pipeline.del(key);
+			}
+		});
+
+		return (Long) valueOf(reply);
+	}
+
+	/**
+	 * Queues the command for the key on the pipeline of its server.
+	 * 
+	 * @return the reply.
+	 */
+	private Response<?> pipelined(byte[] key, KeyCommand command)
+	{
+		return pipelined(new byte[][] {key}, command)[0];
+	}
+
+	/**
+	 * Queues a command for each key on the pipeline of its server, one pipeline per server,
+	 * run in parallel.
+	 * 
+	 * @return the replies, in the order of the keys.
+	 */
+	private Response<?>[] pipelined(final byte[][] keys, final KeyCommand command)
+	{
+		final Response<?>[] replies = new Response<?>[keys.length];
+
+		runPerPool(keys, new PoolCommand()
+		{
+			@Override
+			public void queue(ShardPipeline pipeline, List<Integer> indexes)
+			{
+				for (int index : indexes)
+				{
+					replies[index] = command.queue(pipeline, keys[index], index);
+				}
+			}
+
+			@Override
+			public Response<?> replyOf(int index)
+			{
+				return replies[index];
+			}
+		});
+
+		return replies;
+	}
+
+	/**
+	 * Runs one pipeline per server, of the commands for the indexes of the keys it owns. The
+	 * pipelines of other servers run on the executor, while the first runs on this thread.
+	 * If any command was MOVED, the routing is refreshed once, for the whole batch.
+	 */
+	private void runPerPool(byte[][] keys, final PoolCommand command)
+	{
+		if (keys.length == 0) return;
+
+		Map<JedisPool, List<Integer>> byPool = new HashMap<JedisPool, List<Integer>>();
+
+		for (int i = 0; i < keys.length; i++)
+		{
+			listFor(byPool, router.getPool(keys[i])).add(i);
+		}
+
+		Iterator<Map.Entry<JedisPool, List<Integer>>> shards = byPool.entrySet().iterator();
+		Map.Entry<JedisPool, List<Integer>> first = shards.next();
+		List<Future<Boolean>> others = new ArrayList<Future<Boolean>>(byPool.size() - 1);
+
+		while (shards.hasNext())
+		{
+			final Map.Entry<JedisPool, List<Integer>> shard = shards.next();
+			others.add(executor.submit(new Callable<Boolean>()
+			{
+				@Override
+				public Boolean call()
+				{
+					return runShard(shard.getKey(), shard.getValue(), command);
+				}
+			}));
+		}
+
+		boolean isMoved = runShard(first.getKey(), first.getValue(), command);
+
+		for (Future<Boolean> other : others)
+		{
+			try
+			{
+				isMoved |= other.get();
+			}
+			catch (ExecutionException e)
+			{
+				if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+
+				throw new RepositoryException(e.getCause());
+			}
+			catch (InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new RepositoryException("Interrupted awaiting shard", e);
+			}
+		}
+
+		if (isMoved)
+		{
+			router.refresh();
+			resizeExecutor();
+		}
+	}
+
+	/**
+	 * Resizes the repository's own executor to the number of servers now routed to.
+	 */
+	private synchronized void resizeExecutor()
+	{
+		if (!isExecutorOwned) return;
+
+		ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+		int threads = threadsFor(router);
+
+		// The core size may never exceed the maximum, so the order depends on the direction.
+		if (threads > pool.getMaximumPoolSize())
+		{
+			pool.setMaximumPoolSize(threads);
+			pool.setCorePoolSize(threads);
+		}
+		else if (threads < pool.getMaximumPoolSize())
+		{
+			pool.setCorePoolSize(threads);
+			pool.setMaximumPoolSize(threads);
+		}
+	}
+
+	private ThreadPoolExecutor newExecutor(int threads)
+	{
+		ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60L, TimeUnit.SECONDS,
+			new ArrayBlockingQueue<Runnable>(MAX_QUEUED_SHARDS), new ShardThreadFactory(this),
+			new ThreadPoolExecutor.CallerRunsPolicy());
+		pool.allowCoreThreadTimeOut(true);
+		return pool;
+	}
+
+	private static int threadsFor(RedisRouter router)
+	{
+		return Math.max(1, router.getPools().size());
+	}
+
+	/**
+	 * Runs the pipeline of a server, then retries the commands it redirected, once, on the
+	 * node named in the redirection: MOVED commands pipelined to their slot's new owner and
+	 * ASK commands pipelined with ASKING before each command (not just each key), without
+	 * refreshing, as the slot is only migrating. Commands redirected again are reported as
+	 * failed.
+	 * 
+	 * @return true if any command was MOVED, so the routing is out of date.
+	 */
+	private boolean runShard(JedisPool pool, List<Integer> indexes, PoolCommand command)
+	{
+		runPipeline(pool, indexes, command, false);
+		Map<HostAndPort, List<Integer>> moved = new HashMap<HostAndPort, List<Integer>>();
+		Map<HostAndPort, List<Integer>> asked = new HashMap<HostAndPort, List<Integer>>();
+
+		for (int index : indexes)
+		{
+			JedisRedirectionException redirection = redirectionOf(command.replyOf(index));
+
+			if (redirection instanceof JedisAskDataException)
+			{
+				listFor(asked, redirection.getTargetNode()).add(index);
+			}
+			else if (redirection != null)
+			{
+				listFor(moved, redirection.getTargetNode()).add(index);
+			}
+		}
+
+		for (Map.Entry<HostAndPort, List<Integer>> target : moved.entrySet())
+		{
+			runPipeline(router.getPool(target.getKey()), target.getValue(), command, false);
+		}
+
+		for (Map.Entry<HostAndPort, List<Integer>> target : asked.entrySet())
+		{
+			runPipeline(router.getPool(target.getKey()), target.getValue(), command, true);
+		}
+
+		return !moved.isEmpty();
+	}
+
+	/**
+	 * Runs the commands for the indexes in one pipeline, each preceded by ASKING if asking.
+	 * Commands the server had no script for are run again, once, after loading it.
+	 */
+	private void runPipeline(JedisPool pool, List<Integer> indexes, PoolCommand command, boolean isAsking)
+	{
+		Jedis jedis = pool.getResource();
+
+		try
+		{
+			sync(jedis, indexes, command, isAsking);
+			List<Integer> unscripted = unscriptedOf(indexes, command);
+
+			if (!unscripted.isEmpty())
+			{
+				jedis.scriptLoad(KEEP_TTL_SCRIPT);
+				sync(jedis, unscripted, command, isAsking);
+			}
+		}
 		finally
 		{
 			jedis.close();
 		}
 	}
 
-	@Override
-	public boolean exists(Identifier id)
+	/**
+	 * Queues the commands for the indexes in one pipeline and syncs it, even if queueing
+	 * fails, so the connection is left without pending replies.
+	 */
+	private static void sync(Jedis jedis, List<Integer> indexes, PoolCommand command, boolean isAsking)
 	{
-		if (id == null) return false;
+		ShardPipeline pipeline = new ShardPipeline(jedis, isAsking);
 
-		Jedis jedis = jedisPool.getResource();
-		
 		try
 		{
-			return jedis.exists(id.toString());
+			command.queue(pipeline, indexes);
 		}
 		finally
 		{
-			jedis.close();
+			pipeline.sync();
 		}
 	}
 
+	/**
+	 * Returns the indexes whose reply is a NOSCRIPT error.
+	 */
+	private static List<Integer> unscriptedOf(List<Integer> indexes, PoolCommand command)
+	{
+		List<Integer> unscripted = new ArrayList<Integer>(0);
 
-	// SECTION: UTILITY
-	
-	protected abstract T marshalTo(String json, Class<? extends T> entityClass);
-	protected abstract String marshalFrom(T instance);
+		for (int index : indexes)
+		{
+			try
+			{
+				command.replyOf(index).get();
+			}
+			catch (JedisRedirectionException e)
+			{
+				// Left to runShard().
+			}
+			catch (JedisDataException e)
+			{
+				if (e.getMessage() != null && e.getMessage().startsWith(NO_SCRIPT)) unscripted.add(index);
+			}
+		}
+
+		return unscripted;
+	}
+
+	private byte[][] keysOf(List<T> items)
+	{
+		byte[][] keys = new byte[items.size()][];
+
+		for (int i = 0; i < keys.length; i++)
+		{
+			keys[i] = keyOf(items.get(i).getId());
+		}
+
+		return keys;
+	}
+
+	private static <K> List<Integer> listFor(Map<K, List<Integer>> map, K key)
+	{
+		List<Integer> list = map.get(key);
+
+		if (list == null)
+		{
+			list = new ArrayList<Integer>();
+			map.put(key, list);
+		}
+
+		return list;
+	}
+
+	/**
+	 * Returns the reply's value.
+	 * 
+	 * @throws RepositoryException if the command was still redirected when retried, or
+	 * the reply is an error (e.g. WRONGTYPE), so that a batch records it for the item.
+	 */
+	private <V> V valueOf(Response<V> reply)
+	{
+		try
+		{
+			return reply.get();
+		}
+		catch (JedisRedirectionException e)
+		{
+			throw new RepositoryException("Key's cluster slot is migrating. Retry", e);
+		}
+		catch (JedisDataException e)
+		{
+			throw new RepositoryException(e);
+		}
+	}
+
+	/**
+	 * Returns the redirection the reply is, if any. Other errors are left to valueOf().
+	 */
+	private static JedisRedirectionException redirectionOf(Response<?> reply)
+	{
+		try
+		{
+			reply.get();
+			return null;
+		}
+		catch (JedisRedirectionException e)
+		{
+			return e;
+		}
+		catch (JedisDataException e)
+		{
+			return null;
+		}
+	}
+
+	/**
+	 * Returns true if the reply is OK, true or a positive count.
+	 */
+	private boolean isSuccess(Response<?> reply)
+	{
+		Object value = valueOf(reply);
+
+		if (value instanceof String) return "OK".equalsIgnoreCase((String) value);
+		if (value instanceof Long) return ((Long) value) > 0;
+		if (value instanceof Boolean) return (Boolean) value;
+
+		return false;
+	}
+
+	private static byte[] sha1Of(byte[] script)
+	{
+		try
+		{
+			return toHex(MessageDigest.getInstance("SHA-1").digest(script)).getBytes(UTF_8);
+		}
+		catch (NoSuchAlgorithmException e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String toHex(byte[] bytes)
+	{
+		char[] hex = new char[bytes.length * 2];
+
+		for (int i = 0; i < bytes.length; i++)
+		{
+			hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0x0f];
+			hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0x0f];
+		}
+
+		return new String(hex);
+	}
+
+	private static long toMillis(int ttlSeconds)
+	{
+		return (ttlSeconds > 0 ? ttlSeconds * 1000L : ttlSeconds);
+	}
+
+	/**
+	 * Returns the Redis key of the given ID: its String form, UTF-8 encoded, preceded by a
+	 * hash tag of its primary key, if hash tagged and compound.
+	 */
+	protected byte[] keyOf(Identifier id)
+	{
+		String key = id.toString();
+
+		if (hashTagged && id.size() > 1)
+		{
+			key = "{" + id.primaryKey() + "}" + key;
+		}
+
+		return key.getBytes(UTF_8);
+	}
+
+	/**
+	 * Encodes the item with the codec or, if none, as the UTF-8 bytes of marshalFrom(T).
+	 */
+	protected byte[] encode(T item)
+	{
+		if (codec != null) return codec.encode(item);
+
+		return marshalFrom(item).getBytes(UTF_8);
+	}
+
+	/**
+	 * Decodes a stored value, returning null if there is none.
+	 */
+	protected T decode(byte[] value)
+	{
+		if (value == null || value.length == 0) return null;
+
+		if (codec != null) return codec.decode(value);
+
+		String json = new String(value, UTF_8);
+		return (json.trim().isEmpty() ? null : marshalTo(json, entityClass));
+	}
+
+	/**
+	 * Override to de-serialize entities when no EntityCodec is used.
+	 */
+	protected T marshalTo(String json, Class<? extends T> entityClass)
+	{
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " requires an EntityCodec or marshalTo() implementation");
+	}
+
+	/**
+	 * Override to serialize entities when no EntityCodec is used.
+	 */
+	protected String marshalFrom(T instance)
+	{
+		throw new UnsupportedOperationException(getClass().getSimpleName() + " requires an EntityCodec or marshalFrom() implementation");
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private interface KeyCommand
+	{
+		/**
+		 * Queues the command for the key at the given index of the batch.
+		 */
+		public Response<?> queue(ShardPipeline pipeline, byte[] key, int index);
+	}
+
+	/**
+	 * A pipeline that also queues the binary commands Pipeline lacks and, when asking,
+	 * precedes every command with ASKING, as ASKING only admits the command following it.
+	 */
+	private static class ShardPipeline
+	extends Pipeline
+	{
+		private boolean isAsking;
+
+		public ShardPipeline(Jedis jedis, boolean isAsking)
+		{
+			super();
+			setClient(jedis.getClient());
+			this.isAsking = isAsking;
+		}
+
+		@Override
+		protected Client getClient(byte[] key)
+		{
+			return asking(super.getClient(key));
+		}
+
+		@Override
+		protected Client getClient(String key)
+		{
+			return asking(super.getClient(key));
+		}
+
+		/**
+		 * Pipeline sends MGET directly, not through getClient().
+		 */
+		@Override
+		public Response<List<byte[]>> mget(byte[]... keys)
+		{
+			asking(client);
+			return super.mget(keys);
+		}
+
+		/**
+		 * Queues EVALSHA of a script taking one key and one argument, both binary.
+		 * 
+		 * @return the reply, as a String.
+		 */
+		public Response<String> evalsha(byte[] sha, byte[] key, byte[] arg)
+		{
+			getClient(key).evalsha(sha, 1, key, arg);
+			return getResponse(BuilderFactory.STRING);
+		}
+
+		/**
+		 * Queues ASKING, if asking, ahead of the command about to be sent by the client.
+		 */
+		private Client asking(Client client)
+		{
+			if (isAsking)
+			{
+				client.asking();
+				getResponse(BuilderFactory.STRING);
+			}
+
+			return client;
+		}
+	}
+
+	private static class ShardThreadFactory
+	implements ThreadFactory
+	{
+		private AtomicInteger count = new AtomicInteger(0);
+		private String prefix;
+
+		public ShardThreadFactory(RedisRepository<?> repository)
+		{
+			super();
+			this.prefix = repository.getClass().getSimpleName() + "-shard-";
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable)
+		{
+			Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+
+	private interface PoolCommand
+	{
+		/**
+		 * Queues the commands for the keys at the given indexes, all owned by the pipeline's server.
+		 */
+		public void queue(ShardPipeline pipeline, List<Integer> indexes);
+
+		/**
+		 * Returns the reply deciding the outcome of the key at the given index, once synced.
+		 */
+		public Response<?> replyOf(int index);
+	}
 }
@@ -0,0 +1,65 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import java.util.Collection;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Routes Redis keys to the pool of the server that owns them, so that RedisRepository can work
+ * over a single server, a consistent-hash-sharded set of servers or a Redis Cluster. Batches are
+ * split by pool and run as one pipeline per pool, in parallel.
+ * <p/>
+ * Implementations must be thread safe.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ * @see SinglePoolRouter
+ * @see ConsistentHashRouter
+ * @see ClusterRouter
+ */
+public interface RedisRouter
+{
+	/**
+	 * Returns the pool of the server owning the key.
+	 */
+	public JedisPool getPool(byte[] key);
+
+	/**
+	 * Returns the group of the key: keys of equal groups, on the same pool, may be used
+	 * together in a multi-key command, such as MGET. For example, the key's slot in a cluster.
+	 */
+	public Object getGroup(byte[] key);
+
+	/**
+	 * Returns all the pools routed to.
+	 */
+	public Collection<JedisPool> getPools();
+
+	/**
+	 * Returns the pool of the node a command was redirected to, by a MOVED or ASK reply. Only
+	 * the nodes of a cluster redirect commands.
+	 */
+	public JedisPool getPool(HostAndPort node);
+
+	/**
+	 * Called, at most once per batch, when a server replies MOVED, because the routing is out
+	 * of date. Implementations may skip refreshes too soon after the last.
+	 */
+	public void refresh();
+}
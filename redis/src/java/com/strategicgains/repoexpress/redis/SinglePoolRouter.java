@@ -0,0 +1,77 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPool;
+
+import com.strategicgains.repoexpress.exception.RepositoryException;
+
+/**
+ * Routes every key to a single server's pool: the standalone (or primary/replica) deployment.
+ * 
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class SinglePoolRouter
+implements RedisRouter
+{
+	private static final Object GROUP = new Object();
+
+	private JedisPool pool;
+
+	public SinglePoolRouter(JedisPool pool)
+	{
+		super();
+		this.pool = pool;
+	}
+
+	@Override
+	public JedisPool getPool(byte[] key)
+	{
+		return pool;
+	}
+
+	/**
+	 * Standalone servers never redirect commands.
+	 */
+	@Override
+	public JedisPool getPool(HostAndPort node)
+	{
+		throw new RepositoryException("Unexpected redirection to " + node);
+	}
+
+	@Override
+	public Object getGroup(byte[] key)
+	{
+		return GROUP;
+	}
+
+	@Override
+	public Collection<JedisPool> getPools()
+	{
+		return Collections.singletonList(pool);
+	}
+
+	@Override
+	public void refresh()
+	{
+		// Nothing to refresh.
+	}
+}
@@ -0,0 +1,154 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import redis.clients.jedis.JedisPool;
+
+/**
+ * The pools never connect, as no commands are sent.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class ConsistentHashRouterTest
+{
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+	private static final int KEY_COUNT = 10000;
+
+	private JedisPool a;
+	private JedisPool b;
+	private JedisPool c;
+
+	@Before
+	public void setup()
+	{
+		a = new JedisPool("localhost", 6379);
+		b = new JedisPool("localhost", 6380);
+		c = new JedisPool("localhost", 6381);
+	}
+
+	@After
+	public void tearDown()
+	{
+		a.destroy();
+		b.destroy();
+		c.destroy();
+	}
+
+	@Test
+	public void shouldRouteKeysAlikeAcrossInstances()
+	{
+		ConsistentHashRouter router = new ConsistentHashRouter(shards("a", a, "b", b, "c", c));
+		ConsistentHashRouter reordered = new ConsistentHashRouter(shards("c", c, "a", a, "b", b));
+
+		for (int i = 0; i < KEY_COUNT; i++)
+		{
+			byte[] key = key(i);
+			assertSame(router.getPool(key), reordered.getPool(key));
+		}
+	}
+
+	@Test
+	public void shouldSpreadKeysAcrossShards()
+	{
+		ConsistentHashRouter router = new ConsistentHashRouter(shards("a", a, "b", b, "c", c));
+		Map<JedisPool, Integer> counts = new HashMap<JedisPool, Integer>();
+
+		for (int i = 0; i < KEY_COUNT; i++)
+		{
+			JedisPool pool = router.getPool(key(i));
+			Integer count = counts.get(pool);
+			counts.put(pool, (count == null ? 1 : count + 1));
+		}
+
+		assertEquals(3, counts.size());
+
+		for (int count : counts.values())
+		{
+			assertTrue("Unbalanced: " + counts.values(), count > KEY_COUNT / 5);
+		}
+	}
+
+	@Test
+	public void shouldOnlyMoveKeysOfRemovedShard()
+	{
+		ConsistentHashRouter router = new ConsistentHashRouter(shards("a", a, "b", b, "c", c));
+		ConsistentHashRouter shrunk = new ConsistentHashRouter(shards("a", a, "b", b));
+
+		for (int i = 0; i < KEY_COUNT; i++)
+		{
+			byte[] key = key(i);
+			JedisPool pool = router.getPool(key);
+
+			if (pool == c)
+			{
+				assertNotSame(c, shrunk.getPool(key));
+			}
+			else
+			{
+				assertSame(pool, shrunk.getPool(key));
+			}
+		}
+	}
+
+	@Test
+	public void shouldRouteHashTaggedKeysTogether()
+	{
+		ConsistentHashRouter router = new ConsistentHashRouter(shards("a", a, "b", b, "c", c));
+		JedisPool pool = router.getPool(bytes("tenant"));
+
+		for (int i = 0; i < 100; i++)
+		{
+			assertSame(pool, router.getPool(bytes("{tenant}(tenant, " + i + ")")));
+		}
+	}
+
+	private static Map<String, JedisPool> shards(Object... namesAndPools)
+	{
+		Map<String, JedisPool> shards = new LinkedHashMap<String, JedisPool>();
+
+		for (int i = 0; i < namesAndPools.length; i += 2)
+		{
+			shards.put((String) namesAndPools[i], (JedisPool) namesAndPools[i + 1]);
+		}
+
+		return shards;
+	}
+
+	private static byte[] key(int i)
+	{
+		return bytes("key:" + i);
+	}
+
+	private static byte[] bytes(String key)
+	{
+		return key.getBytes(UTF_8);
+	}
+}
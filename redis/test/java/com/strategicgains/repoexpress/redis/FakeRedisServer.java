@@ -0,0 +1,207 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Speaks just enough of the Redis protocol to record the commands a client sends and answer
+ * them as its Responder decides. Commands and replies are ISO-8859-1, so binary values are
+ * recorded byte for byte.
+ *
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class FakeRedisServer
+{
+	public static final Charset ISO_8859_1 = Charset.forName("ISO-8859-1");
+
+	private ServerSocket socket;
+	private Responder responder;
+	private List<List<String>> commands = Collections.synchronizedList(new ArrayList<List<String>>());
+
+	public FakeRedisServer(Responder responder)
+	throws IOException
+	{
+		super();
+		this.responder = responder;
+		this.socket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+		Thread acceptor = new Thread(new Runnable()
+		{
+			@Override
+			public void run()
+			{
+				accept();
+			}
+		}, "fake-redis");
+		acceptor.setDaemon(true);
+		acceptor.start();
+	}
+
+	public JedisPool newPool()
+	{
+		return new JedisPool(socket.getInetAddress().getHostAddress(), socket.getLocalPort());
+	}
+
+	public int getPort()
+	{
+		return socket.getLocalPort();
+	}
+
+	/**
+	 * Returns the commands received, in order, excluding QUIT.
+	 */
+	public List<List<String>> getCommands()
+	{
+		synchronized (commands)
+		{
+			return new ArrayList<List<String>>(commands);
+		}
+	}
+
+	public void close()
+	throws IOException
+	{
+		socket.close();
+	}
+
+
+	// SECTION: UTILITY
+
+	private void accept()
+	{
+		while (!socket.isClosed())
+		{
+			try
+			{
+				final Socket connection = socket.accept();
+				Thread handler = new Thread(new Runnable()
+				{
+					@Override
+					public void run()
+					{
+						serve(connection);
+					}
+				}, "fake-redis-connection");
+				handler.setDaemon(true);
+				handler.start();
+			}
+			catch (IOException e)
+			{
+				// Closed.
+			}
+		}
+	}
+
+	private void serve(Socket connection)
+	{
+		try
+		{
+			InputStream in = new BufferedInputStream(connection.getInputStream());
+			OutputStream out = connection.getOutputStream();
+			List<String> command;
+
+			while ((command = readCommand(in)) != null)
+			{
+				if ("QUIT".equalsIgnoreCase(command.get(0)))
+				{
+					out.write("+OK\r\n".getBytes(ISO_8859_1));
+					break;
+				}
+
+				commands.add(command);
+				out.write(responder.reply(command).getBytes(ISO_8859_1));
+				out.flush();
+			}
+
+			connection.close();
+		}
+		catch (IOException e)
+		{
+			// Client gone.
+		}
+	}
+
+	private static List<String> readCommand(InputStream in)
+	throws IOException
+	{
+		String header = readLine(in);
+
+		if (header == null) return null;
+
+		int count = Integer.parseInt(header.substring(1));
+		List<String> command = new ArrayList<String>(count);
+
+		for (int i = 0; i < count; i++)
+		{
+			int length = Integer.parseInt(readLine(in).substring(1));
+			byte[] bytes = new byte[length];
+			int read = 0;
+
+			while (read < length)
+			{
+				int n = in.read(bytes, read, length - read);
+
+				if (n < 0) throw new IOException("Truncated command");
+
+				read += n;
+			}
+
+			readLine(in);
+			command.add(new String(bytes, ISO_8859_1));
+		}
+
+		return command;
+	}
+
+	private static String readLine(InputStream in)
+	throws IOException
+	{
+		StringBuilder line = new StringBuilder();
+		int c;
+
+		while ((c = in.read()) != '\n')
+		{
+			if (c < 0) return null;
+			if (c != '\r') line.append((char) c);
+		}
+
+		return line.toString();
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	public interface Responder
+	{
+		/**
+		 * Returns the raw reply to the command, e.g. "+OK\r\n".
+		 */
+		public String reply(List<String> command);
+	}
+}
@@ -0,0 +1,79 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.nio.charset.Charset;
+
+import org.junit.Test;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class HashTagsTest
+{
+	private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+	@Test
+	public void shouldMatchRedisClusterSlot()
+	{
+		// The CRC16 check value of the Redis Cluster specification.
+		assertEquals(12739, slotOf("123456789"));
+		assertEquals(3443, slotOf("user1000"));
+	}
+
+	@Test
+	public void shouldHashOnlyTheHashTag()
+	{
+		assertEquals(slotOf("user1000"), slotOf("{user1000}.following"));
+		assertEquals(slotOf("user1000"), slotOf("{user1000}.followers"));
+		assertEquals(slotOf("bar"), slotOf("foo{bar}{zap}"));
+		assertEquals(slotOf("{bar"), slotOf("foo{{bar}}zap"));
+	}
+
+	@Test
+	public void shouldHashWholeKeyWithEmptyHashTag()
+	{
+		assertEquals(7326, slotOf("{}user1000"));
+		assertEquals(8363, slotOf("foo{}{bar}"));
+	}
+
+	@Test
+	public void shouldHashWholeKeyWithUnclosedHashTag()
+	{
+		assertEquals(8723, slotOf("{user1000"));
+	}
+
+	@Test
+	public void shouldHash64OnlyTheHashTag()
+	{
+		assertEquals(HashTags.hash64(bytes("tenant")), HashTags.hash64(bytes("{tenant}(tenant, 42)")));
+		assertNotEquals(HashTags.hash64(bytes("tenant")), HashTags.hash64(bytes("{}tenant")));
+	}
+
+	private static int slotOf(String key)
+	{
+		return HashTags.slotOf(bytes(key));
+	}
+
+	private static byte[] bytes(String key)
+	{
+		return key.getBytes(UTF_8);
+	}
+}
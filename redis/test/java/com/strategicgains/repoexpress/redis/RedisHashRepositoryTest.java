@@ -0,0 +1,198 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.strategicgains.repoexpress.cache.CachingRepository;
+import com.strategicgains.repoexpress.cache.EntityCache;
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+import com.strategicgains.repoexpress.event.AbstractRepositoryObserver;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class RedisHashRepositoryTest
+{
+	private InMemoryHashRepository backing;
+	private CachingRepository<Person> repository;
+	private List<Person> updated = new ArrayList<Person>();
+
+	@Before
+	public void setup()
+	{
+		backing = new InMemoryHashRepository();
+		repository = new CachingRepository<Person>(backing, new EntityCache<Person>(100));
+		backing.addObserver(new AbstractRepositoryObserver<Person>()
+		{
+			@Override
+			public void afterUpdate(Person object)
+			{
+				updated.add(object);
+			}
+		});
+	}
+
+	@Test
+	public void shouldNotCachePartialUpdate()
+	{
+		Person person = repository.create(new Person(new Identifier("1"), "Ann", 40));
+		assertEquals("Ann", repository.read(person.getId()).name);
+
+		backing.update(new Person(person.getId(), null, 41), "age");
+
+		Person cached = repository.read(person.getId());
+		assertEquals("Ann", cached.name);
+		assertEquals(Integer.valueOf(41), cached.age);
+		assertSame(cached, repository.read(person.getId()));
+	}
+
+	@Test
+	public void shouldNotifyOfStoredEntityOnPartialUpdate()
+	{
+		Person person = repository.create(new Person(new Identifier("1"), "Ann", 40));
+
+		backing.update(new Person(person.getId(), null, 41), "age");
+
+		assertEquals(1, updated.size());
+		assertEquals("Ann", updated.get(0).name);
+		assertEquals(Integer.valueOf(41), updated.get(0).age);
+	}
+
+	@Test
+	public void shouldNotNotifyOfPartialUpdateWithoutObservers()
+	{
+		InMemoryHashRepository unobserved = new InMemoryHashRepository();
+		Person person = unobserved.create(new Person(new Identifier("1"), "Ann", 40));
+
+		unobserved.update(new Person(person.getId(), null, 41), "age");
+
+		assertEquals("Ann", unobserved.read(person.getId()).name);
+		assertEquals("patch", unobserved.lastMode);
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class Person
+	implements Identifiable
+	{
+		private Identifier id;
+		private String name;
+		private Integer age;
+
+		@SuppressWarnings("unused")
+		public Person()
+		{
+			super();
+		}
+
+		public Person(Identifier id, String name, Integer age)
+		{
+			this();
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+
+		@Override
+		public Identifier getId()
+		{
+			return id;
+		}
+
+		@Override
+		public void setId(Identifier id)
+		{
+			this.id = id;
+		}
+	}
+
+	/**
+	 * Emulates the server's hashes and write script in memory.
+	 */
+	private static class InMemoryHashRepository
+	extends RedisHashRepository<Person>
+	{
+		private Map<String, Map<String, String>> hashes = new HashMap<String, Map<String, String>>();
+		private String lastMode;
+
+		public InMemoryHashRepository()
+		{
+			super(null, Person.class);
+		}
+
+		@Override
+		Map<String, String> readHash(String key)
+		{
+			Map<String, String> hash = hashes.get(key);
+			return (hash == null ? Collections.<String, String>emptyMap() : new HashMap<String, String>(hash));
+		}
+
+		@Override
+		Object evalWrite(String key, List<String> args)
+		{
+			String mode = args.get(0);
+			lastMode = mode;
+			Map<String, String> hash = hashes.get(key);
+
+			if ((hash != null) == "create".equals(mode)) return null;
+
+			if (hash == null || "replace".equals(mode))
+			{
+				hash = new LinkedHashMap<String, String>();
+				hashes.put(key, hash);
+			}
+
+			int nulls = Integer.parseInt(args.get(2));
+
+			for (String field : args.subList(3, 3 + nulls))
+			{
+				hash.remove(field);
+			}
+
+			for (int i = 3 + nulls; i + 1 < args.size(); i += 2)
+			{
+				hash.put(args.get(i), args.get(i + 1));
+			}
+
+			if (!"patch-read".equals(mode)) return "OK";
+
+			List<String> reply = new ArrayList<String>();
+
+			for (Map.Entry<String, String> field : hash.entrySet())
+			{
+				reply.add(field.getKey());
+				reply.add(field.getValue());
+			}
+
+			return reply;
+		}
+	}
+}
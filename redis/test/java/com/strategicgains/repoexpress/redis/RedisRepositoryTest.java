@@ -0,0 +1,281 @@
+/*
+    Copyright 2026, Strategic Gains, Inc.
+
+	Licensed under the Apache License, Version 2.0 (the "License");
+	you may not use this file except in compliance with the License.
+	You may obtain a copy of the License at
+
+		http://www.apache.org/licenses/LICENSE-2.0
+
+	Unless required by applicable law or agreed to in writing, software
+	distributed under the License is distributed on an "AS IS" BASIS,
+	WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	See the License for the specific language governing permissions and
+	limitations under the License.
+*/
+package com.strategicgains.repoexpress.redis;
+
+import static org.junit.Assert.assertEquals;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Test;
+
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPool;
+
+import com.strategicgains.repoexpress.domain.Identifiable;
+import com.strategicgains.repoexpress.domain.Identifier;
+
+/**
+ * @author toddf
+ * @since Oct 18, 2026
+ */
+public class RedisRepositoryTest
+{
+	// Not valid UTF-8, so only arrives intact if sent as binary.
+	private static final String VALUE = "\u00ff\u0000\u00c3";
+
+	private FakeRedisServer server;
+	private JedisPool pool;
+	private FakeRedisServer target;
+	private JedisPool targetPool;
+
+	@After
+	public void teardown()
+	throws Exception
+	{
+		if (pool != null) pool.destroy();
+		if (server != null) server.close();
+		if (targetPool != null) targetPool.destroy();
+		if (target != null) target.close();
+	}
+
+	@Test
+	public void shouldKeepTtlWithBinaryEvalsha()
+	throws Exception
+	{
+		start(new FakeRedisServer.Responder()
+		{
+			private boolean isLoaded = false;
+
+			@Override
+			public String reply(List<String> command)
+			{
+				if ("SCRIPT".equalsIgnoreCase(command.get(0)))
+				{
+					isLoaded = true;
+					return "$40\r\n" + sha1Of(command.get(2)) + "\r\n";
+				}
+
+				return (isLoaded ? "+OK\r\n" : "-NOSCRIPT No matching script.\r\n");
+			}
+		});
+		SampleRepository repository = new SampleRepository(pool, 60);
+		repository.setKeepTtlOnUpdate(true);
+
+		repository.update(new Sample("1", VALUE));
+
+		List<List<String>> commands = server.getCommands();
+		assertEquals(3, commands.size());
+		String sha = commands.get(0).get(1);
+		assertEquals(Arrays.asList("EVALSHA", sha, "1", "1", VALUE), commands.get(0));
+		assertEquals("SCRIPT", commands.get(1).get(0));
+		assertEquals(sha, sha1Of(commands.get(1).get(2)));
+		assertEquals(commands.get(0), commands.get(2));
+	}
+
+	@Test
+	public void shouldDeleteOnUpdateWithZeroTtlWhenKeepingTtl()
+	throws Exception
+	{
+		start(new FakeRedisServer.Responder()
+		{
+			@Override
+			public String reply(List<String> command)
+			{
+				return ":1\r\n";
+			}
+		});
+		SampleRepository repository = new SampleRepository(pool, 0);
+		repository.setKeepTtlOnUpdate(true);
+
+		repository.update(new Sample("1", VALUE));
+
+		assertEquals(Arrays.asList(Arrays.asList("DEL", "1")), server.getCommands());
+	}
+
+	@Test
+	public void shouldSendAskingBeforeEachRedirectedCommand()
+	throws Exception
+	{
+		target = new FakeRedisServer(new FakeRedisServer.Responder()
+		{
+			@Override
+			public String reply(List<String> command)
+			{
+				return ("ASKING".equalsIgnoreCase(command.get(0)) ? "+OK\r\n" : ":1\r\n");
+			}
+		});
+		targetPool = target.newPool();
+		final int port = target.getPort();
+		start(new FakeRedisServer.Responder()
+		{
+			@Override
+			public String reply(List<String> command)
+			{
+				return "-ASK 9189 127.0.0.1:" + port + "\r\n";
+			}
+		});
+		SampleRepository repository = new SampleRepository(new MigratingRouter(pool, targetPool), -1);
+
+		// PERSIST and EXISTS, two commands for the one key.
+		repository.expire(new Sample("1", VALUE));
+
+		assertEquals(Arrays.asList(
+			Arrays.asList("ASKING"), Arrays.asList("PERSIST", "1"),
+			Arrays.asList("ASKING"), Arrays.asList("EXISTS", "1")),
+			target.getCommands());
+	}
+
+	@Test
+	public void shouldConstructWithoutServers()
+	{
+		SampleRepository repository = new SampleRepository(new MigratingRouter(), -1);
+		repository.shutdown();
+	}
+
+	private void start(FakeRedisServer.Responder responder)
+	throws Exception
+	{
+		server = new FakeRedisServer(responder);
+		pool = server.newPool();
+	}
+
+	private static String sha1Of(String script)
+	{
+		try
+		{
+			StringBuilder hex = new StringBuilder();
+
+			for (byte b : MessageDigest.getInstance("SHA-1").digest(script.getBytes(FakeRedisServer.ISO_8859_1)))
+			{
+				hex.append(String.format("%02x", b));
+			}
+
+			return hex.toString();
+		}
+		catch (Exception e)
+		{
+			throw new IllegalStateException(e);
+		}
+	}
+
+
+	// SECTION: INNER CLASSES
+
+	private static class Sample
+	implements Identifiable
+	{
+		private Identifier id;
+		private String value;
+
+		public Sample(String id, String value)
+		{
+			super();
+			this.id = new Identifier(id);
+			this.value = value;
+		}
+
+		@Override
+		public Identifier getId()
+		{
+			return id;
+		}
+
+		@Override
+		public void setId(Identifier id)
+		{
+			this.id = id;
+		}
+	}
+
+	private static class SampleRepository
+	extends RedisRepository<Sample>
+	{
+		private int ttlSeconds;
+
+		public SampleRepository(JedisPool pool, int ttlSeconds)
+		{
+			super(pool, Sample.class);
+			this.ttlSeconds = ttlSeconds;
+		}
+
+		public SampleRepository(RedisRouter router, int ttlSeconds)
+		{
+			super(router, Sample.class, null);
+			this.ttlSeconds = ttlSeconds;
+		}
+
+		@Override
+		protected int getTtlSeconds(Sample item)
+		{
+			return ttlSeconds;
+		}
+
+		@Override
+		protected byte[] encode(Sample item)
+		{
+			return item.value.getBytes(FakeRedisServer.ISO_8859_1);
+		}
+	}
+
+	/**
+	 * Routes every key to the first pool, whose slots are migrating to the second.
+	 */
+	private static class MigratingRouter
+	implements RedisRouter
+	{
+		private List<JedisPool> pools;
+
+		public MigratingRouter(JedisPool... pools)
+		{
+			super();
+			this.pools = Arrays.asList(pools);
+		}
+
+		@Override
+		public JedisPool getPool(byte[] key)
+		{
+			return pools.get(0);
+		}
+
+		@Override
+		public Object getGroup(byte[] key)
+		{
+			return pools.get(0);
+		}
+
+		@Override
+		public Collection<JedisPool> getPools()
+		{
+			return pools;
+		}
+
+		@Override
+		public JedisPool getPool(HostAndPort node)
+		{
+			return pools.get(1);
+		}
+
+		@Override
+		public void refresh()
+		{
+			// Nothing moves.
+		}
+	}
+}